@@ -0,0 +1,287 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.typemeta.context.arrow.jfr.ArrowBatchDecodeEvent;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.Extractor;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+/**
+ * An extraction job over Arrow record batches, with an optional projection and filter.
+ * <p>
+ * The projection restricts each batch to the named columns (plus any columns read by the filter),
+ * and the row extractor sees the projected batch,
+ * i.e. column indexes used by the extractor refer to positions within the projection.
+ * Vectors which are not part of the projection are never read or decoded.
+ * <p>
+ * The filter is evaluated directly on the vectors for each row,
+ * and the row extractor is only applied to rows which pass the filter.
+ * <p>
+ * Instances are immutable - the {@link #project} and {@link #filter} methods return new instances.
+ * @param <T>       the extracted value type
+ */
+public final class ArrowScan<T> {
+
+    /**
+     * Static constructor.
+     * @param extr      the row extractor
+     * @param <T>       the extracted value type
+     * @return          a scan which extracts a value from every row
+     */
+    public static <T> ArrowScan<T> of(Extractor<RowCursor, T> extr) {
+        return new ArrowScan<>(extr, extr.getClass().getName(), null, 0, null);
+    }
+
+    private final Extractor<RowCursor, T> extr;
+    private final String name;
+    private final List<String> projection;
+    private final int leading;
+    private final RowPredicate filter;
+
+    private ArrowScan(
+            Extractor<RowCursor, T> extr,
+            String name,
+            List<String> projection,
+            int leading,
+            RowPredicate filter
+    ) {
+        this.extr = extr;
+        this.name = name;
+        this.projection = projection;
+        this.leading = leading;
+        this.filter = filter;
+    }
+
+    /**
+     * Return a new scan with the given name,
+     * which identifies the row extractor in the {@link ArrowBatchDecodeEvent} events emitted by {@link #extract(ArrowReader)}.
+     * The default name is the class name of the row extractor.
+     * @param name      the scan name
+     * @return          the new scan
+     */
+    public ArrowScan<T> named(String name) {
+        return new ArrowScan<>(extr, Objects.requireNonNull(name), projection, leading, filter);
+    }
+
+    /**
+     * Return a new scan which projects each batch onto the given columns.
+     * @param columns   the names of the columns read by the row extractor
+     * @return          the new scan
+     */
+    public ArrowScan<T> project(String... columns) {
+        return project(Arrays.asList(columns));
+    }
+
+    /**
+     * Return a new scan which projects each batch onto the given columns.
+     * @param columns   the names of the columns read by the row extractor
+     * @return          the new scan
+     */
+    public ArrowScan<T> project(List<String> columns) {
+        return new ArrowScan<>(extr, name, Collections.unmodifiableList(new ArrayList<>(columns)), 0, filter);
+    }
+
+    /**
+     * Return a new scan which projects each batch onto the columns the row extractor depends on.
+     * The row extractor must have complete dependencies.
+     * Column indexes are resolved against the schema of each batch:
+     * the projection retains the batch's leading columns up to the highest index the extractor reads,
+     * so that those indexes refer to the same columns in the projected batch,
+     * followed by the named columns.
+     * @return          the new scan
+     * @throws IllegalStateException if the extractor's column dependencies can't be determined
+     */
+    public ArrowScan<T> projectDependencies() {
+        final Dependencies deps = extr.dependencies();
+        if (!deps.isComplete()) {
+            throw new IllegalStateException("Cannot determine the columns read by the row extractor: " + deps);
+        }
+        final int lead = deps.indices().isEmpty() ? 0 : Collections.max(deps.indices()) + 1;
+        return new ArrowScan<>(extr, name, Collections.unmodifiableList(new ArrayList<>(deps.names())), lead, filter);
+    }
+
+    /**
+     * Return a new scan which only extracts rows that satisfy the given predicate,
+     * in addition to any existing filter.
+     * @param pred      the row predicate
+     * @return          the new scan
+     */
+    public ArrowScan<T> filter(RowPredicate pred) {
+        return new ArrowScan<>(extr, name, projection, leading, filter == null ? pred : filter.and(pred));
+    }
+
+    /**
+     * Return the names of the columns in the projected batch,
+     * or an empty value if there is no projection.
+     * This excludes any leading columns retained by {@link #projectDependencies} for column indexes,
+     * which depend on the batch schema - see {@link #columns(Schema)}.
+     * @return          the projected column names
+     */
+    public Optional<List<String>> columns() {
+        return projection == null ? Optional.empty() : Optional.of(columns(Collections.emptyList()));
+    }
+
+    /**
+     * Return the names of the columns in the projected batch for a batch with the given schema,
+     * or an empty value if there is no projection.
+     * @param schema    the batch schema
+     * @return          the projected column names
+     */
+    public Optional<List<String>> columns(Schema schema) {
+        if (projection == null) {
+            return Optional.empty();
+        } else {
+            final List<Field> fields = schema.getFields();
+            if (fields.size() < leading) {
+                throw new IllegalArgumentException(
+                        "Row extractor reads column " + (leading - 1) + " but the batch has " + fields.size() + " columns"
+                );
+            }
+            final List<String> lead = new ArrayList<>(leading);
+            for (int i = 0; i < leading; ++i) {
+                lead.add(fields.get(i).getName());
+            }
+            return Optional.of(columns(lead));
+        }
+    }
+
+    private List<String> columns(List<String> lead) {
+        final Set<String> cols = new LinkedHashSet<>(lead);
+        cols.addAll(projection);
+        if (filter != null) {
+            cols.addAll(filter.columns());
+        }
+        return new ArrayList<>(cols);
+    }
+
+    /**
+     * Project the given batch onto the columns required by this scan.
+     * The projected batch shares its vectors with the original batch, so should not be closed.
+     * @param root      the record batch
+     * @return          the projected record batch
+     */
+    public VectorSchemaRoot projectRoot(VectorSchemaRoot root) {
+        final Optional<List<String>> optCols = columns(root.getSchema());
+        if (!optCols.isPresent()) {
+            return root;
+        } else {
+            final List<String> cols = optCols.get();
+            final List<Field> fields = new ArrayList<>(cols.size());
+            final List<FieldVector> vectors = new ArrayList<>(cols.size());
+            for (String col : cols) {
+                final FieldVector vec = root.getVector(col);
+                if (vec == null) {
+                    throw new IllegalArgumentException("No column named '" + col + "'");
+                }
+                fields.add(vec.getField());
+                vectors.add(vec);
+            }
+            return new VectorSchemaRoot(fields, vectors, root.getRowCount());
+        }
+    }
+
+    /**
+     * Apply the filter to the given projected batch, and return the indexes of the rows which pass.
+     * @param projected the projected record batch
+     * @return          the selected row indexes, in ascending order
+     */
+    public int[] select(VectorSchemaRoot projected) {
+        final int rowCount = projected.getRowCount();
+        final int[] selection = new int[rowCount];
+        if (filter == null) {
+            for (int row = 0; row < rowCount; ++row) {
+                selection[row] = row;
+            }
+            return selection;
+        } else {
+            final IntPredicate pred = filter.bind(projected);
+            int n = 0;
+            for (int row = 0; row < rowCount; ++row) {
+                if (pred.test(row)) {
+                    selection[n++] = row;
+                }
+            }
+            return Arrays.copyOf(selection, n);
+        }
+    }
+
+    /**
+     * Apply an action to the value extracted from each selected row of the given batch.
+     * @param root      the record batch
+     * @param action    the action
+     */
+    public void forEach(VectorSchemaRoot root, Consumer<? super T> action) {
+        final VectorSchemaRoot projected = projectRoot(root);
+        final RowCursor cursor = new RowCursor(projected);
+        if (filter == null) {
+            for (int row = 0; row < projected.getRowCount(); ++row) {
+                action.accept(extr.extract(cursor.moveTo(row)));
+            }
+        } else {
+            final IntPredicate pred = filter.bind(projected);
+            for (int row = 0; row < projected.getRowCount(); ++row) {
+                if (pred.test(row)) {
+                    action.accept(extr.extract(cursor.moveTo(row)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a stream of the values extracted from the selected rows of the given batches.
+     * @param batches   the record batches
+     * @return          the stream of extracted values
+     */
+    public Stream<T> stream(List<VectorSchemaRoot> batches) {
+        return batches.stream().flatMap(root -> {
+            final VectorSchemaRoot projected = projectRoot(root);
+            final RowCursor cursor = new RowCursor(projected);
+            return Arrays.stream(select(projected))
+                    .mapToObj(row -> extr.extract(cursor.moveTo(row)));
+        });
+    }
+
+    /**
+     * Extract the values from the selected rows of the given batches.
+     * @param batches   the record batches
+     * @return          the list of extracted values
+     */
+    public List<T> extract(List<VectorSchemaRoot> batches) {
+        final List<T> results = new ArrayList<>();
+        for (VectorSchemaRoot root : batches) {
+            forEach(root, results::add);
+        }
+        return results;
+    }
+
+    /**
+     * Extract the values from the selected rows of each batch read by the given reader.
+     * An {@link ArrowBatchDecodeEvent} is emitted for each batch if the event is enabled in a running JFR recording.
+     * @param reader    the Arrow reader
+     * @return          the list of extracted values
+     * @throws IOException if the reader fails to load a batch
+     */
+    public List<T> extract(ArrowReader reader) throws IOException {
+        final List<T> results = new ArrayList<>();
+        final VectorSchemaRoot root = reader.getVectorSchemaRoot();
+        while (true) {
+            final ArrowBatchDecodeEvent event = ArrowBatchDecodeEvent.start();
+            if (!reader.loadNextBatch()) {
+                return results;
+            }
+            forEach(root, results::add);
+            if (event != null) {
+                event.finish(name, root);
+            }
+        }
+    }
+}
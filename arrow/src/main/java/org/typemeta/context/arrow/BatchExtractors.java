@@ -0,0 +1,161 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+
+import java.util.Arrays;
+
+/**
+ * Batch-level counterparts to the optional extractors in {@link VectorExtractors},
+ * which extract a range of rows from a vector into an array.
+ * <p>
+ * Rather than checking each row for null, the validity bitmap is split into runs of valid and null rows
+ * (see {@link ValidityRuns}).
+ * Null runs are filled in a single step,
+ * and the primitive extractors read valid runs directly from the data buffer,
+ * without a per-value null check.
+ * <p>
+ * The output arrays are indexed relative to the start row,
+ * i.e. the value for row {@code start + i} is written to index {@code i},
+ * so they must have at least {@code end - start} elements.
+ */
+public abstract class BatchExtractors {
+
+    private BatchExtractors() {}
+
+    private static void fill(boolean[] valid, int from, int to, boolean value) {
+        if (valid != null) {
+            Arrays.fill(valid, from, to, value);
+        }
+    }
+
+    /**
+     * Extract a range of rows from an integer vector.
+     * Null rows are set to {@code nullValue}.
+     * @param vec       the vector
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @param values    the output values
+     * @param nullValue the value written for null rows
+     * @param valid     the output validity flags, or null if not required
+     * @return          the number of valid rows
+     */
+    public static int extractInts(IntVector vec, int start, int end, int[] values, int nullValue, boolean[] valid) {
+        final ArrowBuf data = vec.getDataBuffer();
+        final int[] count = {0};
+        ValidityRuns.forEach(
+                vec, start, end,
+                (from, to) -> {
+                    for (int row = from; row < to; ++row) {
+                        values[row - start] = data.getInt((long)row * IntVector.TYPE_WIDTH);
+                    }
+                    fill(valid, from - start, to - start, true);
+                    count[0] += to - from;
+                },
+                (from, to) -> {
+                    Arrays.fill(values, from - start, to - start, nullValue);
+                    fill(valid, from - start, to - start, false);
+                }
+        );
+        return count[0];
+    }
+
+    /**
+     * Extract a range of rows from a long (big integer) vector.
+     * Null rows are set to {@code nullValue}.
+     * @param vec       the vector
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @param values    the output values
+     * @param nullValue the value written for null rows
+     * @param valid     the output validity flags, or null if not required
+     * @return          the number of valid rows
+     */
+    public static int extractLongs(BigIntVector vec, int start, int end, long[] values, long nullValue, boolean[] valid) {
+        final ArrowBuf data = vec.getDataBuffer();
+        final int[] count = {0};
+        ValidityRuns.forEach(
+                vec, start, end,
+                (from, to) -> {
+                    for (int row = from; row < to; ++row) {
+                        values[row - start] = data.getLong((long)row * BigIntVector.TYPE_WIDTH);
+                    }
+                    fill(valid, from - start, to - start, true);
+                    count[0] += to - from;
+                },
+                (from, to) -> {
+                    Arrays.fill(values, from - start, to - start, nullValue);
+                    fill(valid, from - start, to - start, false);
+                }
+        );
+        return count[0];
+    }
+
+    /**
+     * Extract a range of rows from a double vector.
+     * Null rows are set to {@code nullValue}, which may be {@code Double.NaN}.
+     * @param vec       the vector
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @param values    the output values
+     * @param nullValue the value written for null rows
+     * @param valid     the output validity flags, or null if not required
+     * @return          the number of valid rows
+     */
+    public static int extractDoubles(Float8Vector vec, int start, int end, double[] values, double nullValue, boolean[] valid) {
+        final ArrowBuf data = vec.getDataBuffer();
+        final int[] count = {0};
+        ValidityRuns.forEach(
+                vec, start, end,
+                (from, to) -> {
+                    for (int row = from; row < to; ++row) {
+                        values[row - start] = data.getDouble((long)row * Float8Vector.TYPE_WIDTH);
+                    }
+                    fill(valid, from - start, to - start, true);
+                    count[0] += to - from;
+                },
+                (from, to) -> {
+                    Arrays.fill(values, from - start, to - start, nullValue);
+                    fill(valid, from - start, to - start, false);
+                }
+        );
+        return count[0];
+    }
+
+    /**
+     * Extract a range of rows from a vector, using an extractor which is only applied to valid rows.
+     * Null rows are set to null.
+     * @param vec       the vector
+     * @param extr      the extractor for valid rows
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @param values    the output values
+     * @param <V>       the vector type
+     * @param <T>       the extracted value type
+     * @return          the number of valid rows
+     */
+    public static <V extends ValueVector, T> int extract(
+            V vec,
+            ExtractorByIndex<V, ? extends T> extr,
+            int start,
+            int end,
+            T[] values
+    ) {
+        final int[] count = {0};
+        ValidityRuns.forEach(
+                vec, start, end,
+                (from, to) -> {
+                    for (int row = from; row < to; ++row) {
+                        values[row - start] = extr.extract(vec, row);
+                    }
+                    count[0] += to - from;
+                },
+                (from, to) -> Arrays.fill(values, from - start, to - start, null)
+        );
+        return count[0];
+    }
+}
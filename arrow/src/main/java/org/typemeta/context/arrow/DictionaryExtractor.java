@@ -0,0 +1,76 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+
+/**
+ * An extractor for dictionary-encoded Arrow columns.
+ * Each dictionary entry is decoded once, when the extractor is constructed,
+ * and the extractor then returns the cached value for each dictionary index
+ * read from the encoded (index) vector.
+ * Instances are immutable, and can therefore be shared between threads.
+ * @param <T>       the decoded value type
+ */
+public final class DictionaryExtractor<T> implements ExtractorByIndex<BaseIntVector, T> {
+    private final Dictionary dictionary;
+    private final Object[] values;
+
+    /**
+     * Construct an extractor which decodes the entries of the given dictionary.
+     * @param dictionary    the dictionary
+     * @param dictVec       the dictionary vector
+     * @param entryExtr     the extractor used to decode each dictionary entry
+     * @param <V>           the dictionary vector type
+     */
+    <V extends FieldVector> DictionaryExtractor(Dictionary dictionary, V dictVec, ExtractorByIndex<V, T> entryExtr) {
+        this.dictionary = dictionary;
+        this.values = new Object[dictVec.getValueCount()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = dictVec.isNull(i) ? null : entryExtr.extract(dictVec, i);
+        }
+    }
+
+    /**
+     * Return the dictionary this extractor was built from.
+     * @return          the dictionary
+     */
+    public Dictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Return the number of entries in the dictionary.
+     * @return          the number of entries
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Return the decoded value for the given dictionary index.
+     * @param index     the dictionary index
+     * @return          the decoded value
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(int index) {
+        return (T)values[index];
+    }
+
+    /**
+     * Extract the decoded value for the given row of the encoded vector.
+     * Null index values are extracted as null.
+     * @param indices   the encoded vector of dictionary indices
+     * @param row       the row
+     * @return          the decoded value
+     */
+    @Override
+    public T extract(BaseIntVector indices, int row) {
+        if (indices.isNull(row)) {
+            return null;
+        } else {
+            return decode((int)indices.getValueAsLong(row));
+        }
+    }
+}
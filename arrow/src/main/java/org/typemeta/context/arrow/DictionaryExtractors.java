@@ -0,0 +1,125 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VariableWidthFieldVector;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A set of extractors for dictionary-encoded Arrow vectors.
+ * The extractors decode each dictionary entry exactly once,
+ * and then return the cached instance for every row that refers to that entry.
+ */
+public abstract class DictionaryExtractors {
+
+    private DictionaryExtractors() {}
+
+    /**
+     * An extractor for the {@link String} value of a {@code VarChar} or {@code LargeVarChar} vector entry.
+     */
+    private static final ExtractorByIndex<VariableWidthFieldVector, String> STRING_ENTRY =
+            (vec, i) -> new String(vec.get(i), StandardCharsets.UTF_8);
+
+    /**
+     * Look up the dictionary for a dictionary-encoded vector.
+     * @param provider  the dictionary provider, e.g. an {@code ArrowReader}
+     * @param encoded   the dictionary-encoded vector
+     * @return          the dictionary
+     */
+    public static Dictionary lookup(DictionaryProvider provider, FieldVector encoded) {
+        final DictionaryEncoding encoding = encoded.getField().getDictionary();
+        if (encoding == null) {
+            throw new IllegalArgumentException("Vector '" + encoded.getName() + "' is not dictionary-encoded");
+        }
+
+        final Dictionary dict = provider.lookup(encoding.getId());
+        if (dict == null) {
+            throw new IllegalArgumentException("No dictionary with id " + encoding.getId() + " for vector '" + encoded.getName() + "'");
+        }
+
+        return dict;
+    }
+
+    /**
+     * Create a dictionary extractor that decodes each dictionary entry using the given extractor.
+     * @param dict      the dictionary
+     * @param vecType   the expected dictionary vector type
+     * @param entryExtr the extractor for the dictionary entries
+     * @param <V>       the dictionary vector type
+     * @param <T>       the decoded value type
+     * @return          the dictionary extractor
+     */
+    public static <V extends FieldVector, T> DictionaryExtractor<T> decode(
+            Dictionary dict,
+            Class<V> vecType,
+            ExtractorByIndex<V, T> entryExtr
+    ) {
+        final FieldVector dictVec = dict.getVector();
+        if (!vecType.isInstance(dictVec)) {
+            throw new IllegalArgumentException(
+                    "Dictionary vector '" + dictVec.getName() + "' has type " + dictVec.getClass().getSimpleName() +
+                            ", expected " + vecType.getSimpleName()
+            );
+        }
+
+        return new DictionaryExtractor<>(dict, vecType.cast(dictVec), entryExtr);
+    }
+
+    /**
+     * Create a dictionary extractor for {@link String} values.
+     * The dictionary vector must be a {@code VarCharVector} or a {@code LargeVarCharVector}.
+     * @param dict      the dictionary
+     * @return          the dictionary extractor
+     */
+    public static DictionaryExtractor<String> strings(Dictionary dict) {
+        return decode(dict, VariableWidthFieldVector.class, STRING_ENTRY);
+    }
+
+    /**
+     * Create a dictionary extractor for {@link String} values,
+     * for the given dictionary-encoded vector.
+     * @param provider  the dictionary provider
+     * @param encoded   the dictionary-encoded vector
+     * @return          the dictionary extractor
+     */
+    public static DictionaryExtractor<String> strings(DictionaryProvider provider, FieldVector encoded) {
+        return strings(lookup(provider, encoded));
+    }
+
+    /**
+     * Create a dictionary extractor for enum values.
+     * The dictionary vector must be a {@code VarCharVector} or a {@code LargeVarCharVector},
+     * whose values are the enum constant names.
+     * @param enumType  the enum type class
+     * @param dict      the dictionary
+     * @param <E>       the enum type
+     * @return          the dictionary extractor
+     */
+    public static <E extends Enum<E>> DictionaryExtractor<E> enums(Class<E> enumType, Dictionary dict) {
+        final Extractor<String, E> enumExtr = Extractors.enumExtractor(enumType, Extractor.id());
+        return decode(dict, VariableWidthFieldVector.class, STRING_ENTRY.map(enumExtr::extract));
+    }
+
+    /**
+     * Create a dictionary extractor for enum values,
+     * for the given dictionary-encoded vector.
+     * @param enumType  the enum type class
+     * @param provider  the dictionary provider
+     * @param encoded   the dictionary-encoded vector
+     * @param <E>       the enum type
+     * @return          the dictionary extractor
+     */
+    public static <E extends Enum<E>> DictionaryExtractor<E> enums(
+            Class<E> enumType,
+            DictionaryProvider provider,
+            FieldVector encoded
+    ) {
+        return enums(enumType, lookup(provider, encoded));
+    }
+}
@@ -0,0 +1,236 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.typemeta.context.extractors.byindex.*;
+
+import java.util.*;
+
+/**
+ * A set of combinator functions for building extractors for nested Arrow vectors,
+ * i.e. struct, list and map vectors, from extractors for their child vectors.
+ * The list and map extractors read the element offsets directly from the offset buffer,
+ * and apply the element extractor to the child data vector for each element index.
+ * All the extractors return null for null values.
+ * <p>
+ * Struct field extractors can be combined into a record extractor
+ * using {@link ExtractorByIndexes#combine}.
+ */
+public abstract class NestedExtractors {
+
+    private NestedExtractors() {}
+
+    @SuppressWarnings("unchecked")
+    private static <V extends ValueVector> V dataVector(ListVector vec) {
+        return (V)vec.getDataVector();
+    }
+
+    /**
+     * Create an extractor for a field of a struct vector.
+     * The struct row index is passed through to the child vector.
+     * @param name      the field name
+     * @param extr      the extractor for the child vector
+     * @param <V>       the child vector type
+     * @param <T>       the extracted value type
+     * @return          the struct field extractor
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends ValueVector, T> ExtractorByIndex<StructVector, T> field(
+            String name,
+            ExtractorByIndex<V, T> extr
+    ) {
+        return (vec, row) -> extr.extract((V)vec.getChild(name), row);
+    }
+
+    /**
+     * Create an extractor for a field of a struct vector, given the field ordinal.
+     * The struct row index is passed through to the child vector.
+     * @param ordinal   the field ordinal
+     * @param extr      the extractor for the child vector
+     * @param <V>       the child vector type
+     * @param <T>       the extracted value type
+     * @return          the struct field extractor
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends ValueVector, T> ExtractorByIndex<StructVector, T> field(
+            int ordinal,
+            ExtractorByIndex<V, T> extr
+    ) {
+        return (vec, row) -> extr.extract((V)vec.getChildByOrdinal(ordinal), row);
+    }
+
+    /**
+     * Convert a struct extractor into one that returns null for null struct values.
+     * @param extr      the struct extractor
+     * @param <T>       the extracted value type
+     * @return          the null-safe struct extractor
+     */
+    public static <T> ExtractorByIndex<StructVector, T> struct(ExtractorByIndex<StructVector, T> extr) {
+        return (vec, row) -> vec.isNull(row) ? null : extr.extract(vec, row);
+    }
+
+    /**
+     * Create an extractor for list values.
+     * @param elemExtr  the extractor for the list elements
+     * @param <V>       the list data vector type
+     * @param <T>       the element type
+     * @return          the list extractor
+     */
+    public static <V extends ValueVector, T> ExtractorByIndex<ListVector, List<T>> list(
+            ExtractorByIndex<V, T> elemExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final V data = dataVector(vec);
+                final int start = vec.getElementStartIndex(row);
+                final int end = vec.getElementEndIndex(row);
+                final List<T> values = new ArrayList<>(end - start);
+                for (int i = start; i < end; ++i) {
+                    values.add(elemExtr.extract(data, i));
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Create an extractor for large list values.
+     * @param elemExtr  the extractor for the list elements
+     * @param <V>       the list data vector type
+     * @param <T>       the element type
+     * @return          the list extractor
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends ValueVector, T> ExtractorByIndex<LargeListVector, List<T>> largeList(
+            ExtractorByIndex<V, T> elemExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final V data = (V)vec.getDataVector();
+                final int start = Math.toIntExact(vec.getElementStartIndex(row));
+                final int end = Math.toIntExact(vec.getElementEndIndex(row));
+                final List<T> values = new ArrayList<>(end - start);
+                for (int i = start; i < end; ++i) {
+                    values.add(elemExtr.extract(data, i));
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Create an extractor for double arrays, from a list vector.
+     * The list elements must not be null.
+     * @param elemExtr  the extractor for the list elements
+     * @param <V>       the list data vector type
+     * @return          the double array extractor
+     */
+    public static <V extends ValueVector> ExtractorByIndex<ListVector, double[]> doubleArray(
+            DoubleExtractorByIndex<V> elemExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final V data = dataVector(vec);
+                final int start = vec.getElementStartIndex(row);
+                final double[] values = new double[vec.getElementEndIndex(row) - start];
+                for (int i = 0; i < values.length; ++i) {
+                    values[i] = elemExtr.extractDouble(data, start + i);
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Create an extractor for integer arrays, from a list vector.
+     * The list elements must not be null.
+     * @param elemExtr  the extractor for the list elements
+     * @param <V>       the list data vector type
+     * @return          the integer array extractor
+     */
+    public static <V extends ValueVector> ExtractorByIndex<ListVector, int[]> intArray(
+            IntExtractorByIndex<V> elemExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final V data = dataVector(vec);
+                final int start = vec.getElementStartIndex(row);
+                final int[] values = new int[vec.getElementEndIndex(row) - start];
+                for (int i = 0; i < values.length; ++i) {
+                    values[i] = elemExtr.extractInt(data, start + i);
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Create an extractor for long arrays, from a list vector.
+     * The list elements must not be null.
+     * @param elemExtr  the extractor for the list elements
+     * @param <V>       the list data vector type
+     * @return          the long array extractor
+     */
+    public static <V extends ValueVector> ExtractorByIndex<ListVector, long[]> longArray(
+            LongExtractorByIndex<V> elemExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final V data = dataVector(vec);
+                final int start = vec.getElementStartIndex(row);
+                final long[] values = new long[vec.getElementEndIndex(row) - start];
+                for (int i = 0; i < values.length; ++i) {
+                    values[i] = elemExtr.extractLong(data, start + i);
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Create an extractor for map values.
+     * The entries of the extracted map are in the same order as in the vector.
+     * @param keyExtr   the extractor for the map keys
+     * @param valueExtr the extractor for the map values
+     * @param <KV>      the key vector type
+     * @param <K>       the key type
+     * @param <VV>      the value vector type
+     * @param <V>       the value type
+     * @return          the map extractor
+     */
+    @SuppressWarnings("unchecked")
+    public static <KV extends ValueVector, K, VV extends ValueVector, V> ExtractorByIndex<MapVector, Map<K, V>> map(
+            ExtractorByIndex<KV, K> keyExtr,
+            ExtractorByIndex<VV, V> valueExtr
+    ) {
+        return (vec, row) -> {
+            if (vec.isNull(row)) {
+                return null;
+            } else {
+                final StructVector entries = dataVector(vec);
+                final KV keys = (KV)entries.getChild(MapVector.KEY_NAME);
+                final VV values = (VV)entries.getChild(MapVector.VALUE_NAME);
+                final int start = vec.getElementStartIndex(row);
+                final int end = vec.getElementEndIndex(row);
+                final Map<K, V> map = new LinkedHashMap<>();
+                for (int i = start; i < end; ++i) {
+                    map.put(keyExtr.extract(keys, i), valueExtr.extract(values, i));
+                }
+                return map;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.typemeta.context.arrow.jfr.ArrowBatchDecodeEvent;
+import org.typemeta.context.extractors.Extractor;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Functions for applying row extractors to Arrow record batches, either sequentially or in parallel.
+ * Parallel execution splits the row range into {@link RowSpliterator} instances,
+ * which are processed as tasks on a {@link ForkJoinPool}.
+ * When reading from an {@link ArrowReader}, an {@link ArrowBatchDecodeEvent} is emitted for each batch
+ * if the event is enabled in a running JFR recording.
+ * <p>
+ * Row extractors used in parallel must not share positional state,
+ * so should be built from {@link VectorExtractors} (via {@link RowExtractors})
+ * rather than from {@link FieldReaderExtractors}.
+ */
+public abstract class RecordBatches {
+
+    private RecordBatches() {}
+
+    /**
+     * Create a stream of values extracted from each row of the given batches.
+     * @param batches   the record batches
+     * @param extr      the row extractor
+     * @param parallel  whether the stream should be parallel
+     * @param <T>       the extracted value type
+     * @return          the stream of extracted values
+     */
+    public static <T> Stream<T> stream(
+            List<VectorSchemaRoot> batches,
+            Extractor<RowCursor, T> extr,
+            boolean parallel
+    ) {
+        return StreamSupport.stream(new RowSpliterator<>(batches, extr), parallel);
+    }
+
+    /**
+     * Extract a value from each row of the given batches, in parallel, using the given pool.
+     * @param pool      the pool on which to run the extraction tasks
+     * @param batches   the record batches
+     * @param extr      the row extractor
+     * @param ordered   if true then the result preserves the row order, otherwise the order is undefined
+     * @param <T>       the extracted value type
+     * @return          the list of extracted values
+     */
+    public static <T> List<T> extract(
+            ForkJoinPool pool,
+            List<VectorSchemaRoot> batches,
+            Extractor<RowCursor, T> extr,
+            boolean ordered
+    ) {
+        return pool.submit(() -> {
+            final Stream<T> stream = stream(batches, extr, true);
+            return (ordered ? stream : stream.unordered()).collect(toList());
+        }).join();
+    }
+
+    /**
+     * Extract a value from each row of each batch read by the given reader.
+     * Each batch is loaded in turn, and its rows are extracted in parallel using the given pool.
+     * The batches are processed in the order they are read.
+     * The class name of the row extractor identifies it in the {@link ArrowBatchDecodeEvent} events.
+     * @param pool      the pool on which to run the extraction tasks
+     * @param reader    the Arrow reader, e.g. an {@code ArrowFileReader}
+     * @param extr      the row extractor
+     * @param ordered   if true then the result preserves the row order within each batch
+     * @param <T>       the extracted value type
+     * @return          the list of extracted values
+     * @throws IOException if the reader fails to load a batch
+     */
+    public static <T> List<T> extract(
+            ForkJoinPool pool,
+            ArrowReader reader,
+            Extractor<RowCursor, T> extr,
+            boolean ordered
+    ) throws IOException {
+        return extract(pool, reader, extr.getClass().getName(), extr, ordered);
+    }
+
+    /**
+     * Extract a value from each row of each batch read by the given reader.
+     * Each batch is loaded in turn, and its rows are extracted in parallel using the given pool.
+     * The batches are processed in the order they are read.
+     * @param pool      the pool on which to run the extraction tasks
+     * @param reader    the Arrow reader, e.g. an {@code ArrowFileReader}
+     * @param name      the name which identifies the row extractor in the {@link ArrowBatchDecodeEvent} events
+     * @param extr      the row extractor
+     * @param ordered   if true then the result preserves the row order within each batch
+     * @param <T>       the extracted value type
+     * @return          the list of extracted values
+     * @throws IOException if the reader fails to load a batch
+     */
+    public static <T> List<T> extract(
+            ForkJoinPool pool,
+            ArrowReader reader,
+            String name,
+            Extractor<RowCursor, T> extr,
+            boolean ordered
+    ) throws IOException {
+        final List<T> results = new ArrayList<>();
+        final VectorSchemaRoot root = reader.getVectorSchemaRoot();
+        while (true) {
+            final ArrowBatchDecodeEvent event = ArrowBatchDecodeEvent.start();
+            if (!reader.loadNextBatch()) {
+                return results;
+            }
+            results.addAll(extract(pool, Collections.singletonList(root), extr, ordered));
+            if (event != null) {
+                event.finish(name, root);
+            }
+        }
+    }
+
+    /**
+     * Apply an action to the value extracted from each row of the given batches, in parallel, using the given pool.
+     * If {@code ordered} is true then the action is applied to the values in row order,
+     * one at a time, otherwise it may be called concurrently and in any order.
+     * @param pool      the pool on which to run the extraction tasks
+     * @param batches   the record batches
+     * @param extr      the row extractor
+     * @param ordered   whether the action should be applied in row order
+     * @param action    the action to be applied to each value
+     * @param <T>       the extracted value type
+     */
+    public static <T> void forEach(
+            ForkJoinPool pool,
+            List<VectorSchemaRoot> batches,
+            Extractor<RowCursor, T> extr,
+            boolean ordered,
+            Consumer<? super T> action
+    ) {
+        pool.submit(() -> {
+            final Stream<T> stream = stream(batches, extr, true);
+            if (ordered) {
+                stream.forEachOrdered(action);
+            } else {
+                stream.forEach(action);
+            }
+        }).join();
+    }
+
+    /**
+     * Extract each row of the given batches into the same target object, and apply an action to it.
+     * The rows are processed sequentially, in order,
+     * and the target is only valid for the duration of each call to the action.
+     * @param batches   the record batches
+     * @param into      the row extract-into extractor
+     * @param target    the recycled target
+     * @param action    the action to apply to the target after each row
+     * @param <T>       the target type
+     */
+    public static <T> void forEachInto(
+            List<VectorSchemaRoot> batches,
+            Extractor.Into<RowCursor, T> into,
+            T target,
+            Consumer<? super T> action
+    ) {
+        for (VectorSchemaRoot root : batches) {
+            final RowCursor cursor = new RowCursor(root);
+            for (int row = 0; row < root.getRowCount(); ++row) {
+                into.extractInto(cursor.moveTo(row), target);
+                action.accept(target);
+            }
+        }
+    }
+}
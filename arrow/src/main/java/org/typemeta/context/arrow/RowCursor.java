@@ -0,0 +1,80 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * A cursor over the rows of an Arrow record batch.
+ * A {@code RowCursor} is the context for row extractors, i.e. {@code Extractor<RowCursor, T>},
+ * which read the values of the row the cursor is currently positioned on.
+ * Cursors are mutable and not thread-safe,
+ * however any number of cursors may be positioned independently over the same batch.
+ */
+public final class RowCursor {
+    private final VectorSchemaRoot root;
+    private int row;
+
+    /**
+     * Construct a cursor positioned at the first row of the given batch.
+     * @param root      the record batch
+     */
+    public RowCursor(VectorSchemaRoot root) {
+        this.root = root;
+    }
+
+    /**
+     * Return the record batch this cursor iterates over.
+     * @return          the record batch
+     */
+    public VectorSchemaRoot root() {
+        return root;
+    }
+
+    /**
+     * Return the current row index.
+     * @return          the row index
+     */
+    public int row() {
+        return row;
+    }
+
+    /**
+     * Return the number of rows in the batch.
+     * @return          the row count
+     */
+    public int rowCount() {
+        return root.getRowCount();
+    }
+
+    /**
+     * Position this cursor at the given row.
+     * @param row       the row index
+     * @return          this cursor
+     */
+    public RowCursor moveTo(int row) {
+        this.row = row;
+        return this;
+    }
+
+    /**
+     * Return the vector for the given column index.
+     * @param col       the column index
+     * @param <V>       the vector type
+     * @return          the vector
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends FieldVector> V vector(int col) {
+        return (V)root.getVector(col);
+    }
+
+    /**
+     * Return the vector for the given column name.
+     * @param name      the column name
+     * @param <V>       the vector type
+     * @return          the vector
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends FieldVector> V vector(String name) {
+        return (V)root.getVector(name);
+    }
+}
@@ -0,0 +1,80 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.FieldVector;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.*;
+import org.typemeta.context.extractors.byindex.*;
+
+/**
+ * A set of combinator functions for building row extractors,
+ * i.e. extractors which operate on a {@link RowCursor},
+ * from vector extractors such as those in {@link VectorExtractors}.
+ * Row extractors can be combined using {@link Extractors#combine}.
+ * The row extractors report the column they are bound to via {@link Extractor#dependencies()}.
+ */
+public abstract class RowExtractors {
+
+    private RowExtractors() {}
+
+    /**
+     * Bind a vector extractor to the column with the given index.
+     * @param col       the column index
+     * @param extr      the vector extractor
+     * @param <V>       the vector type
+     * @param <T>       the extracted value type
+     * @return          the row extractor
+     */
+    public static <V extends FieldVector, T> Extractor<RowCursor, T> column(int col, ExtractorByIndex<V, T> extr) {
+        return Extractor.<RowCursor, T>of(cur -> extr.extract(cur.<V>vector(col), cur.row()))
+                .withDependencies(Dependencies.index(col));
+    }
+
+    /**
+     * Bind a vector extractor to the column with the given name.
+     * @param name      the column name
+     * @param extr      the vector extractor
+     * @param <V>       the vector type
+     * @param <T>       the extracted value type
+     * @return          the row extractor
+     */
+    public static <V extends FieldVector, T> Extractor<RowCursor, T> column(String name, ExtractorByIndex<V, T> extr) {
+        return Extractor.<RowCursor, T>of(cur -> extr.extract(cur.<V>vector(name), cur.row()))
+                .withDependencies(Dependencies.name(name));
+    }
+
+    /**
+     * Bind a double vector extractor to the column with the given index.
+     * @param col       the column index
+     * @param extr      the vector extractor
+     * @param <V>       the vector type
+     * @return          the row extractor
+     */
+    public static <V extends FieldVector> DoubleExtractor<RowCursor> doubleColumn(int col, DoubleExtractorByIndex<V> extr) {
+        return DoubleExtractor.<RowCursor>of(cur -> extr.extractDouble(cur.<V>vector(col), cur.row()))
+                .withDependencies(Dependencies.index(col));
+    }
+
+    /**
+     * Bind an integer vector extractor to the column with the given index.
+     * @param col       the column index
+     * @param extr      the vector extractor
+     * @param <V>       the vector type
+     * @return          the row extractor
+     */
+    public static <V extends FieldVector> IntExtractor<RowCursor> intColumn(int col, IntExtractorByIndex<V> extr) {
+        return IntExtractor.<RowCursor>of(cur -> extr.extractInt(cur.<V>vector(col), cur.row()))
+                .withDependencies(Dependencies.index(col));
+    }
+
+    /**
+     * Bind a long vector extractor to the column with the given index.
+     * @param col       the column index
+     * @param extr      the vector extractor
+     * @param <V>       the vector type
+     * @return          the row extractor
+     */
+    public static <V extends FieldVector> LongExtractor<RowCursor> longColumn(int col, LongExtractorByIndex<V> extr) {
+        return LongExtractor.<RowCursor>of(cur -> extr.extractLong(cur.<V>vector(col), cur.row()))
+                .withDependencies(Dependencies.index(col));
+    }
+}
@@ -0,0 +1,152 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * A predicate over the rows of an Arrow record batch.
+ * The predicate is first bound to a batch, which resolves the vectors it refers to,
+ * and the resulting {@link IntPredicate} then tests individual rows, by row index,
+ * directly against the vector data.
+ * Predicates also report the names of the columns they read,
+ * which allows a scan to project away all other columns.
+ * <p>
+ * Predicates follow SQL's three-valued logic: a predicate may be unknown for a row
+ * (e.g. a value predicate on a null value), in which case both it and its negation are false,
+ * and {@link #and}, {@link #or} and {@link #negate} propagate the unknown rows accordingly.
+ */
+public interface RowPredicate {
+    /**
+     * Static constructor.
+     * @param columns   the names of the columns the predicate reads
+     * @param binder    a function which binds the predicate to a record batch
+     * @return          the predicate
+     */
+    static RowPredicate of(Set<String> columns, Function<VectorSchemaRoot, IntPredicate> binder) {
+        return of(columns, binder, root -> row -> true);
+    }
+
+    /**
+     * Static constructor for a predicate which is unknown for some rows, e.g. those with a null column value.
+     * @param columns   the names of the columns the predicate reads
+     * @param binder    a function which binds the predicate to a record batch
+     * @param known     a function which binds the test for whether the predicate is known for a row,
+     *                  which must be true wherever the predicate is
+     * @return          the predicate
+     */
+    static RowPredicate of(
+            Set<String> columns,
+            Function<VectorSchemaRoot, IntPredicate> binder,
+            Function<VectorSchemaRoot, IntPredicate> known
+    ) {
+        final Set<String> cols = Collections.unmodifiableSet(new LinkedHashSet<>(columns));
+        return new RowPredicate() {
+            @Override
+            public Set<String> columns() {
+                return cols;
+            }
+
+            @Override
+            public IntPredicate bind(VectorSchemaRoot root) {
+                return binder.apply(root);
+            }
+
+            @Override
+            public IntPredicate known(VectorSchemaRoot root) {
+                return known.apply(root);
+            }
+        };
+    }
+
+    /**
+     * Return the names of the columns this predicate reads.
+     * @return          the set of column names
+     */
+    Set<String> columns();
+
+    /**
+     * Bind this predicate to a record batch.
+     * @param root      the record batch
+     * @return          a predicate which tests the row with the given index
+     */
+    IntPredicate bind(VectorSchemaRoot root);
+
+    /**
+     * Bind the test for whether this predicate is known for a row of a record batch.
+     * A predicate is true only where it is known, and its negation is true only where it is known and false.
+     * The default is known for every row.
+     * @param root      the record batch
+     * @return          a predicate which tests whether this predicate is known for the row with the given index
+     */
+    default IntPredicate known(VectorSchemaRoot root) {
+        return row -> true;
+    }
+
+    /**
+     * Construct a predicate which is the logical AND of this predicate and the given one.
+     * The result is known where both are known, or where either is known to be false.
+     * @param other     the other predicate
+     * @return          the combined predicate
+     */
+    default RowPredicate and(RowPredicate other) {
+        final Set<String> cols = new LinkedHashSet<>(columns());
+        cols.addAll(other.columns());
+        return of(
+                cols,
+                root -> bind(root).and(other.bind(root)),
+                root -> {
+                    final IntPredicate lhs = bind(root);
+                    final IntPredicate lhsKnown = known(root);
+                    final IntPredicate rhs = other.bind(root);
+                    final IntPredicate rhsKnown = other.known(root);
+                    return row -> lhsKnown.test(row) ?
+                            !lhs.test(row) || rhsKnown.test(row) :
+                            rhsKnown.test(row) && !rhs.test(row);
+                }
+        );
+    }
+
+    /**
+     * Construct a predicate which is the logical OR of this predicate and the given one.
+     * The result is known where both are known, or where either is true.
+     * @param other     the other predicate
+     * @return          the combined predicate
+     */
+    default RowPredicate or(RowPredicate other) {
+        final Set<String> cols = new LinkedHashSet<>(columns());
+        cols.addAll(other.columns());
+        return of(
+                cols,
+                root -> bind(root).or(other.bind(root)),
+                root -> {
+                    final IntPredicate lhs = bind(root);
+                    final IntPredicate lhsKnown = known(root);
+                    final IntPredicate rhs = other.bind(root);
+                    final IntPredicate rhsKnown = other.known(root);
+                    return row -> lhs.test(row) || rhs.test(row) || (lhsKnown.test(row) && rhsKnown.test(row));
+                }
+        );
+    }
+
+    /**
+     * Construct a predicate which is the logical negation of this predicate.
+     * The negation is true where this predicate is known and false,
+     * so it remains false for rows where this predicate is unknown,
+     * and negating it again yields a predicate equivalent to this one.
+     * @return          the negated predicate
+     */
+    default RowPredicate negate() {
+        return of(
+                columns(),
+                root -> {
+                    final IntPredicate pred = bind(root);
+                    final IntPredicate known = known(root);
+                    return row -> known.test(row) && !pred.test(row);
+                },
+                this::known
+        );
+    }
+}
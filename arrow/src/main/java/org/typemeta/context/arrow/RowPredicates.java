@@ -0,0 +1,168 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.*;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.*;
+
+/**
+ * A set of {@link RowPredicate} predicates which are evaluated directly on Arrow vectors.
+ * All the value predicates are unknown for null values, so are false for them,
+ * as are their negations, i.e. {@code intColumn("qty", q -> q > 0).negate()} matches the rows with a non-positive quantity.
+ */
+public abstract class RowPredicates {
+
+    private RowPredicates() {}
+
+    @SuppressWarnings("unchecked")
+    private static <V extends FieldVector> V vector(VectorSchemaRoot root, String column) {
+        final FieldVector vec = root.getVector(column);
+        if (vec == null) {
+            throw new IllegalArgumentException("No column named '" + column + "'");
+        }
+        return (V)vec;
+    }
+
+    /**
+     * Construct a predicate on the non-null values of a column.
+     * The predicate is unknown for null values, so it, and its negation, are false for them.
+     * @param column    the column name
+     * @param binder    a function which binds the value test to a record batch
+     * @return          the predicate
+     */
+    private static RowPredicate nonNull(String column, Function<VectorSchemaRoot, IntPredicate> binder) {
+        return RowPredicate.of(
+                Collections.singleton(column),
+                root -> {
+                    final FieldVector vec = vector(root, column);
+                    final IntPredicate test = binder.apply(root);
+                    return row -> !vec.isNull(row) && test.test(row);
+                },
+                root -> {
+                    final FieldVector vec = vector(root, column);
+                    return row -> !vec.isNull(row);
+                }
+        );
+    }
+
+    /**
+     * A predicate which is true for every row.
+     * @return          the predicate
+     */
+    public static RowPredicate all() {
+        return RowPredicate.of(Collections.emptySet(), root -> row -> true);
+    }
+
+    /**
+     * A predicate which is true if the column value is null.
+     * @param column    the column name
+     * @return          the predicate
+     */
+    public static RowPredicate isNull(String column) {
+        return RowPredicate.of(Collections.singleton(column), root -> {
+            final FieldVector vec = vector(root, column);
+            return vec::isNull;
+        });
+    }
+
+    /**
+     * A predicate which is true if the column value is not null.
+     * @param column    the column name
+     * @return          the predicate
+     */
+    public static RowPredicate isNotNull(String column) {
+        return isNull(column).negate();
+    }
+
+    /**
+     * A predicate which applies an {@link IntPredicate} to the values of an {@link IntVector} column.
+     * @param column    the column name
+     * @param pred      the value predicate
+     * @return          the predicate
+     */
+    public static RowPredicate intColumn(String column, IntPredicate pred) {
+        return nonNull(column, root -> {
+            final IntVector vec = vector(root, column);
+            return row -> pred.test(vec.get(row));
+        });
+    }
+
+    /**
+     * A predicate which applies a {@link LongPredicate} to the values of a {@link BigIntVector} column.
+     * @param column    the column name
+     * @param pred      the value predicate
+     * @return          the predicate
+     */
+    public static RowPredicate longColumn(String column, LongPredicate pred) {
+        return nonNull(column, root -> {
+            final BigIntVector vec = vector(root, column);
+            return row -> pred.test(vec.get(row));
+        });
+    }
+
+    /**
+     * A predicate which applies a {@link DoublePredicate} to the values of a {@link Float8Vector} column.
+     * @param column    the column name
+     * @param pred      the value predicate
+     * @return          the predicate
+     */
+    public static RowPredicate doubleColumn(String column, DoublePredicate pred) {
+        return nonNull(column, root -> {
+            final Float8Vector vec = vector(root, column);
+            return row -> pred.test(vec.get(row));
+        });
+    }
+
+    /**
+     * A predicate which is true if the value of a {@link VarCharVector} column equals the given string.
+     * The comparison is performed on the UTF-8 encoded bytes, without decoding the column values.
+     * @param column    the column name
+     * @param value     the string value
+     * @return          the predicate
+     */
+    public static RowPredicate stringEquals(String column, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return nonNull(column, root -> {
+            final VarCharVector vec = vector(root, column);
+            return row -> {
+                if (vec.getValueLength(row) != bytes.length) {
+                    return false;
+                } else {
+                    final ArrowBuf data = vec.getDataBuffer();
+                    final long start = vec.getStartOffset(row);
+                    for (int i = 0; i < bytes.length; ++i) {
+                        if (data.getByte(start + i) != bytes[i]) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            };
+        });
+    }
+
+    /**
+     * A predicate which applies a {@link Predicate} to the values extracted from a column.
+     * Unlike the other predicates this requires the value to be extracted,
+     * so the specialised predicates should be preferred where they exist.
+     * @param column    the column name
+     * @param extr      the vector extractor
+     * @param pred      the value predicate
+     * @param <V>       the vector type
+     * @param <T>       the extracted value type
+     * @return          the predicate
+     */
+    public static <V extends FieldVector, T> RowPredicate column(
+            String column,
+            ExtractorByIndex<V, T> extr,
+            Predicate<? super T> pred
+    ) {
+        return nonNull(column, root -> {
+            final V vec = vector(root, column);
+            return row -> pred.test(extr.extract(vec, row));
+        });
+    }
+}
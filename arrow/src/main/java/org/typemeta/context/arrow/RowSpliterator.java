@@ -0,0 +1,130 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.typemeta.context.extractors.Extractor;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the rows of a list of Arrow record batches,
+ * which applies a row extractor to each row.
+ * The row range is split in half on each call to {@link #trySplit()},
+ * regardless of batch boundaries, and each split uses its own {@link RowCursor}.
+ * @param <T>       the extracted value type
+ */
+public final class RowSpliterator<T> implements Spliterator<T> {
+    private final List<VectorSchemaRoot> batches;
+    private final long[] offsets;
+    private final Extractor<RowCursor, T> extr;
+
+    private long pos;
+    private final long end;
+
+    private int batch = -1;
+    private RowCursor cursor;
+
+    /**
+     * Construct a spliterator over all the rows of the given batches.
+     * @param batches   the record batches
+     * @param extr      the row extractor
+     */
+    public RowSpliterator(List<VectorSchemaRoot> batches, Extractor<RowCursor, T> extr) {
+        this.batches = batches;
+        this.offsets = offsets(batches);
+        this.extr = extr;
+        this.pos = 0;
+        this.end = this.offsets[batches.size()];
+    }
+
+    private RowSpliterator(
+            List<VectorSchemaRoot> batches,
+            long[] offsets,
+            Extractor<RowCursor, T> extr,
+            long pos,
+            long end
+    ) {
+        this.batches = batches;
+        this.offsets = offsets;
+        this.extr = extr;
+        this.pos = pos;
+        this.end = end;
+    }
+
+    private static long[] offsets(List<VectorSchemaRoot> batches) {
+        final long[] offsets = new long[batches.size() + 1];
+        for (int i = 0; i < batches.size(); ++i) {
+            offsets[i + 1] = offsets[i] + batches.get(i).getRowCount();
+        }
+        return offsets;
+    }
+
+    /**
+     * Position the cursor on the batch containing the current position.
+     */
+    private void seek() {
+        if (batch == -1 || pos >= offsets[batch + 1]) {
+            int i = Arrays.binarySearch(offsets, pos);
+            if (i < 0) {
+                i = -i - 2;
+            } else {
+                // Skip over any empty batches.
+                while (offsets[i + 1] == pos) {
+                    ++i;
+                }
+            }
+            batch = i;
+            cursor = new RowCursor(batches.get(batch));
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (pos >= end) {
+            return false;
+        } else {
+            seek();
+            cursor.moveTo((int)(pos - offsets[batch]));
+            ++pos;
+            action.accept(extr.extract(cursor));
+            return true;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (pos < end) {
+            seek();
+            final long batchEnd = Math.min(end, offsets[batch + 1]);
+            final int rowEnd = (int)(batchEnd - offsets[batch]);
+            for (int row = (int)(pos - offsets[batch]); row < rowEnd; ++row) {
+                action.accept(extr.extract(cursor.moveTo(row)));
+            }
+            pos = batchEnd;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long mid = pos + (end - pos) / 2;
+        if (mid <= pos) {
+            return null;
+        } else {
+            final RowSpliterator<T> prefix = new RowSpliterator<>(batches, offsets, extr, pos, mid);
+            pos = mid;
+            batch = -1;
+            cursor = null;
+            return prefix;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - pos;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
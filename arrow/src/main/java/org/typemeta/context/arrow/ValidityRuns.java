@@ -0,0 +1,123 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.ValueVector;
+
+/**
+ * Functions for scanning the validity (null) bitmap of an Arrow vector a 64-bit word at a time,
+ * and splitting a row range into alternating runs of valid and null rows.
+ * Words which are entirely valid or entirely null are skipped in a single step,
+ * and run boundaries within a word are located using bit arithmetic,
+ * so the cost is proportional to the number of words plus the number of runs,
+ * rather than to the number of rows.
+ */
+public abstract class ValidityRuns {
+
+    private ValidityRuns() {}
+
+    /**
+     * A consumer for a run of rows.
+     */
+    @FunctionalInterface
+    public interface RunConsumer {
+        /**
+         * Accept a run of rows.
+         * @param start     the first row of the run (inclusive)
+         * @param end       the last row of the run (exclusive)
+         */
+        void accept(int start, int end);
+    }
+
+    /**
+     * Read the 64-bit validity word with the given index.
+     * Bits beyond the end of the buffer are treated as null.
+     */
+    private static long word(ArrowBuf validity, int wordIndex) {
+        final long byteIndex = (long)wordIndex << 3;
+        final long capacity = validity.capacity();
+        if (byteIndex + Long.BYTES <= capacity) {
+            return validity.getLong(byteIndex);
+        } else {
+            long word = 0;
+            for (int b = 0; byteIndex + b < capacity; ++b) {
+                word |= (validity.getByte(byteIndex + b) & 0xFFL) << (b << 3);
+            }
+            return word;
+        }
+    }
+
+    /**
+     * Split the given row range of a vector into runs of valid and null rows.
+     * The runs are passed, in row order, to the appropriate consumer.
+     * @param vec       the vector
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @param validRun  the consumer for runs of valid (non-null) rows
+     * @param nullRun   the consumer for runs of null rows
+     */
+    public static void forEach(ValueVector vec, int start, int end, RunConsumer validRun, RunConsumer nullRun) {
+        if (start >= end) {
+            return;
+        }
+
+        final ArrowBuf validity = vec.getValidityBuffer();
+
+        int runStart = start;
+        boolean runValid = ((word(validity, start >>> 6) >>> (start & 63)) & 1L) != 0;
+
+        int row = start;
+        while (row < end) {
+            final int wordIndex = row >>> 6;
+            final long word = word(validity, wordIndex);
+
+            // Bits which differ from the current run, ignoring those before the current row.
+            final long diff = (runValid ? ~word : word) & (-1L << (row & 63));
+
+            if (diff == 0) {
+                row = (wordIndex + 1) << 6;
+            } else {
+                final int next = (wordIndex << 6) + Long.numberOfTrailingZeros(diff);
+                if (next >= end) {
+                    break;
+                }
+
+                (runValid ? validRun : nullRun).accept(runStart, next);
+                runStart = next;
+                runValid = !runValid;
+                row = next;
+            }
+        }
+
+        (runValid ? validRun : nullRun).accept(runStart, end);
+    }
+
+    /**
+     * Count the number of valid (non-null) rows within the given row range of a vector.
+     * @param vec       the vector
+     * @param start     the first row (inclusive)
+     * @param end       the last row (exclusive)
+     * @return          the number of valid rows
+     */
+    public static int countValid(ValueVector vec, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+
+        final ArrowBuf validity = vec.getValidityBuffer();
+        final int firstWord = start >>> 6;
+        final int lastWord = (end - 1) >>> 6;
+
+        int count = 0;
+        for (int w = firstWord; w <= lastWord; ++w) {
+            long word = word(validity, w);
+            if (w == firstWord) {
+                word &= -1L << (start & 63);
+            }
+            if (w == lastWord && (end & 63) != 0) {
+                word &= -1L >>> (64 - (end & 63));
+            }
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
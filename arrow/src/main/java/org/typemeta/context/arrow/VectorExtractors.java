@@ -0,0 +1,269 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.*;
+import org.typemeta.context.extractors.byindex.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * A set of extractors for extracting values directly from Arrow vectors, given a row index.
+ * Unlike the {@link FieldReaderExtractors} extractors, these extractors hold no positional state,
+ * and so can be used concurrently by multiple threads on the same vectors.
+ */
+public abstract class VectorExtractors {
+
+    private VectorExtractors() {}
+
+    /**
+     * A combinator function to convert a vector extractor into one for {@link Optional} values.
+     * @param extr      the extractor function for the value type
+     * @param <V>       the vector type
+     * @param <T>       the value type
+     * @return          the extractor function for the optional value
+     */
+    public static <V extends ValueVector, T> ExtractorByIndex<V, Optional<T>> optional(ExtractorByIndex<V, T> extr) {
+        return (vec, i) -> {
+            if (vec.isNull(i)) {
+                return Optional.empty();
+            } else {
+                return Optional.of(extr.extract(vec, i));
+            }
+        };
+    }
+
+    /**
+     * An extractor for {@link Boolean} values.
+     */
+    public static final ExtractorByIndex<BitVector, Boolean> BOOLEAN = BitVector::getObject;
+
+    /**
+     * An extractor for optional {@code Boolean} values.
+     */
+    public static final ExtractorByIndex<BitVector, Optional<Boolean>> OPT_BOOLEAN = optional(BOOLEAN);
+
+    /**
+     * An extractor for double values.
+     */
+    public static final DoubleExtractorByIndex<Float8Vector> DOUBLE = Float8Vector::get;
+
+    /**
+     * An extractor for {@link OptionalDouble} values.
+     */
+    public static final ExtractorByIndex<Float8Vector, OptionalDouble> OPT_DOUBLE =
+            (vec, i) -> {
+                if (vec.isNull(i)) {
+                    return OptionalDouble.empty();
+                } else {
+                    return OptionalDouble.of(vec.get(i));
+                }
+            };
+
+    /**
+     * An extractor for {@link Float} values.
+     */
+    public static final ExtractorByIndex<Float4Vector, Float> FLOAT = Float4Vector::getObject;
+
+    /**
+     * An extractor for optional {@code Float} values.
+     */
+    public static final ExtractorByIndex<Float4Vector, Optional<Float>> OPT_FLOAT = optional(FLOAT);
+
+    /**
+     * An extractor for integer values.
+     */
+    public static final IntExtractorByIndex<IntVector> INTEGER = IntVector::get;
+
+    /**
+     * An extractor for {@link OptionalInt} values.
+     */
+    public static final ExtractorByIndex<IntVector, OptionalInt> OPT_INTEGER =
+            (vec, i) -> {
+                if (vec.isNull(i)) {
+                    return OptionalInt.empty();
+                } else {
+                    return OptionalInt.of(vec.get(i));
+                }
+            };
+
+    /**
+     * An extractor for long values.
+     */
+    public static final LongExtractorByIndex<BigIntVector> LONG = BigIntVector::get;
+
+    /**
+     * An extractor for {@link OptionalLong} values.
+     */
+    public static final ExtractorByIndex<BigIntVector, OptionalLong> OPT_LONG =
+            (vec, i) -> {
+                if (vec.isNull(i)) {
+                    return OptionalLong.empty();
+                } else {
+                    return OptionalLong.of(vec.get(i));
+                }
+            };
+
+    /**
+     * An extractor for {@link String} values.
+     */
+    public static final ExtractorByIndex<VarCharVector, String> STRING =
+            (vec, i) -> vec.isNull(i) ? null : new String(vec.get(i), StandardCharsets.UTF_8);
+
+    /**
+     * An extractor for optional {@code String} values.
+     */
+    public static final ExtractorByIndex<VarCharVector, Optional<String>> OPT_STRING = optional(STRING);
+
+    /**
+     * An extractor for {@link LocalDate} values.
+     */
+    public static final ExtractorByIndex<DateDayVector, LocalDate> LOCALDATE =
+            (vec, i) -> vec.isNull(i) ? null : LocalDate.ofEpochDay(vec.get(i));
+
+    /**
+     * An extractor for optional {@code LocalDate} values.
+     */
+    public static final ExtractorByIndex<DateDayVector, Optional<LocalDate>> OPT_LOCALDATE = optional(LOCALDATE);
+
+    /**
+     * An extractor for {@link LocalDateTime} values.
+     */
+    public static final ExtractorByIndex<TimeStampMilliVector, LocalDateTime> LOCALDATETIME =
+            TimeStampMilliVector::getObject;
+
+    /**
+     * An extractor for optional {@code LocalDateTime} values.
+     */
+    public static final ExtractorByIndex<TimeStampMilliVector, Optional<LocalDateTime>> OPT_LOCALDATETIME =
+            optional(LOCALDATETIME);
+
+    /**
+     * An extractor for {@link BigDecimal} values.
+     */
+    public static final ExtractorByIndex<DecimalVector, BigDecimal> BIGDECIMAL = DecimalVector::getObject;
+
+    /**
+     * An extractor for optional {@code BigDecimal} values.
+     */
+    public static final ExtractorByIndex<DecimalVector, Optional<BigDecimal>> OPT_BIGDECIMAL = optional(BIGDECIMAL);
+
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * An extractor for decimal values as unscaled long values, at the scale of the vector.
+     * The value is read directly from the vector's data buffer, without creating a {@code BigDecimal}.
+     * An {@link ArithmeticException} is thrown if the value doesn't fit in a long,
+     * and an {@link IllegalStateException} if the value is null.
+     */
+    public static final LongExtractorByIndex<DecimalVector> UNSCALED_DECIMAL =
+            (vec, i) -> {
+                if (vec.isNull(i)) {
+                    throw new IllegalStateException("Value at index " + i + " is null");
+                } else if (!LITTLE_ENDIAN) {
+                    return vec.getObject(i).unscaledValue().longValueExact();
+                }
+                final ArrowBuf buf = vec.getDataBuffer();
+                final long offset = (long)i * DecimalVector.TYPE_WIDTH;
+                final long lo = buf.getLong(offset);
+                final long hi = buf.getLong(offset + Long.BYTES);
+                if (hi != (lo >> 63)) {
+                    throw new ArithmeticException("Decimal value at index " + i + " is out of long range");
+                }
+                return lo;
+            };
+
+    /**
+     * Create an extractor for decimal values as unscaled long values with a fixed scale,
+     * i.e. a value {@code v} is extracted as {@code v * 10^scale},
+     * regardless of the scale of the vector.
+     * @param scale     the scale
+     * @return          the extractor
+     * @throws ArithmeticException if a value has a non-zero fractional part at the scale, or doesn't fit in a long
+     */
+    public static LongExtractorByIndex<DecimalVector> unscaledDecimal(int scale) {
+        return (vec, i) -> {
+            final long value = UNSCALED_DECIMAL.extractLong(vec, i);
+            final int diff = scale - vec.getScale();
+            if (diff == 0) {
+                return value;
+            } else if (diff > 0) {
+                if (diff >= POWERS_OF_TEN.length) {
+                    throw new ArithmeticException("Decimal value at index " + i + " is out of long range");
+                }
+                return Math.multiplyExact(value, POWERS_OF_TEN[diff]);
+            } else if (-diff >= POWERS_OF_TEN.length) {
+                if (value != 0) {
+                    throw new ArithmeticException("Rounding necessary for decimal value at index " + i);
+                }
+                return 0;
+            } else {
+                final long pow = POWERS_OF_TEN[-diff];
+                if (value % pow != 0) {
+                    throw new ArithmeticException("Rounding necessary for decimal value at index " + i);
+                }
+                return value / pow;
+            }
+        };
+    }
+
+    /**
+     * An extractor for byte array values.
+     */
+    public static final ExtractorByIndex<VarBinaryVector, byte[]> BYTES = VarBinaryVector::get;
+
+    /**
+     * An extractor for optional byte array values.
+     */
+    public static final ExtractorByIndex<VarBinaryVector, Optional<byte[]>> OPT_BYTES = optional(BYTES);
+
+    /**
+     * An extractor for fixed-size byte array values.
+     */
+    public static final ExtractorByIndex<FixedSizeBinaryVector, byte[]> FIXED_BYTES = FixedSizeBinaryVector::get;
+
+    /**
+     * An extractor for optional fixed-size byte array values.
+     */
+    public static final ExtractorByIndex<FixedSizeBinaryVector, Optional<byte[]>> OPT_FIXED_BYTES =
+            optional(FIXED_BYTES);
+
+    /**
+     * An extractor for {@link UUID} values stored in a 16-byte {@code FixedSizeBinaryVector},
+     * most significant byte first.
+     * The value is read directly from the vector's data buffer, without an intermediate byte array.
+     */
+    public static final ExtractorByIndex<FixedSizeBinaryVector, UUID> UUID_BYTES =
+            (vec, i) -> {
+                if (vec.isNull(i)) {
+                    return null;
+                } else if (vec.getByteWidth() != 16) {
+                    throw new IllegalArgumentException("UUID vector must be 16 bytes wide, not " + vec.getByteWidth());
+                }
+                final ArrowBuf buf = vec.getDataBuffer();
+                final long offset = (long)i * 16;
+                final long msb = buf.getLong(offset);
+                final long lsb = buf.getLong(offset + Long.BYTES);
+                return LITTLE_ENDIAN ?
+                        new UUID(Long.reverseBytes(msb), Long.reverseBytes(lsb)) :
+                        new UUID(msb, lsb);
+            };
+
+    /**
+     * An extractor for optional {@code UUID} values stored in a 16-byte {@code FixedSizeBinaryVector}.
+     */
+    public static final ExtractorByIndex<FixedSizeBinaryVector, Optional<UUID>> OPT_UUID_BYTES = optional(UUID_BYTES);
+}
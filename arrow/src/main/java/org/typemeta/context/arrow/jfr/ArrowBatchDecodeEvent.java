@@ -0,0 +1,66 @@
+package org.typemeta.context.arrow.jfr;
+
+import jdk.jfr.*;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * A JFR event for an Arrow record batch which has been loaded from a reader and extracted.
+ * The duration covers loading the batch and applying the row extractor to its rows.
+ */
+@Name("org.typemeta.context.ArrowBatchDecode")
+@Label("Arrow Batch Decode")
+@Category({"TypeMeta Context", "Arrow"})
+@Description("An Arrow record batch loaded from a reader and extracted")
+@StackTrace(false)
+public final class ArrowBatchDecodeEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ArrowBatchDecodeEvent.class);
+
+    /**
+     * Begin an event, if the event type is enabled in a running recording.
+     * @return          the event, or null if the event type is disabled
+     */
+    public static ArrowBatchDecodeEvent start() {
+        if (TYPE.isEnabled()) {
+            final ArrowBatchDecodeEvent event = new ArrowBatchDecodeEvent();
+            event.begin();
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Label("Mapper")
+    @Description("The name of the row extractor")
+    private String mapper;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Bytes")
+    @Description("The size of the buffers of the batch")
+    @DataAmount
+    private long bytes;
+
+    private ArrowBatchDecodeEvent() {}
+
+    /**
+     * End the event, and commit it if it passes the recording's duration threshold.
+     * @param mapper    the name of the row extractor
+     * @param root      the record batch
+     */
+    public void finish(String mapper, VectorSchemaRoot root) {
+        end();
+        if (shouldCommit()) {
+            long size = 0;
+            for (FieldVector vector : root.getFieldVectors()) {
+                size += vector.getBufferSize();
+            }
+            this.mapper = mapper;
+            this.rows = root.getRowCount();
+            this.bytes = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.extractors.RowView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArrowScanTest {
+
+    private static final int N = 100;
+    private static final String[] CCYS = {"GBP", "USD", "EUR", "USDX"};
+
+    private static BufferAllocator allocator;
+    private static VectorSchemaRoot root;
+
+    private static Integer qty(int i) {
+        return i % 7 == 0 ? null : i % 20;
+    }
+
+    private static String ccy(int i) {
+        return i % 11 == 0 ? null : CCYS[i % CCYS.length];
+    }
+
+    @BeforeAll
+    public static void setup() {
+        allocator = new RootAllocator();
+
+        final IntVector ids = new IntVector("id", allocator);
+        final IntVector qtys = new IntVector("qty", allocator);
+        final VarCharVector ccys = new VarCharVector("ccy", allocator);
+        final Float8Vector prices = new Float8Vector("price", allocator);
+        ids.allocateNew(N);
+        qtys.allocateNew(N);
+        ccys.allocateNew(N);
+        prices.allocateNew(N);
+
+        for (int i = 0; i < N; ++i) {
+            ids.set(i, i);
+            prices.set(i, i * 1.5);
+
+            final Integer qty = qty(i);
+            if (qty == null) {
+                qtys.setNull(i);
+            } else {
+                qtys.set(i, qty);
+            }
+
+            final String ccy = ccy(i);
+            if (ccy == null) {
+                ccys.setNull(i);
+            } else {
+                ccys.setSafe(i, ccy.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        ids.setValueCount(N);
+        qtys.setValueCount(N);
+        ccys.setValueCount(N);
+        prices.setValueCount(N);
+
+        root = VectorSchemaRoot.of(ids, prices, qtys, ccys);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        root.close();
+        allocator.close();
+    }
+
+    private static List<Integer> expectedIds() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < N; ++i) {
+            final Integer qty = qty(i);
+            if (qty != null && qty > 10 && "USD".equals(ccy(i))) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    public void testFilterAndProject() {
+        final ArrowScan<Integer> scan =
+                ArrowScan.of(RowExtractors.intColumn(0, VectorExtractors.INTEGER))
+                        .project("id")
+                        .filter(RowPredicates.intColumn("qty", qty -> qty > 10))
+                        .filter(RowPredicates.stringEquals("ccy", "USD"));
+
+        assertEquals(Optional.of(Arrays.asList("id", "qty", "ccy")), scan.columns());
+        assertEquals(3, scan.projectRoot(root).getFieldVectors().size());
+
+        final List<Integer> expected = expectedIds();
+        assertEquals(expected, scan.extract(Collections.singletonList(root)));
+        assertEquals(expected, scan.stream(Arrays.asList(root, root)).limit(expected.size()).collect(toList()));
+    }
+
+    @Test
+    public void testNullPredicates() {
+        final ArrowScan<Integer> nulls =
+                ArrowScan.of(RowExtractors.column("id", VectorExtractors.INTEGER))
+                        .filter(RowPredicates.isNull("qty").or(RowPredicates.isNull("ccy")));
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < N; ++i) {
+            if (qty(i) == null || ccy(i) == null) {
+                expected.add(i);
+            }
+        }
+
+        assertEquals(expected, nulls.extract(Collections.singletonList(root)));
+
+        final ArrowScan<Integer> small =
+                ArrowScan.of(RowExtractors.column("id", VectorExtractors.INTEGER))
+                        .filter(RowPredicates.intColumn("qty", qty -> qty > 10).negate());
+
+        final List<Integer> expectedSmall = new ArrayList<>();
+        for (int i = 0; i < N; ++i) {
+            final Integer qty = qty(i);
+            if (qty != null && qty <= 10) {
+                expectedSmall.add(i);
+            }
+        }
+
+        assertEquals(expectedSmall, small.extract(Collections.singletonList(root)));
+    }
+
+    private static List<Integer> matching(RowPredicate pred) {
+        final IntPredicate test = pred.bind(root);
+        return IntStream.range(0, N).filter(test).boxed().collect(toList());
+    }
+
+    private static List<Integer> expected(IntPredicate test) {
+        return IntStream.range(0, N).filter(test).boxed().collect(toList());
+    }
+
+    @Test
+    public void testNegation() {
+        final RowPredicate big = RowPredicates.intColumn("qty", qty -> qty > 10);
+        final RowPredicate usd = RowPredicates.stringEquals("ccy", "USD");
+
+        assertEquals(matching(big), matching(big.negate().negate()));
+        assertEquals(matching(big.and(usd)), matching(big.and(usd).negate().negate()));
+        assertEquals(matching(big.or(usd)), matching(big.or(usd).negate().negate()));
+
+        // Negated compound predicates exclude the rows for which they are unknown.
+        assertEquals(
+                expected(i -> (qty(i) != null && qty(i) <= 10) || (ccy(i) != null && !ccy(i).equals("USD"))),
+                matching(big.and(usd).negate())
+        );
+        assertEquals(
+                expected(i -> qty(i) != null && qty(i) <= 10 && ccy(i) != null && !ccy(i).equals("USD")),
+                matching(big.or(usd).negate())
+        );
+        assertEquals(
+                expected(i -> qty(i) == null || (ccy(i) != null && !ccy(i).equals("USD"))),
+                matching(RowPredicates.isNull("qty").or(usd.negate()))
+        );
+    }
+
+    @Test
+    public void testProjectDependencies() {
+        final ArrowScan<String> scan =
+                ArrowScan.of(
+                        Extractors.combine(
+                                RowExtractors.column("ccy", VectorExtractors.STRING),
+                                RowExtractors.column("id", VectorExtractors.INTEGER),
+                                (ccy, id) -> id + ccy
+                        )
+                ).projectDependencies();
+
+        assertEquals(Optional.of(Arrays.asList("ccy", "id")), scan.columns());
+        assertEquals(N, scan.extract(Collections.singletonList(root)).size());
+
+        final ArrowScan<String> byIndex =
+                ArrowScan.of(
+                        Extractors.combine(
+                                RowExtractors.doubleColumn(1, VectorExtractors.DOUBLE),
+                                RowExtractors.column("ccy", VectorExtractors.STRING),
+                                (price, ccy) -> price + ccy
+                        )
+                ).projectDependencies();
+
+        assertEquals(Optional.of(Arrays.asList("id", "price", "ccy")), byIndex.columns(root.getSchema()));
+        final List<String> values = byIndex.extract(Collections.singletonList(root));
+        for (int i = 0; i < N; ++i) {
+            assertEquals(i * 1.5 + ccy(i), values.get(i));
+        }
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> ArrowScan.<Integer>of(cursor -> 0).projectDependencies()
+        );
+    }
+
+    @Test
+    public void testNoFilter() {
+        final ArrowScan<Double> scan =
+                ArrowScan.of(RowExtractors.doubleColumn(0, VectorExtractors.DOUBLE))
+                        .project("price");
+
+        final List<Double> actual = scan.extract(Collections.singletonList(root));
+        assertEquals(N, actual.size());
+        for (int i = 0; i < N; ++i) {
+            assertEquals(i * 1.5, actual.get(i));
+        }
+    }
+
+    public interface PriceRow {
+        int id();
+        double price();
+    }
+
+    @Test
+    public void testRowView() {
+        final RowView<RowCursor, PriceRow> view = RowView.builder(PriceRow.class, RowCursor.class)
+                .field("id", RowExtractors.intColumn(0, VectorExtractors.INTEGER))
+                .field("price", RowExtractors.doubleColumn(1, VectorExtractors.DOUBLE))
+                .build();
+
+        final RowCursor cursor = new RowCursor(root);
+        final PriceRow row = view.view(cursor);
+        for (int i = 0; i < N; ++i) {
+            cursor.moveTo(i);
+            assertEquals(i, row.id());
+            assertEquals(i * 1.5, row.price());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchExtractorsTest {
+
+    private static final int N = 1000;
+
+    private static final List<IntPredicate> PATTERNS = Arrays.asList(
+            row -> true,
+            row -> false,
+            row -> row % 100 == 0,
+            row -> row < 200 || row >= 700,
+            row -> (row / 64) % 2 == 0,
+            row -> new Random(row).nextBoolean()
+    );
+
+    private static final int[][] RANGES = {{0, N}, {0, 0}, {3, 5}, {63, 65}, {1, 999}, {130, 700}, {999, 1000}};
+
+    private static IntVector intVector(BufferAllocator allocator, IntPredicate isValid) {
+        final IntVector vec = new IntVector("ints", allocator);
+        vec.allocateNew(N);
+        for (int row = 0; row < N; ++row) {
+            if (isValid.test(row)) {
+                vec.set(row, row * 3);
+            } else {
+                vec.setNull(row);
+            }
+        }
+        vec.setValueCount(N);
+        return vec;
+    }
+
+    @Test
+    public void testRuns() {
+        try (final BufferAllocator allocator = new RootAllocator()) {
+            for (IntPredicate pattern : PATTERNS) {
+                try (final IntVector vec = intVector(allocator, pattern)) {
+                    for (int[] range : RANGES) {
+                        final List<int[]> runs = new ArrayList<>();
+                        final boolean[] flags = new boolean[N];
+                        ValidityRuns.forEach(
+                                vec, range[0], range[1],
+                                (from, to) -> {
+                                    runs.add(new int[]{from, to});
+                                    Arrays.fill(flags, from, to, true);
+                                },
+                                (from, to) -> runs.add(new int[]{from, to})
+                        );
+
+                        int next = range[0];
+                        int validCount = 0;
+                        for (int[] run : runs) {
+                            assertEquals(next, run[0]);
+                            assertTrue(run[1] > run[0]);
+                            next = run[1];
+                        }
+                        assertEquals(range[1], next);
+
+                        for (int row = range[0]; row < range[1]; ++row) {
+                            assertEquals(!vec.isNull(row), flags[row]);
+                            if (!vec.isNull(row)) {
+                                ++validCount;
+                            }
+                        }
+                        assertEquals(validCount, ValidityRuns.countValid(vec, range[0], range[1]));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInts() {
+        try (final BufferAllocator allocator = new RootAllocator()) {
+            for (IntPredicate pattern : PATTERNS) {
+                try (final IntVector vec = intVector(allocator, pattern)) {
+                    final int start = 17;
+                    final int[] values = new int[N - start];
+                    final boolean[] valid = new boolean[N - start];
+                    final int count = BatchExtractors.extractInts(vec, start, N, values, -1, valid);
+
+                    int expectedCount = 0;
+                    for (int row = start; row < N; ++row) {
+                        final OptionalInt expected = VectorExtractors.OPT_INTEGER.extract(vec, row);
+                        assertEquals(expected.isPresent(), valid[row - start]);
+                        assertEquals(expected.orElse(-1), values[row - start]);
+                        if (expected.isPresent()) {
+                            ++expectedCount;
+                        }
+                    }
+                    assertEquals(expectedCount, count);
+
+                    final Integer[] boxed = new Integer[N];
+                    BatchExtractors.extract(vec, VectorExtractors.INTEGER, 0, N, boxed);
+                    for (int row = 0; row < N; ++row) {
+                        assertEquals(vec.getObject(row), boxed[row]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongsAndDoubles() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final BigIntVector longs = new BigIntVector("longs", allocator);
+                final Float8Vector doubles = new Float8Vector("doubles", allocator)
+        ) {
+            longs.allocateNew(N);
+            doubles.allocateNew(N);
+            for (int row = 0; row < N; ++row) {
+                if (row % 3 == 0) {
+                    longs.setNull(row);
+                    doubles.setNull(row);
+                } else {
+                    longs.set(row, row * 1000000000L);
+                    doubles.set(row, row / 4.0);
+                }
+            }
+            longs.setValueCount(N);
+            doubles.setValueCount(N);
+
+            final long[] lv = new long[N];
+            final double[] dv = new double[N];
+            assertEquals(666, BatchExtractors.extractLongs(longs, 0, N, lv, 0L, null));
+            assertEquals(666, BatchExtractors.extractDoubles(doubles, 0, N, dv, Double.NaN, null));
+
+            for (int row = 0; row < N; ++row) {
+                if (row % 3 == 0) {
+                    assertEquals(0L, lv[row]);
+                    assertTrue(Double.isNaN(dv[row]));
+                } else {
+                    assertEquals(row * 1000000000L, lv[row]);
+                    assertEquals(row / 4.0, dv[row]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryExtractorsTest {
+
+    private enum Currency {GBP, USD, EUR}
+
+    private static final List<String> ENTRIES = Arrays.asList("GBP", "USD", "EUR");
+
+    private static final int[] INDICES = {0, 1, 1, 2, -1, 0, 2, 2};
+
+    private static VarCharVector createDictVector(BufferAllocator allocator) {
+        final VarCharVector dictVec = new VarCharVector("currencies", allocator);
+        dictVec.allocateNew();
+        for (int i = 0; i < ENTRIES.size(); ++i) {
+            dictVec.setSafe(i, ENTRIES.get(i).getBytes(StandardCharsets.UTF_8));
+        }
+        dictVec.setValueCount(ENTRIES.size());
+        return dictVec;
+    }
+
+    private static IntVector createIndexVector(BufferAllocator allocator) {
+        final IntVector indices = new IntVector("currency", allocator);
+        indices.allocateNew();
+        for (int i = 0; i < INDICES.length; ++i) {
+            if (INDICES[i] < 0) {
+                indices.setNull(i);
+            } else {
+                indices.setSafe(i, INDICES[i]);
+            }
+        }
+        indices.setValueCount(INDICES.length);
+        return indices;
+    }
+
+    @Test
+    public void testStrings() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final VarCharVector dictVec = createDictVector(allocator);
+                final IntVector indices = createIndexVector(allocator)
+        ) {
+            final Dictionary dict = new Dictionary(dictVec, new DictionaryEncoding(1L, false, null));
+            final DictionaryExtractor<String> extr = DictionaryExtractors.strings(dict);
+
+            assertEquals(ENTRIES.size(), extr.size());
+
+            for (int i = 0; i < INDICES.length; ++i) {
+                final String value = extr.extract(indices, i);
+                if (INDICES[i] < 0) {
+                    assertNull(value, "Row " + i);
+                } else {
+                    assertEquals(ENTRIES.get(INDICES[i]), value, "Row " + i);
+                    assertSame(extr.decode(INDICES[i]), value, "Row " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEnums() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final VarCharVector dictVec = createDictVector(allocator);
+                final IntVector indices = createIndexVector(allocator)
+        ) {
+            final Dictionary dict = new Dictionary(dictVec, new DictionaryEncoding(1L, false, null));
+            final DictionaryExtractor<Currency> extr = DictionaryExtractors.enums(Currency.class, dict);
+
+            for (int i = 0; i < INDICES.length; ++i) {
+                final Currency expected = INDICES[i] < 0 ? null : Currency.values()[INDICES[i]];
+                assertEquals(expected, extr.bind(i).extract(indices), "Row " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testWrongDictionaryType() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final IntVector dictVec = createIndexVector(allocator)
+        ) {
+            final Dictionary dict = new Dictionary(dictVec, new DictionaryEncoding(1L, false, null));
+            assertThrows(IllegalArgumentException.class, () -> DictionaryExtractors.strings(dict));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.impl.NullableStructWriter;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.apache.arrow.vector.complex.impl.UnionMapWriter;
+import org.apache.arrow.vector.complex.writer.BaseWriter;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+import org.typemeta.context.extractors.byindex.ExtractorByIndexes;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NestedExtractorsTest {
+
+    private static final ExtractorByIndex<StructVector, String> EVENT =
+            NestedExtractors.struct(
+                    ExtractorByIndexes.combine(
+                            NestedExtractors.field("id", VectorExtractors.INTEGER),
+                            NestedExtractors.field("type", VectorExtractors.STRING),
+                            (id, type) -> id + ":" + type
+                    )
+            );
+
+    @Test
+    public void testIntList() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final ListVector vec = ListVector.empty("ints", allocator)
+        ) {
+            final UnionListWriter writer = vec.getWriter();
+            for (int row = 0; row < 4; ++row) {
+                writer.setPosition(row);
+                if (row != 2) {
+                    writer.startList();
+                    for (int i = 0; i < row; ++i) {
+                        writer.integer().writeInt(row * 10 + i);
+                    }
+                    writer.endList();
+                }
+            }
+            vec.setValueCount(4);
+
+            final ExtractorByIndex<ListVector, List<Integer>> listExtr = NestedExtractors.list(VectorExtractors.INTEGER);
+            final ExtractorByIndex<ListVector, int[]> arrExtr = NestedExtractors.intArray(VectorExtractors.INTEGER);
+
+            assertEquals(Collections.emptyList(), listExtr.extract(vec, 0));
+            assertEquals(Collections.singletonList(10), listExtr.extract(vec, 1));
+            assertNull(listExtr.extract(vec, 2));
+            assertEquals(Arrays.asList(30, 31, 32), listExtr.extract(vec, 3));
+
+            assertArrayEquals(new int[0], arrExtr.extract(vec, 0));
+            assertNull(arrExtr.extract(vec, 2));
+            assertArrayEquals(new int[]{30, 31, 32}, arrExtr.extract(vec, 3));
+        }
+    }
+
+    @Test
+    public void testStruct() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final StructVector vec = StructVector.empty("event", allocator)
+        ) {
+            final NullableStructWriter writer = vec.getWriter();
+            for (int row = 0; row < 3; ++row) {
+                writer.setPosition(row);
+                if (row == 1) {
+                    writer.writeNull();
+                } else {
+                    writer.start();
+                    writer.integer("id").writeInt(row);
+                    writer.varChar("type").writeVarChar("T" + row);
+                    writer.end();
+                }
+            }
+            writer.setValueCount(3);
+
+            assertEquals("0:T0", EVENT.extract(vec, 0));
+            assertNull(EVENT.extract(vec, 1));
+            assertEquals("2:T2", EVENT.extract(vec, 2));
+        }
+    }
+
+    @Test
+    public void testListOfStruct() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final ListVector vec = ListVector.empty("events", allocator)
+        ) {
+            final UnionListWriter writer = vec.getWriter();
+            for (int row = 0; row < 3; ++row) {
+                writer.setPosition(row);
+                writer.startList();
+                for (int i = 0; i < row + 1; ++i) {
+                    final BaseWriter.StructWriter sw = writer.struct();
+                    sw.start();
+                    sw.integer("id").writeInt(row * 10 + i);
+                    sw.varChar("type").writeVarChar("T" + i);
+                    sw.end();
+                }
+                writer.endList();
+            }
+            vec.setValueCount(3);
+
+            final ExtractorByIndex<ListVector, List<String>> extr = NestedExtractors.list(EVENT);
+
+            assertEquals(Collections.singletonList("0:T0"), extr.extract(vec, 0));
+            assertEquals(Arrays.asList("10:T0", "11:T1"), extr.extract(vec, 1));
+            assertEquals(Arrays.asList("20:T0", "21:T1", "22:T2"), extr.extract(vec, 2));
+        }
+    }
+
+    @Test
+    public void testMap() {
+        try (
+                final BufferAllocator allocator = new RootAllocator();
+                final MapVector vec = MapVector.empty("attrs", allocator, false)
+        ) {
+            final UnionMapWriter writer = vec.getWriter();
+            for (int row = 0; row < 2; ++row) {
+                writer.setPosition(row);
+                writer.startMap();
+                for (int i = 0; i < 3; ++i) {
+                    writer.startEntry();
+                    writer.key().varChar().writeVarChar("k" + i);
+                    writer.value().bigInt().writeBigInt(row * 100L + i);
+                    writer.endEntry();
+                }
+                writer.endMap();
+            }
+            vec.setValueCount(2);
+
+            final ExtractorByIndex<MapVector, Map<String, Long>> extr =
+                    NestedExtractors.map(VectorExtractors.STRING, VectorExtractors.LONG);
+
+            final Map<String, Long> expected = new LinkedHashMap<>();
+            expected.put("k0", 100L);
+            expected.put("k1", 101L);
+            expected.put("k2", 102L);
+
+            assertEquals(expected, extr.extract(vec, 1));
+            assertEquals(Arrays.asList("k0", "k1", "k2"), new ArrayList<>(extr.extract(vec, 0).keySet()));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.extractors.IntoExtractors;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RecordBatchesTest {
+
+    private static final int[] BATCH_SIZES = {1000, 0, 1, 2500, 0, 777};
+
+    private static final Extractor<RowCursor, String> ROW_EXTR =
+            Extractors.combine(
+                    RowExtractors.intColumn(0, VectorExtractors.INTEGER),
+                    RowExtractors.column("name", VectorExtractors.STRING),
+                    (id, name) -> id + ":" + name
+            );
+
+    private static BufferAllocator allocator;
+    private static List<VectorSchemaRoot> batches;
+    private static List<String> expected;
+
+    private static VectorSchemaRoot createBatch(int start, int size) {
+        final IntVector ids = new IntVector("id", allocator);
+        final VarCharVector names = new VarCharVector("name", allocator);
+        ids.allocateNew(size);
+        names.allocateNew(size);
+        for (int i = 0; i < size; ++i) {
+            ids.set(i, start + i);
+            names.setSafe(i, ("n" + (start + i)).getBytes(StandardCharsets.UTF_8));
+        }
+        ids.setValueCount(size);
+        names.setValueCount(size);
+        return VectorSchemaRoot.of(ids, names);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        allocator = new RootAllocator();
+        batches = new ArrayList<>();
+        expected = new ArrayList<>();
+
+        int start = 0;
+        for (int size : BATCH_SIZES) {
+            batches.add(createBatch(start, size));
+            for (int i = start; i < start + size; ++i) {
+                expected.add(i + ":n" + i);
+            }
+            start += size;
+        }
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        batches.forEach(VectorSchemaRoot::close);
+        allocator.close();
+    }
+
+    @Test
+    public void testSequential() {
+        assertEquals(expected, RecordBatches.stream(batches, ROW_EXTR, false).collect(toList()));
+    }
+
+    @Test
+    public void testParallelOrdered() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, RecordBatches.extract(pool, batches, ROW_EXTR, true));
+
+            final List<String> actual = new ArrayList<>();
+            RecordBatches.forEach(pool, batches, ROW_EXTR, true, actual::add);
+            assertEquals(expected, actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelUnordered() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Set<String> expectedSet = new HashSet<>(expected);
+
+            final List<String> actual = RecordBatches.extract(pool, batches, ROW_EXTR, false);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expectedSet, new HashSet<>(actual));
+
+            final Collection<String> actual2 = new ConcurrentLinkedQueue<>();
+            RecordBatches.forEach(pool, batches, ROW_EXTR, false, actual2::add);
+            assertEquals(expected.size(), actual2.size());
+            assertEquals(expectedSet, new HashSet<>(actual2));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class MutableRow {
+        int id;
+        String name;
+    }
+
+    @Test
+    public void testForEachInto() {
+        final Extractor.Into<RowCursor, MutableRow> into = IntoExtractors.combine(
+                RowExtractors.intColumn(0, VectorExtractors.INTEGER).intoInt((row, id) -> row.id = id),
+                RowExtractors.column("name", VectorExtractors.STRING).into((MutableRow row, String name) -> row.name = name)
+        );
+
+        final MutableRow target = new MutableRow();
+        final List<String> actual = new ArrayList<>();
+        RecordBatches.forEachInto(batches, into, target, row -> {
+            assertSame(target, row);
+            actual.add(row.id + ":" + row.name);
+        });
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,50 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.testing.AllocationAssert;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VectorAllocationTest {
+
+    private static final int SIZE = 1024;
+
+    private double sum;
+
+    @Test
+    public void testPrimitiveReaders() {
+        assumeTrue(AllocationAssert.isSupported());
+
+        try (BufferAllocator allocator = new RootAllocator();
+                IntVector ints = new IntVector("i", allocator);
+                BigIntVector longs = new BigIntVector("l", allocator);
+                Float8Vector doubles = new Float8Vector("d", allocator)) {
+            ints.allocateNew(SIZE);
+            longs.allocateNew(SIZE);
+            doubles.allocateNew(SIZE);
+            for (int i = 0; i < SIZE; ++i) {
+                ints.set(i, i);
+                longs.set(i, i * 1000L);
+                doubles.set(i, i * 0.5);
+            }
+            ints.setValueCount(SIZE);
+            longs.setValueCount(SIZE);
+            doubles.setValueCount(SIZE);
+
+            final int[] row = {0};
+            AllocationAssert.assertNoAllocation("VectorExtractors.INTEGER.extractInt", 100_000,
+                    () -> sum += VectorExtractors.INTEGER.extractInt(ints, row[0]++ & (SIZE - 1)));
+            AllocationAssert.assertNoAllocation("VectorExtractors.LONG.extractLong", 100_000,
+                    () -> sum += VectorExtractors.LONG.extractLong(longs, row[0]++ & (SIZE - 1)));
+            AllocationAssert.assertNoAllocation("VectorExtractors.DOUBLE.extractDouble", 100_000,
+                    () -> sum += VectorExtractors.DOUBLE.extractDouble(doubles, row[0]++ & (SIZE - 1)));
+        }
+        assertTrue(sum > 0);
+    }
+}
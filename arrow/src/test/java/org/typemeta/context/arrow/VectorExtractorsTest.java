@@ -0,0 +1,111 @@
+package org.typemeta.context.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.testing.AllocationAssert;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VectorExtractorsTest {
+
+    private long sum;
+
+    @Test
+    public void testDecimals() {
+        final BigDecimal[] values = {
+                new BigDecimal("1234567890.12"),
+                new BigDecimal("-0.05"),
+                new BigDecimal("9999999999999999.99"),
+                null
+        };
+
+        try (BufferAllocator allocator = new RootAllocator();
+                DecimalVector vec = new DecimalVector("price", allocator, 18, 2)) {
+            vec.allocateNew(values.length);
+            for (int i = 0; i < values.length; ++i) {
+                if (values[i] == null) {
+                    vec.setNull(i);
+                } else {
+                    vec.set(i, values[i]);
+                }
+            }
+            vec.setValueCount(values.length);
+
+            assertEquals(123456789012L, VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, 0));
+            assertEquals(-5L, VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, 1));
+            assertEquals(999999999999999999L, VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, 2));
+            assertThrows(IllegalStateException.class, () -> VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, 3));
+
+            assertEquals(1234567890120L, VectorExtractors.unscaledDecimal(3).extractLong(vec, 0));
+            assertEquals(-50L, VectorExtractors.unscaledDecimal(3).extractLong(vec, 1));
+            assertThrows(ArithmeticException.class, () -> VectorExtractors.unscaledDecimal(0).extractLong(vec, 1));
+            assertThrows(ArithmeticException.class, () -> VectorExtractors.unscaledDecimal(4).extractLong(vec, 2));
+
+            assertEquals(values[0], VectorExtractors.BIGDECIMAL.extract(vec, 0));
+            assertEquals(Optional.empty(), VectorExtractors.OPT_BIGDECIMAL.extract(vec, 3));
+
+            if (AllocationAssert.isSupported()) {
+                final int[] row = {0};
+                AllocationAssert.assertNoAllocation("VectorExtractors.UNSCALED_DECIMAL.extractLong", 100_000,
+                        () -> sum += VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, row[0]++ % 3));
+            }
+        }
+    }
+
+    @Test
+    public void testDecimalOutOfLongRange() {
+        try (BufferAllocator allocator = new RootAllocator();
+                DecimalVector vec = new DecimalVector("big", allocator, 38, 0)) {
+            vec.allocateNew(1);
+            vec.set(0, new BigDecimal("100000000000000000000"));
+            vec.setValueCount(1);
+            assertThrows(ArithmeticException.class, () -> VectorExtractors.UNSCALED_DECIMAL.extractLong(vec, 0));
+        }
+    }
+
+    @Test
+    public void testBinary() {
+        final UUID uuid = UUID.fromString("01234567-89ab-cdef-fedc-ba9876543210");
+        final byte[] uuidBytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+
+        try (BufferAllocator allocator = new RootAllocator();
+                FixedSizeBinaryVector ids = new FixedSizeBinaryVector("id", allocator, 16);
+                FixedSizeBinaryVector shorts = new FixedSizeBinaryVector("short", allocator, 8);
+                VarBinaryVector tags = new VarBinaryVector("tag", allocator)) {
+            ids.allocateNew(2);
+            ids.set(0, uuidBytes);
+            ids.setNull(1);
+            ids.setValueCount(2);
+
+            shorts.allocateNew(1);
+            shorts.set(0, new byte[8]);
+            shorts.setValueCount(1);
+
+            tags.allocateNew(2);
+            tags.setSafe(0, new byte[]{1, 2, 3});
+            tags.setNull(1);
+            tags.setValueCount(2);
+
+            assertEquals(uuid, VectorExtractors.UUID_BYTES.extract(ids, 0));
+            assertNull(VectorExtractors.UUID_BYTES.extract(ids, 1));
+            assertEquals(Optional.empty(), VectorExtractors.OPT_UUID_BYTES.extract(ids, 1));
+            assertArrayEquals(uuidBytes, VectorExtractors.FIXED_BYTES.extract(ids, 0));
+            assertThrows(IllegalArgumentException.class, () -> VectorExtractors.UUID_BYTES.extract(shorts, 0));
+
+            assertArrayEquals(new byte[]{1, 2, 3}, VectorExtractors.BYTES.extract(tags, 0));
+            assertFalse(VectorExtractors.OPT_BYTES.extract(tags, 1).isPresent());
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package org.typemeta.context.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer for encoding and decoding rows in a compact binary format,
+ * and the context for the extractors and injectors in {@link BinaryExtractors} and {@link BinaryInjectors}.
+ * <p>
+ * Values are written sequentially at the end of the buffer, and read sequentially from the read position.
+ * Integers are written as variable-length zig-zag encoded values, so that small positive and negative values
+ * take a single byte, and strings are written as a variable-length UTF-8 byte count followed by the UTF-8 bytes.
+ * Floating point values are written as fixed-length big-endian values.
+ * <p>
+ * Unlike {@link java.io.DataOutputStream} and {@link java.io.ByteArrayOutputStream},
+ * the buffer is unsynchronized and can be reset and reused without reallocating.
+ */
+public final class BinaryBuffer {
+
+    private byte[] buf;
+    private int readPos;
+    private int writePos;
+
+    /**
+     * Create an empty buffer.
+     */
+    public BinaryBuffer() {
+        this(64);
+    }
+
+    /**
+     * Create an empty buffer with the given initial capacity.
+     * @param capacity  the initial capacity in bytes
+     */
+    public BinaryBuffer(int capacity) {
+        this.buf = new byte[capacity];
+    }
+
+    /**
+     * Create a buffer for reading the given bytes.
+     * The array is not copied.
+     * @param bytes     the bytes
+     * @return          the buffer
+     */
+    public static BinaryBuffer wrap(byte[] bytes) {
+        return new BinaryBuffer(0).reset(bytes, bytes.length);
+    }
+
+    /**
+     * Replace the contents of this buffer with the first {@code length} bytes of the given array,
+     * and move the read position to the start.
+     * The array is not copied.
+     * @param bytes     the bytes
+     * @param length    the number of bytes
+     * @return          this buffer
+     */
+    public BinaryBuffer reset(byte[] bytes, int length) {
+        if (length < 0 || length > bytes.length) {
+            throw new IndexOutOfBoundsException("Length " + length + " out of bounds for array of " + bytes.length);
+        }
+        this.buf = bytes;
+        this.readPos = 0;
+        this.writePos = length;
+        return this;
+    }
+
+    /**
+     * Discard the contents of this buffer, retaining its capacity.
+     * @return          this buffer
+     */
+    public BinaryBuffer clear() {
+        readPos = 0;
+        writePos = 0;
+        return this;
+    }
+
+    /**
+     * @return          the number of bytes written
+     */
+    public int size() {
+        return writePos;
+    }
+
+    /**
+     * @return          the number of bytes remaining to be read
+     */
+    public int remaining() {
+        return writePos - readPos;
+    }
+
+    /**
+     * @return          the read position
+     */
+    public int readPosition() {
+        return readPos;
+    }
+
+    /**
+     * Return the underlying byte array, the first {@link #size()} bytes of which hold the contents of this buffer.
+     * @return          the byte array
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    /**
+     * @return          a copy of the contents of this buffer
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, writePos);
+    }
+
+    /**
+     * Write the contents of this buffer to an output stream.
+     * @param os        the output stream
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        os.write(buf, 0, writePos);
+    }
+
+    /**
+     * Append exactly {@code length} bytes read from an input stream.
+     * @param is        the input stream
+     * @param length    the number of bytes to read
+     * @return          this buffer
+     * @throws IOException if the stream fails or ends prematurely
+     */
+    public BinaryBuffer readFrom(InputStream is, int length) throws IOException {
+        ensureCapacity(length);
+        final int n = is.readNBytes(buf, writePos, length);
+        writePos += n;
+        if (n < length) {
+            throw new EOFException("Expected " + length + " bytes but read " + n);
+        }
+        return this;
+    }
+
+    private void ensureCapacity(int n) {
+        if (writePos + n > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(writePos + n, Math.max(16, buf.length * 2)));
+        }
+    }
+
+    private void checkRemaining(int n) {
+        if (writePos - readPos < n) {
+            throw new IllegalStateException(
+                    "Attempt to read " + n + " bytes with only " + (writePos - readPos) + " remaining");
+        }
+    }
+
+    /**
+     * Write a single byte.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeByte(int value) {
+        ensureCapacity(1);
+        buf[writePos++] = (byte)value;
+        return this;
+    }
+
+    /**
+     * Read a single byte.
+     * @return          the value
+     */
+    public byte readByte() {
+        checkRemaining(1);
+        return buf[readPos++];
+    }
+
+    /**
+     * Write a boolean value as a single byte.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Read a boolean value.
+     * @return          the value
+     */
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Write an unsigned integer using a variable-length encoding of between 1 and 5 bytes.
+     * @param value     the value, which is treated as unsigned
+     * @return          this buffer
+     */
+    public BinaryBuffer writeUnsignedVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buf[writePos++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[writePos++] = (byte)value;
+        return this;
+    }
+
+    /**
+     * Read an unsigned variable-length integer.
+     * @return          the value
+     */
+    public int readUnsignedVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable-length integer");
+    }
+
+    /**
+     * Write an unsigned long using a variable-length encoding of between 1 and 10 bytes.
+     * @param value     the value, which is treated as unsigned
+     * @return          this buffer
+     */
+    public BinaryBuffer writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[writePos++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[writePos++] = (byte)value;
+        return this;
+    }
+
+    /**
+     * Read an unsigned variable-length long.
+     * @return          the value
+     */
+    public long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = readByte();
+            value |= (long)(b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable-length long");
+    }
+
+    /**
+     * Write a signed integer using a zig-zag variable-length encoding,
+     * so that values of small magnitude take fewer bytes.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeVarInt(int value) {
+        return writeUnsignedVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Read a zig-zag encoded variable-length integer.
+     * @return          the value
+     */
+    public int readVarInt() {
+        final int n = readUnsignedVarInt();
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * Write a signed long using a zig-zag variable-length encoding,
+     * so that values of small magnitude take fewer bytes.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeVarLong(long value) {
+        return writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Read a zig-zag encoded variable-length long.
+     * @return          the value
+     */
+    public long readVarLong() {
+        final long n = readUnsignedVarLong();
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * Write a 64-bit value in big-endian order.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[writePos++] = (byte)(value >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Read a big-endian 64-bit value.
+     * @return          the value
+     */
+    public long readFixedLong() {
+        checkRemaining(8);
+        long value = 0;
+        for (int i = 0; i < 8; ++i) {
+            value = (value << 8) | (buf[readPos++] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Write a double value as 8 bytes.
+     * @param value     the value
+     * @return          this buffer
+     */
+    public BinaryBuffer writeDouble(double value) {
+        return writeFixedLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Read a double value.
+     * @return          the value
+     */
+    public double readDouble() {
+        return Double.longBitsToDouble(readFixedLong());
+    }
+
+    /**
+     * Write a byte array, prefixed by its length.
+     * A null array is written as a zero length prefix, and a non-null array as its length plus one.
+     * @param value     the value, which may be null
+     * @return          this buffer
+     */
+    public BinaryBuffer writeBytes(byte[] value) {
+        if (value == null) {
+            return writeUnsignedVarInt(0);
+        } else {
+            writeUnsignedVarInt(value.length + 1);
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buf, writePos, value.length);
+            writePos += value.length;
+            return this;
+        }
+    }
+
+    /**
+     * Read a length-prefixed byte array.
+     * @return          the value, which may be null
+     */
+    public byte[] readBytes() {
+        final int len = readUnsignedVarInt() - 1;
+        if (len < 0) {
+            return null;
+        }
+        checkRemaining(len);
+        final byte[] value = Arrays.copyOfRange(buf, readPos, readPos + len);
+        readPos += len;
+        return value;
+    }
+
+    /**
+     * Write a string as length-prefixed UTF-8, encoding directly into the buffer.
+     * A null string is written as a zero length prefix, and a non-null string as its UTF-8 length plus one.
+     * As with {@link String#getBytes}, unpaired surrogates are encoded as {@code '?'}.
+     * @param value     the value, which may be null
+     * @return          this buffer
+     */
+    public BinaryBuffer writeString(String value) {
+        if (value == null) {
+            return writeUnsignedVarInt(0);
+        }
+
+        final int len = value.length();
+        int utf8Len = len;
+        for (int i = 0; i < len; ++i) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Len += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // A surrogate pair is 2 chars and 4 bytes.
+                    utf8Len += 2;
+                    ++i;
+                } else if (Character.isSurrogate(c)) {
+                    // Replaced with '?'.
+                } else {
+                    utf8Len += 2;
+                }
+            }
+        }
+
+        writeUnsignedVarInt(utf8Len + 1);
+        ensureCapacity(utf8Len);
+        final byte[] buf = this.buf;
+        int pos = writePos;
+        for (int i = 0; i < len; ++i) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte)c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte)(0xC0 | (c >> 6));
+                buf[pos++] = (byte)(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte)(0xF0 | (cp >> 18));
+                buf[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte)(0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte)(0xE0 | (c >> 12));
+                buf[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte)(0x80 | (c & 0x3F));
+            }
+        }
+        writePos = pos;
+        return this;
+    }
+
+    /**
+     * Read a length-prefixed UTF-8 string.
+     * @return          the value, which may be null
+     */
+    public String readString() {
+        final int len = readUnsignedVarInt() - 1;
+        if (len < 0) {
+            return null;
+        }
+        checkRemaining(len);
+        final String value = new String(buf, readPos, len, StandardCharsets.UTF_8);
+        readPos += len;
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryBuffer{size=" + writePos + ", readPosition=" + readPos + "}";
+    }
+}
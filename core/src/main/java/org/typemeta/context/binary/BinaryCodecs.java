@@ -0,0 +1,207 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.codec.Codec;
+import org.typemeta.context.codec.Codecs;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.injectors.Injector;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A set of codecs for encoding values into a compact binary format held in a {@link BinaryBuffer},
+ * pairing the extractors in {@link BinaryExtractors} with the injectors in {@link BinaryInjectors}.
+ * Record codecs can be built from these using {@link Codecs#combine}.
+ * <pre>{@code
+ * final Codec<BinaryBuffer, Trade> TRADE = Codecs.combine(
+ *         BinaryCodecs.LONG, Trade::id,
+ *         BinaryCodecs.STRING, Trade::symbol,
+ *         BinaryCodecs.DOUBLE, Trade::price,
+ *         Trade::new
+ * );
+ * }</pre>
+ * The functions {@link #writeRow} and {@link #readRow} frame encoded rows with a length prefix,
+ * so that they can be written to, and read back from, a stream such as a spill file or a queue.
+ */
+public abstract class BinaryCodecs {
+
+    private BinaryCodecs() {}
+
+    /**
+     * Convert a codec into one which accepts null values, by preceding each value with a presence flag.
+     * @param codec     the codec for non-null values
+     * @param <T>       the value type
+     * @return          the codec for nullable values
+     */
+    public static <T> Codec<BinaryBuffer, T> nullable(Codec<BinaryBuffer, T> codec) {
+        final Extractor<BinaryBuffer, T> extr = codec.extractor();
+        final Injector<BinaryBuffer, T> injr = codec.injector();
+        return Codec.of(
+                bb -> bb.readBoolean() ? extr.extract(bb) : null,
+                (bb, value) -> value == null ? bb.writeBoolean(false) : injr.inject(bb.writeBoolean(true), value)
+        );
+    }
+
+    /**
+     * Convert a codec into one for {@link Optional} values, by preceding each value with a presence flag.
+     * @param codec     the codec for the value type
+     * @param <T>       the value type
+     * @return          the codec for optional values
+     */
+    public static <T> Codec<BinaryBuffer, Optional<T>> optional(Codec<BinaryBuffer, T> codec) {
+        return nullable(codec).xmap(Optional::ofNullable, opt -> opt.orElse(null));
+    }
+
+    /**
+     * Convert a codec into one for lists of values, by preceding the values with the list size.
+     * @param codec     the codec for the element type
+     * @param <T>       the element type
+     * @return          the codec for lists
+     */
+    public static <T> Codec<BinaryBuffer, List<T>> list(Codec<BinaryBuffer, T> codec) {
+        final Extractor<BinaryBuffer, T> extr = codec.extractor();
+        final Injector<BinaryBuffer, T> injr = codec.injector();
+        return Codec.of(
+                bb -> {
+                    final int n = bb.readUnsignedVarInt();
+                    final List<T> values = new ArrayList<>(n);
+                    for (int i = 0; i < n; ++i) {
+                        values.add(extr.extract(bb));
+                    }
+                    return values;
+                },
+                (bb, values) -> {
+                    bb.writeUnsignedVarInt(values.size());
+                    for (T value : values) {
+                        bb = injr.inject(bb, value);
+                    }
+                    return bb;
+                }
+        );
+    }
+
+    /**
+     * Encode a value as a row and write it to an output stream, preceded by the row length.
+     * @param os        the output stream
+     * @param codec     the codec
+     * @param scratch   a buffer used to encode the row, which is cleared first
+     * @param value     the value
+     * @param <T>       the value type
+     * @throws IOException if the stream fails
+     */
+    public static <T> void writeRow(OutputStream os, Codec<BinaryBuffer, T> codec, BinaryBuffer scratch, T value)
+            throws IOException {
+        codec.encode(scratch.clear(), value);
+        writeRow(os, scratch.array(), 0, scratch.size());
+    }
+
+    /**
+     * Write an already encoded row to an output stream, preceded by the row length.
+     * @param os        the output stream
+     * @param bytes     the array holding the encoded row
+     * @param offset    the offset of the row in the array
+     * @param length    the length of the row
+     * @throws IOException if the stream fails
+     */
+    public static void writeRow(OutputStream os, byte[] bytes, int offset, int length) throws IOException {
+        for (int n = length; ; n >>>= 7) {
+            if ((n & ~0x7F) == 0) {
+                os.write(n);
+                break;
+            }
+            os.write((n & 0x7F) | 0x80);
+        }
+        os.write(bytes, offset, length);
+    }
+
+    /**
+     * Read a row written by {@link #writeRow} from an input stream, and decode it.
+     * @param is        the input stream
+     * @param codec     the codec
+     * @param scratch   a buffer used to hold the row, which is cleared first
+     * @param <T>       the value type
+     * @return          the value, or an empty optional if the stream is at its end
+     * @throws IOException if the stream fails or ends within a row
+     */
+    public static <T> Optional<T> readRow(InputStream is, Codec<BinaryBuffer, T> codec, BinaryBuffer scratch)
+            throws IOException {
+        int size = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = is.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return Optional.empty();
+                }
+                throw new EOFException("Stream ended within a row length");
+            }
+            size |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        scratch.clear().readFrom(is, size);
+        return Optional.of(codec.decode(scratch));
+    }
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link Boolean} values.
+     */
+    public static final Codec<BinaryBuffer, Boolean> BOOLEAN =
+            Codec.of(BinaryExtractors.BOOLEAN, BinaryInjectors.BOOLEAN);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link Integer} values.
+     */
+    public static final Codec<BinaryBuffer, Integer> INTEGER =
+            Codec.of(BinaryExtractors.INTEGER, BinaryInjectors.INTEGER);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link Long} values.
+     */
+    public static final Codec<BinaryBuffer, Long> LONG =
+            Codec.of(BinaryExtractors.LONG, BinaryInjectors.LONG);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link Double} values.
+     */
+    public static final Codec<BinaryBuffer, Double> DOUBLE =
+            Codec.of(BinaryExtractors.DOUBLE, BinaryInjectors.DOUBLE);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link String} values, which may be null.
+     */
+    public static final Codec<BinaryBuffer, String> STRING =
+            Codec.of(BinaryExtractors.STRING, BinaryInjectors.STRING);
+
+    /**
+     * A {@code BinaryBuffer} codec for byte array values, which may be null.
+     */
+    public static final Codec<BinaryBuffer, byte[]> BYTES =
+            Codec.of(BinaryExtractors.BYTES, BinaryInjectors.BYTES);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link LocalDate} values.
+     */
+    public static final Codec<BinaryBuffer, LocalDate> LOCALDATE =
+            Codec.of(BinaryExtractors.LOCALDATE, BinaryInjectors.LOCALDATE);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link LocalTime} values.
+     */
+    public static final Codec<BinaryBuffer, LocalTime> LOCALTIME =
+            Codec.of(BinaryExtractors.LOCALTIME, BinaryInjectors.LOCALTIME);
+
+    /**
+     * A {@code BinaryBuffer} codec for {@link LocalDateTime} values.
+     */
+    public static final Codec<BinaryBuffer, LocalDateTime> LOCALDATETIME =
+            Codec.of(BinaryExtractors.LOCALDATETIME, BinaryInjectors.LOCALDATETIME);
+}
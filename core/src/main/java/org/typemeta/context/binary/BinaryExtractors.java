@@ -0,0 +1,73 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.extractors.DoubleExtractor;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.IntExtractor;
+import org.typemeta.context.extractors.LongExtractor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A set of extractors for reading values sequentially from a {@link BinaryBuffer}.
+ * Values must be extracted in the order in which they were injected by the corresponding {@link BinaryInjectors}.
+ */
+public abstract class BinaryExtractors {
+
+    private BinaryExtractors() {}
+
+    /**
+     * A {@code BinaryBuffer} extractor for {@link Boolean} values.
+     */
+    public static final Extractor<BinaryBuffer, Boolean> BOOLEAN =
+            BinaryBuffer::readBoolean;
+
+    /**
+     * A {@code BinaryBuffer} extractor for integer values, using a zig-zag variable-length encoding.
+     */
+    public static final IntExtractor<BinaryBuffer> INTEGER =
+            BinaryBuffer::readVarInt;
+
+    /**
+     * A {@code BinaryBuffer} extractor for long values, using a zig-zag variable-length encoding.
+     */
+    public static final LongExtractor<BinaryBuffer> LONG =
+            BinaryBuffer::readVarLong;
+
+    /**
+     * A {@code BinaryBuffer} extractor for double values.
+     */
+    public static final DoubleExtractor<BinaryBuffer> DOUBLE =
+            BinaryBuffer::readDouble;
+
+    /**
+     * A {@code BinaryBuffer} extractor for {@link String} values, which may be null.
+     */
+    public static final Extractor<BinaryBuffer, String> STRING =
+            BinaryBuffer::readString;
+
+    /**
+     * A {@code BinaryBuffer} extractor for byte array values, which may be null.
+     */
+    public static final Extractor<BinaryBuffer, byte[]> BYTES =
+            BinaryBuffer::readBytes;
+
+    /**
+     * A {@code BinaryBuffer} extractor for {@link LocalDate} values, encoded as the epoch day.
+     */
+    public static final Extractor<BinaryBuffer, LocalDate> LOCALDATE =
+            bb -> LocalDate.ofEpochDay(bb.readVarLong());
+
+    /**
+     * A {@code BinaryBuffer} extractor for {@link LocalTime} values, encoded as the nano of day.
+     */
+    public static final Extractor<BinaryBuffer, LocalTime> LOCALTIME =
+            bb -> LocalTime.ofNanoOfDay(bb.readVarLong());
+
+    /**
+     * A {@code BinaryBuffer} extractor for {@link LocalDateTime} values, encoded as the epoch day and nano of day.
+     */
+    public static final Extractor<BinaryBuffer, LocalDateTime> LOCALDATETIME =
+            bb -> LocalDateTime.of(LOCALDATE.extract(bb), LOCALTIME.extract(bb));
+}
@@ -0,0 +1,73 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.injectors.DoubleInjector;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.IntInjector;
+import org.typemeta.context.injectors.LongInjector;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A set of injectors for writing values sequentially into a {@link BinaryBuffer}.
+ * Unless stated otherwise, the injectors do not accept null values; see {@link BinaryCodecs#nullable}.
+ */
+public abstract class BinaryInjectors {
+
+    private BinaryInjectors() {}
+
+    /**
+     * A {@code BinaryBuffer} injector for {@link Boolean} values.
+     */
+    public static final Injector<BinaryBuffer, Boolean> BOOLEAN =
+            BinaryBuffer::writeBoolean;
+
+    /**
+     * A {@code BinaryBuffer} injector for integer values, using a zig-zag variable-length encoding.
+     */
+    public static final IntInjector<BinaryBuffer> INTEGER =
+            BinaryBuffer::writeVarInt;
+
+    /**
+     * A {@code BinaryBuffer} injector for long values, using a zig-zag variable-length encoding.
+     */
+    public static final LongInjector<BinaryBuffer> LONG =
+            BinaryBuffer::writeVarLong;
+
+    /**
+     * A {@code BinaryBuffer} injector for double values.
+     */
+    public static final DoubleInjector<BinaryBuffer> DOUBLE =
+            BinaryBuffer::writeDouble;
+
+    /**
+     * A {@code BinaryBuffer} injector for {@link String} values, which may be null.
+     */
+    public static final Injector<BinaryBuffer, String> STRING =
+            BinaryBuffer::writeString;
+
+    /**
+     * A {@code BinaryBuffer} injector for byte array values, which may be null.
+     */
+    public static final Injector<BinaryBuffer, byte[]> BYTES =
+            BinaryBuffer::writeBytes;
+
+    /**
+     * A {@code BinaryBuffer} injector for {@link LocalDate} values, encoded as the epoch day.
+     */
+    public static final Injector<BinaryBuffer, LocalDate> LOCALDATE =
+            (bb, value) -> bb.writeVarLong(value.toEpochDay());
+
+    /**
+     * A {@code BinaryBuffer} injector for {@link LocalTime} values, encoded as the nano of day.
+     */
+    public static final Injector<BinaryBuffer, LocalTime> LOCALTIME =
+            (bb, value) -> bb.writeVarLong(value.toNanoOfDay());
+
+    /**
+     * A {@code BinaryBuffer} injector for {@link LocalDateTime} values, encoded as the epoch day and nano of day.
+     */
+    public static final Injector<BinaryBuffer, LocalDateTime> LOCALDATETIME =
+            (bb, value) -> LOCALTIME.inject(LOCALDATE.inject(bb, value.toLocalDate()), value.toLocalTime());
+}
@@ -0,0 +1,199 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.extractors.byindex.DoubleExtractorByIndex;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+import org.typemeta.context.extractors.byindex.IntExtractorByIndex;
+import org.typemeta.context.extractors.byindex.LongExtractorByIndex;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * A set of extractors for reading fixed-layout binary records from a {@link ByteBuffer},
+ * which may be a heap, direct or memory-mapped buffer.
+ * <p>
+ * The index is the byte offset of the field relative to the buffer's current position,
+ * which is taken to be the start of the record.
+ * The buffer position is not modified, so a record can be decoded by a composite extractor
+ * built with {@link org.typemeta.context.extractors.Extractors#combine},
+ * and successive records can be decoded by advancing the position, as per {@link ByteBufferRecords}.
+ * <p>
+ * The constants read multi-byte values in the buffer's own {@link ByteBuffer#order() byte order},
+ * while the factory methods, such as {@link #int32(ByteOrder)}, read in the given byte order regardless of the buffer's.
+ */
+public abstract class ByteBufferExtractors {
+
+    private ByteBufferExtractors() {}
+
+    private static VarHandle view(Class<?> arrayClass, ByteOrder order) {
+        return MethodHandles.byteBufferViewVarHandle(arrayClass, order);
+    }
+
+    private static final VarHandle SHORT_BE = view(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = view(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = view(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = view(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = view(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = view(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = view(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE = view(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static boolean isBigEndian(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN;
+    }
+
+    private static byte[] getBytes(ByteBuffer bb, int start, int length) {
+        final byte[] value = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            value[i] = bb.get(start + i);
+        }
+        return value;
+    }
+
+    /**
+     * Create an extractor for 16-bit signed integers in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static IntExtractorByIndex<ByteBuffer> int16(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? SHORT_BE : SHORT_LE;
+        return (bb, offset) -> (short)vh.get(bb, bb.position() + offset);
+    }
+
+    /**
+     * Create an extractor for 16-bit unsigned integers in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static IntExtractorByIndex<ByteBuffer> uint16(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? SHORT_BE : SHORT_LE;
+        return (bb, offset) -> Short.toUnsignedInt((short)vh.get(bb, bb.position() + offset));
+    }
+
+    /**
+     * Create an extractor for 32-bit signed integers in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static IntExtractorByIndex<ByteBuffer> int32(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? INT_BE : INT_LE;
+        return (bb, offset) -> (int)vh.get(bb, bb.position() + offset);
+    }
+
+    /**
+     * Create an extractor for 32-bit unsigned integers in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static LongExtractorByIndex<ByteBuffer> uint32(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? INT_BE : INT_LE;
+        return (bb, offset) -> Integer.toUnsignedLong((int)vh.get(bb, bb.position() + offset));
+    }
+
+    /**
+     * Create an extractor for 64-bit signed integers in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static LongExtractorByIndex<ByteBuffer> int64(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? LONG_BE : LONG_LE;
+        return (bb, offset) -> (long)vh.get(bb, bb.position() + offset);
+    }
+
+    /**
+     * Create an extractor for 64-bit floating point values in the given byte order.
+     * @param order     the byte order
+     * @return          the extractor
+     */
+    public static DoubleExtractorByIndex<ByteBuffer> float64(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? DOUBLE_BE : DOUBLE_LE;
+        return (bb, offset) -> (double)vh.get(bb, bb.position() + offset);
+    }
+
+    /**
+     * Create an extractor for a fixed-width byte array field.
+     * @param length    the field length in bytes
+     * @return          the extractor
+     */
+    public static ExtractorByIndex<ByteBuffer, byte[]> bytes(int length) {
+        return (bb, offset) -> getBytes(bb, bb.position() + offset, length);
+    }
+
+    /**
+     * Create an extractor for a fixed-width string field, as found in packed C structs.
+     * The string ends at the first zero byte, if any, and trailing spaces are removed.
+     * @param length    the field length in bytes
+     * @param charset   the character set of the field
+     * @return          the extractor
+     */
+    public static ExtractorByIndex<ByteBuffer, String> string(int length, Charset charset) {
+        return (bb, offset) -> {
+            final int start = bb.position() + offset;
+            int end = start;
+            while (end < start + length && bb.get(end) != 0) {
+                ++end;
+            }
+            while (end > start && bb.get(end - 1) == ' ') {
+                --end;
+            }
+            return new String(getBytes(bb, start, end - start), charset);
+        };
+    }
+
+    /**
+     * A {@code ByteBuffer} extractor for boolean values, stored as a single byte which is non-zero for true.
+     */
+    public static final ExtractorByIndex<ByteBuffer, Boolean> BOOLEAN =
+            (bb, offset) -> bb.get(bb.position() + offset) != 0;
+
+    /**
+     * A {@code ByteBuffer} extractor for signed byte values.
+     */
+    public static final IntExtractorByIndex<ByteBuffer> BYTE =
+            (bb, offset) -> bb.get(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for unsigned byte values.
+     */
+    public static final IntExtractorByIndex<ByteBuffer> UNSIGNED_BYTE =
+            (bb, offset) -> Byte.toUnsignedInt(bb.get(bb.position() + offset));
+
+    /**
+     * A {@code ByteBuffer} extractor for 16-bit signed integers.
+     */
+    public static final IntExtractorByIndex<ByteBuffer> SHORT =
+            (bb, offset) -> bb.getShort(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for 16-bit characters.
+     */
+    public static final ExtractorByIndex<ByteBuffer, Character> CHAR =
+            (bb, offset) -> bb.getChar(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for 32-bit signed integers.
+     */
+    public static final IntExtractorByIndex<ByteBuffer> INTEGER =
+            (bb, offset) -> bb.getInt(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for 64-bit signed integers.
+     */
+    public static final LongExtractorByIndex<ByteBuffer> LONG =
+            (bb, offset) -> bb.getLong(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for 32-bit floating point values.
+     */
+    public static final DoubleExtractorByIndex<ByteBuffer> FLOAT =
+            (bb, offset) -> bb.getFloat(bb.position() + offset);
+
+    /**
+     * A {@code ByteBuffer} extractor for 64-bit floating point values.
+     */
+    public static final DoubleExtractorByIndex<ByteBuffer> DOUBLE =
+            (bb, offset) -> bb.getDouble(bb.position() + offset);
+}
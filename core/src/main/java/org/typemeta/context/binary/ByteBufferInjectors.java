@@ -0,0 +1,195 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.injectors.byindex.DoubleInjectorByIndex;
+import org.typemeta.context.injectors.byindex.InjectorByIndex;
+import org.typemeta.context.injectors.byindex.IntInjectorByIndex;
+import org.typemeta.context.injectors.byindex.LongInjectorByIndex;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * A set of injectors for writing fixed-layout binary records into a {@link ByteBuffer}.
+ * These mirror the extractors in {@link ByteBufferExtractors}:
+ * the index is the byte offset of the field relative to the buffer's current position,
+ * and the buffer position is not modified.
+ */
+public abstract class ByteBufferInjectors {
+
+    private ByteBufferInjectors() {}
+
+    private static VarHandle view(Class<?> arrayClass, ByteOrder order) {
+        return MethodHandles.byteBufferViewVarHandle(arrayClass, order);
+    }
+
+    private static final VarHandle SHORT_BE = view(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = view(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = view(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = view(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = view(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = view(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = view(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE = view(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static boolean isBigEndian(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * Create an injector for 16-bit integers in the given byte order.
+     * @param order     the byte order
+     * @return          the injector
+     */
+    public static IntInjectorByIndex<ByteBuffer> int16(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? SHORT_BE : SHORT_LE;
+        return (bb, offset, value) -> {
+            vh.set(bb, bb.position() + offset, (short)value);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for 32-bit integers in the given byte order.
+     * @param order     the byte order
+     * @return          the injector
+     */
+    public static IntInjectorByIndex<ByteBuffer> int32(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? INT_BE : INT_LE;
+        return (bb, offset, value) -> {
+            vh.set(bb, bb.position() + offset, value);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for 32-bit unsigned integers in the given byte order.
+     * @param order     the byte order
+     * @return          the injector
+     */
+    public static LongInjectorByIndex<ByteBuffer> uint32(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? INT_BE : INT_LE;
+        return (bb, offset, value) -> {
+            vh.set(bb, bb.position() + offset, (int)value);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for 64-bit integers in the given byte order.
+     * @param order     the byte order
+     * @return          the injector
+     */
+    public static LongInjectorByIndex<ByteBuffer> int64(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? LONG_BE : LONG_LE;
+        return (bb, offset, value) -> {
+            vh.set(bb, bb.position() + offset, value);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for 64-bit floating point values in the given byte order.
+     * @param order     the byte order
+     * @return          the injector
+     */
+    public static DoubleInjectorByIndex<ByteBuffer> float64(ByteOrder order) {
+        final VarHandle vh = isBigEndian(order) ? DOUBLE_BE : DOUBLE_LE;
+        return (bb, offset, value) -> {
+            vh.set(bb, bb.position() + offset, value);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for a fixed-width byte array field.
+     * Shorter values are padded with zero bytes.
+     * @param length    the field length in bytes
+     * @return          the injector
+     * @throws IllegalArgumentException if a value is longer than the field
+     */
+    public static InjectorByIndex<ByteBuffer, byte[]> bytes(int length) {
+        return (bb, offset, value) -> {
+            putPadded(bb, bb.position() + offset, value, length);
+            return bb;
+        };
+    }
+
+    /**
+     * Create an injector for a fixed-width string field, as found in packed C structs.
+     * Shorter values are padded with zero bytes.
+     * @param length    the field length in bytes
+     * @param charset   the character set of the field
+     * @return          the injector
+     * @throws IllegalArgumentException if an encoded value is longer than the field
+     */
+    public static InjectorByIndex<ByteBuffer, String> string(int length, Charset charset) {
+        return (bb, offset, value) -> {
+            putPadded(bb, bb.position() + offset, value.getBytes(charset), length);
+            return bb;
+        };
+    }
+
+    private static void putPadded(ByteBuffer bb, int start, byte[] value, int length) {
+        if (value.length > length) {
+            throw new IllegalArgumentException(
+                    "Value of " + value.length + " bytes exceeds field length of " + length);
+        }
+        for (int i = 0; i < value.length; ++i) {
+            bb.put(start + i, value[i]);
+        }
+        for (int i = value.length; i < length; ++i) {
+            bb.put(start + i, (byte)0);
+        }
+    }
+
+    /**
+     * A {@code ByteBuffer} injector for boolean values, stored as a single byte.
+     */
+    public static final InjectorByIndex<ByteBuffer, Boolean> BOOLEAN =
+            (bb, offset, value) -> bb.put(bb.position() + offset, value ? (byte)1 : (byte)0);
+
+    /**
+     * A {@code ByteBuffer} injector for byte values.
+     */
+    public static final IntInjectorByIndex<ByteBuffer> BYTE =
+            (bb, offset, value) -> bb.put(bb.position() + offset, (byte)value);
+
+    /**
+     * A {@code ByteBuffer} injector for 16-bit integers.
+     */
+    public static final IntInjectorByIndex<ByteBuffer> SHORT =
+            (bb, offset, value) -> bb.putShort(bb.position() + offset, (short)value);
+
+    /**
+     * A {@code ByteBuffer} injector for 16-bit characters.
+     */
+    public static final InjectorByIndex<ByteBuffer, Character> CHAR =
+            (bb, offset, value) -> bb.putChar(bb.position() + offset, value);
+
+    /**
+     * A {@code ByteBuffer} injector for 32-bit integers.
+     */
+    public static final IntInjectorByIndex<ByteBuffer> INTEGER =
+            (bb, offset, value) -> bb.putInt(bb.position() + offset, value);
+
+    /**
+     * A {@code ByteBuffer} injector for 64-bit integers.
+     */
+    public static final LongInjectorByIndex<ByteBuffer> LONG =
+            (bb, offset, value) -> bb.putLong(bb.position() + offset, value);
+
+    /**
+     * A {@code ByteBuffer} injector for 32-bit floating point values.
+     */
+    public static final DoubleInjectorByIndex<ByteBuffer> FLOAT =
+            (bb, offset, value) -> bb.putFloat(bb.position() + offset, (float)value);
+
+    /**
+     * A {@code ByteBuffer} injector for 64-bit floating point values.
+     */
+    public static final DoubleInjectorByIndex<ByteBuffer> DOUBLE =
+            (bb, offset, value) -> bb.putDouble(bb.position() + offset, value);
+}
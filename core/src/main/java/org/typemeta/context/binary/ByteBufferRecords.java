@@ -0,0 +1,93 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.injectors.Injector;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Functions for reading and writing sequences of fixed-size binary records,
+ * using record extractors and injectors built from {@link ByteBufferExtractors} and {@link ByteBufferInjectors}.
+ * <p>
+ * The records are processed from the buffer's position up to its limit,
+ * by positioning the buffer at the start of each record in turn,
+ * so the record extractors and injectors operate on the buffer itself, without creating slices.
+ * On return the buffer is positioned after the last complete record processed.
+ */
+public abstract class ByteBufferRecords {
+
+    private ByteBufferRecords() {}
+
+    private static void checkRecordSize(int recordSize) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Record size must be positive: " + recordSize);
+        }
+    }
+
+    /**
+     * Return the number of complete records remaining in the buffer.
+     * @param bb            the buffer
+     * @param recordSize    the record size in bytes
+     * @return              the number of records
+     */
+    public static int count(ByteBuffer bb, int recordSize) {
+        checkRecordSize(recordSize);
+        return bb.remaining() / recordSize;
+    }
+
+    /**
+     * Extract a value from each complete record remaining in the buffer, and pass it to the given consumer.
+     * @param bb            the buffer
+     * @param recordSize    the record size in bytes
+     * @param extr          the record extractor
+     * @param consumer      the consumer for the extracted values
+     * @param <T>           the extracted value type
+     */
+    public static <T> void forEach(ByteBuffer bb, int recordSize, Extractor<ByteBuffer, T> extr, Consumer<? super T> consumer) {
+        final int n = count(bb, recordSize);
+        for (int i = 0; i < n; ++i) {
+            consumer.accept(extr.extract(bb));
+            bb.position(bb.position() + recordSize);
+        }
+    }
+
+    /**
+     * Extract a value from each complete record remaining in the buffer.
+     * @param bb            the buffer
+     * @param recordSize    the record size in bytes
+     * @param extr          the record extractor
+     * @param <T>           the extracted value type
+     * @return              the list of extracted values
+     */
+    public static <T> List<T> extractAll(ByteBuffer bb, int recordSize, Extractor<ByteBuffer, T> extr) {
+        final List<T> values = new ArrayList<>(count(bb, recordSize));
+        forEach(bb, recordSize, extr, values::add);
+        return values;
+    }
+
+    /**
+     * Inject each value as a record into the buffer, stopping if the buffer has no room for a complete record.
+     * @param bb            the buffer
+     * @param recordSize    the record size in bytes
+     * @param injr          the record injector
+     * @param values        the values
+     * @param <T>           the injected value type
+     * @return              the number of records written
+     */
+    public static <T> int injectAll(ByteBuffer bb, int recordSize, Injector<ByteBuffer, T> injr, Iterable<? extends T> values) {
+        checkRecordSize(recordSize);
+        int n = 0;
+        for (T value : values) {
+            if (bb.remaining() < recordSize) {
+                break;
+            }
+            injr.inject(bb, value);
+            bb.position(bb.position() + recordSize);
+            ++n;
+        }
+        return n;
+    }
+}
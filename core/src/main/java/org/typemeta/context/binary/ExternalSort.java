@@ -0,0 +1,456 @@
+package org.typemeta.context.binary;
+
+import org.typemeta.context.codec.Codec;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An external merge sort for values which can be encoded using a {@link BinaryBuffer} {@link Codec}.
+ * <p>
+ * Values are accumulated in memory, along with their encodings, until their encoded size reaches the memory budget,
+ * at which point they are sorted and their encodings spilled as a run to a temporary file.
+ * The sorted output is produced by a k-way merge of the runs, which are memory-mapped for reading,
+ * together with any values remaining in memory.
+ * If there are more runs than the maximum fan-in then groups of runs are first merged into longer runs,
+ * which bounds the number of runs mapped at once.
+ * If the input fits within the budget then it is sorted entirely in memory.
+ * <p>
+ * The sort is stable.
+ * The temporary files are deleted once the sorted stream has been fully consumed or closed.
+ * <pre>{@code
+ * final ExternalSort<Trade> SORT = ExternalSort.of(TRADE_CODEC, comparing(Trade::symbol))
+ *         .withMemoryBudget(512L << 20);
+ * try (Stream<Trade> sorted = SORT.sort(trades)) {
+ *     sorted.forEach(...);
+ * }
+ * }</pre>
+ * @param <T>       the value type
+ */
+public final class ExternalSort<T> {
+
+    /**
+     * The default memory budget.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * The maximum size of a single run, which is limited by the maximum size of a memory mapping.
+     */
+    private static final long MAX_RUN_SIZE = 1L << 30;
+
+    /**
+     * The default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_MAX_FAN_IN = 64;
+
+    /**
+     * Create an external sort for the given codec and ordering.
+     * @param codec     the codec used to spill values to disk
+     * @param cmp       the ordering
+     * @param <T>       the value type
+     * @return          the external sort
+     */
+    public static <T> ExternalSort<T> of(Codec<BinaryBuffer, T> codec, Comparator<? super T> cmp) {
+        return new ExternalSort<>(codec, cmp, DEFAULT_MEMORY_BUDGET, DEFAULT_MAX_FAN_IN, null);
+    }
+
+    private final Codec<BinaryBuffer, T> codec;
+    private final Comparator<? super T> cmp;
+    private final long memoryBudget;
+    private final int maxFanIn;
+    private final Path tempDir;
+
+    private ExternalSort(
+            Codec<BinaryBuffer, T> codec,
+            Comparator<? super T> cmp,
+            long memoryBudget,
+            int maxFanIn,
+            Path tempDir
+    ) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        } else if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Maximum fan-in must be at least 2: " + maxFanIn);
+        }
+        this.codec = codec;
+        this.cmp = cmp;
+        this.memoryBudget = memoryBudget;
+        this.maxFanIn = maxFanIn;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Return a copy of this sort with the given memory budget.
+     * The budget applies to the encoded size of the values held in memory,
+     * so the actual heap usage, which includes both the values and their encodings, will be a multiple of the budget.
+     * @param bytes     the memory budget in bytes
+     * @return          the new external sort
+     */
+    public ExternalSort<T> withMemoryBudget(long bytes) {
+        return new ExternalSort<>(codec, cmp, bytes, maxFanIn, tempDir);
+    }
+
+    /**
+     * Return a copy of this sort which merges at most the given number of runs at once.
+     * Each run being merged is memory-mapped,
+     * so this bounds the number of mappings, at the cost of additional merge passes for very large inputs.
+     * @param runs      the maximum number of runs merged at once
+     * @return          the new external sort
+     */
+    public ExternalSort<T> withMaxFanIn(int runs) {
+        return new ExternalSort<>(codec, cmp, memoryBudget, runs, tempDir);
+    }
+
+    /**
+     * Return a copy of this sort which spills runs to the given directory,
+     * rather than the default temporary-file directory.
+     * @param dir       the directory for temporary files
+     * @return          the new external sort
+     */
+    public ExternalSort<T> withTempDirectory(Path dir) {
+        return new ExternalSort<>(codec, cmp, memoryBudget, maxFanIn, dir);
+    }
+
+    /**
+     * Sort the values in the given stream.
+     * The input stream is fully consumed before this method returns.
+     * The returned stream should be closed if it is not fully consumed, so that the temporary files are deleted.
+     * @param values    the values to sort
+     * @return          the sorted values
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    public Stream<T> sort(Stream<? extends T> values) {
+        try (Stream<? extends T> s = values) {
+            return sort(s.iterator());
+        }
+    }
+
+    /**
+     * Sort the values provided by the given iterator.
+     * The iterator is fully consumed before this method returns.
+     * The returned stream should be closed if it is not fully consumed, so that the temporary files are deleted.
+     * @param values    the values to sort
+     * @return          the sorted values
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    public Stream<T> sort(Iterator<? extends T> values) {
+        final long runBudget = Math.min(memoryBudget, MAX_RUN_SIZE);
+        final BinaryBuffer encoded = new BinaryBuffer();
+        List<Path> runs = new ArrayList<>();
+        final List<Pending<T>> buffer = new ArrayList<>();
+        long bufferSize = 0;
+
+        try {
+            while (values.hasNext()) {
+                final T value = values.next();
+                final int offset = encoded.size();
+                codec.encode(encoded, value);
+                final int length = encoded.size() - offset;
+                buffer.add(new Pending<>(value, offset, length));
+                bufferSize += length + 5;
+                if (bufferSize >= runBudget) {
+                    runs.add(spill(buffer, encoded));
+                    buffer.clear();
+                    encoded.clear();
+                    bufferSize = 0;
+                }
+            }
+            runs = reduce(runs);
+        } catch (IOException ex) {
+            deleteAll(runs);
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            deleteAll(runs);
+            throw ex;
+        }
+
+        final List<T> remaining = new ArrayList<>(buffer.size());
+        buffer.sort((lhs, rhs) -> cmp.compare(lhs.value, rhs.value));
+        for (Pending<T> pending : buffer) {
+            remaining.add(pending.value);
+        }
+
+        if (runs.isEmpty()) {
+            return remaining.stream();
+        } else {
+            final Merger merger = new Merger(runs, remaining);
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(merger, Spliterator.ORDERED),
+                    false
+            ).onClose(merger::close);
+        }
+    }
+
+    /**
+     * A value held in memory, with the location of its encoding.
+     */
+    private static final class Pending<T> {
+        final T value;
+        final int offset;
+        final int length;
+
+        Pending(T value, int offset, int length) {
+            this.value = value;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private Path createRunFile() throws IOException {
+        return tempDir == null
+                ? Files.createTempFile("sort", ".run")
+                : Files.createTempFile(tempDir, "sort", ".run");
+    }
+
+    private Path spill(List<Pending<T>> buffer, BinaryBuffer encoded) throws IOException {
+        buffer.sort((lhs, rhs) -> cmp.compare(lhs.value, rhs.value));
+        final Path path = createRunFile();
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            final byte[] bytes = encoded.array();
+            for (Pending<T> pending : buffer) {
+                BinaryCodecs.writeRow(os, bytes, pending.offset, pending.length);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+        return path;
+    }
+
+    /**
+     * Merge groups of runs until they can be merged, along with the in-memory run, in a single pass.
+     * Groups are of consecutive runs, so that the merged runs remain in input order.
+     * @param runs      the runs, which are deleted as they are merged
+     * @return          the merged runs
+     */
+    private List<Path> reduce(List<Path> runs) throws IOException {
+        while (runs.size() >= maxFanIn) {
+            final List<Path> merged = new ArrayList<>();
+            try {
+                for (int i = 0; i < runs.size(); i += maxFanIn) {
+                    final List<Path> group = runs.subList(i, Math.min(i + maxFanIn, runs.size()));
+                    merged.add(group.size() == 1 ? group.get(0) : merge(new ArrayList<>(group)));
+                }
+            } catch (IOException | RuntimeException ex) {
+                deleteAll(runs);
+                deleteAll(merged);
+                throw ex;
+            }
+            runs = merged;
+        }
+        return runs;
+    }
+
+    private Path merge(List<Path> group) throws IOException {
+        final Path path = createRunFile();
+        try (Merger merger = new Merger(group, null);
+                OutputStream os = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            merger.writeTo(os);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+        return path;
+    }
+
+    private static void deleteAll(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * A source of sorted values for the merge.
+     */
+    private abstract class Run {
+        final int index;
+        T head;
+
+        Run(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Advance to the next value.
+         * @return          false if the run is exhausted
+         */
+        abstract boolean advance();
+
+        /**
+         * Write the current value as a row.
+         * @param os        the output stream
+         * @throws IOException if the stream fails
+         */
+        abstract void writeHead(OutputStream os) throws IOException;
+    }
+
+    /**
+     * A run read from a memory-mapped spill file.
+     */
+    private final class FileRun extends Run {
+        private final MappedByteBuffer mbb;
+        private final BinaryBuffer buf = new BinaryBuffer();
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        FileRun(int index, Path path) throws IOException {
+            super(index);
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+                mbb = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            }
+        }
+
+        @Override
+        boolean advance() {
+            if (!mbb.hasRemaining()) {
+                head = null;
+                return false;
+            }
+
+            int len = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte b = mbb.get();
+                len |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+
+            if (bytes.length < len) {
+                bytes = new byte[Math.max(len, bytes.length * 2)];
+            }
+            mbb.get(bytes, 0, len);
+            length = len;
+            head = codec.decode(buf.reset(bytes, len));
+            return true;
+        }
+
+        @Override
+        void writeHead(OutputStream os) throws IOException {
+            // Copy the encoded row, rather than re-encoding the decoded value.
+            BinaryCodecs.writeRow(os, bytes, 0, length);
+        }
+    }
+
+    /**
+     * The run of values which remained in memory.
+     */
+    private final class MemoryRun extends Run {
+        private final Iterator<T> iter;
+        private final BinaryBuffer scratch = new BinaryBuffer();
+
+        MemoryRun(int index, List<T> values) {
+            super(index);
+            this.iter = values.iterator();
+        }
+
+        @Override
+        boolean advance() {
+            if (iter.hasNext()) {
+                head = iter.next();
+                return true;
+            } else {
+                head = null;
+                return false;
+            }
+        }
+
+        @Override
+        void writeHead(OutputStream os) throws IOException {
+            BinaryCodecs.writeRow(os, codec, scratch, head);
+        }
+    }
+
+    /**
+     * Performs the k-way merge of the runs.
+     * Ties are broken by run index, which preserves the input order as the runs are in input order.
+     */
+    private final class Merger implements Iterator<T>, Closeable {
+        private final List<Path> paths;
+        private final PriorityQueue<Run> queue;
+        private boolean closed;
+
+        /**
+         * @param paths     the run files, which are deleted when the merger is closed
+         * @param remaining the values which remained in memory, if any
+         */
+        Merger(List<Path> paths, List<T> remaining) {
+            this.paths = paths;
+            this.queue = new PriorityQueue<>(paths.size() + 1, (lhs, rhs) -> {
+                final int c = cmp.compare(lhs.head, rhs.head);
+                return c != 0 ? c : Integer.compare(lhs.index, rhs.index);
+            });
+
+            try {
+                for (int i = 0; i < paths.size(); ++i) {
+                    offer(new FileRun(i, paths.get(i)));
+                }
+            } catch (IOException ex) {
+                close();
+                throw new UncheckedIOException(ex);
+            }
+            if (remaining != null) {
+                offer(new MemoryRun(paths.size(), remaining));
+            }
+        }
+
+        /**
+         * Write the merged runs to an output stream.
+         * @param os        the output stream
+         * @throws IOException if the stream fails
+         */
+        void writeTo(OutputStream os) throws IOException {
+            for (Run run; (run = queue.poll()) != null; ) {
+                run.writeHead(os);
+                offer(run);
+            }
+        }
+
+        private void offer(Run run) {
+            if (run.advance()) {
+                queue.add(run);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (queue.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            final Run run = queue.poll();
+            if (run == null) {
+                throw new NoSuchElementException();
+            }
+            final T value = run.head;
+            offer(run);
+            return value;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                queue.clear();
+                deleteAll(paths);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.typemeta.context.codec;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.functions.Functions;
+import org.typemeta.context.injectors.Injector;
+
+/**
+ * A pairing of an {@link Extractor} and an {@link Injector} for the same context and value types,
+ * such that a value injected into a context by the injector can be extracted by the extractor.
+ * Codecs for records can be built from codecs for their fields using the combinators in {@link Codecs}.
+ * @param <CTX>     the context type
+ * @param <T>       the value type
+ */
+public interface Codec<CTX, T> {
+    /**
+     * Static constructor.
+     * @param extr      the extractor
+     * @param injr      the injector
+     * @param <CTX>     the context type
+     * @param <T>       the value type
+     * @return          the codec
+     */
+    static <CTX, T> Codec<CTX, T> of(Extractor<CTX, T> extr, Injector<CTX, T> injr) {
+        return new Codec<CTX, T>() {
+            @Override
+            public Extractor<CTX, T> extractor() {
+                return extr;
+            }
+
+            @Override
+            public Injector<CTX, T> injector() {
+                return injr;
+            }
+        };
+    }
+
+    /**
+     * @return          the extractor for this codec
+     */
+    Extractor<CTX, T> extractor();
+
+    /**
+     * @return          the injector for this codec
+     */
+    Injector<CTX, T> injector();
+
+    /**
+     * Extract a value from the given context.
+     * @param ctx       the context
+     * @return          the extracted value
+     */
+    default T decode(CTX ctx) {
+        return extractor().extract(ctx);
+    }
+
+    /**
+     * Inject a value into the given context.
+     * @param ctx       the context
+     * @param value     the value
+     * @return          the new context
+     */
+    default CTX encode(CTX ctx, T value) {
+        return injector().inject(ctx, value);
+    }
+
+    /**
+     * Convert this codec into one for a different value type,
+     * given functions to convert between the two value types.
+     * @param to        the function to convert an extracted value to the new type
+     * @param from      the function to convert a value of the new type prior to injecting it
+     * @param <U>       the new value type
+     * @return          the new codec
+     */
+    default <U> Codec<CTX, U> xmap(Functions.F<T, U> to, Functions.F<U, T> from) {
+        return of(extractor().map(to), injector().premap(from));
+    }
+}
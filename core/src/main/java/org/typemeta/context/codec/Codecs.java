@@ -0,0 +1,226 @@
+package org.typemeta.context.codec;
+
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.functions.Functions;
+import org.typemeta.context.injectors.Injectors;
+
+/**
+ * Combinator functions for building codecs for records from codecs for their fields.
+ * Each field is described by a codec and a getter function,
+ * and the record is described by a constructor function.
+ * The field values are injected, and extracted, in the order the fields are given.
+ */
+public abstract class Codecs {
+
+    private Codecs() {}
+
+    /**
+     * Combinator function for building a record codec from a set of field codecs,
+     * the field getters, and a constructor function.
+     * @param cdA       the first field codec
+     * @param getA      the first field getter
+     * @param cdB       the second field codec
+     * @param getB      the second field getter
+     * @param f         the record constructor
+     * @param <CTX>     the context type
+     * @param <A>       the first field type
+     * @param <B>       the second field type
+     * @param <R>       the record type
+     * @return          the record codec
+     */
+    public static <CTX, A, B, R> Codec<CTX, R> combine(
+            Codec<CTX, A> cdA,
+            Functions.F<R, A> getA,
+            Codec<CTX, B> cdB,
+            Functions.F<R, B> getB,
+            Functions.F2<A, B, R> f
+    ) {
+        return Codec.of(
+                Extractors.combine(cdA.extractor(), cdB.extractor(), f),
+                Injectors.combine(
+                        cdA.injector().premap(getA),
+                        cdB.injector().premap(getB)
+                )
+        );
+    }
+
+    /**
+     * Combinator function for building a record codec from a set of field codecs,
+     * the field getters, and a constructor function.
+     * @param cdA       the first field codec
+     * @param getA      the first field getter
+     * @param cdB       the second field codec
+     * @param getB      the second field getter
+     * @param cdC       the third field codec
+     * @param getC      the third field getter
+     * @param f         the record constructor
+     * @param <CTX>     the context type
+     * @param <A>       the first field type
+     * @param <B>       the second field type
+     * @param <C>       the third field type
+     * @param <R>       the record type
+     * @return          the record codec
+     */
+    public static <CTX, A, B, C, R> Codec<CTX, R> combine(
+            Codec<CTX, A> cdA,
+            Functions.F<R, A> getA,
+            Codec<CTX, B> cdB,
+            Functions.F<R, B> getB,
+            Codec<CTX, C> cdC,
+            Functions.F<R, C> getC,
+            Functions.F3<A, B, C, R> f
+    ) {
+        return Codec.of(
+                Extractors.combine(cdA.extractor(), cdB.extractor(), cdC.extractor(), f),
+                Injectors.combine(
+                        cdA.injector().premap(getA),
+                        cdB.injector().premap(getB),
+                        cdC.injector().premap(getC)
+                )
+        );
+    }
+
+    /**
+     * Combinator function for building a record codec from a set of field codecs,
+     * the field getters, and a constructor function.
+     * @param cdA       the first field codec
+     * @param getA      the first field getter
+     * @param cdB       the second field codec
+     * @param getB      the second field getter
+     * @param cdC       the third field codec
+     * @param getC      the third field getter
+     * @param cdD       the fourth field codec
+     * @param getD      the fourth field getter
+     * @param f         the record constructor
+     * @param <CTX>     the context type
+     * @param <A>       the first field type
+     * @param <B>       the second field type
+     * @param <C>       the third field type
+     * @param <D>       the fourth field type
+     * @param <R>       the record type
+     * @return          the record codec
+     */
+    public static <CTX, A, B, C, D, R> Codec<CTX, R> combine(
+            Codec<CTX, A> cdA,
+            Functions.F<R, A> getA,
+            Codec<CTX, B> cdB,
+            Functions.F<R, B> getB,
+            Codec<CTX, C> cdC,
+            Functions.F<R, C> getC,
+            Codec<CTX, D> cdD,
+            Functions.F<R, D> getD,
+            Functions.F4<A, B, C, D, R> f
+    ) {
+        return Codec.of(
+                Extractors.combine(cdA.extractor(), cdB.extractor(), cdC.extractor(), cdD.extractor(), f),
+                Injectors.combine(
+                        cdA.injector().premap(getA),
+                        cdB.injector().premap(getB),
+                        cdC.injector().premap(getC),
+                        cdD.injector().premap(getD)
+                )
+        );
+    }
+
+    /**
+     * Combinator function for building a record codec from a set of field codecs,
+     * the field getters, and a constructor function.
+     * @param cdA       the first field codec
+     * @param getA      the first field getter
+     * @param cdB       the second field codec
+     * @param getB      the second field getter
+     * @param cdC       the third field codec
+     * @param getC      the third field getter
+     * @param cdD       the fourth field codec
+     * @param getD      the fourth field getter
+     * @param cdE       the fifth field codec
+     * @param getE      the fifth field getter
+     * @param f         the record constructor
+     * @param <CTX>     the context type
+     * @param <A>       the first field type
+     * @param <B>       the second field type
+     * @param <C>       the third field type
+     * @param <D>       the fourth field type
+     * @param <E>       the fifth field type
+     * @param <R>       the record type
+     * @return          the record codec
+     */
+    public static <CTX, A, B, C, D, E, R> Codec<CTX, R> combine(
+            Codec<CTX, A> cdA,
+            Functions.F<R, A> getA,
+            Codec<CTX, B> cdB,
+            Functions.F<R, B> getB,
+            Codec<CTX, C> cdC,
+            Functions.F<R, C> getC,
+            Codec<CTX, D> cdD,
+            Functions.F<R, D> getD,
+            Codec<CTX, E> cdE,
+            Functions.F<R, E> getE,
+            Functions.F5<A, B, C, D, E, R> f
+    ) {
+        return Codec.of(
+                Extractors.combine(cdA.extractor(), cdB.extractor(), cdC.extractor(), cdD.extractor(), cdE.extractor(), f),
+                Injectors.combine(
+                        cdA.injector().premap(getA),
+                        cdB.injector().premap(getB),
+                        cdC.injector().premap(getC),
+                        cdD.injector().premap(getD),
+                        cdE.injector().premap(getE)
+                )
+        );
+    }
+
+    /**
+     * Combinator function for building a record codec from a set of field codecs,
+     * the field getters, and a constructor function.
+     * @param cdA       the first field codec
+     * @param getA      the first field getter
+     * @param cdB       the second field codec
+     * @param getB      the second field getter
+     * @param cdC       the third field codec
+     * @param getC      the third field getter
+     * @param cdD       the fourth field codec
+     * @param getD      the fourth field getter
+     * @param cdE       the fifth field codec
+     * @param getE      the fifth field getter
+     * @param cdF       the sixth field codec
+     * @param getF      the sixth field getter
+     * @param f         the record constructor
+     * @param <CTX>     the context type
+     * @param <A>       the first field type
+     * @param <B>       the second field type
+     * @param <C>       the third field type
+     * @param <D>       the fourth field type
+     * @param <E>       the fifth field type
+     * @param <F>       the sixth field type
+     * @param <R>       the record type
+     * @return          the record codec
+     */
+    public static <CTX, A, B, C, D, E, F, R> Codec<CTX, R> combine(
+            Codec<CTX, A> cdA,
+            Functions.F<R, A> getA,
+            Codec<CTX, B> cdB,
+            Functions.F<R, B> getB,
+            Codec<CTX, C> cdC,
+            Functions.F<R, C> getC,
+            Codec<CTX, D> cdD,
+            Functions.F<R, D> getD,
+            Codec<CTX, E> cdE,
+            Functions.F<R, E> getE,
+            Codec<CTX, F> cdF,
+            Functions.F<R, F> getF,
+            Functions.F6<A, B, C, D, E, F, R> f
+    ) {
+        return Codec.of(
+                Extractors.combine(cdA.extractor(), cdB.extractor(), cdC.extractor(), cdD.extractor(), cdE.extractor(), cdF.extractor(), f),
+                Injectors.combine(
+                        cdA.injector().premap(getA),
+                        cdB.injector().premap(getB),
+                        cdC.injector().premap(getC),
+                        cdD.injector().premap(getD),
+                        cdE.injector().premap(getE),
+                        cdF.injector().premap(getF)
+                )
+        );
+    }
+}
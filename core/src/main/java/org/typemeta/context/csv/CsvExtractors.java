@@ -0,0 +1,193 @@
+package org.typemeta.context.csv;
+
+import org.typemeta.context.extractors.byindex.DoubleExtractorByIndex;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+import org.typemeta.context.extractors.byindex.IntExtractorByIndex;
+import org.typemeta.context.extractors.byindex.LongExtractorByIndex;
+import org.typemeta.context.text.TextParsers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A set of extractors for extracting values from the fields of a {@link CsvRow}, given a zero-based field index.
+ * The fields are parsed in place using {@link TextParsers}, without creating intermediate strings.
+ * <p>
+ * An empty field is treated as a missing value by the optional extractors,
+ * which extract it as an empty optional value, and by the other object extractors,
+ * such as {@link #LOCALDATE}, which extract it as null.
+ * The exceptions are {@link #CHARS} and {@link #STRING}, which extract an empty field as an empty value,
+ * and the primitive {@link #INTEGER}, {@link #LONG} and {@link #DOUBLE} extractors,
+ * which throw a {@link NumberFormatException} for an empty field.
+ */
+public abstract class CsvExtractors {
+
+    private CsvExtractors() {}
+
+    /**
+     * A functional interface for parsing a range of a {@link CharSequence}.
+     * @param <T>       the parsed value type
+     */
+    @FunctionalInterface
+    public interface FieldParser<T> {
+        /**
+         * Parse a range of characters.
+         * @param cs        the characters
+         * @param start     the start offset (inclusive)
+         * @param end       the end offset (exclusive)
+         * @return          the parsed value
+         */
+        T parse(CharSequence cs, int start, int end);
+    }
+
+    /**
+     * Create a {@code CsvRow} extractor which applies the given parser to the field characters.
+     * An empty field is extracted as null, and is not passed to the parser.
+     * @param parser    the parser
+     * @param <T>       the parsed value type
+     * @return          the extractor
+     */
+    public static <T> ExtractorByIndex<CsvRow, T> parsed(FieldParser<T> parser) {
+        return (row, i) -> {
+            final int start = row.start(i);
+            final int end = row.end(i);
+            return start == end ? null : parser.parse(row.chars(), start, end);
+        };
+    }
+
+    /**
+     * Convert a {@code CsvRow} extractor into one that extracts an {@link Optional} value,
+     * which is empty if the field is empty.
+     * @param extr      the extractor function for the value type
+     * @param <T>       the value type
+     * @return          the optional value extractor
+     */
+    public static <T> ExtractorByIndex<CsvRow, Optional<T>> optional(ExtractorByIndex<CsvRow, T> extr) {
+        return (row, i) -> row.isEmpty(i) ? Optional.empty() : Optional.ofNullable(extr.extract(row, i));
+    }
+
+    /**
+     * A {@code CsvRow} extractor for {@link CharSequence} values,
+     * which returns a view of the field rather than a copy.
+     * The view is only valid until the next row is read.
+     */
+    public static final ExtractorByIndex<CsvRow, CharSequence> CHARS =
+            CsvRow::field;
+
+    /**
+     * A {@code CsvRow} extractor for {@link String} values.
+     * Empty fields are extracted as empty strings.
+     */
+    public static final ExtractorByIndex<CsvRow, String> STRING =
+            CsvRow::getString;
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code String} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<String>> OPT_STRING =
+            optional(STRING);
+
+    /**
+     * A {@code CsvRow} extractor for {@link Boolean} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Boolean> BOOLEAN =
+            parsed(TextParsers::parseBoolean);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code Boolean} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<Boolean>> OPT_BOOLEAN =
+            optional(BOOLEAN);
+
+    /**
+     * A {@code CsvRow} extractor for {@link Character} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Character> CHAR =
+            parsed((cs, start, end) -> cs.charAt(start));
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code Character} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<Character>> OPT_CHAR =
+            optional(CHAR);
+
+    /**
+     * A {@code CsvRow} extractor for double values.
+     * An empty field raises a {@link NumberFormatException} - use {@link #OPT_DOUBLE} for fields which may be empty.
+     */
+    public static final DoubleExtractorByIndex<CsvRow> DOUBLE =
+            (row, i) -> TextParsers.parseDouble(row.chars(), row.start(i), row.end(i));
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalDouble} values.
+     */
+    public static final ExtractorByIndex<CsvRow, OptionalDouble> OPT_DOUBLE =
+            (row, i) -> row.isEmpty(i) ? OptionalDouble.empty() : OptionalDouble.of(DOUBLE.extractDouble(row, i));
+
+    /**
+     * A {@code CsvRow} extractor for integer values.
+     * An empty field raises a {@link NumberFormatException} - use {@link #OPT_INTEGER} for fields which may be empty.
+     */
+    public static final IntExtractorByIndex<CsvRow> INTEGER =
+            (row, i) -> TextParsers.parseInt(row.chars(), row.start(i), row.end(i));
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalInt} values.
+     */
+    public static final ExtractorByIndex<CsvRow, OptionalInt> OPT_INTEGER =
+            (row, i) -> row.isEmpty(i) ? OptionalInt.empty() : OptionalInt.of(INTEGER.extractInt(row, i));
+
+    /**
+     * A {@code CsvRow} extractor for long values.
+     * An empty field raises a {@link NumberFormatException} - use {@link #OPT_LONG} for fields which may be empty.
+     */
+    public static final LongExtractorByIndex<CsvRow> LONG =
+            (row, i) -> TextParsers.parseLong(row.chars(), row.start(i), row.end(i));
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalLong} values.
+     */
+    public static final ExtractorByIndex<CsvRow, OptionalLong> OPT_LONG =
+            (row, i) -> row.isEmpty(i) ? OptionalLong.empty() : OptionalLong.of(LONG.extractLong(row, i));
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalDate} values.
+     */
+    public static final ExtractorByIndex<CsvRow, LocalDate> LOCALDATE =
+            parsed(TextParsers::parseLocalDate);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalDate} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<LocalDate>> OPT_LOCALDATE =
+            optional(LOCALDATE);
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalTime} values.
+     */
+    public static final ExtractorByIndex<CsvRow, LocalTime> LOCALTIME =
+            parsed(TextParsers::parseLocalTime);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalTime} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<LocalTime>> OPT_LOCALTIME =
+            optional(LOCALTIME);
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalDateTime} values.
+     */
+    public static final ExtractorByIndex<CsvRow, LocalDateTime> LOCALDATETIME =
+            parsed(TextParsers::parseLocalDateTime);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalDateTime} values.
+     */
+    public static final ExtractorByIndex<CsvRow, Optional<LocalDateTime>> OPT_LOCALDATETIME =
+            optional(LOCALDATETIME);
+}
@@ -0,0 +1,179 @@
+package org.typemeta.context.csv;
+
+import org.typemeta.context.extractors.byindex.DoubleExtractorByIndex;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+import org.typemeta.context.extractors.byindex.IntExtractorByIndex;
+import org.typemeta.context.extractors.byindex.LongExtractorByIndex;
+import org.typemeta.context.extractors.byname.DoubleExtractorByName;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.extractors.byname.IntExtractorByName;
+import org.typemeta.context.extractors.byname.LongExtractorByName;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A set of extractors for extracting values from the fields of a {@link CsvRow},
+ * given a field name from the header row.
+ * These mirror the extractors in {@link CsvExtractors}.
+ */
+public abstract class CsvExtractorsByName {
+
+    private CsvExtractorsByName() {}
+
+    /**
+     * Convert a {@code CsvRow} extractor by index into one that looks up the field index by name.
+     * @param extr      the extractor by index
+     * @param <T>       the extracted value type
+     * @return          the extractor by name
+     */
+    public static <T> ExtractorByName<CsvRow, T> byName(ExtractorByIndex<CsvRow, T> extr) {
+        return (row, name) -> extr.extract(row, row.index(name));
+    }
+
+    /**
+     * Convert a {@code CsvRow} double extractor by index into one that looks up the field index by name.
+     * @param extr      the extractor by index
+     * @return          the extractor by name
+     */
+    public static DoubleExtractorByName<CsvRow> byNameDouble(DoubleExtractorByIndex<CsvRow> extr) {
+        return (row, name) -> extr.extractDouble(row, row.index(name));
+    }
+
+    /**
+     * Convert a {@code CsvRow} integer extractor by index into one that looks up the field index by name.
+     * @param extr      the extractor by index
+     * @return          the extractor by name
+     */
+    public static IntExtractorByName<CsvRow> byNameInt(IntExtractorByIndex<CsvRow> extr) {
+        return (row, name) -> extr.extractInt(row, row.index(name));
+    }
+
+    /**
+     * Convert a {@code CsvRow} long extractor by index into one that looks up the field index by name.
+     * @param extr      the extractor by index
+     * @return          the extractor by name
+     */
+    public static LongExtractorByName<CsvRow> byNameLong(LongExtractorByIndex<CsvRow> extr) {
+        return (row, name) -> extr.extractLong(row, row.index(name));
+    }
+
+    /**
+     * A {@code CsvRow} extractor for {@link CharSequence} values.
+     */
+    public static final ExtractorByName<CsvRow, CharSequence> CHARS =
+            byName(CsvExtractors.CHARS);
+
+    /**
+     * A {@code CsvRow} extractor for {@link String} values.
+     */
+    public static final ExtractorByName<CsvRow, String> STRING =
+            byName(CsvExtractors.STRING);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code String} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<String>> OPT_STRING =
+            byName(CsvExtractors.OPT_STRING);
+
+    /**
+     * A {@code CsvRow} extractor for {@link Boolean} values.
+     */
+    public static final ExtractorByName<CsvRow, Boolean> BOOLEAN =
+            byName(CsvExtractors.BOOLEAN);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code Boolean} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<Boolean>> OPT_BOOLEAN =
+            byName(CsvExtractors.OPT_BOOLEAN);
+
+    /**
+     * A {@code CsvRow} extractor for {@link Character} values.
+     */
+    public static final ExtractorByName<CsvRow, Character> CHAR =
+            byName(CsvExtractors.CHAR);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code Character} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<Character>> OPT_CHAR =
+            byName(CsvExtractors.OPT_CHAR);
+
+    /**
+     * A {@code CsvRow} extractor for double values.
+     */
+    public static final DoubleExtractorByName<CsvRow> DOUBLE =
+            byNameDouble(CsvExtractors.DOUBLE);
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalDouble} values.
+     */
+    public static final ExtractorByName<CsvRow, OptionalDouble> OPT_DOUBLE =
+            byName(CsvExtractors.OPT_DOUBLE);
+
+    /**
+     * A {@code CsvRow} extractor for integer values.
+     */
+    public static final IntExtractorByName<CsvRow> INTEGER =
+            byNameInt(CsvExtractors.INTEGER);
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalInt} values.
+     */
+    public static final ExtractorByName<CsvRow, OptionalInt> OPT_INTEGER =
+            byName(CsvExtractors.OPT_INTEGER);
+
+    /**
+     * A {@code CsvRow} extractor for long values.
+     */
+    public static final LongExtractorByName<CsvRow> LONG =
+            byNameLong(CsvExtractors.LONG);
+
+    /**
+     * A {@code CsvRow} extractor for {@link OptionalLong} values.
+     */
+    public static final ExtractorByName<CsvRow, OptionalLong> OPT_LONG =
+            byName(CsvExtractors.OPT_LONG);
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalDate} values.
+     */
+    public static final ExtractorByName<CsvRow, LocalDate> LOCALDATE =
+            byName(CsvExtractors.LOCALDATE);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalDate} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<LocalDate>> OPT_LOCALDATE =
+            byName(CsvExtractors.OPT_LOCALDATE);
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalTime} values.
+     */
+    public static final ExtractorByName<CsvRow, LocalTime> LOCALTIME =
+            byName(CsvExtractors.LOCALTIME);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalTime} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<LocalTime>> OPT_LOCALTIME =
+            byName(CsvExtractors.OPT_LOCALTIME);
+
+    /**
+     * A {@code CsvRow} extractor for {@link LocalDateTime} values.
+     */
+    public static final ExtractorByName<CsvRow, LocalDateTime> LOCALDATETIME =
+            byName(CsvExtractors.LOCALDATETIME);
+
+    /**
+     * A {@code CsvRow} extractor for optional {@code LocalDateTime} values.
+     */
+    public static final ExtractorByName<CsvRow, Optional<LocalDateTime>> OPT_LOCALDATETIME =
+            byName(CsvExtractors.OPT_LOCALDATETIME);
+}
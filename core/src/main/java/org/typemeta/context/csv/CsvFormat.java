@@ -0,0 +1,105 @@
+package org.typemeta.context.csv;
+
+/**
+ * The format of a delimited text file, i.e. the field delimiter, the quote character,
+ * and whether the first row is a header containing the field names.
+ */
+public final class CsvFormat {
+
+    /**
+     * Comma-separated values, with double-quoted fields and a header row.
+     */
+    public static final CsvFormat CSV = new CsvFormat(',', '"', true, true);
+
+    /**
+     * Tab-separated values, without quoting and with a header row.
+     */
+    public static final CsvFormat TSV = new CsvFormat('\t', '"', false, true);
+
+    private final char delimiter;
+    private final char quote;
+    private final boolean quoting;
+    private final boolean header;
+
+    private CsvFormat(char delimiter, char quote, boolean quoting, boolean header) {
+        if (delimiter == '\r' || delimiter == '\n' || (quoting && delimiter == quote)) {
+            throw new IllegalArgumentException("Invalid delimiter '" + delimiter + "'");
+        }
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.quoting = quoting;
+        this.header = header;
+    }
+
+    /**
+     * @return          the field delimiter
+     */
+    public char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * @return          the quote character
+     */
+    public char quote() {
+        return quote;
+    }
+
+    /**
+     * @return          true if fields may be quoted
+     */
+    public boolean quoting() {
+        return quoting;
+    }
+
+    /**
+     * @return          true if the first row is a header
+     */
+    public boolean header() {
+        return header;
+    }
+
+    /**
+     * Return a copy of this format with the given field delimiter.
+     * @param delimiter the field delimiter
+     * @return          the new format
+     */
+    public CsvFormat withDelimiter(char delimiter) {
+        return new CsvFormat(delimiter, quote, quoting, header);
+    }
+
+    /**
+     * Return a copy of this format which quotes fields using the given character.
+     * @param quote     the quote character
+     * @return          the new format
+     */
+    public CsvFormat withQuote(char quote) {
+        return new CsvFormat(delimiter, quote, true, header);
+    }
+
+    /**
+     * Return a copy of this format which does not support quoted fields.
+     * @return          the new format
+     */
+    public CsvFormat withoutQuoting() {
+        return new CsvFormat(delimiter, quote, false, header);
+    }
+
+    /**
+     * Return a copy of this format with or without a header row.
+     * @param header    true if the first row is a header
+     * @return          the new format
+     */
+    public CsvFormat withHeader(boolean header) {
+        return new CsvFormat(delimiter, quote, quoting, header);
+    }
+
+    @Override
+    public String toString() {
+        return "CsvFormat{" +
+                "delimiter=" + delimiter +
+                ", quote=" + (quoting ? String.valueOf(quote) : "none") +
+                ", header=" + header +
+                '}';
+    }
+}
@@ -0,0 +1,169 @@
+package org.typemeta.context.csv;
+
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.byindex.DoubleInjectorByIndex;
+import org.typemeta.context.injectors.byindex.InjectorByIndex;
+import org.typemeta.context.injectors.byindex.IntInjectorByIndex;
+import org.typemeta.context.injectors.byindex.LongInjectorByIndex;
+import org.typemeta.context.text.TextFormatters;
+import org.typemeta.context.text.TextInjectors;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A set of injectors for writing values into the fields of a {@link CsvWriter}, given a zero-based field index.
+ * The values are formatted directly into the writer's row buffer using {@link TextFormatters}.
+ * Null values and empty optional values are written as empty fields.
+ */
+public abstract class CsvInjectors {
+
+    private CsvInjectors() {}
+
+    /**
+     * Create a {@code CsvWriter} injector from an injector which appends the value as text.
+     * @param injr      the text injector, such as one from {@link TextInjectors}
+     * @param <T>       the injected value type
+     * @return          the injector
+     */
+    public static <T> InjectorByIndex<CsvWriter, T> field(Injector<? super StringBuilder, T> injr) {
+        return (wtr, i, value) -> {
+            injr.inject(wtr.field(i), value);
+            return wtr.endField(i);
+        };
+    }
+
+    /**
+     * A {@code CsvWriter} injector for {@link CharSequence} values.
+     */
+    public static final InjectorByIndex<CsvWriter, CharSequence> CHARS =
+            (wtr, i, value) -> {
+                final StringBuilder sb = wtr.field(i);
+                if (value != null) {
+                    sb.append(value);
+                }
+                return wtr.endField(i);
+            };
+
+    /**
+     * A {@code CsvWriter} injector for {@link String} values.
+     */
+    public static final InjectorByIndex<CsvWriter, String> STRING =
+            field(TextInjectors.STRING);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code String} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<String>> OPT_STRING =
+            field(TextInjectors.OPT_STRING);
+
+    /**
+     * A {@code CsvWriter} injector for {@link Boolean} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Boolean> BOOLEAN =
+            field(TextInjectors.BOOLEAN);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code Boolean} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<Boolean>> OPT_BOOLEAN =
+            field(TextInjectors.OPT_BOOLEAN);
+
+    /**
+     * A {@code CsvWriter} injector for {@link Character} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Character> CHAR =
+            field(TextInjectors.CHAR);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code Character} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<Character>> OPT_CHAR =
+            field(TextInjectors.OPT_CHAR);
+
+    /**
+     * A {@code CsvWriter} injector for double values.
+     */
+    public static final DoubleInjectorByIndex<CsvWriter> DOUBLE =
+            (wtr, i, value) -> {
+                wtr.field(i).append(value);
+                return wtr.endField(i);
+            };
+
+    /**
+     * A {@code CsvWriter} injector for {@link OptionalDouble} values.
+     */
+    public static final InjectorByIndex<CsvWriter, OptionalDouble> OPT_DOUBLE =
+            field(TextInjectors.OPT_DOUBLE);
+
+    /**
+     * A {@code CsvWriter} injector for integer values.
+     */
+    public static final IntInjectorByIndex<CsvWriter> INTEGER =
+            (wtr, i, value) -> {
+                wtr.field(i).append(value);
+                return wtr.endField(i);
+            };
+
+    /**
+     * A {@code CsvWriter} injector for {@link OptionalInt} values.
+     */
+    public static final InjectorByIndex<CsvWriter, OptionalInt> OPT_INTEGER =
+            field(TextInjectors.OPT_INTEGER);
+
+    /**
+     * A {@code CsvWriter} injector for long values.
+     */
+    public static final LongInjectorByIndex<CsvWriter> LONG =
+            (wtr, i, value) -> {
+                wtr.field(i).append(value);
+                return wtr.endField(i);
+            };
+
+    /**
+     * A {@code CsvWriter} injector for {@link OptionalLong} values.
+     */
+    public static final InjectorByIndex<CsvWriter, OptionalLong> OPT_LONG =
+            field(TextInjectors.OPT_LONG);
+
+    /**
+     * A {@code CsvWriter} injector for {@link LocalDate} values.
+     */
+    public static final InjectorByIndex<CsvWriter, LocalDate> LOCALDATE =
+            field(TextInjectors.LOCALDATE);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code LocalDate} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<LocalDate>> OPT_LOCALDATE =
+            field(TextInjectors.OPT_LOCALDATE);
+
+    /**
+     * A {@code CsvWriter} injector for {@link LocalTime} values.
+     */
+    public static final InjectorByIndex<CsvWriter, LocalTime> LOCALTIME =
+            field(TextInjectors.LOCALTIME);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code LocalTime} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<LocalTime>> OPT_LOCALTIME =
+            field(TextInjectors.OPT_LOCALTIME);
+
+    /**
+     * A {@code CsvWriter} injector for {@link LocalDateTime} values.
+     */
+    public static final InjectorByIndex<CsvWriter, LocalDateTime> LOCALDATETIME =
+            field(TextInjectors.LOCALDATETIME);
+
+    /**
+     * A {@code CsvWriter} injector for optional {@code LocalDateTime} values.
+     */
+    public static final InjectorByIndex<CsvWriter, Optional<LocalDateTime>> OPT_LOCALDATETIME =
+            field(TextInjectors.OPT_LOCALDATETIME);
+}
@@ -0,0 +1,309 @@
+package org.typemeta.context.csv;
+
+import org.typemeta.context.extractors.Extractor;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * A reader for delimited text, such as CSV or TSV files.
+ * <p>
+ * Rows are read into a reusable character buffer,
+ * and the current row is exposed as a {@link CsvRow}, whose fields are slices of the buffer.
+ * Values can then be extracted from the row using the extractors in {@link CsvExtractors} or {@link CsvExtractorsByName},
+ * which parse the field characters directly, so no per-field strings are created unless requested.
+ * <pre>{@code
+ * try (CsvReader rdr = CsvReader.map(path, UTF_8, CsvFormat.CSV)) {
+ *     while (rdr.next()) {
+ *         final Trade trade = TRADE_EXTRACTOR.extract(rdr.row());
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ * The reader is not thread-safe.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Create a reader for delimited text.
+     * @param reader    the underlying text reader
+     * @param format    the text format
+     * @return          the CSV reader
+     */
+    public static CsvReader of(Reader reader, CsvFormat format) {
+        return new CsvReader(reader, format);
+    }
+
+    /**
+     * Create a reader for delimited text read from a byte channel.
+     * @param channel   the byte channel
+     * @param charset   the character set of the channel
+     * @param format    the text format
+     * @return          the CSV reader
+     */
+    public static CsvReader of(ReadableByteChannel channel, Charset charset, CsvFormat format) {
+        return new CsvReader(Channels.newReader(channel, charset.newDecoder(), -1), format);
+    }
+
+    /**
+     * Create a reader for a delimited text file, which is memory-mapped rather than read.
+     * @param path      the file path
+     * @param charset   the character set of the file
+     * @param format    the text format
+     * @return          the CSV reader
+     * @throws IOException if the file cannot be opened
+     */
+    public static CsvReader map(Path path, Charset charset, CsvFormat format) throws IOException {
+        return new CsvReader(new MappedFileReader(path, charset), format);
+    }
+
+    private final Reader reader;
+    private final char delim;
+    private final char quote;
+    private final boolean quoting;
+    private final CsvRow row = new CsvRow();
+
+    private char[] buf = new char[INITIAL_BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean headerRead;
+    private boolean hasEscapes;
+
+    private CsvReader(Reader reader, CsvFormat format) {
+        this.reader = reader;
+        this.delim = format.delimiter();
+        this.quote = format.quote();
+        this.quoting = format.quoting();
+        this.headerRead = !format.header();
+        row.buffer(buf);
+    }
+
+    /**
+     * Return the field names from the header row.
+     * @return          the field names, or an empty list if the format has no header
+     * @throws UncheckedIOException if the underlying reader fails
+     */
+    public List<String> header() {
+        readHeader();
+        return row.header();
+    }
+
+    /**
+     * Return the current row.
+     * The row object is reused, so its contents are only valid until the next call to {@link #next()}.
+     * @return          the current row
+     */
+    public CsvRow row() {
+        return row;
+    }
+
+    /**
+     * Advance to the next row.
+     * @return          true if there is a next row, false if the end of the input has been reached
+     * @throws UncheckedIOException if the underlying reader fails
+     * @throws IllegalStateException if the input is malformed
+     */
+    public boolean next() {
+        readHeader();
+        if (readRow()) {
+            ++row.rowNum;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Extract a value from each of the remaining rows.
+     * @param extr      the row extractor
+     * @param <T>       the extracted value type
+     * @return          the list of extracted values
+     * @throws UncheckedIOException if the underlying reader fails
+     * @throws IllegalStateException if the input is malformed
+     */
+    public <T> List<T> extractAll(Extractor<CsvRow, T> extr) {
+        final List<T> values = new ArrayList<>();
+        while (next()) {
+            values.add(extr.extract(row));
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() {
+        if (!headerRead) {
+            headerRead = true;
+            final List<String> names = new ArrayList<>();
+            if (readRow()) {
+                for (int i = 0; i < row.size(); ++i) {
+                    names.add(row.getString(i));
+                }
+            }
+            row.header(names);
+        }
+    }
+
+    private boolean readRow() {
+        while (true) {
+            if (pos == limit && eof) {
+                row.size = 0;
+                return false;
+            }
+
+            final int next = parseRow(pos);
+            if (next >= 0) {
+                pos = next;
+                if (hasEscapes) {
+                    unescape();
+                }
+                return true;
+            }
+
+            fill();
+        }
+    }
+
+    /**
+     * Parse the row starting at the given offset,
+     * recording the field offsets in the row.
+     * @return          the offset after the row terminator, or -1 if more input is required
+     */
+    private int parseRow(int i) {
+        row.size = 0;
+        hasEscapes = false;
+
+        while (true) {
+            if (quoting && i < limit && buf[i] == quote) {
+                final int start = ++i;
+                boolean escaped = false;
+                while (true) {
+                    if (i == limit) {
+                        if (eof) {
+                            throw new IllegalStateException("Unterminated quoted field in row " + (row.rowNum + 1));
+                        }
+                        return -1;
+                    } else if (buf[i] == quote) {
+                        if (i + 1 == limit && !eof) {
+                            return -1;
+                        } else if (i + 1 < limit && buf[i + 1] == quote) {
+                            escaped = true;
+                            i += 2;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        ++i;
+                    }
+                }
+                if (escaped) {
+                    // Flag a field with escaped quotes using a negated start offset, until it is unescaped.
+                    hasEscapes = true;
+                    row.add(-start - 1, i++);
+                } else {
+                    row.add(start, i++);
+                }
+            } else {
+                final int start = i;
+                while (i < limit) {
+                    final char c = buf[i];
+                    if (c == delim || c == '\n' || c == '\r') {
+                        break;
+                    }
+                    ++i;
+                }
+                if (i == limit && !eof) {
+                    return -1;
+                }
+                row.add(start, i);
+            }
+
+            if (i == limit) {
+                return i;
+            }
+
+            final char c = buf[i];
+            if (c == delim) {
+                ++i;
+                if (i == limit && eof) {
+                    row.add(i, i);
+                    return i;
+                }
+            } else if (c == '\n') {
+                return i + 1;
+            } else if (c == '\r') {
+                if (i + 1 == limit && !eof) {
+                    return -1;
+                } else if (i + 1 < limit && buf[i + 1] == '\n') {
+                    return i + 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                throw new IllegalStateException(
+                        "Unexpected character '" + c + "' after quoted field in row " + (row.rowNum + 1));
+            }
+        }
+    }
+
+    /**
+     * Decode the quoted fields of the current row, collapsing escaped quotes in place.
+     */
+    private void unescape() {
+        final int[] starts = row.starts;
+        final int[] ends = row.ends;
+        for (int f = 0; f < row.size; ++f) {
+            if (starts[f] < 0) {
+                final int start = -starts[f] - 1;
+                final int end = ends[f];
+                int w = start;
+                for (int r = start; r < end; ++r) {
+                    final char c = buf[r];
+                    buf[w++] = c;
+                    if (c == quote) {
+                        ++r;
+                    }
+                }
+                starts[f] = start;
+                ends[f] = w;
+            }
+        }
+    }
+
+    /**
+     * Read more input, discarding consumed rows and growing the buffer if the current row does not fit.
+     */
+    private void fill() {
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+
+        if (limit == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+            row.buffer(buf);
+        }
+
+        try {
+            final int n = reader.read(buf, limit, buf.length - limit);
+            if (n < 0) {
+                eof = true;
+            } else {
+                limit += n;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
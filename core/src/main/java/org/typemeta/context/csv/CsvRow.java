@@ -0,0 +1,215 @@
+package org.typemeta.context.csv;
+
+import java.util.*;
+
+/**
+ * The current row of a {@link CsvReader}, and the context for the extractors in {@link CsvExtractors}.
+ * <p>
+ * The fields are slices of the reader's character buffer,
+ * identified by a start (inclusive) and end (exclusive) offset into {@link #chars()}.
+ * Quoted fields have their quotes removed and any escaped quotes collapsed in place.
+ * Field indices are zero-based.
+ * <p>
+ * A {@code CsvRow} is reused by the reader, and its contents are only valid until the next row is read.
+ */
+public final class CsvRow {
+
+    /**
+     * A {@code CharSequence} view of a range of the character buffer.
+     */
+    private static final class Slice implements CharSequence {
+        private final char[] buf;
+        private final int start;
+        private final int end;
+
+        Slice(char[] buf, int start, int end) {
+            this.buf = buf;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return buf[start + Objects.checkIndex(index, end - start)];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, this.end - this.start);
+            return new Slice(buf, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, start, end - start);
+        }
+    }
+
+    private List<String> header = Collections.emptyList();
+    private final Map<String, Integer> indexByName = new HashMap<>();
+
+    char[] buf = new char[0];
+    private CharSequence chars = new Slice(buf, 0, 0);
+    int[] starts = new int[16];
+    int[] ends = new int[16];
+    int size;
+    long rowNum;
+
+    void header(List<String> header) {
+        this.header = Collections.unmodifiableList(new ArrayList<>(header));
+        indexByName.clear();
+        for (int i = 0; i < header.size(); ++i) {
+            indexByName.putIfAbsent(header.get(i), i);
+        }
+    }
+
+    void buffer(char[] buf) {
+        if (this.buf != buf) {
+            this.buf = buf;
+            this.chars = new Slice(buf, 0, buf.length);
+        }
+    }
+
+    void add(int start, int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        ++size;
+    }
+
+    /**
+     * @return          the field names from the header row, or an empty list if the format has no header
+     */
+    public List<String> header() {
+        return header;
+    }
+
+    /**
+     * Return the index of the field with the given name, as given by the header row.
+     * @param name      the field name
+     * @return          the field index
+     * @throws IllegalArgumentException if there is no such field
+     */
+    public int index(String name) {
+        final Integer index = indexByName.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("No field named '" + name + "' in header " + header);
+        }
+        return index;
+    }
+
+    /**
+     * @return          the one-based number of this row within the data rows, excluding the header
+     */
+    public long rowNumber() {
+        return rowNum;
+    }
+
+    /**
+     * @return          the number of fields in this row
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the character buffer which holds the fields of this row.
+     * Fields should be accessed using the offsets given by {@link #start(int)} and {@link #end(int)}.
+     * @return          the character buffer
+     */
+    public CharSequence chars() {
+        return chars;
+    }
+
+    /**
+     * Return the start offset of a field.
+     * @param index     the field index
+     * @return          the offset of the first character of the field within {@link #chars()}
+     */
+    public int start(int index) {
+        return starts[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Return the end offset of a field.
+     * @param index     the field index
+     * @return          the offset after the last character of the field within {@link #chars()}
+     */
+    public int end(int index) {
+        return ends[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Return the length of a field.
+     * @param index     the field index
+     * @return          the number of characters in the field
+     */
+    public int length(int index) {
+        return end(index) - starts[index];
+    }
+
+    /**
+     * Return true if a field is empty.
+     * @param index     the field index
+     * @return          true if the field has no characters
+     */
+    public boolean isEmpty(int index) {
+        return length(index) == 0;
+    }
+
+    /**
+     * Return a view of a field, which does not copy the field characters.
+     * @param index     the field index
+     * @return          the field
+     */
+    public CharSequence field(int index) {
+        return new Slice(buf, start(index), ends[index]);
+    }
+
+    /**
+     * Return a field as a string.
+     * @param index     the field index
+     * @return          the field
+     */
+    public String getString(int index) {
+        final int start = start(index);
+        return new String(buf, start, ends[index] - start);
+    }
+
+    /**
+     * Compare a field to a given value, without copying the field characters.
+     * @param index     the field index
+     * @param value     the value
+     * @return          true if the field is equal to the value
+     */
+    public boolean fieldEquals(int index, CharSequence value) {
+        final int start = start(index);
+        final int len = ends[index] - start;
+        if (len != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; ++i) {
+            if (buf[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner sj = new StringJoiner(", ", "CsvRow{", "}");
+        for (int i = 0; i < size; ++i) {
+            sj.add(getString(i));
+        }
+        return sj.toString();
+    }
+}
@@ -0,0 +1,174 @@
+package org.typemeta.context.csv;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A writer for delimited text, such as CSV or TSV files,
+ * and the context for the injectors in {@link CsvInjectors}.
+ * <p>
+ * Fields are injected by zero-based index, in any order, into a reusable row buffer.
+ * Calling {@link #endRow()} then writes the row to the underlying writer,
+ * quoting any fields which contain the delimiter, the quote character or a line break.
+ * Fields which were not injected are written as empty fields.
+ * The writer is not thread-safe.
+ */
+public final class CsvWriter implements Closeable, Flushable {
+
+    /**
+     * Create a writer for delimited text.
+     * @param writer    the underlying text writer
+     * @param format    the text format
+     * @return          the CSV writer
+     */
+    public static CsvWriter of(Writer writer, CsvFormat format) {
+        return new CsvWriter(writer, format);
+    }
+
+    private final Writer writer;
+    private final char delim;
+    private final char quote;
+    private final boolean quoting;
+    private final StringBuilder sb = new StringBuilder(256);
+    private char[] scratch = new char[256];
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int size;
+    private long rowCount;
+
+    private CsvWriter(Writer writer, CsvFormat format) {
+        this.writer = writer;
+        this.delim = format.delimiter();
+        this.quote = format.quote();
+        this.quoting = format.quoting();
+    }
+
+    /**
+     * Write a header row.
+     * @param names     the field names
+     * @return          this writer
+     * @throws UncheckedIOException if the underlying writer fails
+     */
+    public CsvWriter writeHeader(List<String> names) {
+        for (int i = 0; i < names.size(); ++i) {
+            field(i).append(names.get(i));
+            endField(i);
+        }
+        return endRow();
+    }
+
+    /**
+     * Begin writing a field.
+     * The field value should be appended to the returned builder, followed by a call to {@link #endField(int)}.
+     * @param index     the field index
+     * @return          the builder to append the field value to
+     */
+    public StringBuilder field(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative field index " + index);
+        }
+        if (index >= starts.length) {
+            final int len = Math.max(index + 1, starts.length * 2);
+            starts = Arrays.copyOf(starts, len);
+            ends = Arrays.copyOf(ends, len);
+        }
+        while (size <= index) {
+            starts[size] = ends[size] = 0;
+            ++size;
+        }
+        starts[index] = sb.length();
+        return sb;
+    }
+
+    /**
+     * Complete writing a field.
+     * @param index     the field index
+     * @return          this writer
+     */
+    public CsvWriter endField(int index) {
+        ends[index] = sb.length();
+        return this;
+    }
+
+    /**
+     * Write the current row and reset the row buffer.
+     * @return          this writer
+     * @throws UncheckedIOException if the underlying writer fails
+     */
+    public CsvWriter endRow() {
+        try {
+            for (int i = 0; i < size; ++i) {
+                if (i > 0) {
+                    writer.write(delim);
+                }
+                writeField(starts[i], ends[i]);
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        sb.setLength(0);
+        size = 0;
+        ++rowCount;
+        return this;
+    }
+
+    /**
+     * @return          the number of rows written, including any header row
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    private void writeField(int start, int end) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = start; i < end; ++i) {
+            final char c = sb.charAt(i);
+            if (c == delim || c == '\n' || c == '\r' || (quoting && c == quote)) {
+                needsQuotes = true;
+                break;
+            }
+        }
+
+        if (!needsQuotes) {
+            final int len = end - start;
+            if (scratch.length < len) {
+                scratch = new char[Math.max(len, scratch.length * 2)];
+            }
+            sb.getChars(start, end, scratch, 0);
+            writer.write(scratch, 0, len);
+        } else if (!quoting) {
+            throw new IllegalStateException(
+                    "Field '" + sb.substring(start, end) + "' requires quoting, which the format does not support");
+        } else {
+            // Worst case every character is a quote, plus the enclosing quotes.
+            final int maxLen = 2 * (end - start) + 2;
+            if (scratch.length < maxLen) {
+                scratch = new char[Math.max(maxLen, scratch.length * 2)];
+            }
+            int n = 0;
+            scratch[n++] = quote;
+            for (int i = start; i < end; ++i) {
+                final char c = sb.charAt(i);
+                if (c == quote) {
+                    scratch[n++] = quote;
+                }
+                scratch[n++] = c;
+            }
+            scratch[n++] = quote;
+            writer.write(scratch, 0, n);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,82 @@
+package org.typemeta.context.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Reader} which decodes a file by memory-mapping successive regions of it,
+ * so that files larger than 2GB can be read without copying through an intermediate byte buffer.
+ */
+final class MappedFileReader extends Reader {
+
+    private static final long REGION_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private final CharsetDecoder decoder;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long regionEnd;
+    private boolean done;
+
+    MappedFileReader(Path path, Charset charset) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        map(0);
+    }
+
+    private void map(long start) throws IOException {
+        regionStart = start;
+        regionEnd = Math.min(size, start + REGION_SIZE);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (done) {
+            return -1;
+        } else if (len == 0) {
+            return 0;
+        }
+
+        final CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            final boolean last = regionEnd == size;
+            final CoderResult cr = decoder.decode(region, out, last);
+            if (cr.isError()) {
+                cr.throwException();
+            } else if (cr.isOverflow()) {
+                break;
+            } else if (last) {
+                decoder.flush(out);
+                done = true;
+                break;
+            } else {
+                // Remap from the first unconsumed byte, which may be part of a multi-byte character.
+                map(regionStart + region.position());
+            }
+        }
+
+        final int n = out.position() - off;
+        return n == 0 && done ? -1 : n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -5,6 +5,11 @@
 import org.typemeta.context.injectors.byindex.IntInjectorByIndex;
 import org.typemeta.context.injectors.byindex.LongInjectorByIndex;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +18,7 @@
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * A set of injectors for injecting values into database {@link PreparedStatement} objects.
@@ -281,4 +287,213 @@ public static <T> InjectorByIndex.Checked<PreparedStatement, Optional<T>, SQLExc
      */
     public static final InjectorByIndex.Checked<PreparedStatement, Optional<LocalDateTime>, SQLException> OPT_LOCALDATETIME =
             optional(SQLTIMESTAMP).premap(od -> od.map(Timestamp::valueOf));
+
+    /**
+     * Create a {@code PreparedStatement} injector which uses the JDBC 4.2 {@link PreparedStatement#setObject(int, Object)}
+     * method to inject values directly, where the driver supports it, and otherwise uses the fallback injector.
+     * Whether the driver supports the conversion is determined by the first non-null value for each connection:
+     * if the direct injection fails and the fallback succeeds then the fallback is used for that connection thereafter.
+     * Drivers which accept the value but fail when the statement is executed are not detected.
+     * @param sqlType   the SQL type from {@link Types}, used for null values
+     * @param fallback  the fallback injector
+     * @param <T>       the value type
+     * @return          the injector
+     */
+    public static <T> InjectorByIndex.Checked<PreparedStatement, T, SQLException> direct(
+            int sqlType,
+            InjectorByIndex.Checked<PreparedStatement, T, SQLException> fallback
+    ) {
+        final DirectModeCache modes = new DirectModeCache();
+        return (PreparedStatement ps, int n, T value) -> {
+            if (value == null) {
+                ps.setNull(n, sqlType);
+                return ps;
+            }
+
+            Boolean direct = modes.cached(ps);
+            Connection conn = null;
+            if (direct == null) {
+                conn = ps.getConnection();
+                direct = modes.lookup(ps, conn);
+            }
+            if (direct == Boolean.FALSE) {
+                return fallback.inject(ps, n, value);
+            }
+
+            try {
+                ps.setObject(n, value);
+            } catch (SQLException | AbstractMethodError ex) {
+                if (direct != null) {
+                    throw ex;
+                }
+                fallback.inject(ps, n, value);
+                modes.record(ps, conn, false);
+                return ps;
+            }
+            if (direct == null) {
+                modes.record(ps, conn, true);
+            }
+            return ps;
+        };
+    }
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalDate} values,
+     * which injects the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, LocalDate, SQLException> DIRECT_LOCALDATE =
+            direct(Types.DATE, LOCALDATE);
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalDate} values,
+     * which injects the values directly where the driver supports it.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<LocalDate>, SQLException> OPT_DIRECT_LOCALDATE =
+            optional(DIRECT_LOCALDATE);
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalTime} values,
+     * which injects the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, LocalTime, SQLException> DIRECT_LOCALTIME =
+            direct(Types.TIME, LOCALTIME);
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalTime} values,
+     * which injects the values directly where the driver supports it.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<LocalTime>, SQLException> OPT_DIRECT_LOCALTIME =
+            optional(DIRECT_LOCALTIME);
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalDateTime} values,
+     * which injects the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, LocalDateTime, SQLException> DIRECT_LOCALDATETIME =
+            direct(Types.TIMESTAMP, LOCALDATETIME);
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalDateTime} values,
+     * which injects the values directly where the driver supports it.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<LocalDateTime>, SQLException> OPT_DIRECT_LOCALDATETIME =
+            optional(DIRECT_LOCALDATETIME);
+
+    /**
+     * A {@code PreparedStatement} injector for binary values read from an {@link InputStream}.
+     * The stream is read when the statement is executed.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, InputStream, SQLException> BINARY_STREAM =
+            (PreparedStatement ps, int n, InputStream value) -> {
+                if (value != null) {
+                    ps.setBinaryStream(n, value);
+                } else {
+                    ps.setNull(n, Types.BLOB);
+                }
+                return ps;
+            };
+
+    /**
+     * A {@code PreparedStatement} injector for binary values read from a {@link ReadableByteChannel}.
+     * The channel is read when the statement is executed.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, ReadableByteChannel, SQLException> BYTE_CHANNEL =
+            BINARY_STREAM.premap(ch -> ch == null ? null : Channels.newInputStream(ch));
+
+    /**
+     * A {@code PreparedStatement} injector for character values read from a {@link Reader}.
+     * The reader is read when the statement is executed.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Reader, SQLException> CHARACTER_STREAM =
+            (PreparedStatement ps, int n, Reader value) -> {
+                if (value != null) {
+                    ps.setCharacterStream(n, value);
+                } else {
+                    ps.setNull(n, Types.CLOB);
+                }
+                return ps;
+            };
+
+    /**
+     * A {@code PreparedStatement} injector for {@link BigDecimal} values.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, BigDecimal, SQLException> BIGDECIMAL =
+            (PreparedStatement ps, int n, BigDecimal value) -> {
+                if (value != null) {
+                    ps.setBigDecimal(n, value);
+                } else {
+                    ps.setNull(n, Types.DECIMAL);
+                }
+                return ps;
+            };
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code BigDecimal} values.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<BigDecimal>, SQLException> OPT_BIGDECIMAL =
+            optional(BIGDECIMAL);
+
+    /**
+     * Create a {@code PreparedStatement} injector for decimal values given as unscaled long values with a fixed scale,
+     * i.e. a value {@code u} is injected as {@code u * 10^-scale}.
+     * @param scale     the scale
+     * @return          the injector
+     */
+    public static LongInjectorByIndex.Checked<PreparedStatement, SQLException> unscaledDecimal(int scale) {
+        return (PreparedStatement ps, int n, long value) -> {
+            ps.setBigDecimal(n, BigDecimal.valueOf(value, scale));
+            return ps;
+        };
+    }
+
+    /**
+     * A {@code PreparedStatement} injector for byte array values.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, byte[], SQLException> BYTES =
+            (PreparedStatement ps, int n, byte[] value) -> {
+                if (value != null) {
+                    ps.setBytes(n, value);
+                } else {
+                    ps.setNull(n, Types.VARBINARY);
+                }
+                return ps;
+            };
+
+    /**
+     * A {@code PreparedStatement} injector for optional byte array values.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<byte[]>, SQLException> OPT_BYTES =
+            optional(BYTES);
+
+    /**
+     * A {@code PreparedStatement} injector for {@link UUID} values, as 16-byte binary values,
+     * most significant byte first.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, UUID, SQLException> UUID_BYTES =
+            BYTES.premap(CheckedPreparedStatementInjectors::toBytes);
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code UUID} values, as 16-byte binary values.
+     */
+    public static final InjectorByIndex.Checked<PreparedStatement, Optional<UUID>, SQLException> OPT_UUID_BYTES =
+            optional(UUID_BYTES);
+
+    static byte[] toBytes(UUID value) {
+        if (value == null) {
+            return null;
+        }
+        final byte[] bytes = new byte[16];
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        for (int i = 7; i >= 0; --i) {
+            bytes[i] = (byte)msb;
+            bytes[i + 8] = (byte)lsb;
+            msb >>>= 8;
+            lsb >>>= 8;
+        }
+        return bytes;
+    }
 }
@@ -5,6 +5,11 @@
 import org.typemeta.context.extractors.byname.IntExtractorByName;
 import org.typemeta.context.extractors.byname.LongExtractorByName;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,6 +19,7 @@
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * A set of extractors for extracting values from database {@link ResultSet} objects.
@@ -244,4 +250,215 @@ public static <T> ExtractorByName.Checked<ResultSet, Optional<T>, SQLException>
                     .map(ots -> ots.map(Timestamp::toInstant)
                             .map(inst -> LocalDateTime.ofInstant(inst, ZoneId.systemDefault()))
                     );
+
+    /**
+     * Create a {@code ResultSet} extractor which uses the JDBC 4.2 {@link ResultSet#getObject(String, Class)} method
+     * to extract values of the given type directly, where the driver supports it,
+     * and otherwise uses the fallback extractor.
+     * Whether the driver supports the conversion is determined by the first non-null value for each connection:
+     * if the direct extraction fails and the fallback succeeds then the fallback is used for that connection thereafter.
+     * @param type      the value type
+     * @param fallback  the fallback extractor
+     * @param <T>       the value type
+     * @return          the extractor
+     */
+    public static <T> ExtractorByName.Checked<ResultSet, T, SQLException> direct(
+            Class<T> type,
+            ExtractorByName.Checked<ResultSet, T, SQLException> fallback
+    ) {
+        final DirectModeCache modes = new DirectModeCache();
+        return (ResultSet rs, String name) -> {
+            Boolean direct = modes.cached(rs);
+            Connection conn = null;
+            if (direct == null) {
+                conn = DirectModeCache.connection(rs);
+                direct = modes.lookup(rs, conn);
+            }
+            if (direct == Boolean.FALSE) {
+                return fallback.extract(rs, name);
+            }
+
+            final T value;
+            try {
+                value = rs.getObject(name, type);
+            } catch (SQLException | AbstractMethodError ex) {
+                if (direct != null) {
+                    throw ex;
+                }
+                final T fallbackValue = fallback.extract(rs, name);
+                modes.record(rs, conn, false);
+                return fallbackValue;
+            }
+            if (direct == null && value != null) {
+                modes.record(rs, conn, true);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalDate} values,
+     * which extracts the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final ExtractorByName.Checked<ResultSet, LocalDate, SQLException> DIRECT_LOCALDATE =
+            direct(LocalDate.class, SQLDATE.map(d -> d == null ? null : d.toLocalDate()));
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalDate} values,
+     * which extracts the values directly where the driver supports it.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<LocalDate>, SQLException> OPT_DIRECT_LOCALDATE =
+            DIRECT_LOCALDATE.map(Optional::ofNullable);
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalTime} values,
+     * which extracts the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final ExtractorByName.Checked<ResultSet, LocalTime, SQLException> DIRECT_LOCALTIME =
+            direct(LocalTime.class, SQLTIME.map(t -> t == null ? null : t.toLocalTime()));
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalTime} values,
+     * which extracts the values directly where the driver supports it.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<LocalTime>, SQLException> OPT_DIRECT_LOCALTIME =
+            DIRECT_LOCALTIME.map(Optional::ofNullable);
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalDateTime} values,
+     * which extracts the values directly where the driver supports it.
+     * @see #direct
+     */
+    public static final ExtractorByName.Checked<ResultSet, LocalDateTime, SQLException> DIRECT_LOCALDATETIME =
+            direct(LocalDateTime.class, SQLTIMESTAMP.map(ts -> ts == null ? null : ts.toLocalDateTime()));
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalDateTime} values,
+     * which extracts the values directly where the driver supports it.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<LocalDateTime>, SQLException> OPT_DIRECT_LOCALDATETIME =
+            DIRECT_LOCALDATETIME.map(Optional::ofNullable);
+
+    /**
+     * A {@code ResultSet} extractor for binary values, as an {@link InputStream} which reads the value incrementally.
+     * The stream is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName.Checked<ResultSet, InputStream, SQLException> BINARY_STREAM =
+            ResultSet::getBinaryStream;
+
+    /**
+     * A {@code ResultSet} extractor for binary values, as a {@link ReadableByteChannel} which reads the value incrementally.
+     * The channel is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName.Checked<ResultSet, ReadableByteChannel, SQLException> BYTE_CHANNEL =
+            BINARY_STREAM.map(in -> in == null ? null : Channels.newChannel(in));
+
+    /**
+     * A {@code ResultSet} extractor for character values, as a {@link Reader} which reads the value incrementally.
+     * The reader is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Reader, SQLException> CHARACTER_STREAM =
+            ResultSet::getCharacterStream;
+
+    /**
+     * A {@code ResultSet} extractor for {@link Blob} values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Blob, SQLException> BLOB =
+            ResultSet::getBlob;
+
+    /**
+     * A {@code ResultSet} extractor for {@link Clob} values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Clob, SQLException> CLOB =
+            ResultSet::getClob;
+
+    /**
+     * A {@code ResultSet} extractor for {@link BigDecimal} values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, BigDecimal, SQLException> BIGDECIMAL =
+            ResultSet::getBigDecimal;
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code BigDecimal} values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<BigDecimal>, SQLException> OPT_BIGDECIMAL =
+            optional(BIGDECIMAL);
+
+    /**
+     * Create a {@code ResultSet} extractor for decimal values as unscaled long values with a fixed scale,
+     * i.e. a value {@code v} is extracted as {@code v * 10^scale}.
+     * JDBC provides no way to read a decimal without a {@code BigDecimal},
+     * but this avoids holding one in the extracted object.
+     * Unlike {@link #LONG}, a null value isn't extracted as zero, as that would be indistinguishable from a zero value;
+     * use {@link #optUnscaledDecimal} for nullable columns.
+     * @param scale     the scale
+     * @return          the extractor
+     * @throws ArithmeticException if a value has a non-zero fractional part at the scale, or doesn't fit in a long
+     * @throws IllegalStateException if a value is null
+     */
+    public static LongExtractorByName.Checked<ResultSet, SQLException> unscaledDecimal(int scale) {
+        return (ResultSet rs, String name) -> {
+            final BigDecimal value = rs.getBigDecimal(name);
+            if (value == null) {
+                throw new IllegalStateException("Value of column " + name + " is null");
+            }
+            return value.movePointRight(scale).longValueExact();
+        };
+    }
+
+    /**
+     * Create a {@code ResultSet} extractor for optional decimal values as unscaled long values with a fixed scale.
+     * @param scale     the scale
+     * @return          the extractor
+     * @throws ArithmeticException if a value has a non-zero fractional part at the scale, or doesn't fit in a long
+     * @see #unscaledDecimal
+     */
+    public static ExtractorByName.Checked<ResultSet, OptionalLong, SQLException> optUnscaledDecimal(int scale) {
+        return (ResultSet rs, String name) -> {
+            final BigDecimal value = rs.getBigDecimal(name);
+            return value == null ? OptionalLong.empty() : OptionalLong.of(value.movePointRight(scale).longValueExact());
+        };
+    }
+
+    /**
+     * A {@code ResultSet} extractor for byte array values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, byte[], SQLException> BYTES =
+            ResultSet::getBytes;
+
+    /**
+     * A {@code ResultSet} extractor for optional byte array values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<byte[]>, SQLException> OPT_BYTES =
+            optional(BYTES);
+
+    /**
+     * A {@code ResultSet} extractor for {@link UUID} values stored as 16-byte binary values,
+     * most significant byte first.
+     */
+    public static final ExtractorByName.Checked<ResultSet, UUID, SQLException> UUID_BYTES =
+            BYTES.map(CheckedResultSetExtractors::toUuid);
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code UUID} values stored as 16-byte binary values.
+     */
+    public static final ExtractorByName.Checked<ResultSet, Optional<UUID>, SQLException> OPT_UUID_BYTES =
+            UUID_BYTES.map(Optional::ofNullable);
+
+    static UUID toUuid(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        } else if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID value must be 16 bytes, not " + bytes.length);
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; ++i) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(msb, lsb);
+    }
 }
@@ -0,0 +1,86 @@
+package org.typemeta.context.database;
+
+import java.lang.ref.WeakReference;
+import java.sql.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Records, for each connection, whether the driver supports a JDBC 4.2 {@code getObject}/{@code setObject} conversion,
+ * so that the choice between the direct and the fallback conversion is made once per connection.
+ * <p>
+ * The result sets or statements most recently seen by each thread are also cached,
+ * so that the connection needn't be looked up for each value.
+ * A cache hit compares sources by identity, and neither locks nor allocates.
+ */
+final class DirectModeCache {
+
+    /**
+     * The number of sources cached per thread.
+     */
+    static final int RECENT = 4;
+
+    /**
+     * The sources most recently seen by one thread, and their modes.
+     */
+    private static final class Recent {
+        @SuppressWarnings("unchecked")
+        final WeakReference<Object>[] sources = (WeakReference<Object>[])new WeakReference<?>[RECENT];
+        final boolean[] direct = new boolean[RECENT];
+        int next;
+
+        Boolean get(Object source) {
+            for (int i = 0; i < RECENT; ++i) {
+                final WeakReference<Object> ref = sources[i];
+                if (ref != null && ref.get() == source) {
+                    return direct[i];
+                }
+            }
+            return null;
+        }
+
+        void put(Object source, boolean mode) {
+            sources[next] = new WeakReference<>(source);
+            direct[next] = mode;
+            next = (next + 1) % RECENT;
+        }
+    }
+
+    private final Map<Connection, Boolean> modes = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ThreadLocal<Recent> recent = ThreadLocal.withInitial(Recent::new);
+
+    static Connection connection(ResultSet rs) throws SQLException {
+        final Statement stmt = rs.getStatement();
+        return stmt == null ? null : stmt.getConnection();
+    }
+
+    /**
+     * @param source    the result set or statement
+     * @return          the mode if it is known for the source, otherwise null
+     */
+    Boolean cached(Object source) {
+        return recent.get().get(source);
+    }
+
+    /**
+     * @param source    the result set or statement
+     * @param conn      the connection of the source, or null if it is not known
+     * @return          the mode if it is known for the connection, otherwise null
+     */
+    Boolean lookup(Object source, Connection conn) {
+        if (conn == null) {
+            return Boolean.FALSE;
+        }
+        final Boolean direct = modes.get(conn);
+        if (direct != null) {
+            recent.get().put(source, direct);
+        }
+        return direct;
+    }
+
+    void record(Object source, Connection conn, boolean direct) {
+        modes.put(conn, direct);
+        recent.get().put(source, direct);
+    }
+}
@@ -0,0 +1,297 @@
+package org.typemeta.context.database;
+
+import org.typemeta.context.extractors.byname.LongExtractorByName;
+import org.typemeta.context.functions.Functions;
+import org.typemeta.context.injectors.byindex.InjectorByIndex;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Extractors and injectors for streaming large binary and character values (BLOBs and CLOBs)
+ * between the database and files or channels, without holding the whole value in memory.
+ * <p>
+ * The transfer extractors copy a column value to a destination through a buffer,
+ * which is allocated once per thread for each extractor, and return the number of bytes (or chars) transferred,
+ * or -1 if the value is null.
+ * The function which provides the destination is called before the value is read,
+ * as some drivers close a LOB stream when another column of the row is read:
+ * <pre>{@code
+ * final LongExtractor<ResultSet> SAVE_DOC = Lobs.binaryToFile(rs -> dir.resolve(ResultSetExtractors.STRING.extract(rs, "name")), 1 << 16)
+ *         .bind("doc");
+ * }</pre>
+ * SQL exceptions are rethrown as unchecked exceptions,
+ * and I/O exceptions as {@link UncheckedIOException}.
+ */
+public abstract class Lobs {
+
+    private Lobs() {}
+
+    /**
+     * The default transfer buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum size of each mapped region of a file.
+     */
+    static final int MAX_REGION_SIZE = 1 << 30;
+
+    /**
+     * Copy a stream to a channel.
+     * @param in        the input stream
+     * @param out       the output channel
+     * @param buffer    the buffer, which must be backed by an array
+     * @return          the number of bytes transferred
+     * @throws IOException if an I/O error occurs
+     */
+    public static long transfer(InputStream in, WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        final byte[] array = buffer.array();
+        final int offset = buffer.arrayOffset();
+        long total = 0;
+        int n;
+        while ((n = in.read(array, offset, buffer.capacity())) != -1) {
+            buffer.clear().limit(n);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Copy a reader to a writer.
+     * @param in        the reader
+     * @param out       the writer
+     * @param buffer    the buffer
+     * @return          the number of chars transferred
+     * @throws IOException if an I/O error occurs
+     */
+    public static long transfer(Reader in, Writer out, char[] buffer) throws IOException {
+        long total = 0;
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Create an extractor which transfers a binary value to a channel.
+     * The channel is not closed.
+     * @param out       the function which provides the channel for the current row
+     * @param bufferSize the buffer size
+     * @return          the extractor for the number of bytes transferred, or -1 if the value is null
+     */
+    public static LongExtractorByName<ResultSet> binaryTo(
+            Functions.F<ResultSet, ? extends WritableByteChannel> out,
+            int bufferSize
+    ) {
+        final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(bufferSize));
+        return (rs, name) -> {
+            final WritableByteChannel ch = out.apply(rs);
+            try (InputStream in = rs.getBinaryStream(name)) {
+                return in == null ? -1 : transfer(in, ch, buffers.get());
+            } catch (SQLException ex) {
+                throw new RuntimeException(ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    /**
+     * Create an extractor which writes a binary value to a file.
+     * If the value is null then no file is created.
+     * @param path      the function which provides the file path for the current row
+     * @param bufferSize the buffer size
+     * @return          the extractor for the number of bytes written, or -1 if the value is null
+     */
+    public static LongExtractorByName<ResultSet> binaryToFile(Functions.F<ResultSet, Path> path, int bufferSize) {
+        final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(bufferSize));
+        return (rs, name) -> {
+            final Path target = path.apply(rs);
+            try (InputStream in = rs.getBinaryStream(name)) {
+                if (in == null) {
+                    return -1;
+                }
+                try (FileChannel out = FileChannel.open(
+                        target,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING
+                )) {
+                    return transfer(in, out, buffers.get());
+                }
+            } catch (SQLException ex) {
+                throw new RuntimeException(ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    /**
+     * Create an extractor which transfers a character value to a writer.
+     * The writer is not closed.
+     * @param out       the function which provides the writer for the current row
+     * @param bufferSize the buffer size
+     * @return          the extractor for the number of chars transferred, or -1 if the value is null
+     */
+    public static LongExtractorByName<ResultSet> characterTo(
+            Functions.F<ResultSet, ? extends Writer> out,
+            int bufferSize
+    ) {
+        final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[bufferSize]);
+        return (rs, name) -> {
+            final Writer writer = out.apply(rs);
+            try (Reader in = rs.getCharacterStream(name)) {
+                return in == null ? -1 : transfer(in, writer, buffers.get());
+            } catch (SQLException ex) {
+                throw new RuntimeException(ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    /**
+     * Open an input stream over a memory-mapped file.
+     * The file is mapped read-only, and the mapping remains valid after the file is closed,
+     * so the stream holds no file handle.
+     * @param path      the file path
+     * @return          the input stream
+     * @throws IOException if the file cannot be mapped
+     */
+    public static InputStream mappedStream(Path path) throws IOException {
+        return map(path);
+    }
+
+    private static MappedInputStream map(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = ch.size();
+            final MappedByteBuffer[] regions = new MappedByteBuffer[(int)((size + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE)];
+            for (int i = 0; i < regions.length; ++i) {
+                final long pos = (long)i * MAX_REGION_SIZE;
+                regions[i] = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAX_REGION_SIZE, size - pos));
+            }
+            return new MappedInputStream(regions);
+        }
+    }
+
+    /**
+     * A {@code PreparedStatement} injector which binds the contents of a file as a binary value,
+     * by memory-mapping the file.
+     */
+    public static final InjectorByIndex<PreparedStatement, Path> MAPPED_FILE =
+            (ps, n, path) -> {
+                try {
+                    if (path == null) {
+                        return PreparedStatementInjectors.BINARY_STREAM.inject(ps, n, null);
+                    } else {
+                        final MappedInputStream in = map(path);
+                        ps.setBinaryStream(n, in, in.size());
+                        return ps;
+                    }
+                } catch (SQLException ex) {
+                    throw new RuntimeException(ex);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            };
+
+    /**
+     * Create a {@code PreparedStatement} injector which binds the contents of a text file as a character value,
+     * by memory-mapping the file.
+     * @param charset   the file encoding
+     * @return          the injector
+     */
+    public static InjectorByIndex<PreparedStatement, Path> mappedTextFile(Charset charset) {
+        return (ps, n, path) -> {
+            try {
+                final Reader reader = path == null ? null : new InputStreamReader(mappedStream(path), charset);
+                return PreparedStatementInjectors.CHARACTER_STREAM.inject(ps, n, reader);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    /**
+     * An input stream which reads a sequence of mapped regions of a file.
+     */
+    static final class MappedInputStream extends InputStream {
+        private final ByteBuffer[] regions;
+        private final long size;
+        private int current;
+
+        MappedInputStream(ByteBuffer[] regions) {
+            this.regions = regions;
+            long size = 0;
+            for (ByteBuffer region : regions) {
+                size += region.remaining();
+            }
+            this.size = size;
+        }
+
+        long size() {
+            return size;
+        }
+
+        private ByteBuffer region() {
+            while (current < regions.length && !regions[current].hasRemaining()) {
+                ++current;
+            }
+            return current < regions.length ? regions[current] : null;
+        }
+
+        @Override
+        public int read() {
+            final ByteBuffer region = region();
+            return region == null ? -1 : region.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            final ByteBuffer region = region();
+            if (region == null) {
+                return -1;
+            }
+            final int n = Math.min(len, region.remaining());
+            region.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            final ByteBuffer region = region();
+            return region == null ? 0 : region.remaining();
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            ByteBuffer region;
+            while (skipped < n && (region = region()) != null) {
+                final int k = (int)Math.min(n - skipped, region.remaining());
+                region.position(region.position() + k);
+                skipped += k;
+            }
+            return skipped;
+        }
+    }
+}
@@ -5,6 +5,10 @@
 import org.typemeta.context.injectors.byindex.IntInjectorByIndex;
 import org.typemeta.context.injectors.byindex.LongInjectorByIndex;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +17,7 @@
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * A set of injectors for injecting values into database {@link PreparedStatement} objects.
@@ -291,4 +296,117 @@ public static InjectorByIndex<PreparedStatement, OptionalLong> optional(
      */
     public static final InjectorByIndex<PreparedStatement, Optional<LocalDateTime>> OPT_LOCALDATETIME =
             CheckedPreparedStatementInjectors.OPT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalDate} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedPreparedStatementInjectors#direct
+     */
+    public static final InjectorByIndex<PreparedStatement, LocalDate> DIRECT_LOCALDATE =
+            CheckedPreparedStatementInjectors.DIRECT_LOCALDATE.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalDate} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<LocalDate>> OPT_DIRECT_LOCALDATE =
+            CheckedPreparedStatementInjectors.OPT_DIRECT_LOCALDATE.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalTime} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedPreparedStatementInjectors#direct
+     */
+    public static final InjectorByIndex<PreparedStatement, LocalTime> DIRECT_LOCALTIME =
+            CheckedPreparedStatementInjectors.DIRECT_LOCALTIME.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalTime} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<LocalTime>> OPT_DIRECT_LOCALTIME =
+            CheckedPreparedStatementInjectors.OPT_DIRECT_LOCALTIME.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for {@link LocalDateTime} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedPreparedStatementInjectors#direct
+     */
+    public static final InjectorByIndex<PreparedStatement, LocalDateTime> DIRECT_LOCALDATETIME =
+            CheckedPreparedStatementInjectors.DIRECT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code LocalDateTime} values,
+     * which injects the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<LocalDateTime>> OPT_DIRECT_LOCALDATETIME =
+            CheckedPreparedStatementInjectors.OPT_DIRECT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for binary values read from an {@link InputStream}.
+     * The stream is read when the statement is executed.
+     */
+    public static final InjectorByIndex<PreparedStatement, InputStream> BINARY_STREAM =
+            CheckedPreparedStatementInjectors.BINARY_STREAM.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for binary values read from a {@link ReadableByteChannel}.
+     * The channel is read when the statement is executed.
+     */
+    public static final InjectorByIndex<PreparedStatement, ReadableByteChannel> BYTE_CHANNEL =
+            CheckedPreparedStatementInjectors.BYTE_CHANNEL.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for character values read from a {@link Reader}.
+     * The reader is read when the statement is executed.
+     */
+    public static final InjectorByIndex<PreparedStatement, Reader> CHARACTER_STREAM =
+            CheckedPreparedStatementInjectors.CHARACTER_STREAM.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for {@link BigDecimal} values.
+     */
+    public static final InjectorByIndex<PreparedStatement, BigDecimal> BIGDECIMAL =
+            CheckedPreparedStatementInjectors.BIGDECIMAL.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code BigDecimal} values.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<BigDecimal>> OPT_BIGDECIMAL =
+            CheckedPreparedStatementInjectors.OPT_BIGDECIMAL.unchecked();
+
+    /**
+     * Create a {@code PreparedStatement} injector for decimal values given as unscaled long values with a fixed scale.
+     * @param scale     the scale
+     * @return          the injector
+     * @see CheckedPreparedStatementInjectors#unscaledDecimal
+     */
+    public static LongInjectorByIndex<PreparedStatement> unscaledDecimal(int scale) {
+        return CheckedPreparedStatementInjectors.unscaledDecimal(scale).unchecked();
+    }
+
+    /**
+     * A {@code PreparedStatement} injector for byte array values.
+     */
+    public static final InjectorByIndex<PreparedStatement, byte[]> BYTES =
+            CheckedPreparedStatementInjectors.BYTES.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional byte array values.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<byte[]>> OPT_BYTES =
+            CheckedPreparedStatementInjectors.OPT_BYTES.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for {@link UUID} values, as 16-byte binary values,
+     * most significant byte first.
+     */
+    public static final InjectorByIndex<PreparedStatement, UUID> UUID_BYTES =
+            CheckedPreparedStatementInjectors.UUID_BYTES.unchecked();
+
+    /**
+     * A {@code PreparedStatement} injector for optional {@code UUID} values, as 16-byte binary values.
+     */
+    public static final InjectorByIndex<PreparedStatement, Optional<UUID>> OPT_UUID_BYTES =
+            CheckedPreparedStatementInjectors.OPT_UUID_BYTES.unchecked();
 }
@@ -0,0 +1,88 @@
+package org.typemeta.context.database;
+
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.jfr.BatchInsertEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Functions for executing a {@link PreparedStatement} with parameters supplied by an injector.
+ * <p>
+ * A {@link BatchInsertEvent} is emitted for each batch
+ * when the event is enabled in a running JFR recording.
+ */
+public abstract class PreparedStatements {
+
+    private PreparedStatements() {}
+
+    /**
+     * Inject each value into the statement as a batch entry, executing the batch every {@code batchSize} values.
+     * @param ps        the prepared statement
+     * @param injr      the parameter injector
+     * @param values    the values
+     * @param batchSize the maximum number of values per batch
+     * @param name      the name of the injector, which is reported in the JFR events
+     * @param <T>       the value type
+     * @return          the total update count, or -1 if the driver didn't report the count for some rows
+     * @throws SQLException if the statement fails
+     */
+    public static <T> long executeBatches(
+            PreparedStatement ps,
+            Injector<PreparedStatement, T> injr,
+            Iterable<? extends T> values,
+            int batchSize,
+            String name
+    ) throws SQLException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        long total = 0;
+        BatchInsertEvent event = null;
+        int rows = 0;
+        for (T value : values) {
+            if (rows == 0) {
+                event = BatchInsertEvent.start();
+            }
+            injr.inject(ps, value).addBatch();
+            if (++rows == batchSize) {
+                total = add(total, execute(ps, event, name, rows));
+                rows = 0;
+            }
+        }
+        if (rows > 0) {
+            total = add(total, execute(ps, event, name, rows));
+        }
+        return total;
+    }
+
+    private static long execute(PreparedStatement ps, BatchInsertEvent event, String name, int rows)
+            throws SQLException {
+        long count = -1;
+        try {
+            count = sum(ps.executeBatch());
+            return count;
+        } finally {
+            if (event != null) {
+                event.finish(name, rows, count);
+            }
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            if (count < 0) {
+                // Statement.SUCCESS_NO_INFO or Statement.EXECUTE_FAILED.
+                return -1;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    private static long add(long total, long count) {
+        return total < 0 || count < 0 ? -1 : total + count;
+    }
+}
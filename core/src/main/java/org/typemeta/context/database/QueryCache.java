@@ -0,0 +1,494 @@
+package org.typemeta.context.database;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.injectors.Injector;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache for the results of database queries.
+ * <p>
+ * A {@link Query} describes the SQL, an injector for the query parameters,
+ * and an extractor for the result rows.
+ * The cache stores the extracted rows for each query and parameter value,
+ * so query objects should be held in constants, and parameter values should have value-based equality.
+ * <p>
+ * Entries expire after a fixed time-to-live, and the least recently used entries are evicted
+ * once the total weight of the cache exceeds its maximum.
+ * By default the weight of an entry is 1, so the maximum is a number of entries,
+ * but a {@link Weigher} can be supplied to bound the cache by, for example, an estimate of its size in bytes.
+ * <p>
+ * Concurrent requests for an entry which is not cached result in a single query,
+ * the result of which is shared by all the requesting threads.
+ * Invalidating an entry also supersedes any load of it which is in flight:
+ * the result of that load is still returned to the threads already waiting for it, but is not cached,
+ * and subsequent requests execute the query afresh.
+ * <pre>{@code
+ * static final QueryCache.Query<String, Rate> RATES = QueryCache.Query.of(
+ *         "SELECT * FROM rates WHERE ccy = ?",
+ *         PreparedStatementInjectors.STRING.bind(1),
+ *         RATE_EXTRACTOR
+ * );
+ *
+ * final QueryCache cache = QueryCache.create(Duration.ofMinutes(5), 10_000);
+ * final List<Rate> rates = cache.get(conn, RATES, "GBP");
+ * }</pre>
+ */
+public final class QueryCache {
+
+    /**
+     * A cacheable query, consisting of the SQL, the parameter injector and the row extractor.
+     * @param <P>       the query parameter type
+     * @param <T>       the row type
+     */
+    public static final class Query<P, T> {
+        /**
+         * Create a query.
+         * @param sql       the SQL
+         * @param injr      the injector for the query parameters
+         * @param extr      the extractor for each result row
+         * @param <P>       the query parameter type
+         * @param <T>       the row type
+         * @return          the query
+         */
+        public static <P, T> Query<P, T> of(
+                String sql,
+                Injector<PreparedStatement, P> injr,
+                Extractor<ResultSet, T> extr
+        ) {
+            return new Query<>(sql, injr, extr);
+        }
+
+        private final String sql;
+        private final Injector<PreparedStatement, P> injr;
+        private final Extractor<ResultSet, T> extr;
+
+        private Query(String sql, Injector<PreparedStatement, P> injr, Extractor<ResultSet, T> extr) {
+            this.sql = Objects.requireNonNull(sql);
+            this.injr = Objects.requireNonNull(injr);
+            this.extr = Objects.requireNonNull(extr);
+        }
+
+        /**
+         * @return          the SQL
+         */
+        public String sql() {
+            return sql;
+        }
+
+        /**
+         * Execute the query, without caching.
+         * @param conn      the database connection
+         * @param params    the query parameters
+         * @return          the extracted rows
+         * @throws SQLException if the query fails
+         */
+        public List<T> execute(Connection conn, P params) throws SQLException {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                injr.inject(ps, params);
+                try (ResultSet rs = ps.executeQuery()) {
+                    final List<T> rows = new ArrayList<>();
+                    while (rs.next()) {
+                        rows.add(extr.extract(rs));
+                    }
+                    return rows;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Query{" + sql + "}";
+        }
+    }
+
+    /**
+     * A function to compute the weight of a cache entry.
+     */
+    @FunctionalInterface
+    public interface Weigher {
+        /**
+         * Compute the weight of the given result rows.
+         * @param rows      the rows
+         * @return          the weight, which must be non-negative
+         */
+        long weigh(List<?> rows);
+    }
+
+    /**
+     * A snapshot of the cache statistics.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long loadFailures;
+        private final long totalLoadNanos;
+        private final long evictions;
+
+        Stats(long hits, long misses, long loads, long loadFailures, long totalLoadNanos, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.loadFailures = loadFailures;
+            this.totalLoadNanos = totalLoadNanos;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return          the number of requests served from the cache
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * @return          the number of requests not served from the cache,
+         *                  including those which waited for a concurrent load
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * @return          the number of queries executed, including failed ones
+         */
+        public long loads() {
+            return loads;
+        }
+
+        /**
+         * @return          the number of queries which failed
+         */
+        public long loadFailures() {
+            return loadFailures;
+        }
+
+        /**
+         * @return          the total time spent executing queries, in nanoseconds
+         */
+        public long totalLoadNanos() {
+            return totalLoadNanos;
+        }
+
+        /**
+         * @return          the number of entries evicted to keep within the maximum weight
+         */
+        public long evictions() {
+            return evictions;
+        }
+
+        /**
+         * @return          the ratio of hits to requests, or 1 if there have been no requests
+         */
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double)hits / requests;
+        }
+
+        /**
+         * @return          the average query time in nanoseconds, or 0 if there have been no queries
+         */
+        public double averageLoadNanos() {
+            return loads == 0 ? 0.0 : (double)totalLoadNanos / loads;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hits=" + hits +
+                    ", misses=" + misses +
+                    ", loads=" + loads +
+                    ", loadFailures=" + loadFailures +
+                    ", totalLoadNanos=" + totalLoadNanos +
+                    ", evictions=" + evictions +
+                    '}';
+        }
+    }
+
+    /**
+     * Create a cache bounded by the number of entries.
+     * @param ttl           the time-to-live of each entry
+     * @param maxEntries    the maximum number of entries
+     * @return              the cache
+     */
+    public static QueryCache create(Duration ttl, long maxEntries) {
+        return new QueryCache(ttl, maxEntries, rows -> 1, System::nanoTime);
+    }
+
+    /**
+     * Create a cache bounded by the total weight of the entries.
+     * @param ttl           the time-to-live of each entry
+     * @param maxWeight     the maximum total weight
+     * @param weigher       the function to compute the weight of each entry
+     * @return              the cache
+     */
+    public static QueryCache create(Duration ttl, long maxWeight, Weigher weigher) {
+        return new QueryCache(ttl, maxWeight, weigher, System::nanoTime);
+    }
+
+    private static final class Key {
+        final Query<?, ?> query;
+        final Object params;
+        final int hash;
+
+        Key(Query<?, ?> query, Object params) {
+            this.query = query;
+            this.params = params;
+            this.hash = 31 * System.identityHashCode(query) + Objects.hashCode(params);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key rhs = (Key)obj;
+            return query == rhs.query && Objects.equals(params, rhs.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        final List<?> rows;
+        final long weight;
+        final long expiry;
+
+        Entry(List<?> rows, long weight, long expiry) {
+            this.rows = rows;
+            this.weight = weight;
+            this.expiry = expiry;
+        }
+    }
+
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final Weigher weigher;
+    private final LongSupplier ticker;
+
+    // Guarded by this. An access-ordered map, so iteration starts with the least recently used entry.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<List<?>>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    QueryCache(Duration ttl, long maxWeight, Weigher weigher, LongSupplier ticker) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        } else if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maxWeight);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Return the rows for the given query and parameters,
+     * either from the cache or, if they are not cached or have expired, by executing the query.
+     * @param conn      the connection used if the query is executed
+     * @param query     the query
+     * @param params    the query parameters
+     * @param <P>       the query parameter type
+     * @param <T>       the row type
+     * @return          the unmodifiable list of rows
+     * @throws RuntimeException if the query fails, wrapping any {@link SQLException}
+     */
+    public <P, T> List<T> get(Connection conn, Query<P, T> query, P params) {
+        final Key key = new Key(query, params);
+        final List<T> cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        final CompletableFuture<List<?>> future = new CompletableFuture<>();
+        final CompletableFuture<List<?>> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            // Another thread may have completed a load between the lookup and registering this load.
+            List<T> rows = lookup(key);
+            if (rows == null) {
+                rows = load(conn, query, params);
+                store(key, future, rows);
+            }
+            future.complete(rows);
+            return rows;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> lookup(Key key) {
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            } else if (ticker.getAsLong() - entry.expiry >= 0) {
+                entries.remove(key);
+                totalWeight -= entry.weight;
+                return null;
+            } else {
+                return (List<T>)entry.rows;
+            }
+        }
+    }
+
+    private <P, T> List<T> load(Connection conn, Query<P, T> query, P params) {
+        loads.increment();
+        final long start = ticker.getAsLong();
+        try {
+            return Collections.unmodifiableList(query.execute(conn, params));
+        } catch (SQLException ex) {
+            loadFailures.increment();
+            throw new RuntimeException(ex);
+        } catch (RuntimeException ex) {
+            loadFailures.increment();
+            throw ex;
+        } finally {
+            totalLoadNanos.add(ticker.getAsLong() - start);
+        }
+    }
+
+    private void store(Key key, CompletableFuture<List<?>> future, List<?> rows) {
+        final long weight = weigher.weigh(rows);
+        if (weight < 0) {
+            throw new IllegalStateException("Negative weight " + weight + " for " + key.query);
+        }
+
+        synchronized (this) {
+            // The invalidate methods remove the loads they supersede, under the same lock.
+            if (loading.get(key) != future) {
+                return;
+            }
+
+            final Entry prev = entries.put(key, new Entry(rows, weight, ticker.getAsLong() + ttlNanos));
+            if (prev != null) {
+                totalWeight -= prev.weight;
+            }
+            totalWeight += weight;
+
+            final Iterator<Map.Entry<Key, Entry>> iter = entries.entrySet().iterator();
+            while (totalWeight > maxWeight && iter.hasNext()) {
+                final Map.Entry<Key, Entry> eldest = iter.next();
+                totalWeight -= eldest.getValue().weight;
+                iter.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> await(CompletableFuture<List<?>> future) {
+        try {
+            return (List<T>)future.join();
+        } catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Remove the cached rows for the given query and parameters.
+     * A load of the rows which is in flight is superseded, and its result won't be cached.
+     * @param query     the query
+     * @param params    the query parameters
+     */
+    public synchronized void invalidate(Query<?, ?> query, Object params) {
+        final Key key = new Key(query, params);
+        loading.remove(key);
+        final Entry entry = entries.remove(key);
+        if (entry != null) {
+            totalWeight -= entry.weight;
+        }
+    }
+
+    /**
+     * Remove the cached rows for all parameter values of the given query.
+     * Loads of the query which are in flight are superseded, and their results won't be cached.
+     * @param query     the query
+     */
+    public synchronized void invalidateAll(Query<?, ?> query) {
+        loading.keySet().removeIf(key -> key.query == query);
+        final Iterator<Map.Entry<Key, Entry>> iter = entries.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<Key, Entry> entry = iter.next();
+            if (entry.getKey().query == query) {
+                totalWeight -= entry.getValue().weight;
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove all cached rows.
+     * Loads which are in flight are superseded, and their results won't be cached.
+     */
+    public synchronized void invalidateAll() {
+        loading.clear();
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * @return          the number of cached entries, including any which have expired but not yet been removed
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return          the total weight of the cached entries
+     */
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * @return          a snapshot of the cache statistics
+     */
+    public Stats stats() {
+        return new Stats(
+                hits.sum(),
+                misses.sum(),
+                loads.sum(),
+                loadFailures.sum(),
+                totalLoadNanos.sum(),
+                evictions.sum()
+        );
+    }
+}
@@ -5,6 +5,10 @@
 import org.typemeta.context.extractors.byname.IntExtractorByName;
 import org.typemeta.context.extractors.byname.LongExtractorByName;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +17,7 @@
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * A set of extractors for extracting values from database {@link ResultSet} objects.
@@ -214,4 +219,139 @@ public static <T> ExtractorByName<ResultSet, Optional<T>> optional(ExtractorByNa
      */
     public static final ExtractorByName<ResultSet, Optional<LocalDateTime>> OPT_LOCALDATETIME =
             CheckedResultSetExtractors.OPT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalDate} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedResultSetExtractors#direct
+     */
+    public static final ExtractorByName<ResultSet, LocalDate> DIRECT_LOCALDATE =
+            CheckedResultSetExtractors.DIRECT_LOCALDATE.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalDate} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final ExtractorByName<ResultSet, Optional<LocalDate>> OPT_DIRECT_LOCALDATE =
+            CheckedResultSetExtractors.OPT_DIRECT_LOCALDATE.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalTime} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedResultSetExtractors#direct
+     */
+    public static final ExtractorByName<ResultSet, LocalTime> DIRECT_LOCALTIME =
+            CheckedResultSetExtractors.DIRECT_LOCALTIME.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalTime} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final ExtractorByName<ResultSet, Optional<LocalTime>> OPT_DIRECT_LOCALTIME =
+            CheckedResultSetExtractors.OPT_DIRECT_LOCALTIME.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link LocalDateTime} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     * @see CheckedResultSetExtractors#direct
+     */
+    public static final ExtractorByName<ResultSet, LocalDateTime> DIRECT_LOCALDATETIME =
+            CheckedResultSetExtractors.DIRECT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code LocalDateTime} values,
+     * which extracts the values directly where the driver supports JDBC 4.2 conversions.
+     */
+    public static final ExtractorByName<ResultSet, Optional<LocalDateTime>> OPT_DIRECT_LOCALDATETIME =
+            CheckedResultSetExtractors.OPT_DIRECT_LOCALDATETIME.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for binary values, as an {@link InputStream} which reads the value incrementally.
+     * The stream is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName<ResultSet, InputStream> BINARY_STREAM =
+            CheckedResultSetExtractors.BINARY_STREAM.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for binary values, as a {@link ReadableByteChannel} which reads the value incrementally.
+     * The channel is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName<ResultSet, ReadableByteChannel> BYTE_CHANNEL =
+            CheckedResultSetExtractors.BYTE_CHANNEL.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for character values, as a {@link Reader} which reads the value incrementally.
+     * The reader is only valid until the cursor is moved.
+     */
+    public static final ExtractorByName<ResultSet, Reader> CHARACTER_STREAM =
+            CheckedResultSetExtractors.CHARACTER_STREAM.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link Blob} values.
+     */
+    public static final ExtractorByName<ResultSet, Blob> BLOB =
+            CheckedResultSetExtractors.BLOB.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link Clob} values.
+     */
+    public static final ExtractorByName<ResultSet, Clob> CLOB =
+            CheckedResultSetExtractors.CLOB.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link BigDecimal} values.
+     */
+    public static final ExtractorByName<ResultSet, BigDecimal> BIGDECIMAL =
+            CheckedResultSetExtractors.BIGDECIMAL.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code BigDecimal} values.
+     */
+    public static final ExtractorByName<ResultSet, Optional<BigDecimal>> OPT_BIGDECIMAL =
+            CheckedResultSetExtractors.OPT_BIGDECIMAL.unchecked();
+
+    /**
+     * Create a {@code ResultSet} extractor for decimal values as unscaled long values with a fixed scale.
+     * @param scale     the scale
+     * @return          the extractor
+     * @see CheckedResultSetExtractors#unscaledDecimal
+     */
+    public static LongExtractorByName<ResultSet> unscaledDecimal(int scale) {
+        return CheckedResultSetExtractors.unscaledDecimal(scale).unchecked();
+    }
+
+    /**
+     * Create a {@code ResultSet} extractor for optional decimal values as unscaled long values with a fixed scale.
+     * @param scale     the scale
+     * @return          the extractor
+     * @see CheckedResultSetExtractors#optUnscaledDecimal
+     */
+    public static ExtractorByName<ResultSet, OptionalLong> optUnscaledDecimal(int scale) {
+        return CheckedResultSetExtractors.optUnscaledDecimal(scale).unchecked();
+    }
+
+    /**
+     * A {@code ResultSet} extractor for byte array values.
+     */
+    public static final ExtractorByName<ResultSet, byte[]> BYTES =
+            CheckedResultSetExtractors.BYTES.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional byte array values.
+     */
+    public static final ExtractorByName<ResultSet, Optional<byte[]>> OPT_BYTES =
+            CheckedResultSetExtractors.OPT_BYTES.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for {@link UUID} values stored as 16-byte binary values,
+     * most significant byte first.
+     */
+    public static final ExtractorByName<ResultSet, UUID> UUID_BYTES =
+            CheckedResultSetExtractors.UUID_BYTES.unchecked();
+
+    /**
+     * A {@code ResultSet} extractor for optional {@code UUID} values stored as 16-byte binary values.
+     */
+    public static final ExtractorByName<ResultSet, Optional<UUID>> OPT_UUID_BYTES =
+            CheckedResultSetExtractors.OPT_UUID_BYTES.unchecked();
 }
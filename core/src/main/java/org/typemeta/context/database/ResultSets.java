@@ -0,0 +1,151 @@
+package org.typemeta.context.database;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.jfr.ResultSetChunkEvent;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Functions for applying an extractor to each row of a {@link ResultSet}.
+ * <p>
+ * Rows are processed in chunks, and a {@link ResultSetChunkEvent} is emitted for each chunk
+ * when the event is enabled in a running JFR recording.
+ * The chunk size is the fetch size of the result set, if set, and otherwise {@link #DEFAULT_CHUNK_ROWS}.
+ */
+public abstract class ResultSets {
+
+    private ResultSets() {}
+
+    /**
+     * The chunk size used if the result set doesn't specify a fetch size.
+     */
+    public static final int DEFAULT_CHUNK_ROWS = 1000;
+
+    /**
+     * Create a stream of the values extracted from each remaining row of a result set.
+     * The stream does not close the result set.
+     * @param rs        the result set
+     * @param extr      the row extractor
+     * @param name      the name of the row extractor, which is reported in the JFR events
+     * @param <T>       the extracted value type
+     * @return          the stream of extracted values
+     * @throws RuntimeException if the result set fails, wrapping the {@link SQLException}
+     */
+    public static <T> Stream<T> stream(ResultSet rs, Extractor<ResultSet, T> extr, String name) {
+        final Spliterator<T> split = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            final int chunkRows = chunkRows(rs);
+            ResultSetChunkEvent event;
+            int rows;
+            boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (done) {
+                    return false;
+                } else if (rows == 0) {
+                    event = ResultSetChunkEvent.start();
+                }
+
+                try {
+                    if (!rs.next()) {
+                        done = true;
+                        endChunk();
+                        return false;
+                    }
+                } catch (SQLException ex) {
+                    throw new RuntimeException(ex);
+                }
+
+                action.accept(extr.extract(rs));
+                if (++rows == chunkRows) {
+                    endChunk();
+                }
+                return true;
+            }
+
+            private void endChunk() {
+                if (event != null && rows > 0) {
+                    event.finish(name, rows);
+                }
+                event = null;
+                rows = 0;
+            }
+        };
+        return StreamSupport.stream(split, false);
+    }
+
+    /**
+     * Apply an action to the value extracted from each remaining row of a result set.
+     * @param rs        the result set
+     * @param extr      the row extractor
+     * @param name      the name of the row extractor, which is reported in the JFR events
+     * @param action    the action to apply to each value
+     * @param <T>       the extracted value type
+     * @return          the number of rows
+     * @throws SQLException if the result set fails
+     */
+    public static <T> long forEach(
+            ResultSet rs,
+            Extractor<ResultSet, T> extr,
+            String name,
+            Consumer<? super T> action
+    ) throws SQLException {
+        final int chunkRows = chunkRows(rs);
+        long total = 0;
+        while (true) {
+            final ResultSetChunkEvent event = ResultSetChunkEvent.start();
+            int rows = 0;
+            try {
+                while (rows < chunkRows && rs.next()) {
+                    action.accept(extr.extract(rs));
+                    ++rows;
+                }
+            } finally {
+                if (event != null && rows > 0) {
+                    event.finish(name, rows);
+                }
+            }
+            total += rows;
+            if (rows < chunkRows) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Extract each remaining row of a result set into the same target object, and apply an action to it.
+     * The target is only valid for the duration of each call to the action.
+     * @param rs        the result set
+     * @param into      the row extract-into extractor
+     * @param target    the recycled target
+     * @param name      the name of the row extractor, which is reported in the JFR events
+     * @param action    the action to apply to the target after each row
+     * @param <T>       the target type
+     * @return          the number of rows
+     * @throws SQLException if the result set fails
+     */
+    public static <T> long forEach(
+            ResultSet rs,
+            Extractor.Into<ResultSet, T> into,
+            T target,
+            String name,
+            Consumer<? super T> action
+    ) throws SQLException {
+        return forEach(rs, into.recycling(target), name, action);
+    }
+
+    private static int chunkRows(ResultSet rs) {
+        try {
+            final int fetchSize = rs.getFetchSize();
+            return fetchSize > 0 ? fetchSize : DEFAULT_CHUNK_ROWS;
+        } catch (SQLException ex) {
+            return DEFAULT_CHUNK_ROWS;
+        }
+    }
+}
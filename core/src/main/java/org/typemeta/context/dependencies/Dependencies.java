@@ -0,0 +1,187 @@
+package org.typemeta.context.dependencies;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * The names and indices an extractor reads from, or an injector writes to, its context.
+ * <p>
+ * Extractors and injectors constructed by binding a by-name or by-index extractor or injector
+ * report the name or index they are bound to.
+ * Combinators such as {@code map}, {@code premap} and {@code combine} propagate the dependencies of their components.
+ * Extractors and injectors defined directly as lambdas have {@link #UNKNOWN} dependencies,
+ * as there is no way to determine what they read or write.
+ * <p>
+ * A {@code Dependencies} value is complete if all of its components reported their dependencies,
+ * in which case the names and indices are exactly the ones the extractor or injector touches.
+ * Otherwise the names and indices are a subset of the ones it touches.
+ */
+public final class Dependencies {
+
+    /**
+     * The dependencies of an extractor or injector which reads or writes nothing, such as a constant extractor.
+     */
+    public static final Dependencies NONE = new Dependencies(Collections.emptySet(), Collections.emptySet(), true);
+
+    /**
+     * The dependencies of an extractor or injector which are not known.
+     */
+    public static final Dependencies UNKNOWN = new Dependencies(Collections.emptySet(), Collections.emptySet(), false);
+
+    /**
+     * Create the dependencies for a single name.
+     * @param name      the name
+     * @return          the dependencies
+     */
+    public static Dependencies name(String name) {
+        return new Dependencies(Collections.singleton(name), Collections.emptySet(), true);
+    }
+
+    /**
+     * Create the dependencies for a single index.
+     * @param index     the index
+     * @return          the dependencies
+     */
+    public static Dependencies index(int index) {
+        return new Dependencies(Collections.emptySet(), Collections.singleton(index), true);
+    }
+
+    /**
+     * Create the dependencies for a set of names.
+     * @param names     the names
+     * @return          the dependencies
+     */
+    public static Dependencies names(String... names) {
+        return new Dependencies(new LinkedHashSet<>(Arrays.asList(names)), Collections.emptySet(), true);
+    }
+
+    /**
+     * Create the dependencies for a set of indices.
+     * @param indices   the indices
+     * @return          the dependencies
+     */
+    public static Dependencies indices(int... indices) {
+        final Set<Integer> set = new TreeSet<>();
+        for (int index : indices) {
+            set.add(index);
+        }
+        return new Dependencies(Collections.emptySet(), set, true);
+    }
+
+    /**
+     * Combine a set of dependencies.
+     * The result is complete only if every one of the dependencies is complete.
+     * @param deps      the dependencies
+     * @return          the combined dependencies
+     */
+    public static Dependencies union(Dependencies... deps) {
+        return union(Arrays.asList(deps));
+    }
+
+    /**
+     * Combine a set of dependencies.
+     * The result is complete only if every one of the dependencies is complete.
+     * @param deps      the dependencies
+     * @return          the combined dependencies
+     */
+    public static Dependencies union(Iterable<Dependencies> deps) {
+        final Set<String> names = new LinkedHashSet<>();
+        final Set<Integer> indices = new TreeSet<>();
+        boolean complete = true;
+        for (Dependencies dep : deps) {
+            names.addAll(dep.names);
+            indices.addAll(dep.indices);
+            complete &= dep.complete;
+        }
+
+        if (names.isEmpty() && indices.isEmpty()) {
+            return complete ? NONE : UNKNOWN;
+        } else {
+            return new Dependencies(names, indices, complete);
+        }
+    }
+
+    /**
+     * Attach dependencies to a derived extractor or injector, unless they are {@link #UNKNOWN},
+     * in which case the target is returned as is.
+     * Decorators and combinators use this to propagate the dependencies of the extractors or injectors they wrap.
+     * @param deps      the dependencies
+     * @param target    the derived extractor or injector
+     * @param with      the target's {@code withDependencies} method
+     * @param <T>       the extractor or injector type
+     * @return          the target, with the dependencies
+     */
+    public static <T> T propagate(Dependencies deps, T target, BiFunction<? super T, Dependencies, ? extends T> with) {
+        return deps == UNKNOWN ? target : with.apply(target, deps);
+    }
+
+    private final Set<String> names;
+    private final Set<Integer> indices;
+    private final boolean complete;
+
+    private Dependencies(Set<String> names, Set<Integer> indices, boolean complete) {
+        this.names = Collections.unmodifiableSet(names);
+        this.indices = Collections.unmodifiableSet(indices);
+        this.complete = complete;
+    }
+
+    /**
+     * Return the names, in the order they were first encountered.
+     * @return          the names
+     */
+    public Set<String> names() {
+        return names;
+    }
+
+    /**
+     * Return the indices, in ascending order.
+     * @return          the indices
+     */
+    public Set<Integer> indices() {
+        return indices;
+    }
+
+    /**
+     * Check whether these dependencies are complete,
+     * i.e. whether every component of the extractor or injector reported its dependencies.
+     * @return          true if the dependencies are complete
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Combine these dependencies with another set.
+     * @param other     the other dependencies
+     * @return          the combined dependencies
+     */
+    public Dependencies and(Dependencies other) {
+        return union(this, other);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        } else {
+            final Dependencies rhs = (Dependencies) obj;
+            return complete == rhs.complete && names.equals(rhs.names) && indices.equals(rhs.indices);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(names, indices, complete);
+    }
+
+    @Override
+    public String toString() {
+        return "Dependencies{" +
+                "names=" + names +
+                ", indices=" + indices +
+                ", complete=" + complete +
+                '}';
+    }
+}
@@ -1,10 +1,14 @@
 package org.typemeta.context.extractors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
 
 /**
  * A specialisation of {@link Extractor} for double values.
@@ -53,6 +57,22 @@ default Double extract(CTX ctx) {
         return extractDouble(ctx);
     }
 
+    @Override
+    default DoubleExtractor<CTX> withDependencies(Dependencies deps) {
+        final DoubleExtractor<CTX> self = this;
+        return new DoubleExtractor<CTX>() {
+            @Override
+            public double extractDouble(CTX ctx) {
+                return self.extractDouble(ctx);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     @Override
     default <U> Extractor<CTX, U> map(Functions.F<Double, U> f) {
         return mapDouble(f::apply);
@@ -65,7 +85,8 @@ default <U> Extractor<CTX, U> map(Functions.F<Double, U> f) {
      * @return          the mapped extractor
      */
     default <U> Extractor<CTX, U> mapDouble(DoubleFunction<U> f) {
-        return ctx -> f.apply(extractDouble(ctx));
+        final Extractor<CTX, U> extr = ctx -> f.apply(extractDouble(ctx));
+        return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
     }
 
     @Override
@@ -74,6 +95,26 @@ default Extractor<CTX, Optional<Double>> optional() {
         throw new RuntimeException("Cannot construct an optional extractor from a DoubleExtractor");
     }
 
+    /**
+     * A variant of the {@link Extractor#into} method specialised for double values,
+     * which sets the value on the target without boxing it.
+     * @param setter    the function which sets the value on the target
+     * @param <R>       the target type
+     * @return          the extract-into extractor
+     */
+    default <R> Extractor.Into<CTX, R> intoDouble(ObjDoubleConsumer<? super R> setter) {
+        final Extractor.Into<CTX, R> into = (ctx, target) -> setter.accept(target, extractDouble(ctx));
+        return Dependencies.propagate(dependencies(), into, Extractor.Into::withDependencies);
+    }
+
+    @Override
+    default DoubleExtractor<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.DoubleExtraction<CTX, Void> call = (ctx, unused) -> extractDouble(ctx);
+        final DoubleExtractor<CTX> extr = ctx -> Timing.extractDouble(rec, call, ctx, null);
+        return Dependencies.propagate(dependencies(), extr, DoubleExtractor::withDependencies);
+    }
+
     /**
      * A specialisation of {@link Extractor.Checked} for double values.
      * @param <CTX>     the context type
@@ -1,8 +1,12 @@
 package org.typemeta.context.extractors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -40,7 +44,7 @@ static <CTX> Extractor<CTX, CTX> id() {
      * @return          the extractor
      */
     static <CTX, T> Extractor<CTX, T> konst(T t) {
-        return ctx -> t;
+        return Extractor.<CTX, T>of(ctx -> t).withDependencies(Dependencies.NONE);
     }
 
     /**
@@ -50,6 +54,34 @@ static <CTX, T> Extractor<CTX, T> konst(T t) {
      */
     T extract(CTX ctx);
 
+    /**
+     * Return the names and indices this extractor reads from the context.
+     * @return          the dependencies
+     */
+    default Dependencies dependencies() {
+        return Dependencies.UNKNOWN;
+    }
+
+    /**
+     * Return an extractor equivalent to this one, which reports the given dependencies.
+     * @param deps      the dependencies
+     * @return          the new extractor
+     */
+    default Extractor<CTX, T> withDependencies(Dependencies deps) {
+        final Extractor<CTX, T> self = this;
+        return new Extractor<CTX, T>() {
+            @Override
+            public T extract(CTX ctx) {
+                return self.extract(ctx);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     /**
      * Map a function over this extractor.
      * @param f         the function
@@ -57,7 +89,8 @@ static <CTX, T> Extractor<CTX, T> konst(T t) {
      * @return          the new extractor
      */
     default <U> Extractor<CTX, U> map(Functions.F<T, U> f) {
-        return ctx -> f.apply(extract(ctx));
+        final Extractor<CTX, U> extr = ctx -> f.apply(extract(ctx));
+        return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
     }
 
     /**
@@ -90,6 +123,179 @@ default Extractor<CTX, Optional<T>> optional() {
         return map(Optional::ofNullable);
     }
 
+    /**
+     * Return an extractor equivalent to this one,
+     * which reports the count, failures and latency of its invocations to a {@link MetricsSink}.
+     * @param name      the metric name
+     * @param sink      the metrics sink
+     * @return          the instrumented extractor
+     */
+    default Extractor<CTX, T> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.Extraction<CTX, Void, T> call = (ctx, unused) -> extract(ctx);
+        final Extractor<CTX, T> extr = ctx -> Timing.extract(rec, call, ctx, null);
+        return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
+    }
+
+    /**
+     * Return an extractor equivalent to this one,
+     * which is evaluated at most once per row of the {@link RowScope#DEFAULT default} row scope.
+     * This is intended for extractors which are created once, e.g. held in constants,
+     * and boxes the values of primitive extractors.
+     * @return          the memoized extractor
+     * @see RowScope#memoize
+     */
+    default Extractor<CTX, T> memoized() {
+        return RowScope.DEFAULT.memoize(this);
+    }
+
+    /**
+     * Convert this extractor into one which defers evaluation until the value is first requested.
+     * @return          the lazy extractor
+     * @see RowScope#lazy
+     */
+    default Extractor<CTX, RowScope.Lazy<T>> lazy() {
+        return RowScope.DEFAULT.lazy(this);
+    }
+
+    /**
+     * Return an extractor equivalent to this one,
+     * each invocation of which is a row of the {@link RowScope#DEFAULT default} row scope.
+     * @return          the scoped extractor
+     * @see RowScope#scoped
+     */
+    default Extractor<CTX, T> rowScoped() {
+        return RowScope.DEFAULT.scoped(this);
+    }
+
+    /**
+     * Convert this extractor into one which sets the extracted value on a mutable target object.
+     * @param setter    the function which sets the value on the target
+     * @param <R>       the target type
+     * @return          the extract-into extractor
+     */
+    default <R> Into<CTX, R> into(BiConsumer<? super R, ? super T> setter) {
+        final Into<CTX, R> into = (ctx, target) -> setter.accept(target, extract(ctx));
+        return Dependencies.propagate(dependencies(), into, Into::withDependencies);
+    }
+
+    /**
+     * A function which extracts values from a context into an existing mutable target object,
+     * as an alternative to an {@code Extractor} which creates a new value for each context.
+     * This allows, for example, a stream of rows to be decoded into a single recycled object.
+     * <p>
+     * Field-level instances can be created from extractors via {@link Extractor#into}
+     * (or {@code intoInt}, {@code intoLong} and {@code intoDouble} for the primitive extractors,
+     * which avoid boxing), and combined using {@link IntoExtractors#combine}.
+     * @param <CTX>     the context type
+     * @param <T>       the target type
+     */
+    @FunctionalInterface
+    interface Into<CTX, T> {
+        /**
+         * Static constructor.
+         * @param into      the extract-into function
+         * @param <CTX>     the context type
+         * @param <T>       the target type
+         * @return          the extract-into function
+         */
+        static <CTX, T> Into<CTX, T> of(Into<CTX, T> into) {
+            return into;
+        }
+
+        /**
+         * Extract values from the context into the target.
+         * @param ctx       the context
+         * @param target    the target
+         */
+        void extractInto(CTX ctx, T target);
+
+        /**
+         * Return the names and indices this extractor reads from the context.
+         * @return          the dependencies
+         */
+        default Dependencies dependencies() {
+            return Dependencies.UNKNOWN;
+        }
+
+        /**
+         * Return an extractor equivalent to this one, which reports the given dependencies.
+         * @param deps      the dependencies
+         * @return          the new extractor
+         */
+        default Into<CTX, T> withDependencies(Dependencies deps) {
+            final Into<CTX, T> self = this;
+            return new Into<CTX, T>() {
+                @Override
+                public void extractInto(CTX ctx, T target) {
+                    self.extractInto(ctx, target);
+                }
+
+                @Override
+                public Dependencies dependencies() {
+                    return deps;
+                }
+            };
+        }
+
+        /**
+         * Convert this into an extractor which extracts into a new target object for each context.
+         * @param ctor      the target constructor
+         * @return          the extractor
+         */
+        default Extractor<CTX, T> toExtractor(Functions.F0<? extends T> ctor) {
+            final Extractor<CTX, T> extr = ctx -> {
+                final T target = ctor.apply();
+                extractInto(ctx, target);
+                return target;
+            };
+            return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
+        }
+
+        /**
+         * Convert this into an extractor which extracts into, and returns, the same target object for every context.
+         * Each value returned by the extractor is only valid until the extractor is next called,
+         * and the extractor must not be used concurrently.
+         * @param target    the recycled target
+         * @return          the extractor
+         */
+        default Extractor<CTX, T> recycling(T target) {
+            final Extractor<CTX, T> extr = ctx -> {
+                extractInto(ctx, target);
+                return target;
+            };
+            return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
+        }
+
+        /**
+         * Convert this into an extractor which extracts into each of a pool of target objects in turn.
+         * Each value returned by the extractor remains valid until the extractor has been called
+         * a further {@code size} times, so, for example, a window of the last {@code size} rows can be retained.
+         * The extractor must not be used concurrently.
+         * @param ctor      the target constructor, used to create the pool
+         * @param size      the pool size
+         * @return          the extractor
+         */
+        default Extractor<CTX, T> pooled(Functions.F0<? extends T> ctor, int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Pool size must be positive: " + size);
+            }
+            final Object[] pool = new Object[size];
+            for (int i = 0; i < size; ++i) {
+                pool[i] = ctor.apply();
+            }
+            final int[] next = {0};
+            final Extractor<CTX, T> extr = ctx -> {
+                @SuppressWarnings("unchecked")
+                final T target = (T)pool[next[0]];
+                next[0] = next[0] + 1 == size ? 0 : next[0] + 1;
+                extractInto(ctx, target);
+                return target;
+            };
+            return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
+        }
+    }
+
     /**
      * A function to extract a value from an context, which may throw a checked exception.
      * @param <CTX>     the context type
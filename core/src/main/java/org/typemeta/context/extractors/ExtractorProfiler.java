@@ -0,0 +1,362 @@
+package org.typemeta.context.extractors;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.utils.ThreadAllocation;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A profiler which attributes the time and allocation of a composite extractor to its components.
+ * <p>
+ * Each extractor of interest is wrapped using {@link #profile}.
+ * Profiled extractors which are called from within another profiled extractor form a tree,
+ * so wrapping both a composite built with {@link Extractors#combine} and each of its component extractors
+ * gives the cost of each component, and the cost of the composite itself
+ * (i.e. the combining function plus any unprofiled components), which is reported as {@code (self)}.
+ * <pre>{@code
+ * final ExtractorProfiler prof = ExtractorProfiler.create(100_000, report -> logger.info("\n{}", report));
+ * final Extractor<ResultSet, Trade> TRADE = prof.profile("trade", Extractors.combine(
+ *         prof.profile("id", ResultSetExtractors.LONG.bind("id")),
+ *         prof.profile("time", ResultSetExtractors.LOCALDATETIME.bind("time")),
+ *         prof.profile("symbol", ResultSetExtractors.STRING.bind("symbol")),
+ *         Trade::new
+ * ));
+ * }</pre>
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}, where the JVM supports it.
+ * The measurements include the overhead of the profiling itself,
+ * so the profiled extractors should be used for diagnosis only.
+ */
+public final class ExtractorProfiler {
+
+    /**
+     * Create a profiler which only reports on request, via {@link #report}.
+     * @return          the profiler
+     */
+    public static ExtractorProfiler create() {
+        return new ExtractorProfiler(0, report -> {});
+    }
+
+    /**
+     * Create a profiler which passes a report to the listener after every {@code rows} top-level extractions.
+     * @param rows      the number of rows between reports
+     * @param listener  the report listener
+     * @return          the profiler
+     */
+    public static ExtractorProfiler create(long rows, Consumer<? super Report> listener) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Report interval must be positive: " + rows);
+        }
+        return new ExtractorProfiler(rows, listener);
+    }
+
+    /**
+     * The accumulated measurements for a profiled extractor at a position in the tree.
+     */
+    private static final class Node {
+        final String name;
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        final List<Node> order = new CopyOnWriteArrayList<>();
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        Node child(String name) {
+            final Node child = children.get(name);
+            return child != null ? child : children.computeIfAbsent(name, n -> {
+                final Node node = new Node(n);
+                order.add(node);
+                return node;
+            });
+        }
+
+        void record(long nanos, long bytes) {
+            this.calls.increment();
+            this.nanos.add(nanos);
+            this.bytes.add(bytes);
+        }
+
+        Report.Node snapshot() {
+            final List<Report.Node> kids = new ArrayList<>();
+            for (Node child : order) {
+                kids.add(child.snapshot());
+            }
+            return new Report.Node(name, calls.sum(), nanos.sum(), bytes.sum(), kids);
+        }
+    }
+
+    /**
+     * The position of the current thread in the tree, which is null outside of any profiled extractor.
+     */
+    private static final class Frame {
+        Node node;
+    }
+
+    private final long reportRows;
+    private final Consumer<? super Report> listener;
+    private final AtomicLong rows = new AtomicLong();
+    private volatile Node root = new Node("");
+    private final ThreadLocal<Frame> frames = new ThreadLocal<>();
+
+    private ExtractorProfiler(long reportRows, Consumer<? super Report> listener) {
+        this.reportRows = reportRows;
+        this.listener = listener;
+    }
+
+    /**
+     * Wrap an extractor so that its cost is recorded by this profiler.
+     * @param name      the name of the extractor in the report
+     * @param extr      the extractor
+     * @param <CTX>     the context type
+     * @param <T>       the extracted value type
+     * @return          the profiled extractor
+     */
+    public <CTX, T> Extractor<CTX, T> profile(String name, Extractor<CTX, T> extr) {
+        Objects.requireNonNull(name);
+        final Extractor<CTX, T> profiled = ctx -> {
+            Frame frame = frames.get();
+            if (frame == null) {
+                frame = new Frame();
+                frames.set(frame);
+            }
+            final boolean top = frame.node == null;
+            final Node parent = top ? root : frame.node;
+            final Node node = parent.child(name);
+            frame.node = node;
+            final long bytes = ThreadAllocation.allocatedBytes();
+            final long start = System.nanoTime();
+            try {
+                return extr.extract(ctx);
+            } finally {
+                node.record(System.nanoTime() - start, ThreadAllocation.allocatedBytes() - bytes);
+                if (top) {
+                    frame.node = null;
+                    rowCompleted();
+                } else {
+                    frame.node = parent;
+                }
+            }
+        };
+        return Dependencies.propagate(extr.dependencies(), profiled, Extractor::withDependencies);
+    }
+
+    private void rowCompleted() {
+        if (reportRows > 0 && rows.incrementAndGet() % reportRows == 0) {
+            listener.accept(report());
+        }
+    }
+
+    /**
+     * Take a snapshot of the measurements recorded so far.
+     * @return          the report
+     */
+    public Report report() {
+        return new Report(root.snapshot().children(), ThreadAllocation.isSupported());
+    }
+
+    /**
+     * Discard the measurements recorded so far.
+     * Extractions in progress on other threads may be recorded against the old tree.
+     */
+    public void reset() {
+        root = new Node("");
+        rows.set(0);
+    }
+
+    /**
+     * A snapshot of the measurements of a profiler, as a tree of profiled extractors.
+     */
+    public static final class Report {
+
+        /**
+         * The measurements for a profiled extractor.
+         */
+        public static final class Node {
+            private final String name;
+            private final long calls;
+            private final long nanos;
+            private final long bytes;
+            private final List<Node> children;
+
+            Node(String name, long calls, long nanos, long bytes, List<Node> children) {
+                this.name = name;
+                this.calls = calls;
+                this.nanos = nanos;
+                this.bytes = bytes;
+                this.children = Collections.unmodifiableList(children);
+            }
+
+            /**
+             * @return          the name given to the extractor
+             */
+            public String name() {
+                return name;
+            }
+
+            /**
+             * @return          the number of calls
+             */
+            public long calls() {
+                return calls;
+            }
+
+            /**
+             * @return          the total time spent in the extractor, including its children, in nanoseconds
+             */
+            public long nanos() {
+                return nanos;
+            }
+
+            /**
+             * @return          the total number of bytes allocated by the extractor, including its children
+             */
+            public long bytes() {
+                return bytes;
+            }
+
+            /**
+             * @return          the time spent in the extractor excluding its profiled children, in nanoseconds
+             */
+            public long selfNanos() {
+                long self = nanos;
+                for (Node child : children) {
+                    self -= child.nanos;
+                }
+                return Math.max(0, self);
+            }
+
+            /**
+             * @return          the bytes allocated by the extractor excluding its profiled children
+             */
+            public long selfBytes() {
+                long self = bytes;
+                for (Node child : children) {
+                    self -= child.bytes;
+                }
+                return Math.max(0, self);
+            }
+
+            /**
+             * @return          the profiled extractors called by this one, in the order they were first called
+             */
+            public List<Node> children() {
+                return children;
+            }
+
+            /**
+             * Find a descendant of this node.
+             * @param path      the names of the nodes on the path from this node
+             * @return          the node, or an empty optional if there is no such node
+             */
+            public Optional<Node> find(String... path) {
+                Node node = this;
+                for (String name : path) {
+                    Node next = null;
+                    for (Node child : node.children) {
+                        if (child.name.equals(name)) {
+                            next = child;
+                            break;
+                        }
+                    }
+                    if (next == null) {
+                        return Optional.empty();
+                    }
+                    node = next;
+                }
+                return Optional.of(node);
+            }
+        }
+
+        private final List<Node> roots;
+        private final boolean allocationSupported;
+
+        Report(List<Node> roots, boolean allocationSupported) {
+            this.roots = roots;
+            this.allocationSupported = allocationSupported;
+        }
+
+        /**
+         * @return          the top-level profiled extractors
+         */
+        public List<Node> roots() {
+            return roots;
+        }
+
+        /**
+         * Find a node by its path from the top level.
+         * @param path      the names of the nodes on the path, starting with a top-level extractor
+         * @return          the node, or an empty optional if there is no such node
+         */
+        public Optional<Node> find(String... path) {
+            return new Node("", 0, 0, 0, roots).find(path);
+        }
+
+        /**
+         * @return          true if the JVM supports measuring allocation, otherwise the byte counts are zero
+         */
+        public boolean allocationSupported() {
+            return allocationSupported;
+        }
+
+        /**
+         * Render the report as a tree, with a line for each node,
+         * and a {@code (self)} line for the cost of each composite excluding its profiled children.
+         * Percentages are relative to the top-level node.
+         * @return          the report
+         */
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%-40s %12s %12s %7s %10s %10s%n", "extractor", "calls", "total ms", "%", "ns/call", "B/call"));
+            for (Node root : roots) {
+                render(sb, root.name, root.calls, root.nanos, root.bytes, root.nanos, 0);
+                renderChildren(sb, root, root.nanos, 1);
+            }
+            return sb.toString();
+        }
+
+        private static void renderChildren(StringBuilder sb, Node node, long rootNanos, int depth) {
+            if (node.children.isEmpty()) {
+                return;
+            }
+            for (Node child : node.children) {
+                render(sb, child.name, child.calls, child.nanos, child.bytes, rootNanos, depth);
+                renderChildren(sb, child, rootNanos, depth + 1);
+            }
+            render(sb, "(self)", node.calls, node.selfNanos(), node.selfBytes(), rootNanos, depth);
+        }
+
+        private static void render(
+                StringBuilder sb,
+                String name,
+                long calls,
+                long nanos,
+                long bytes,
+                long rootNanos,
+                int depth
+        ) {
+            final StringBuilder label = new StringBuilder();
+            for (int i = 0; i < depth; ++i) {
+                label.append("  ");
+            }
+            label.append(name);
+            sb.append(String.format(
+                    "%-40s %12d %12.3f %6.1f%% %10d %10d%n",
+                    label,
+                    calls,
+                    nanos / 1e6,
+                    rootNanos == 0 ? 0.0 : 100.0 * nanos / rootNanos,
+                    calls == 0 ? 0 : nanos / calls,
+                    calls == 0 ? 0 : bytes / calls
+            ));
+        }
+    }
+}
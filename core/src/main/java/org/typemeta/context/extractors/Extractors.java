@@ -1,5 +1,6 @@
 package org.typemeta.context.extractors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
 
 import java.util.ArrayList;
@@ -13,6 +14,39 @@ public abstract class Extractors {
 
     private Extractors() {}
 
+    /**
+     * Attach the union of the given dependencies to a composite extractor.
+     */
+    private static <CTX, R> Extractor<CTX, R> withUnion(Extractor<CTX, R> extr, List<Dependencies> deps) {
+        return Dependencies.propagate(Dependencies.union(deps), extr, Extractor::withDependencies);
+    }
+
+    /**
+     * Attach the combined dependencies of the given component extractors to a composite extractor.
+     */
+    @SafeVarargs
+    private static <CTX, R> Extractor<CTX, R> withDependencies(Extractor<CTX, R> extr, Extractor<CTX, ?>... exs) {
+        final List<Dependencies> deps = new ArrayList<>(exs.length);
+        for (Extractor<CTX, ?> ex : exs) {
+            deps.add(ex.dependencies());
+        }
+        return withUnion(extr, deps);
+    }
+
+    /**
+     * Attach the combined dependencies of the given component extractors to a composite extractor.
+     */
+    private static <CTX, R> Extractor<CTX, R> withDependencies(
+            Extractor<CTX, R> extr,
+            Iterable<? extends Extractor<CTX, ?>> exs
+    ) {
+        final List<Dependencies> deps = new ArrayList<>();
+        for (Extractor<CTX, ?> ex : exs) {
+            deps.add(ex.dependencies());
+        }
+        return withUnion(extr, deps);
+    }
+
     /**
      * Create an {@code Extractor} for enum values.
      * @param <CTX>     the context type
@@ -21,7 +55,7 @@ private Extractors() {}
      * @param strExtr   the string extractor
      * @return          the enum extractor
      */
-    static <CTX, E extends Enum<E>> Extractor<CTX, E> enumExtractor(
+    public static <CTX, E extends Enum<E>> Extractor<CTX, E> enumExtractor(
             Class<E> enumType,
             Extractor<CTX, String> strExtr
     ) {
@@ -36,13 +70,14 @@ static <CTX, E extends Enum<E>> Extractor<CTX, E> enumExtractor(
      * @return          an extractor for a list of values
      */
     public static <CTX, T> Extractor<CTX, List<T>> sequence(Collection<Extractor<CTX, T>> extrs) {
-        return ctx -> {
+        final Extractor<CTX, List<T>> seq = ctx -> {
             final List<T> lt = new ArrayList<>(extrs.size());
             for (Extractor<CTX, T> extr : extrs) {
                 lt.add(extr.extract(ctx));
             }
             return lt;
         };
+        return withDependencies(seq, extrs);
     }
 
     /**
@@ -59,7 +94,8 @@ public static <CTX, A, R> Extractor<CTX, R> combine(
             Extractor<CTX, A> exA,
             Functions.F<A, R> f
     ) {
-        return ctx -> f.apply(exA.extract(ctx));
+        final Extractor<CTX, R> extr = ctx -> f.apply(exA.extract(ctx));
+        return withDependencies(extr, exA);
     }
 
     /**
@@ -79,7 +115,8 @@ public static <CTX, A, B, R> Extractor<CTX, R> combine(
             Extractor<CTX, B> exB,
             Functions.F2<A, B, R> f
     ) {
-        return ctx -> f.apply(exA.extract(ctx), exB.extract(ctx));
+        final Extractor<CTX, R> extr = ctx -> f.apply(exA.extract(ctx), exB.extract(ctx));
+        return withDependencies(extr, exA, exB);
     }
 
     /**
@@ -102,7 +139,8 @@ public static <CTX, A, B, C, R> Extractor<CTX, R> combine(
             Extractor<CTX, C> exC,
             Functions.F3<A, B, C, R> f
     ) {
-        return ctx -> f.apply(exA.extract(ctx), exB.extract(ctx), exC.extract(ctx));
+        final Extractor<CTX, R> extr = ctx -> f.apply(exA.extract(ctx), exB.extract(ctx), exC.extract(ctx));
+        return withDependencies(extr, exA, exB, exC);
     }
 
     /**
@@ -128,7 +166,8 @@ public static <CTX, A, B, C, D, R> Extractor<CTX, R> combine(
             Extractor<CTX, D> exD,
             Functions.F4<A, B, C, D, R> f
     ) {
-        return ctx -> f.apply(exA.extract(ctx), exB.extract(ctx), exC.extract(ctx), exD.extract(ctx));
+        final Extractor<CTX, R> extr = ctx -> f.apply(exA.extract(ctx), exB.extract(ctx), exC.extract(ctx), exD.extract(ctx));
+        return withDependencies(extr, exA, exB, exC, exD);
     }
 
     /**
@@ -157,13 +196,14 @@ public static <CTX, A, B, C, D, E, R> Extractor<CTX, R> combine(
             Extractor<CTX, E> exE,
             Functions.F5<A, B, C, D, E, R> f
     ) {
-        return ctx -> f.apply(
+        final Extractor<CTX, R> extr = ctx -> f.apply(
                 exA.extract(ctx),
                 exB.extract(ctx),
                 exC.extract(ctx),
                 exD.extract(ctx),
                 exE.extract(ctx)
         );
+        return withDependencies(extr, exA, exB, exC, exD, exE);
     }
 
     /**
@@ -195,7 +235,7 @@ public static <CTX, A, B, C, D, E, F, R> Extractor<CTX, R> combine(
             Extractor<CTX, F> exF,
             Functions.F6<A, B, C, D, E, F, R> f
     ) {
-        return ctx -> f.apply(
+        final Extractor<CTX, R> extr = ctx -> f.apply(
                 exA.extract(ctx),
                 exB.extract(ctx),
                 exC.extract(ctx),
@@ -203,6 +243,7 @@ public static <CTX, A, B, C, D, E, F, R> Extractor<CTX, R> combine(
                 exE.extract(ctx),
                 exF.extract(ctx)
         );
+        return withDependencies(extr, exA, exB, exC, exD, exE, exF);
     }
 
     /**
@@ -237,7 +278,7 @@ public static <CTX, A, B, C, D, E, F, G, R> Extractor<CTX, R> combine(
             Extractor<CTX, G> exG,
             Functions.F7<A, B, C, D, E, F, G, R> f
     ) {
-        return ctx -> f.apply(
+        final Extractor<CTX, R> extr = ctx -> f.apply(
                 exA.extract(ctx),
                 exB.extract(ctx),
                 exC.extract(ctx),
@@ -246,6 +287,7 @@ public static <CTX, A, B, C, D, E, F, G, R> Extractor<CTX, R> combine(
                 exF.extract(ctx),
                 exG.extract(ctx)
         );
+        return withDependencies(extr, exA, exB, exC, exD, exE, exF, exG);
     }
 
     /**
@@ -283,7 +325,7 @@ public static <CTX, A, B, C, D, E, F, G, H, R> Extractor<CTX, R> combine(
             Extractor<CTX, H> exH,
             Functions.F8<A, B, C, D, E, F, G, H, R> f
     ) {
-        return ctx -> f.apply(
+        final Extractor<CTX, R> extr = ctx -> f.apply(
                 exA.extract(ctx),
                 exB.extract(ctx),
                 exC.extract(ctx),
@@ -293,6 +335,7 @@ public static <CTX, A, B, C, D, E, F, G, H, R> Extractor<CTX, R> combine(
                 exG.extract(ctx),
                 exH.extract(ctx)
         );
+        return withDependencies(extr, exA, exB, exC, exD, exE, exF, exG, exH);
     }
 
     /**
@@ -309,13 +352,18 @@ public static <CTX, R> Extractor<CTX, R> combine(
             Functions.F<Object[], R> f,
             Extractor<CTX, ?> ... exs
     ) {
-        return ctx -> {
+        final Extractor<CTX, R> extr = ctx -> {
             final Object[] vals = new Object[exs.length];
             for (int i = 0; i < exs.length; ++i) {
                 vals[i] = exs[i].extract(ctx);
             }
             return f.apply(vals);
         };
+        final List<Dependencies> deps = new ArrayList<>(exs.length);
+        for (Extractor<CTX, ?> ex : exs) {
+            deps.add(ex.dependencies());
+        }
+        return withUnion(extr, deps);
     }
 
     /**
@@ -331,12 +379,13 @@ public static <CTX, R> Extractor<CTX, R> combine(
             Functions.F<List<Object>, R> f,
             Iterable<Extractor<CTX, ?>> exs
     ) {
-        return ctx -> {
+        final Extractor<CTX, R> extr = ctx -> {
             final List<Object> vals = new ArrayList<>();
             for (Extractor<CTX, ?> ex : exs) {
                 vals.add(ex.extract(ctx));
             }
             return f.apply(vals);
         };
+        return withDependencies(extr, exs);
     }
 }
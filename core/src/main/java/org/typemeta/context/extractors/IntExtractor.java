@@ -1,10 +1,14 @@
 package org.typemeta.context.extractors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A specialisation of {@code Extractor} for integer values.
@@ -53,6 +57,22 @@ default Integer extract(CTX ctx) {
         return extractInt(ctx);
     }
 
+    @Override
+    default IntExtractor<CTX> withDependencies(Dependencies deps) {
+        final IntExtractor<CTX> self = this;
+        return new IntExtractor<CTX>() {
+            @Override
+            public int extractInt(CTX ctx) {
+                return self.extractInt(ctx);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     @Override
     default Extractor<CTX, Optional<Integer>> optional() {
         // This extractor doesn't support nulls, so this won't work.
@@ -71,7 +91,28 @@ default <U> Extractor<CTX, U> map(Functions.F<Integer, U> f) {
      * @return          the mapped extractor
      */
     default <U> Extractor<CTX, U> mapInt(IntFunction<U> f) {
-        return ctx -> f.apply(extractInt(ctx));
+        final Extractor<CTX, U> extr = ctx -> f.apply(extractInt(ctx));
+        return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
+    }
+
+    /**
+     * A variant of the {@link Extractor#into} method specialised for int values,
+     * which sets the value on the target without boxing it.
+     * @param setter    the function which sets the value on the target
+     * @param <R>       the target type
+     * @return          the extract-into extractor
+     */
+    default <R> Extractor.Into<CTX, R> intoInt(ObjIntConsumer<? super R> setter) {
+        final Extractor.Into<CTX, R> into = (ctx, target) -> setter.accept(target, extractInt(ctx));
+        return Dependencies.propagate(dependencies(), into, Extractor.Into::withDependencies);
+    }
+
+    @Override
+    default IntExtractor<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.IntExtraction<CTX, Void> call = (ctx, unused) -> extractInt(ctx);
+        final IntExtractor<CTX> extr = ctx -> Timing.extractInt(rec, call, ctx, null);
+        return Dependencies.propagate(dependencies(), extr, IntExtractor::withDependencies);
     }
 
     /**
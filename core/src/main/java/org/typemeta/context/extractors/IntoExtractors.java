@@ -0,0 +1,75 @@
+package org.typemeta.context.extractors;
+
+import org.typemeta.context.dependencies.Dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of combinator methods for constructing {@link Extractor.Into} extractors,
+ * which mirror the {@link Extractors#combine} combinators,
+ * but populate a mutable target object instead of passing the values to a constructor.
+ * <pre>{@code
+ * final Extractor.Into<ResultSet, Trade> TRADE = IntoExtractors.combine(
+ *         ResultSetExtractors.LONG.bind("id").intoLong(Trade::setId),
+ *         ResultSetExtractors.STRING.bind("symbol").into(Trade::setSymbol),
+ *         ResultSetExtractors.DOUBLE.bind("price").intoDouble(Trade::setPrice)
+ * );
+ * final Extractor<ResultSet, Trade> RECYCLING = TRADE.recycling(new Trade());
+ * }</pre>
+ */
+public abstract class IntoExtractors {
+
+    private IntoExtractors() {}
+
+    /**
+     * Combine a set of extract-into extractors into one which applies each in turn to the same target.
+     * @param intos     the extract-into extractors
+     * @param <CTX>     the context type
+     * @param <T>       the target type
+     * @return          the combined extract-into extractor
+     */
+    @SafeVarargs
+    public static <CTX, T> Extractor.Into<CTX, T> combine(Extractor.Into<CTX, ? super T>... intos) {
+        final List<Extractor.Into<CTX, ? super T>> list = new ArrayList<>(intos.length);
+        for (Extractor.Into<CTX, ? super T> into : intos) {
+            list.add(into);
+        }
+        return combineList(list);
+    }
+
+    /**
+     * Combine a set of extract-into extractors into one which applies each in turn to the same target.
+     * @param intos     the extract-into extractors
+     * @param <CTX>     the context type
+     * @param <T>       the target type
+     * @return          the combined extract-into extractor
+     */
+    public static <CTX, T> Extractor.Into<CTX, T> combine(Iterable<? extends Extractor.Into<CTX, ? super T>> intos) {
+        final List<Extractor.Into<CTX, ? super T>> list = new ArrayList<>();
+        for (Extractor.Into<CTX, ? super T> into : intos) {
+            list.add(into);
+        }
+        return combineList(list);
+    }
+
+    private static <CTX, T> Extractor.Into<CTX, T> combineList(List<Extractor.Into<CTX, ? super T>> list) {
+        // Copied into an array, so the combined extractor doesn't iterate via the list.
+        @SuppressWarnings("unchecked")
+        final Extractor.Into<CTX, ? super T>[] array =
+                (Extractor.Into<CTX, ? super T>[])new Extractor.Into<?, ?>[list.size()];
+        final List<Dependencies> deps = new ArrayList<>(list.size());
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = list.get(i);
+            deps.add(array[i].dependencies());
+        }
+
+        final Extractor.Into<CTX, T> combined = (ctx, target) -> {
+            for (Extractor.Into<CTX, ? super T> into : array) {
+                into.extractInto(ctx, target);
+            }
+        };
+
+        return Dependencies.propagate(Dependencies.union(deps), combined, Extractor.Into::withDependencies);
+    }
+}
@@ -1,10 +1,14 @@
 package org.typemeta.context.extractors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
 
 /**
  * A specialisation of {@code Extractor} for long values.
@@ -53,6 +57,22 @@ default Long extract(CTX ctx) {
         return extractLong(ctx);
     }
 
+    @Override
+    default LongExtractor<CTX> withDependencies(Dependencies deps) {
+        final LongExtractor<CTX> self = this;
+        return new LongExtractor<CTX>() {
+            @Override
+            public long extractLong(CTX ctx) {
+                return self.extractLong(ctx);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     @Override
     default <U> Extractor<CTX, U> map(Functions.F<Long, U> f) {
         return mapLong(f::apply);
@@ -65,7 +85,8 @@ default <U> Extractor<CTX, U> map(Functions.F<Long, U> f) {
      * @return          the mapped extractor
      */
     default <U> Extractor<CTX, U> mapLong(LongFunction<U> f) {
-        return ctx -> f.apply(extractLong(ctx));
+        final Extractor<CTX, U> extr = ctx -> f.apply(extractLong(ctx));
+        return Dependencies.propagate(dependencies(), extr, Extractor::withDependencies);
     }
 
     @Override
@@ -74,6 +95,26 @@ default Extractor<CTX, Optional<Long>> optional() {
         throw new RuntimeException("Cannot construct an optional extractor from a LongExtractor");
     }
 
+    /**
+     * A variant of the {@link Extractor#into} method specialised for long values,
+     * which sets the value on the target without boxing it.
+     * @param setter    the function which sets the value on the target
+     * @param <R>       the target type
+     * @return          the extract-into extractor
+     */
+    default <R> Extractor.Into<CTX, R> intoLong(ObjLongConsumer<? super R> setter) {
+        final Extractor.Into<CTX, R> into = (ctx, target) -> setter.accept(target, extractLong(ctx));
+        return Dependencies.propagate(dependencies(), into, Extractor.Into::withDependencies);
+    }
+
+    @Override
+    default LongExtractor<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.LongExtraction<CTX, Void> call = (ctx, unused) -> extractLong(ctx);
+        final LongExtractor<CTX> extr = ctx -> Timing.extractLong(rec, call, ctx, null);
+        return Dependencies.propagate(dependencies(), extr, LongExtractor::withDependencies);
+    }
+
     /**
      * A specialisation of {@code ExtractorEx} for long values.
      * @param <CTX>     the context type
@@ -0,0 +1,248 @@
+package org.typemeta.context.extractors;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.functions.Functions;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A per-row memoization scope for extractors.
+ * <p>
+ * Extractors which share a sub-extractor, or which use {@link Extractor#flatMap},
+ * evaluate the same extractor against the same row more than once.
+ * Where that extractor is expensive (e.g. decoding a JSON or LOB column),
+ * wrapping it with {@link #memoize} ensures it is evaluated at most once per row,
+ * where a row is one invocation of an extractor wrapped with {@link #scoped}:
+ * <pre>{@code
+ * final Extractor<ResultSet, Json> DOC = ResultSetExtractors.STRING.bind("doc").map(Json::parse).memoized();
+ * final Extractor<ResultSet, Trade> TRADE = Extractors.combine(
+ *         DOC.map(doc -> doc.getLong("id")),
+ *         DOC.map(doc -> doc.getString("symbol")),
+ *         Trade::new
+ * ).rowScoped();
+ * }</pre>
+ * Memoized extractors evaluated outside of a row are not memoized.
+ * Nested scoped extractors belong to the row of the outermost one.
+ * Rows are tracked per thread, so a scope may be shared between threads.
+ * <p>
+ * Memoization is intended for extractors which are created once, e.g. held in constants.
+ * The first {@value #MAX_SLOTS} memoized extractors of a scope are each assigned a slot in a per-thread array,
+ * which is never reclaimed; any further ones, e.g. those created dynamically per query,
+ * hold their values in a per-row identity map, which is slower but retains nothing once the row completes.
+ * <p>
+ * The memoized values are held as objects, so memoizing a primitive extractor
+ * (e.g. an {@link IntExtractor}) boxes its values, and the result is a plain {@link Extractor}.
+ * Primitive extractors are rarely expensive enough to be worth memoizing.
+ * <p>
+ * {@link Extractor#memoized()}, {@link Extractor#lazy()} and {@link Extractor#rowScoped()}
+ * use the {@link #DEFAULT} scope.
+ */
+public final class RowScope {
+
+    /**
+     * The scope used by the {@link Extractor} methods.
+     */
+    public static final RowScope DEFAULT = new RowScope();
+
+    /**
+     * Create a new scope.
+     * @return          the scope
+     */
+    public static RowScope create() {
+        return new RowScope();
+    }
+
+    /**
+     * The maximum number of memoized extractors assigned an array slot.
+     */
+    static final int MAX_SLOTS = 256;
+
+    private static final Object NULL = new Object();
+
+    /**
+     * The current row, and the memoized values for it, for one thread.
+     */
+    private static final class Frame {
+        int depth;
+        long row;
+        int used;
+        long[] rows = new long[8];
+        Object[] values = new Object[8];
+        Map<Object, Object> overflow;
+
+        void store(int slot, Object value) {
+            if (slot >= rows.length) {
+                final int len = Math.max(slot + 1, rows.length * 2);
+                rows = Arrays.copyOf(rows, len);
+                values = Arrays.copyOf(values, len);
+            }
+            rows[slot] = row;
+            values[slot] = value;
+            used = Math.max(used, slot + 1);
+        }
+
+        Map<Object, Object> overflow() {
+            if (overflow == null) {
+                overflow = new IdentityHashMap<>();
+            }
+            return overflow;
+        }
+
+        void clear() {
+            Arrays.fill(values, 0, used, null);
+            used = 0;
+            if (overflow != null) {
+                overflow.clear();
+            }
+        }
+    }
+
+    private final AtomicInteger slots = new AtomicInteger();
+    private final ThreadLocal<Frame> frames = ThreadLocal.withInitial(Frame::new);
+
+    private RowScope() {
+    }
+
+    /**
+     * Wrap an extractor so that each invocation is a new row of this scope.
+     * Values memoized during the row are released when it completes.
+     * @param extr      the extractor
+     * @param <CTX>     the context type
+     * @param <T>       the extracted value type
+     * @return          the scoped extractor
+     */
+    public <CTX, T> Extractor<CTX, T> scoped(Extractor<CTX, T> extr) {
+        final Extractor<CTX, T> scoped = ctx -> {
+            final Frame frame = frames.get();
+            if (frame.depth++ == 0) {
+                ++frame.row;
+            }
+            try {
+                return extr.extract(ctx);
+            } finally {
+                if (--frame.depth == 0) {
+                    frame.clear();
+                }
+            }
+        };
+        return Dependencies.propagate(extr.dependencies(), scoped, Extractor::withDependencies);
+    }
+
+    /**
+     * Wrap an extractor so that it is evaluated at most once per row of this scope.
+     * Failures are not memoized.
+     * This is intended for extractors which are created once - see the class description.
+     * @param extr      the extractor
+     * @param <CTX>     the context type
+     * @param <T>       the extracted value type
+     * @return          the memoized extractor
+     */
+    public <CTX, T> Extractor<CTX, T> memoize(Extractor<CTX, T> extr) {
+        final int slot = slots.getAndUpdate(n -> n < MAX_SLOTS ? n + 1 : n);
+        final Extractor<CTX, T> memo = slot < MAX_SLOTS ? slotted(slot, extr) : unslotted(extr);
+        return Dependencies.propagate(extr.dependencies(), memo, Extractor::withDependencies);
+    }
+
+    private <CTX, T> Extractor<CTX, T> slotted(int slot, Extractor<CTX, T> extr) {
+        return ctx -> {
+            final Frame frame = frames.get();
+            if (frame.depth == 0) {
+                return extr.extract(ctx);
+            } else if (slot < frame.rows.length && frame.rows[slot] == frame.row) {
+                @SuppressWarnings("unchecked")
+                final T value = (T)frame.values[slot];
+                return value;
+            } else {
+                final T value = extr.extract(ctx);
+                frame.store(slot, value);
+                return value;
+            }
+        };
+    }
+
+    private <CTX, T> Extractor<CTX, T> unslotted(Extractor<CTX, T> extr) {
+        final Object key = new Object();
+        return ctx -> {
+            final Frame frame = frames.get();
+            if (frame.depth == 0) {
+                return extr.extract(ctx);
+            }
+            final Object memo = frame.overflow().get(key);
+            if (memo != null) {
+                @SuppressWarnings("unchecked")
+                final T value = memo == NULL ? null : (T)memo;
+                return value;
+            } else {
+                final T value = extr.extract(ctx);
+                frame.overflow().put(key, value == null ? NULL : value);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Convert an extractor into one which defers evaluation until the value is first requested.
+     * If the lazy value was extracted within a row of this scope,
+     * then it must be requested before the row completes,
+     * as the context (e.g. a {@code ResultSet} cursor) may then have moved on.
+     * @param extr      the extractor
+     * @param <CTX>     the context type
+     * @param <T>       the extracted value type
+     * @return          the lazy extractor
+     */
+    public <CTX, T> Extractor<CTX, Lazy<T>> lazy(Extractor<CTX, T> extr) {
+        final Extractor<CTX, Lazy<T>> lazy = ctx -> {
+            final Frame frame = frames.get();
+            return new Lazy<>(this, frame.depth == 0 ? 0 : frame.row, () -> extr.extract(ctx));
+        };
+        return Dependencies.propagate(extr.dependencies(), lazy, Extractor::withDependencies);
+    }
+
+    private boolean inRow(long row) {
+        final Frame frame = frames.get();
+        return frame.depth > 0 && frame.row == row;
+    }
+
+    /**
+     * A value which is evaluated when first requested.
+     * @param <T>       the value type
+     */
+    public static final class Lazy<T> {
+        private final RowScope scope;
+        private final long row;
+        private Functions.F0<T> thunk;
+        private T value;
+
+        private Lazy(RowScope scope, long row, Functions.F0<T> thunk) {
+            this.scope = scope;
+            this.row = row;
+            this.thunk = thunk;
+        }
+
+        /**
+         * Return the value, evaluating it if this is the first request.
+         * @return          the value
+         * @throws IllegalStateException if the value is first requested after its row has completed
+         */
+        public T get() {
+            if (thunk != null) {
+                if (row != 0 && !scope.inRow(row)) {
+                    throw new IllegalStateException("Lazy value requested after its row has completed");
+                }
+                value = thunk.apply();
+                thunk = null;
+            }
+            return value;
+        }
+
+        /**
+         * @return          true if the value has been evaluated
+         */
+        public boolean isEvaluated() {
+            return thunk == null;
+        }
+    }
+}
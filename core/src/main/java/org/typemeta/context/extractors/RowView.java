@@ -0,0 +1,347 @@
+package org.typemeta.context.extractors;
+
+import org.typemeta.context.dependencies.Dependencies;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A factory for flyweight views of a row, which implement a user-defined interface
+ * by delegating each accessor method to an extractor applied to a cursor.
+ * <p>
+ * A view holds no values - each accessor call extracts its value from the current row of the cursor,
+ * so nothing is read until it is needed, and moving the cursor (e.g. calling {@code ResultSet.next()},
+ * or {@code RowCursor.moveTo(row)}) repositions the view.
+ * A view can also be pointed at a different cursor using {@link #reposition}.
+ * <pre>{@code
+ * interface TradeRow {
+ *     long id();
+ *     double price();
+ * }
+ *
+ * static final RowView<RowCursor, TradeRow> TRADE_VIEW = RowView.builder(TradeRow.class, RowCursor.class)
+ *         .field("id", RowExtractors.longColumn(0, VectorExtractors.LONG))
+ *         .field("price", RowExtractors.doubleColumn(1, VectorExtractors.DOUBLE))
+ *         .build();
+ *
+ * final RowCursor cursor = new RowCursor(root);
+ * final TradeRow trade = TRADE_VIEW.view(cursor);
+ * for (int row = 0; row < root.getRowCount(); ++row) {
+ *     cursor.moveTo(row);
+ *     total += trade.price();
+ * }
+ * }</pre>
+ * The views are implemented using {@link Proxy}, so primitive values are boxed when returned.
+ * Default methods on the interface are supported, and may call the accessors.
+ * <p>
+ * Each accessor call goes through the proxy's reflective dispatch, which costs a map lookup and a box
+ * on top of the extractor itself, whereas an extractor built with {@code Extractors.combine} calls its
+ * field extractors directly. A view is cheaper when only a few of the fields of each row are read,
+ * or when the values are consumed in place; when every field is read, prefer {@code Extractors.combine}.
+ * @param <CTX>     the cursor type
+ * @param <V>       the view interface type
+ */
+public final class RowView<CTX, V> {
+
+    /**
+     * Create a builder for a view.
+     * @param iface     the view interface
+     * @param ctxType   the cursor type
+     * @param <CTX>     the cursor type
+     * @param <V>       the view interface type
+     * @return          the builder
+     * @throws IllegalArgumentException if {@code iface} isn't an interface
+     */
+    public static <CTX, V> Builder<CTX, V> builder(Class<V> iface, Class<CTX> ctxType) {
+        if (!iface.isInterface()) {
+            throw new IllegalArgumentException(iface.getName() + " is not an interface");
+        }
+        return new Builder<>(iface);
+    }
+
+    /**
+     * A builder for a {@link RowView}.
+     * @param <CTX>     the cursor type
+     * @param <V>       the view interface type
+     */
+    public static final class Builder<CTX, V> {
+        private final Class<V> iface;
+        private final Map<String, Extractor<CTX, ?>> fields = new LinkedHashMap<>();
+        private final Map<String, Class<?>> types = new HashMap<>();
+
+        private Builder(Class<V> iface) {
+            this.iface = iface;
+        }
+
+        /**
+         * Bind an accessor method of the view interface to an extractor.
+         * @param method    the name of the accessor method, which must take no arguments
+         * @param extr      the extractor for the value returned by the method
+         * @return          this builder
+         */
+        public Builder<CTX, V> field(String method, Extractor<CTX, ?> extr) {
+            if (fields.putIfAbsent(method, Objects.requireNonNull(extr)) != null) {
+                throw new IllegalArgumentException("Method " + method + " is already bound");
+            }
+            return this;
+        }
+
+        /**
+         * Bind an accessor method of the view interface to an extractor,
+         * with the type of the extracted value, which is checked against the method return type.
+         * @param method    the name of the accessor method, which must take no arguments
+         * @param type      the type of value returned by the extractor
+         * @param extr      the extractor for the value returned by the method
+         * @param <T>       the extracted value type
+         * @return          this builder
+         */
+        public <T> Builder<CTX, V> field(String method, Class<T> type, Extractor<CTX, ? extends T> extr) {
+            field(method, extr);
+            types.put(method, Objects.requireNonNull(type));
+            return this;
+        }
+
+        /**
+         * Build the view factory.
+         * @return          the view factory
+         * @throws IllegalArgumentException if an abstract method of the interface has no extractor,
+         *                  takes arguments, returns a type the extractor's values can't be returned as,
+         *                  or if an extractor doesn't correspond to a method
+         */
+        public RowView<CTX, V> build() {
+            final Map<Method, Extractor<CTX, ?>> accessors = new HashMap<>();
+            final Map<Method, MethodHandle> defaults = new HashMap<>();
+            final Set<String> unused = new HashSet<>(fields.keySet());
+            for (Method method : iface.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                } else if (method.isDefault()) {
+                    defaults.put(method, defaultMethodHandle(method));
+                } else {
+                    final Extractor<CTX, ?> extr = fields.get(method.getName());
+                    if (extr == null) {
+                        throw new IllegalArgumentException("No extractor for method " + method);
+                    } else if (method.getParameterCount() != 0) {
+                        throw new IllegalArgumentException("Accessor method " + method + " must not take arguments");
+                    }
+                    checkType(method, extr, types.get(method.getName()));
+                    accessors.put(method, extr);
+                    unused.remove(method.getName());
+                }
+            }
+            if (!unused.isEmpty()) {
+                throw new IllegalArgumentException("No methods on " + iface.getName() + " named " + unused);
+            }
+
+            final List<Dependencies> deps = new ArrayList<>();
+            for (Extractor<CTX, ?> extr : fields.values()) {
+                deps.add(extr.dependencies());
+            }
+            return new RowView<>(iface, new ArrayList<>(fields.keySet()), accessors, defaults, Dependencies.union(deps));
+        }
+
+        private static void checkType(Method method, Extractor<?, ?> extr, Class<?> type) {
+            final Class<?> valueType;
+            if (type != null) {
+                valueType = type;
+            } else if (extr instanceof IntExtractor) {
+                valueType = int.class;
+            } else if (extr instanceof LongExtractor) {
+                valueType = long.class;
+            } else if (extr instanceof DoubleExtractor) {
+                valueType = double.class;
+            } else {
+                // The value type of a plain extractor is erased, so can't be checked.
+                return;
+            }
+
+            // Proxy unboxes the returned value for a primitive method, so the box type must match exactly.
+            final Class<?> returnType = method.getReturnType();
+            final boolean ok = returnType.isPrimitive()
+                    ? box(returnType) == box(valueType)
+                    : returnType.isAssignableFrom(box(valueType));
+            if (!ok) {
+                throw new IllegalArgumentException(
+                        "Extractor for method " + method + " returns " + valueType.getName() +
+                                " values, which can't be returned as " + returnType.getName()
+                );
+            }
+        }
+
+        private static Class<?> box(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            } else if (type == int.class) {
+                return Integer.class;
+            } else if (type == long.class) {
+                return Long.class;
+            } else if (type == double.class) {
+                return Double.class;
+            } else if (type == boolean.class) {
+                return Boolean.class;
+            } else if (type == char.class) {
+                return Character.class;
+            } else if (type == byte.class) {
+                return Byte.class;
+            } else if (type == short.class) {
+                return Short.class;
+            } else if (type == float.class) {
+                return Float.class;
+            } else {
+                return Void.class;
+            }
+        }
+
+        private MethodHandle defaultMethodHandle(Method method) {
+            try {
+                // Spread the arguments array, so that the handle can be invoked exactly once bound to a view.
+                return MethodHandles.privateLookupIn(iface, MethodHandles.lookup())
+                        .unreflectSpecial(method, iface)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("Cannot access default method " + method, ex);
+            }
+        }
+    }
+
+    private static final Method TO_STRING;
+    private static final Method EQUALS;
+    private static final Method HASH_CODE;
+
+    static {
+        try {
+            TO_STRING = Object.class.getMethod("toString");
+            EQUALS = Object.class.getMethod("equals", Object.class);
+            HASH_CODE = Object.class.getMethod("hashCode");
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The invocation handler for a view, which holds the cursor,
+     * and the default method handles bound to the view.
+     */
+    private final class Handler implements InvocationHandler {
+        CTX ctx;
+        private final Map<Method, MethodHandle> bound = new HashMap<>();
+
+        Handler(CTX ctx) {
+            this.ctx = ctx;
+        }
+
+        void bind(Object proxy) {
+            defaults.forEach((method, mh) -> bound.put(method, mh.bindTo(proxy)));
+        }
+
+        RowView<CTX, V> owner() {
+            return RowView.this;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Extractor<CTX, ?> extr = accessors.get(method);
+            if (extr != null) {
+                return extr.extract(ctx);
+            }
+
+            final MethodHandle mh = bound.get(method);
+            if (mh != null) {
+                return (Object)mh.invokeExact(args == null ? NO_ARGS : args);
+            } else if (method.equals(TO_STRING)) {
+                return render(proxy);
+            } else if (method.equals(EQUALS)) {
+                return proxy == args[0];
+            } else if (method.equals(HASH_CODE)) {
+                return System.identityHashCode(proxy);
+            } else {
+                throw new UnsupportedOperationException(method.toString());
+            }
+        }
+
+        private String render(Object proxy) throws Throwable {
+            final StringBuilder sb = new StringBuilder(iface.getSimpleName()).append('{');
+            for (int i = 0; i < names.size(); ++i) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(names.get(i)).append('=').append(iface.getMethod(names.get(i)).invoke(proxy));
+            }
+            return sb.append('}').toString();
+        }
+    }
+
+    private final Class<V> iface;
+    private final List<String> names;
+    private final Map<Method, Extractor<CTX, ?>> accessors;
+    private final Map<Method, MethodHandle> defaults;
+    private final Dependencies dependencies;
+
+    private RowView(
+            Class<V> iface,
+            List<String> names,
+            Map<Method, Extractor<CTX, ?>> accessors,
+            Map<Method, MethodHandle> defaults,
+            Dependencies dependencies
+    ) {
+        this.iface = iface;
+        this.names = names;
+        this.accessors = accessors;
+        this.defaults = defaults;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Create a view backed by the given cursor.
+     * @param ctx       the cursor
+     * @return          the view
+     */
+    public V view(CTX ctx) {
+        final Handler handler = new Handler(ctx);
+        final Object proxy = Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, handler);
+        handler.bind(proxy);
+        return iface.cast(proxy);
+    }
+
+    /**
+     * Point a view created by this factory at a different cursor.
+     * @param view      the view
+     * @param ctx       the new cursor
+     * @return          the view
+     * @throws IllegalArgumentException if the view wasn't created by this factory
+     */
+    public V reposition(V view, CTX ctx) {
+        final InvocationHandler handler = Proxy.isProxyClass(view.getClass()) ? Proxy.getInvocationHandler(view) : null;
+        if (!(handler instanceof RowView.Handler) || ((RowView<?, ?>.Handler)handler).owner() != this) {
+            throw new IllegalArgumentException("View was not created by this RowView");
+        }
+        @SuppressWarnings("unchecked")
+        final Handler h = (Handler)handler;
+        h.ctx = ctx;
+        return view;
+    }
+
+    /**
+     * Convert this view factory into an extractor which returns a view of the context.
+     * Each call creates a new view; to avoid this, create a single view and move its cursor.
+     * @return          the extractor
+     */
+    public Extractor<CTX, V> asExtractor() {
+        final Extractor<CTX, V> extr = this::view;
+        return Dependencies.propagate(dependencies, extr, Extractor::withDependencies);
+    }
+
+    /**
+     * Return the union of the dependencies of the field extractors.
+     * @return          the dependencies
+     */
+    public Dependencies dependencies() {
+        return dependencies;
+    }
+}
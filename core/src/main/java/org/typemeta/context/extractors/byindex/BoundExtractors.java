@@ -0,0 +1,102 @@
+package org.typemeta.context.extractors.byindex;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.*;
+
+/**
+ * The extractors returned by the {@code bind} methods of the by-index extractors.
+ * Each interface has its own final class, which holds the bound index and calls the underlying extractor directly,
+ * so that call sites which only see one kind of bound extractor remain monomorphic.
+ */
+abstract class BoundExtractors {
+
+    private BoundExtractors() {}
+
+    static final class BoundExtractor<CTX, T> implements Extractor<CTX, T> {
+        private final ExtractorByIndex<CTX, T> extr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundExtractor(ExtractorByIndex<CTX, T> extr, int index) {
+            this.extr = extr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public T extract(CTX ctx) {
+            return extr.extract(ctx, index);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundIntExtractor<CTX> implements IntExtractor<CTX> {
+        private final IntExtractorByIndex<CTX> extr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundIntExtractor(IntExtractorByIndex<CTX> extr, int index) {
+            this.extr = extr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public int extractInt(CTX ctx) {
+            return extr.extractInt(ctx, index);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundLongExtractor<CTX> implements LongExtractor<CTX> {
+        private final LongExtractorByIndex<CTX> extr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundLongExtractor(LongExtractorByIndex<CTX> extr, int index) {
+            this.extr = extr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public long extractLong(CTX ctx) {
+            return extr.extractLong(ctx, index);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundDoubleExtractor<CTX> implements DoubleExtractor<CTX> {
+        private final DoubleExtractorByIndex<CTX> extr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundDoubleExtractor(DoubleExtractorByIndex<CTX> extr, int index) {
+            this.extr = extr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public double extractDouble(CTX ctx) {
+            return extr.extractDouble(ctx, index);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+}
@@ -59,7 +59,7 @@ default <U> ExtractorByIndex<CTX, U> mapDouble(DoubleFunction<U> f) {
 
     @Override
     default DoubleExtractor<CTX> bind(int index) {
-        return ctx -> extractDouble(ctx, index);
+        return new BoundExtractors.BoundDoubleExtractor<>(this, index);
     }
 
     /**
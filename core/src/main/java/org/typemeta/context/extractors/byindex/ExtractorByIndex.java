@@ -47,7 +47,7 @@ default <U> ExtractorByIndex<CTX, U> map(Functions.F<T, U> f) {
      * @return          the extractor
      */
     default Extractor<CTX, T> bind(int index) {
-        return ctx -> extract(ctx, index);
+        return new BoundExtractors.BoundExtractor<>(this, index);
     }
 
     /**
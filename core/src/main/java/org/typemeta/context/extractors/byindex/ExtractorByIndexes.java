@@ -1,5 +1,15 @@
 package org.typemeta.context.extractors.byindex;
 
+import org.typemeta.context.functions.Functions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of combinator methods for constructing {@link ExtractorByIndex} extractors.
+ * The {@code combine} methods mirror those in {@link org.typemeta.context.extractors.Extractors},
+ * with each of the combined extractors being applied at the same index.
+ */
 public abstract class ExtractorByIndexes {
 
     private ExtractorByIndexes() {}
@@ -18,4 +28,299 @@ static <CTX, E extends Enum<E>> ExtractorByIndex<CTX, E> enumExtractor(
     ) {
         return strExtr.map(s -> Enum.valueOf(enumType, s));
     }
+
+    /**
+     * Combinator function for building an extractor from a single extractor
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            Functions.F<A, R> f
+    ) {
+        return (ctx, index) -> f.apply(exA.extract(ctx, index));
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            Functions.F2<A, B, R> f
+    ) {
+        return (ctx, index) -> f.apply(exA.extract(ctx, index), exB.extract(ctx, index));
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            Functions.F3<A, B, C, R> f
+    ) {
+        return (ctx, index) -> f.apply(exA.extract(ctx, index), exB.extract(ctx, index), exC.extract(ctx, index));
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param exD       the fourth extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <D>       the type of value returned by the fourth extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, D, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            ExtractorByIndex<CTX, D> exD,
+            Functions.F4<A, B, C, D, R> f
+    ) {
+        return (ctx, index) -> f.apply(exA.extract(ctx, index), exB.extract(ctx, index), exC.extract(ctx, index), exD.extract(ctx, index));
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param exD       the fourth extractor
+     * @param exE       the fifth extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <D>       the type of value returned by the fourth extractor
+     * @param <E>       the type of value returned by the fifth extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, D, E, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            ExtractorByIndex<CTX, D> exD,
+            ExtractorByIndex<CTX, E> exE,
+            Functions.F5<A, B, C, D, E, R> f
+    ) {
+        return (ctx, index) -> f.apply(
+                exA.extract(ctx, index),
+                exB.extract(ctx, index),
+                exC.extract(ctx, index),
+                exD.extract(ctx, index),
+                exE.extract(ctx, index)
+        );
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param exD       the fourth extractor
+     * @param exE       the fifth extractor
+     * @param exF       the sixth extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <D>       the type of value returned by the fourth extractor
+     * @param <E>       the type of value returned by the fifth extractor
+     * @param <F>       the type of value returned by the sixth extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, D, E, F, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            ExtractorByIndex<CTX, D> exD,
+            ExtractorByIndex<CTX, E> exE,
+            ExtractorByIndex<CTX, F> exF,
+            Functions.F6<A, B, C, D, E, F, R> f
+    ) {
+        return (ctx, index) -> f.apply(
+                exA.extract(ctx, index),
+                exB.extract(ctx, index),
+                exC.extract(ctx, index),
+                exD.extract(ctx, index),
+                exE.extract(ctx, index),
+                exF.extract(ctx, index)
+        );
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param exD       the fourth extractor
+     * @param exE       the fifth extractor
+     * @param exF       the sixth extractor
+     * @param exG       the seventh extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <D>       the type of value returned by the fourth extractor
+     * @param <E>       the type of value returned by the fifth extractor
+     * @param <F>       the type of value returned by the sixth extractor
+     * @param <G>       the type of value returned by the seventh extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, D, E, F, G, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            ExtractorByIndex<CTX, D> exD,
+            ExtractorByIndex<CTX, E> exE,
+            ExtractorByIndex<CTX, F> exF,
+            ExtractorByIndex<CTX, G> exG,
+            Functions.F7<A, B, C, D, E, F, G, R> f
+    ) {
+        return (ctx, index) -> f.apply(
+                exA.extract(ctx, index),
+                exB.extract(ctx, index),
+                exC.extract(ctx, index),
+                exD.extract(ctx, index),
+                exE.extract(ctx, index),
+                exF.extract(ctx, index),
+                exG.extract(ctx, index)
+        );
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param exA       the first extractor
+     * @param exB       the second extractor
+     * @param exC       the third extractor
+     * @param exD       the fourth extractor
+     * @param exE       the fifth extractor
+     * @param exF       the sixth extractor
+     * @param exG       the seventh extractor
+     * @param exH       the eighth extractor
+     * @param f         the value constructor
+     * @param <CTX>     the context type
+     * @param <A>       the type of value returned by the first extractor
+     * @param <B>       the type of value returned by the second extractor
+     * @param <C>       the type of value returned by the third extractor
+     * @param <D>       the type of value returned by the fourth extractor
+     * @param <E>       the type of value returned by the fifth extractor
+     * @param <F>       the type of value returned by the sixth extractor
+     * @param <G>       the type of value returned by the seventh extractor
+     * @param <H>       the type of value returned by the eighth extractor
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, A, B, C, D, E, F, G, H, R> ExtractorByIndex<CTX, R> combine(
+            ExtractorByIndex<CTX, A> exA,
+            ExtractorByIndex<CTX, B> exB,
+            ExtractorByIndex<CTX, C> exC,
+            ExtractorByIndex<CTX, D> exD,
+            ExtractorByIndex<CTX, E> exE,
+            ExtractorByIndex<CTX, F> exF,
+            ExtractorByIndex<CTX, G> exG,
+            ExtractorByIndex<CTX, H> exH,
+            Functions.F8<A, B, C, D, E, F, G, H, R> f
+    ) {
+        return (ctx, index) -> f.apply(
+                exA.extract(ctx, index),
+                exB.extract(ctx, index),
+                exC.extract(ctx, index),
+                exD.extract(ctx, index),
+                exE.extract(ctx, index),
+                exF.extract(ctx, index),
+                exG.extract(ctx, index),
+                exH.extract(ctx, index)
+        );
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param f         the value constructor
+     * @param exs       an array of the extractors
+     * @param <CTX>     the context type
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    @SafeVarargs
+    public static <CTX, R> ExtractorByIndex<CTX, R> combine(
+            Functions.F<Object[], R> f,
+            ExtractorByIndex<CTX, ?> ... exs
+    ) {
+        return (ctx, index) -> {
+            final Object[] vals = new Object[exs.length];
+            for (int i = 0; i < exs.length; ++i) {
+                vals[i] = exs[i].extract(ctx, index);
+            }
+            return f.apply(vals);
+        };
+    }
+
+    /**
+     * Combinator function for building an extractor from a set of extractors
+     * and a constructor function.
+     * @param f         the value constructor
+     * @param exs       an iterable of the extractors
+     * @param <CTX>     the context type
+     * @param <R>       the value type
+     * @return          the new extractor
+     */
+    public static <CTX, R> ExtractorByIndex<CTX, R> combine(
+            Functions.F<List<Object>, R> f,
+            Iterable<ExtractorByIndex<CTX, ?>> exs
+    ) {
+        return (ctx, index) -> {
+            final List<Object> vals = new ArrayList<>();
+            for (ExtractorByIndex<CTX, ?> ex : exs) {
+                vals.add(ex.extract(ctx, index));
+            }
+            return f.apply(vals);
+        };
+    }
 }
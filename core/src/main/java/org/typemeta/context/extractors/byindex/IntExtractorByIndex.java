@@ -59,7 +59,7 @@ default <U> ExtractorByIndex<CTX, U> mapInteger(IntFunction<U> f) {
 
     @Override
     default IntExtractor<CTX> bind(int index) {
-        return ctx -> extractInt(ctx, index);
+        return new BoundExtractors.BoundIntExtractor<>(this, index);
     }
 
     /**
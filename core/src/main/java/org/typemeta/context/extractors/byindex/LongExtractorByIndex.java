@@ -58,7 +58,7 @@ default <U> ExtractorByIndex<CTX, U> mapLong(LongFunction<U> f) {
 
     @Override
     default LongExtractor<CTX> bind(int index) {
-        return ctx -> extractLong(ctx, index);
+        return new BoundExtractors.BoundLongExtractor<>(this, index);
     }
 
     /**
@@ -0,0 +1,102 @@
+package org.typemeta.context.extractors.byname;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.*;
+
+/**
+ * The extractors returned by the {@code bind} methods of the by-name extractors.
+ * Each interface has its own final class, which holds the bound name and calls the underlying extractor directly,
+ * so that call sites which only see one kind of bound extractor remain monomorphic.
+ */
+abstract class BoundExtractors {
+
+    private BoundExtractors() {}
+
+    static final class BoundExtractor<CTX, T> implements Extractor<CTX, T> {
+        private final ExtractorByName<CTX, T> extr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundExtractor(ExtractorByName<CTX, T> extr, String name) {
+            this.extr = extr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public T extract(CTX ctx) {
+            return extr.extract(ctx, name);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundIntExtractor<CTX> implements IntExtractor<CTX> {
+        private final IntExtractorByName<CTX> extr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundIntExtractor(IntExtractorByName<CTX> extr, String name) {
+            this.extr = extr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public int extractInt(CTX ctx) {
+            return extr.extractInt(ctx, name);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundLongExtractor<CTX> implements LongExtractor<CTX> {
+        private final LongExtractorByName<CTX> extr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundLongExtractor(LongExtractorByName<CTX> extr, String name) {
+            this.extr = extr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public long extractLong(CTX ctx) {
+            return extr.extractLong(ctx, name);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundDoubleExtractor<CTX> implements DoubleExtractor<CTX> {
+        private final DoubleExtractorByName<CTX> extr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundDoubleExtractor(DoubleExtractorByName<CTX> extr, String name) {
+            this.extr = extr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public double extractDouble(CTX ctx) {
+            return extr.extractDouble(ctx, name);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+}
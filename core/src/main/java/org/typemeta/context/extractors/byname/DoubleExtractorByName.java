@@ -2,6 +2,8 @@
 
 import org.typemeta.context.extractors.DoubleExtractor;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.function.DoubleFunction;
 
@@ -60,7 +62,14 @@ default <U> ExtractorByName<CTX, U> mapDouble(DoubleFunction<U> f) {
 
     @Override
     default DoubleExtractor<CTX> bind(String name) {
-        return ctx -> extractDouble(ctx, name);
+        return new BoundExtractors.BoundDoubleExtractor<>(this, name);
+    }
+
+    @Override
+    default DoubleExtractorByName<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.DoubleExtraction<CTX, String> call = this::extractDouble;
+        return (ctx, n) -> Timing.extractDouble(rec, call, ctx, n);
     }
 
     /**
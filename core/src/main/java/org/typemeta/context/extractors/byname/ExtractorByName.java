@@ -2,6 +2,8 @@
 
 import org.typemeta.context.extractors.Extractor;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 
@@ -48,7 +50,7 @@ default <U> ExtractorByName<CTX, U> map(Functions.F<T, U> f) {
      * @return          the extractor
      */
     default Extractor<CTX, T> bind(String name) {
-        return ctx -> extract(ctx, name);
+        return new BoundExtractors.BoundExtractor<>(this, name);
     }
 
     /**
@@ -60,6 +62,21 @@ default ExtractorByName<CTX, Optional<T>> optional() {
         return map(Optional::ofNullable);
     }
 
+    /**
+     * Return an extractor equivalent to this one,
+     * which reports the count, failures and latency of its invocations to a {@link MetricsSink}.
+     * Invocations for all names are reported to the same metric.
+     * Dependencies are reported, as for any by-name extractor, by the extractors returned from {@link #bind}.
+     * @param name      the metric name
+     * @param sink      the metrics sink
+     * @return          the instrumented extractor
+     */
+    default ExtractorByName<CTX, T> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.Extraction<CTX, String, T> call = this::extract;
+        return (ctx, n) -> Timing.extract(rec, call, ctx, n);
+    }
+
     /**
      * Variant of {@link ExtractorByName} where the extract method may throw an exception.
      * @param <CTX>     the context type
@@ -2,6 +2,8 @@
 
 import org.typemeta.context.extractors.IntExtractor;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.function.IntFunction;
 
@@ -53,7 +55,14 @@ default <U> ExtractorByName<CTX, U> mapInt(IntFunction<U> f) {
 
     @Override
     default IntExtractor<CTX> bind(String name) {
-        return ctx -> extractInt(ctx, name);
+        return new BoundExtractors.BoundIntExtractor<>(this, name);
+    }
+
+    @Override
+    default IntExtractorByName<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.IntExtraction<CTX, String> call = this::extractInt;
+        return (ctx, n) -> Timing.extractInt(rec, call, ctx, n);
     }
 
     /**
@@ -2,6 +2,8 @@
 
 import org.typemeta.context.extractors.LongExtractor;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.function.LongFunction;
 
@@ -53,7 +55,14 @@ default <U> ExtractorByName<CTX, U> mapLong(LongFunction<U> f) {
 
     @Override
     default LongExtractor<CTX> bind(String name) {
-        return ctx -> extractLong(ctx, name);
+        return new BoundExtractors.BoundLongExtractor<>(this, name);
+    }
+
+    @Override
+    default LongExtractorByName<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.LongExtraction<CTX, String> call = this::extractLong;
+        return (ctx, n) -> Timing.extractLong(rec, call, ctx, n);
     }
 
     /**
@@ -1,6 +1,9 @@
 package org.typemeta.context.injectors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalDouble;
 import java.util.function.ToDoubleFunction;
@@ -57,6 +60,22 @@ default CTX inject(CTX ctx, Double value) {
         return injectDouble(ctx, value);
     }
 
+    @Override
+    default DoubleInjector<CTX> withDependencies(Dependencies deps) {
+        final DoubleInjector<CTX> self = this;
+        return new DoubleInjector<CTX>() {
+            @Override
+            public CTX injectDouble(CTX ctx, double value) {
+                return self.injectDouble(ctx, value);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     @Override
     default <U> Injector<CTX, U> premap(Functions.F<U, Double> f) {
         return premapDbl(f::apply);
@@ -69,7 +88,8 @@ default <U> Injector<CTX, U> premap(Functions.F<U, Double> f) {
      * @return          the new injector
      */
     default <U> Injector<CTX, U> premapDbl(ToDoubleFunction<U> f) {
-        return (ctx, value) -> inject(ctx, f.applyAsDouble(value));
+        final Injector<CTX, U> injr = (ctx, value) -> inject(ctx, f.applyAsDouble(value));
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
     }
 
     /**
@@ -77,7 +97,16 @@ default <U> Injector<CTX, U> premapDbl(ToDoubleFunction<U> f) {
      * @return          the injector for optional values
      */
     default Injector<CTX, OptionalDouble> optionalDbl() {
-        return (ctx, optVal) -> optVal.isPresent() ? inject(ctx, optVal.getAsDouble()) : ctx;
+        final Injector<CTX, OptionalDouble> injr = (ctx, optVal) -> optVal.isPresent() ? inject(ctx, optVal.getAsDouble()) : ctx;
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
+    }
+
+    @Override
+    default DoubleInjector<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.DoubleInjection<CTX> call = (ctx, unused, value) -> injectDouble(ctx, value);
+        final DoubleInjector<CTX> injr = (ctx, value) -> Timing.injectDouble(rec, call, ctx, 0, value);
+        return Dependencies.propagate(dependencies(), injr, DoubleInjector::withDependencies);
     }
 
     /**
@@ -157,5 +186,20 @@ default <U> Injector.Checked<CTX, U, EX> premapDbl(ToDoubleFunction<U> f) {
         default Injector.Checked<CTX, OptionalDouble, EX> optionalDbl() {
             return (ctx, optVal) -> optVal.isPresent() ? injectDouble(ctx, optVal.getAsDouble()) : ctx;
         }
+
+        /**
+         * Return an unchecked equivalent of this injector.
+         * @return an unchecked equivalent of this injector
+         */
+        @Override
+        default DoubleInjector<CTX> unchecked() {
+            return (ctx, value) -> {
+                try {
+                    return injectDouble(ctx, value);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
     }
 }
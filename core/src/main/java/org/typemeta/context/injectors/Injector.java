@@ -1,6 +1,9 @@
 package org.typemeta.context.injectors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 
@@ -53,12 +56,41 @@ static <CTX, T> Injector<CTX, T> ofSideEffect(SideEffect<CTX, T> f) {
      */
     CTX inject(CTX ctx, T value);
 
+    /**
+     * Return the names and indices this injector writes to the context.
+     * @return          the dependencies
+     */
+    default Dependencies dependencies() {
+        return Dependencies.UNKNOWN;
+    }
+
+    /**
+     * Return an injector equivalent to this one, which reports the given dependencies.
+     * @param deps      the dependencies
+     * @return          the new injector
+     */
+    default Injector<CTX, T> withDependencies(Dependencies deps) {
+        final Injector<CTX, T> self = this;
+        return new Injector<CTX, T>() {
+            @Override
+            public CTX inject(CTX ctx, T value) {
+                return self.inject(ctx, value);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     /**
      * Convert this injector into one that accepts optional values.
      * @return          the injector for optional values
      */
     default Injector<CTX, Optional<T>> optional() {
-        return (ctx, optVal) -> optVal.isPresent() ? inject(ctx, optVal.get()) : ctx;
+        final Injector<CTX, Optional<T>> injr = (ctx, optVal) -> optVal.isPresent() ? inject(ctx, optVal.get()) : ctx;
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
     }
 
     /**
@@ -68,7 +100,22 @@ default Injector<CTX, Optional<T>> optional() {
      * @return          the new injector
      */
     default <U> Injector<CTX, U> premap(Functions.F<U, T> f) {
-        return (ctx, value) -> inject(ctx, f.apply(value));
+        final Injector<CTX, U> injr = (ctx, value) -> inject(ctx, f.apply(value));
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
+    }
+
+    /**
+     * Return an injector equivalent to this one,
+     * which reports the count, failures and latency of its invocations to a {@link MetricsSink}.
+     * @param name      the metric name
+     * @param sink      the metrics sink
+     * @return          the instrumented injector
+     */
+    default Injector<CTX, T> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.Injection<CTX, T> call = (ctx, unused, value) -> inject(ctx, value);
+        final Injector<CTX, T> injr = (ctx, value) -> Timing.inject(rec, call, ctx, 0, value);
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
     }
 
     /**
@@ -1,9 +1,21 @@
 package org.typemeta.context.injectors;
 
+import org.typemeta.context.dependencies.Dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class Injectors {
 
     private Injectors() {}
 
+    /**
+     * Attach the union of the given dependencies to a composite injector.
+     */
+    private static <CTX, T> Injector<CTX, T> withUnion(Injector<CTX, T> injr, List<Dependencies> deps) {
+        return Dependencies.propagate(Dependencies.union(deps), injr, Injector::withDependencies);
+    }
+
     /**
      * Create a {@link Injector} for enum values
      * @param strInjr   the string injector
@@ -28,12 +40,17 @@ Injector<CTX, E> enumInjector(Injector<CTX, String> strInjr) {
     public static <CTX, T> Injector<CTX, T> combine(
             Injector<CTX, T>... injs
     ) {
-        return (ctx, value) -> {
+        final Injector<CTX, T> injr = (ctx, value) -> {
             for(Injector<CTX, T> inj : injs) {
                 ctx = inj.inject(ctx, value);
             }
             return ctx;
         };
+        final List<Dependencies> deps = new ArrayList<>(injs.length);
+        for (Injector<CTX, T> inj : injs) {
+            deps.add(inj.dependencies());
+        }
+        return withUnion(injr, deps);
     }
 
     /**
@@ -47,11 +64,16 @@ public static <CTX, T> Injector<CTX, T> combine(
     public static <CTX, T> Injector<CTX, T> combine(
             Iterable<Injector<CTX, T>> injs
     ) {
-        return (ctx, value) -> {
+        final Injector<CTX, T> injr = (ctx, value) -> {
             for(Injector<CTX, T> inj : injs) {
                 ctx = inj.inject(ctx, value);
             }
             return ctx;
         };
+        final List<Dependencies> deps = new ArrayList<>();
+        for (Injector<CTX, T> inj : injs) {
+            deps.add(inj.dependencies());
+        }
+        return withUnion(injr, deps);
     }
 }
@@ -1,6 +1,9 @@
 package org.typemeta.context.injectors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalInt;
 import java.util.function.ToIntFunction;
@@ -57,12 +60,29 @@ default CTX inject(CTX ctx, Integer value) {
         return injectInt(ctx, value);
     }
 
+    @Override
+    default IntInjector<CTX> withDependencies(Dependencies deps) {
+        final IntInjector<CTX> self = this;
+        return new IntInjector<CTX>() {
+            @Override
+            public CTX injectInt(CTX ctx, int value) {
+                return self.injectInt(ctx, value);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     /**
      * Convert this injector into one that accepts optional values.
      * @return          the injector for optional values
      */
     default Injector<CTX, OptionalInt> optionalInt() {
-        return (ctx, optVal) -> optVal.isPresent() ? injectInt(ctx, optVal.getAsInt()) : ctx;
+        final Injector<CTX, OptionalInt> injr = (ctx, optVal) -> optVal.isPresent() ? injectInt(ctx, optVal.getAsInt()) : ctx;
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
     }
 
     @Override
@@ -77,7 +97,16 @@ default <U> Injector<CTX, U> premap(Functions.F<U, Integer> f) {
      * @return          the new injector
      */
     default <U> Injector<CTX, U> premapInt(ToIntFunction<U> f) {
-        return (ctx, value) -> inject(ctx, f.applyAsInt(value));
+        final Injector<CTX, U> injr = (ctx, value) -> inject(ctx, f.applyAsInt(value));
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
+    }
+
+    @Override
+    default IntInjector<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.IntInjection<CTX> call = (ctx, unused, value) -> injectInt(ctx, value);
+        final IntInjector<CTX> injr = (ctx, value) -> Timing.injectInt(rec, call, ctx, 0, value);
+        return Dependencies.propagate(dependencies(), injr, IntInjector::withDependencies);
     }
 
     /**
@@ -157,5 +186,20 @@ default <U> Injector.Checked<CTX, U, EX> premapInt(ToIntFunction<U> f) {
         default Injector.Checked<CTX, OptionalInt, EX> optionalInt() {
             return (ctx, optVal) -> optVal.isPresent() ? injectInt(ctx, optVal.getAsInt()) : ctx;
         }
+
+        /**
+         * Return an unchecked equivalent of this injector.
+         * @return an unchecked equivalent of this injector
+         */
+        @Override
+        default IntInjector<CTX> unchecked() {
+            return (ctx, value) -> {
+                try {
+                    return injectInt(ctx, value);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
     }
 }
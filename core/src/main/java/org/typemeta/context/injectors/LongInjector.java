@@ -1,6 +1,9 @@
 package org.typemeta.context.injectors;
 
+import org.typemeta.context.dependencies.Dependencies;
 import org.typemeta.context.functions.Functions;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalLong;
 import java.util.function.ToLongFunction;
@@ -57,6 +60,22 @@ default CTX inject(CTX ctx, Long value) {
         return injectLong(ctx, value);
     }
 
+    @Override
+    default LongInjector<CTX> withDependencies(Dependencies deps) {
+        final LongInjector<CTX> self = this;
+        return new LongInjector<CTX>() {
+            @Override
+            public CTX injectLong(CTX ctx, long value) {
+                return self.injectLong(ctx, value);
+            }
+
+            @Override
+            public Dependencies dependencies() {
+                return deps;
+            }
+        };
+    }
+
     @Override
     default <U> Injector<CTX, U> premap(Functions.F<U, Long> f) {
         return premapLong(f::apply);
@@ -69,7 +88,8 @@ default <U> Injector<CTX, U> premap(Functions.F<U, Long> f) {
      * @return          the new injector
      */
     default <U> Injector<CTX, U> premapLong(ToLongFunction<U> f) {
-        return (ctx, value) -> inject(ctx, f.applyAsLong(value));
+        final Injector<CTX, U> injr = (ctx, value) -> inject(ctx, f.applyAsLong(value));
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
     }
 
     /**
@@ -77,7 +97,16 @@ default <U> Injector<CTX, U> premapLong(ToLongFunction<U> f) {
      * @return          the injector for optional values
      */
     default Injector<CTX, OptionalLong> optionalLong() {
-        return (ctx, optVal) -> optVal.isPresent() ? injectLong(ctx, optVal.getAsLong()) : ctx;
+        final Injector<CTX, OptionalLong> injr = (ctx, optVal) -> optVal.isPresent() ? injectLong(ctx, optVal.getAsLong()) : ctx;
+        return Dependencies.propagate(dependencies(), injr, Injector::withDependencies);
+    }
+
+    @Override
+    default LongInjector<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.LongInjection<CTX> call = (ctx, unused, value) -> injectLong(ctx, value);
+        final LongInjector<CTX> injr = (ctx, value) -> Timing.injectLong(rec, call, ctx, 0, value);
+        return Dependencies.propagate(dependencies(), injr, LongInjector::withDependencies);
     }
 
     /**
@@ -157,5 +186,20 @@ default <U> Injector.Checked<CTX, U, EX> premapLong(ToLongFunction<U> f) {
         default Injector.Checked<CTX, OptionalLong, EX> optionalLong() {
             return (ctx, optVal) -> optVal.isPresent() ? injectLong(ctx, optVal.getAsLong()) : ctx;
         }
+
+        /**
+         * Return an unchecked equivalent of this injector.
+         * @return an unchecked equivalent of this injector
+         */
+        @Override
+        default LongInjector<CTX> unchecked() {
+            return (ctx, value) -> {
+                try {
+                    return injectLong(ctx, value);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
     }
 }
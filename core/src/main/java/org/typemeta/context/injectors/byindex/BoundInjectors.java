@@ -0,0 +1,102 @@
+package org.typemeta.context.injectors.byindex;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.injectors.*;
+
+/**
+ * The injectors returned by the {@code bind} methods of the by-index injectors.
+ * Each interface has its own final class, which holds the bound index and calls the underlying injector directly,
+ * so that call sites which only see one kind of bound injector remain monomorphic.
+ */
+abstract class BoundInjectors {
+
+    private BoundInjectors() {}
+
+    static final class BoundInjector<CTX, T> implements Injector<CTX, T> {
+        private final InjectorByIndex<CTX, T> injr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundInjector(InjectorByIndex<CTX, T> injr, int index) {
+            this.injr = injr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public CTX inject(CTX ctx, T value) {
+            return injr.inject(ctx, index, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundIntInjector<CTX> implements IntInjector<CTX> {
+        private final IntInjectorByIndex<CTX> injr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundIntInjector(IntInjectorByIndex<CTX> injr, int index) {
+            this.injr = injr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public CTX injectInt(CTX ctx, int value) {
+            return injr.injectInt(ctx, index, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundLongInjector<CTX> implements LongInjector<CTX> {
+        private final LongInjectorByIndex<CTX> injr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundLongInjector(LongInjectorByIndex<CTX> injr, int index) {
+            this.injr = injr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public CTX injectLong(CTX ctx, long value) {
+            return injr.injectLong(ctx, index, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundDoubleInjector<CTX> implements DoubleInjector<CTX> {
+        private final DoubleInjectorByIndex<CTX> injr;
+        private final int index;
+        private final Dependencies deps;
+
+        BoundDoubleInjector(DoubleInjectorByIndex<CTX> injr, int index) {
+            this.injr = injr;
+            this.index = index;
+            this.deps = Dependencies.index(index);
+        }
+
+        @Override
+        public CTX injectDouble(CTX ctx, double value) {
+            return injr.injectDouble(ctx, index, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+}
@@ -3,6 +3,8 @@
 import org.typemeta.context.functions.Functions;
 import org.typemeta.context.injectors.DoubleInjector;
 import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalDouble;
 import java.util.function.ToDoubleFunction;
@@ -73,7 +75,7 @@ default <U> InjectorByIndex<CTX, U> premapDouble(ToDoubleFunction<U> f) {
 
     @Override
     default DoubleInjector<CTX> bind(int index) {
-        return (ctx, value) -> injectDouble(ctx, index, value);
+        return new BoundInjectors.BoundDoubleInjector<>(this, index);
     }
 
     @Override
@@ -100,6 +102,13 @@ default InjectorByIndex<CTX, OptionalDouble> optionalDbl() {
                 optVal.isPresent() ? inject(ctx, index, optVal.getAsDouble()) : ctx;
     }
 
+    @Override
+    default DoubleInjectorByIndex<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.DoubleInjection<CTX> call = this::injectDouble;
+        return (ctx, index, value) -> Timing.injectDouble(rec, call, ctx, index, value);
+    }
+
     /**
      * A variation of {@link DoubleInjectorByIndex} that may throw an exception.
      * @param <CTX>     the context type
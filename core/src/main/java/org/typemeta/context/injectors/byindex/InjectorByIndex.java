@@ -3,6 +3,8 @@
 import org.typemeta.context.functions.Functions;
 import org.typemeta.context.injectors.Injector;
 import org.typemeta.context.injectors.byname.InjectorByName;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.Optional;
 
@@ -62,7 +64,7 @@ static <CTX, T> InjectorByName<CTX, T> ofSideEffect(InjectorByName.SideEffect<CT
      * @return          the new injector
      */
     default Injector<CTX, T> bind(int index) {
-        return (ctx, value) -> inject(ctx, index, value);
+        return new BoundInjectors.BoundInjector<>(this, index);
     }
 
     /**
@@ -84,6 +86,21 @@ default InjectorByIndex<CTX, Optional<T>> optional() {
                 optVal.isPresent() ? inject(ctx, index, optVal.get()) : ctx;
     }
 
+    /**
+     * Return an injector equivalent to this one,
+     * which reports the count, failures and latency of its invocations to a {@link MetricsSink}.
+     * Invocations for all indices are reported to the same metric.
+     * Dependencies are reported, as for any by-index injector, by the injectors returned from {@link #bind}.
+     * @param name      the metric name
+     * @param sink      the metrics sink
+     * @return          the instrumented injector
+     */
+    default InjectorByIndex<CTX, T> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.Injection<CTX, T> call = this::inject;
+        return (ctx, index, value) -> Timing.inject(rec, call, ctx, index, value);
+    }
+
     /**
      * A variation of {@link InjectorByIndex} that may throw an exception.
      * @param <CTX>     the context type
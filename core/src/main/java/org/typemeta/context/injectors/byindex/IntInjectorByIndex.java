@@ -3,6 +3,8 @@
 import org.typemeta.context.functions.Functions;
 import org.typemeta.context.injectors.Injector;
 import org.typemeta.context.injectors.IntInjector;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalInt;
 import java.util.function.ToIntFunction;
@@ -62,7 +64,7 @@ default CTX inject(CTX ctx, int index, Integer value) {
 
     @Override
     default IntInjector<CTX> bind(int index) {
-        return (ctx, value) -> injectInt(ctx, index, value);
+        return new BoundInjectors.BoundIntInjector<>(this, index);
     }
 
     @Override
@@ -89,6 +91,13 @@ default InjectorByIndex<CTX, OptionalInt> optionalInt() {
                 optVal.isPresent() ? inject(ctx, index, optVal.getAsInt()) : ctx;
     }
 
+    @Override
+    default IntInjectorByIndex<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.IntInjection<CTX> call = this::injectInt;
+        return (ctx, index, value) -> Timing.injectInt(rec, call, ctx, index, value);
+    }
+
     /**
      * A variation of {@link IntInjectorByIndex} that may throw an exception.
      * @param <CTX>     the context type
@@ -3,6 +3,8 @@
 import org.typemeta.context.functions.Functions;
 import org.typemeta.context.injectors.Injector;
 import org.typemeta.context.injectors.LongInjector;
+import org.typemeta.context.metrics.MetricsSink;
+import org.typemeta.context.metrics.Timing;
 
 import java.util.OptionalLong;
 import java.util.function.ToLongFunction;
@@ -62,7 +64,7 @@ default CTX inject(CTX ctx, int index, Long value) {
 
     @Override
     default LongInjector<CTX> bind(int index) {
-        return (ctx, value) -> injectLong(ctx, index, value);
+        return new BoundInjectors.BoundLongInjector<>(this, index);
     }
 
     @Override
@@ -89,6 +91,13 @@ default InjectorByIndex<CTX, OptionalLong> optionalLong() {
                 optVal.isPresent() ? inject(ctx, index, optVal.getAsLong()) : ctx;
     }
 
+    @Override
+    default LongInjectorByIndex<CTX> instrumented(String name, MetricsSink sink) {
+        final MetricsSink.Recorder rec = sink.recorder(name);
+        final Timing.LongInjection<CTX> call = this::injectLong;
+        return (ctx, index, value) -> Timing.injectLong(rec, call, ctx, index, value);
+    }
+
     /**
      * A variation of {@link LongInjectorByIndex} that may throw an exception.
      * @param <CTX>     the context type
@@ -0,0 +1,102 @@
+package org.typemeta.context.injectors.byname;
+
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.injectors.*;
+
+/**
+ * The injectors returned by the {@code bind} methods of the by-name injectors.
+ * Each interface has its own final class, which holds the bound name and calls the underlying injector directly,
+ * so that call sites which only see one kind of bound injector remain monomorphic.
+ */
+abstract class BoundInjectors {
+
+    private BoundInjectors() {}
+
+    static final class BoundInjector<CTX, T> implements Injector<CTX, T> {
+        private final InjectorByName<CTX, T> injr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundInjector(InjectorByName<CTX, T> injr, String name) {
+            this.injr = injr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public CTX inject(CTX ctx, T value) {
+            return injr.inject(ctx, name, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundIntInjector<CTX> implements IntInjector<CTX> {
+        private final IntInjectorByName<CTX> injr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundIntInjector(IntInjectorByName<CTX> injr, String name) {
+            this.injr = injr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public CTX injectInt(CTX ctx, int value) {
+            return injr.injectInt(ctx, name, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundLongInjector<CTX> implements LongInjector<CTX> {
+        private final LongInjectorByName<CTX> injr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundLongInjector(LongInjectorByName<CTX> injr, String name) {
+            this.injr = injr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public CTX injectLong(CTX ctx, long value) {
+            return injr.injectLong(ctx, name, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+
+    static final class BoundDoubleInjector<CTX> implements DoubleInjector<CTX> {
+        private final DoubleInjectorByName<CTX> injr;
+        private final String name;
+        private final Dependencies deps;
+
+        BoundDoubleInjector(DoubleInjectorByName<CTX> injr, String name) {
+            this.injr = injr;
+            this.name = name;
+            this.deps = Dependencies.name(name);
+        }
+
+        @Override
+        public CTX injectDouble(CTX ctx, double value) {
+            return injr.injectDouble(ctx, name, value);
+        }
+
+        @Override
+        public Dependencies dependencies() {
+            return deps;
+        }
+    }
+}
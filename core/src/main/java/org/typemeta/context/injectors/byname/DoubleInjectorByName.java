@@ -62,7 +62,7 @@ default CTX inject(CTX ctx, String name, Double value) {
 
     @Override
     default DoubleInjector<CTX> bind(String name) {
-        return (ctx, value) -> injectDouble(ctx, name, value);
+        return new BoundInjectors.BoundDoubleInjector<>(this, name);
     }
 
     @Override
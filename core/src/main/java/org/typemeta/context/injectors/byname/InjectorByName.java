@@ -61,7 +61,7 @@ static <CTX, T> InjectorByName<CTX, T> ofSideEffect(SideEffect<CTX, T> f) {
      * @return          the new injector
      */
     default Injector<CTX, T> bind(String name) {
-        return (ctx, value) -> inject(ctx, name, value);
+        return new BoundInjectors.BoundInjector<>(this, name);
     }
 
     /**
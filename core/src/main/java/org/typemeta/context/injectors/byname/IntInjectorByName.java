@@ -62,7 +62,7 @@ default CTX inject(CTX ctx, String name, Integer value) {
 
     @Override
     default IntInjector<CTX> bind(String name) {
-        return (ctx, value) -> injectInt(ctx, name, value);
+        return new BoundInjectors.BoundIntInjector<>(this, name);
     }
 
     @Override
@@ -62,7 +62,7 @@ default CTX inject(CTX ctx, String name, Long value) {
 
     @Override
     default LongInjector<CTX> bind(String name) {
-        return (ctx, value) -> injectLong(ctx, name, value);
+        return new BoundInjectors.BoundLongInjector<>(this, name);
     }
 
     @Override
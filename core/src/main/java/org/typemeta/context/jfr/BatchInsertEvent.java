@@ -0,0 +1,60 @@
+package org.typemeta.context.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event for a JDBC statement batch.
+ * The duration covers injecting the parameters for each row and executing the batch.
+ */
+@Name("org.typemeta.context.BatchInsert")
+@Label("Batch Insert")
+@Category({"TypeMeta Context", "Database"})
+@Description("A batch of rows injected into a JDBC PreparedStatement and executed")
+@StackTrace(false)
+public final class BatchInsertEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(BatchInsertEvent.class);
+
+    /**
+     * Begin an event, if the event type is enabled in a running recording.
+     * @return          the event, or null if the event type is disabled
+     */
+    public static BatchInsertEvent start() {
+        if (TYPE.isEnabled()) {
+            final BatchInsertEvent event = new BatchInsertEvent();
+            event.begin();
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Label("Mapper")
+    @Description("The name of the parameter injector")
+    private String mapper;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Update Count")
+    @Description("The total update count reported by the driver, or -1 if unknown")
+    private long updateCount;
+
+    private BatchInsertEvent() {}
+
+    /**
+     * End the event, and commit it if it passes the recording's duration threshold.
+     * @param mapper        the name of the parameter injector
+     * @param rows          the number of rows in the batch
+     * @param updateCount   the total update count, or -1 if unknown
+     */
+    public void finish(String mapper, long rows, long updateCount) {
+        end();
+        if (shouldCommit()) {
+            this.mapper = mapper;
+            this.rows = rows;
+            this.updateCount = updateCount;
+            commit();
+        }
+    }
+}
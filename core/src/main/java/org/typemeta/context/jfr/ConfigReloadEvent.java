@@ -0,0 +1,65 @@
+package org.typemeta.context.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event for the reload of a configuration source.
+ * The duration covers reading the source and recomputing the values which depend on the changed keys.
+ */
+@Name("org.typemeta.context.ConfigReload")
+@Label("Config Reload")
+@Category({"TypeMeta Context", "Config"})
+@Description("A reload of a configuration file")
+@StackTrace(false)
+public final class ConfigReloadEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ConfigReloadEvent.class);
+
+    /**
+     * Begin an event, if the event type is enabled in a running recording.
+     * @return          the event, or null if the event type is disabled
+     */
+    public static ConfigReloadEvent start() {
+        if (TYPE.isEnabled()) {
+            final ConfigReloadEvent event = new ConfigReloadEvent();
+            event.begin();
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Label("Source")
+    @Description("The configuration file")
+    private String source;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Changed Keys")
+    private int changedKeys;
+
+    @Label("Refreshed Bindings")
+    private int refreshedBindings;
+
+    private ConfigReloadEvent() {}
+
+    /**
+     * End the event, and commit it if it passes the recording's duration threshold.
+     * @param source            the configuration file
+     * @param bytes             the size of the file
+     * @param changedKeys       the number of keys which changed
+     * @param refreshedBindings the number of bindings which were recomputed
+     */
+    public void finish(String source, long bytes, int changedKeys, int refreshedBindings) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.bytes = bytes;
+            this.changedKeys = changedKeys;
+            this.refreshedBindings = refreshedBindings;
+            commit();
+        }
+    }
+}
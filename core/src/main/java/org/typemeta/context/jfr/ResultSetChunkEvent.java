@@ -0,0 +1,54 @@
+package org.typemeta.context.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event for a chunk of rows extracted from a JDBC {@code ResultSet}.
+ * The duration covers fetching the rows and applying the extractor to them.
+ */
+@Name("org.typemeta.context.ResultSetChunk")
+@Label("ResultSet Chunk")
+@Category({"TypeMeta Context", "Database"})
+@Description("A chunk of rows extracted from a JDBC ResultSet")
+@StackTrace(false)
+public final class ResultSetChunkEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ResultSetChunkEvent.class);
+
+    /**
+     * Begin an event, if the event type is enabled in a running recording.
+     * @return          the event, or null if the event type is disabled
+     */
+    public static ResultSetChunkEvent start() {
+        if (TYPE.isEnabled()) {
+            final ResultSetChunkEvent event = new ResultSetChunkEvent();
+            event.begin();
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Label("Mapper")
+    @Description("The name of the row extractor")
+    private String mapper;
+
+    @Label("Rows")
+    private long rows;
+
+    private ResultSetChunkEvent() {}
+
+    /**
+     * End the event, and commit it if it passes the recording's duration threshold.
+     * @param mapper    the name of the row extractor
+     * @param rows      the number of rows in the chunk
+     */
+    public void finish(String mapper, long rows) {
+        end();
+        if (shouldCommit()) {
+            this.mapper = mapper;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.typemeta.context.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative long values, such as latencies in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets, in the manner of an HDR histogram:
+ * each power of two is divided into 16 equal sub-buckets,
+ * so a recorded value is known to within about 6% of its magnitude, across the whole range of {@code long}.
+ * The counts are striped by thread, so that concurrent writers rarely contend on the same cache line,
+ * and recording a value does not allocate.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets needed to cover all non-negative longs.
+     */
+    static final int BUCKETS = (62 - SUB_BUCKET_BITS) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Return the bucket for a value.
+     * Values below {@code 2 * SUB_BUCKETS} have a bucket each,
+     * above that each bucket covers a power-of-two sized range.
+     * @param value     the non-negative value
+     * @return          the bucket index
+     */
+    static int bucket(long value) {
+        final int msb = 63 - Long.numberOfLeadingZeros(value);
+        if (msb <= SUB_BUCKET_BITS) {
+            return (int)value;
+        } else {
+            final int shift = msb - SUB_BUCKET_BITS;
+            return shift * SUB_BUCKETS + (int)(value >>> shift);
+        }
+    }
+
+    /**
+     * Return the smallest value which falls into a bucket.
+     * @param bucket    the bucket index
+     * @return          the lowest value in the bucket
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        } else {
+            final int shift = bucket / SUB_BUCKETS - 1;
+            return (long)(bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        }
+    }
+
+    /**
+     * Return the largest value which falls into a bucket.
+     * @param bucket    the bucket index
+     * @return          the highest value in the bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        } else {
+            final int shift = bucket / SUB_BUCKETS - 1;
+            return lowerBound(bucket) + (1L << shift) - 1;
+        }
+    }
+
+    private final int stripeMask;
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create a histogram striped according to the number of available processors.
+     */
+    public Histogram() {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        final int stripes = cpus <= 1 ? 1 : Math.min(MAX_STRIPES, Integer.highestOneBit(cpus - 1) << 1);
+        this.stripeMask = stripes - 1;
+        this.counts = new AtomicLongArray(stripes * BUCKETS);
+    }
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     * @param value     the value
+     */
+    public void record(long value) {
+        final long v = Math.max(0, value);
+        final int stripe = (int)Thread.currentThread().getId() & stripeMask;
+        counts.incrementAndGet(stripe * BUCKETS + bucket(v));
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Take a snapshot of the histogram.
+     * The snapshot is not atomic with respect to concurrent writers,
+     * but every value recorded before the call is included.
+     * @return          the snapshot
+     */
+    public Snapshot snapshot() {
+        final long[] merged = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            final long n = counts.get(i);
+            merged[i % BUCKETS] += n;
+            count += n;
+        }
+        return new Snapshot(merged, count, sum.sum(), max.get());
+    }
+
+    /**
+     * An immutable copy of the state of a {@link Histogram}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return          the number of values recorded
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return          the sum of the values recorded
+         */
+        public long sum() {
+            return sum;
+        }
+
+        /**
+         * @return          the largest value recorded, or zero if there are none
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * @return          the mean of the values recorded, or zero if there are none
+         */
+        public double mean() {
+            return count == 0 ? 0.0 : (double)sum / count;
+        }
+
+        /**
+         * Return an upper bound for the value at the given quantile.
+         * @param quantile  the quantile, between 0 and 1
+         * @return          the value at the quantile, or zero if there are no values
+         */
+        public long valueAt(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+            } else if (count == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long)Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; ++i) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "count=" + count +
+                    ", mean=" + mean() +
+                    ", p50=" + valueAt(0.5) +
+                    ", p99=" + valueAt(0.99) +
+                    ", max=" + max +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.typemeta.context.metrics;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsSink} which accumulates the measurements in memory,
+ * as an invocation count, a failure count and a latency {@link Histogram} per name.
+ * <p>
+ * The metrics can be queried directly, via {@link #metric} and {@link #metrics},
+ * and can also be exposed as JMX MBeans via {@link #registerMBeans}.
+ */
+public final class InMemoryMetricsSink implements MetricsSink {
+
+    /**
+     * The management interface for a single metric.
+     */
+    public interface MetricMXBean {
+        /**
+         * @return          the number of invocations, including failures
+         */
+        long getCount();
+
+        /**
+         * @return          the number of invocations which threw an exception
+         */
+        long getFailures();
+
+        /**
+         * @return          the mean latency in nanoseconds
+         */
+        double getMeanNanos();
+
+        /**
+         * @return          the median latency in nanoseconds
+         */
+        long getP50Nanos();
+
+        /**
+         * @return          the 99th percentile latency in nanoseconds
+         */
+        long getP99Nanos();
+
+        /**
+         * @return          the 99.9th percentile latency in nanoseconds
+         */
+        long getP999Nanos();
+
+        /**
+         * @return          the maximum latency in nanoseconds
+         */
+        long getMaxNanos();
+
+        /**
+         * @return          the total time spent in invocations, in nanoseconds
+         */
+        long getTotalNanos();
+    }
+
+    /**
+     * The measurements for a single name.
+     */
+    public static final class Metric implements Recorder, MetricMXBean {
+        private final String name;
+        private final Histogram latency = new Histogram();
+        private final LongAdder failures = new LongAdder();
+
+        Metric(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return          the metric name
+         */
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void success(long nanos) {
+            latency.record(nanos);
+        }
+
+        @Override
+        public void failure(long nanos) {
+            failures.increment();
+            latency.record(nanos);
+        }
+
+        /**
+         * @return          a snapshot of the latencies of all invocations, including failures
+         */
+        public Histogram.Snapshot latency() {
+            return latency.snapshot();
+        }
+
+        @Override
+        public long getCount() {
+            return latency.snapshot().count();
+        }
+
+        @Override
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        @Override
+        public double getMeanNanos() {
+            return latency.snapshot().mean();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return latency.snapshot().valueAt(0.5);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return latency.snapshot().valueAt(0.99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return latency.snapshot().valueAt(0.999);
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return latency.snapshot().max();
+        }
+
+        @Override
+        public long getTotalNanos() {
+            return latency.snapshot().sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Metric{" + name + ", failures=" + failures.sum() + ", " + latency.snapshot() + '}';
+        }
+    }
+
+    private final ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    // Guarded by this.
+    private MBeanServer mbeanServer;
+    private String domain;
+
+    @Override
+    public Metric recorder(String name) {
+        final Metric metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, this::create);
+    }
+
+    private synchronized Metric create(String name) {
+        final Metric metric = new Metric(name);
+        if (mbeanServer != null) {
+            register(mbeanServer, domain, metric);
+        }
+        return metric;
+    }
+
+    /**
+     * Return the metric for the given name.
+     * @param name      the metric name
+     * @return          the metric, or an empty optional if nothing has been instrumented with the name
+     */
+    public Optional<Metric> metric(String name) {
+        return Optional.ofNullable(metrics.get(name));
+    }
+
+    /**
+     * @return          the metrics, sorted by name
+     */
+    public List<Metric> metrics() {
+        final List<Metric> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparing(Metric::name));
+        return result;
+    }
+
+    /**
+     * Register each metric, including any created subsequently, as an MBean with the platform MBean server.
+     * The object names are of the form {@code domain:type=Metric,name=<name>}.
+     * @param domain    the JMX domain
+     * @throws IllegalStateException if the MBeans are already registered
+     */
+    public void registerMBeans(String domain) {
+        registerMBeans(ManagementFactory.getPlatformMBeanServer(), domain);
+    }
+
+    /**
+     * Register each metric, including any created subsequently, as an MBean with the given MBean server.
+     * The object names are of the form {@code domain:type=Metric,name=<name>}.
+     * @param server    the MBean server
+     * @param domain    the JMX domain
+     * @throws IllegalStateException if the MBeans are already registered
+     */
+    public synchronized void registerMBeans(MBeanServer server, String domain) {
+        if (mbeanServer != null) {
+            throw new IllegalStateException("MBeans are already registered in domain " + this.domain);
+        }
+        this.mbeanServer = server;
+        this.domain = domain;
+        for (Metric metric : metrics.values()) {
+            register(server, domain, metric);
+        }
+    }
+
+    /**
+     * Unregister the MBeans registered by {@link #registerMBeans}.
+     */
+    public synchronized void unregisterMBeans() {
+        if (mbeanServer != null) {
+            for (Metric metric : metrics.values()) {
+                try {
+                    mbeanServer.unregisterMBean(objectName(domain, metric.name));
+                } catch (InstanceNotFoundException ex) {
+                    // Already unregistered by someone else.
+                } catch (MBeanRegistrationException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+            mbeanServer = null;
+            domain = null;
+        }
+    }
+
+    private static void register(MBeanServer server, String domain, Metric metric) {
+        try {
+            server.registerMBean(metric, objectName(domain, metric.name));
+        } catch (JMException ex) {
+            throw new RuntimeException("Failed to register MBean for metric " + metric.name, ex);
+        }
+    }
+
+    private static ObjectName objectName(String domain, String name) {
+        try {
+            return new ObjectName(domain + ":type=Metric,name=" + ObjectName.quote(name));
+        } catch (MalformedObjectNameException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.typemeta.context.metrics;
+
+/**
+ * A destination for the measurements taken by instrumented extractors and injectors.
+ * <p>
+ * The {@code instrumented} decorators on {@code Extractor}, {@code Injector}, {@code ExtractorByName}
+ * and {@code InjectorByIndex}, and on their primitive specialisations, obtain a {@link Recorder} for their name once, when the decorator is created,
+ * and then report the outcome and duration of each invocation to it, using {@link Timing}.
+ * Recorders are called on the hot path, so implementations should not lock or allocate.
+ * <pre>{@code
+ * final InMemoryMetricsSink SINK = new InMemoryMetricsSink();
+ * final Extractor<ResultSet, Trade> TRADE = Extractors.combine(...).instrumented("trade", SINK);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    /**
+     * Receives the measurements for a single named extractor or injector.
+     */
+    interface Recorder {
+        /**
+         * Record a successful invocation.
+         * @param nanos     the duration of the invocation in nanoseconds
+         */
+        void success(long nanos);
+
+        /**
+         * Record an invocation which threw an exception.
+         * @param nanos     the duration of the invocation in nanoseconds
+         */
+        void failure(long nanos);
+    }
+
+    /**
+     * A sink which discards all measurements.
+     */
+    MetricsSink NONE = name -> new Recorder() {
+        @Override
+        public void success(long nanos) {
+        }
+
+        @Override
+        public void failure(long nanos) {
+        }
+    };
+
+    /**
+     * Return the recorder for the given name.
+     * Repeated calls with the same name should return recorders which report to the same metric.
+     * @param name      the metric name
+     * @return          the recorder
+     */
+    Recorder recorder(String name);
+}
@@ -0,0 +1,280 @@
+package org.typemeta.context.metrics;
+
+/**
+ * The timing logic shared by the {@code instrumented} decorators,
+ * with a specialisation for each primitive value kind so that the values aren't boxed.
+ * <p>
+ * Each method invokes a call, and reports its duration to the recorder as a success,
+ * or as a failure if it throws.
+ * The arguments are passed through to the call, rather than captured by it,
+ * so that a decorator can create its call once and then time each invocation without allocating.
+ * Extractors without a key, and injectors without an index, ignore the corresponding argument.
+ */
+public abstract class Timing {
+
+    private Timing() {}
+
+    /**
+     * An extraction of a value from a context, by key.
+     * @param <C>       the context type
+     * @param <K>       the key type
+     * @param <R>       the value type
+     */
+    @FunctionalInterface
+    public interface Extraction<C, K, R> {
+        R apply(C ctx, K key);
+    }
+
+    /**
+     * An extraction of an int value from a context, by key.
+     * @param <C>       the context type
+     * @param <K>       the key type
+     */
+    @FunctionalInterface
+    public interface IntExtraction<C, K> {
+        int apply(C ctx, K key);
+    }
+
+    /**
+     * An extraction of a long value from a context, by key.
+     * @param <C>       the context type
+     * @param <K>       the key type
+     */
+    @FunctionalInterface
+    public interface LongExtraction<C, K> {
+        long apply(C ctx, K key);
+    }
+
+    /**
+     * An extraction of a double value from a context, by key.
+     * @param <C>       the context type
+     * @param <K>       the key type
+     */
+    @FunctionalInterface
+    public interface DoubleExtraction<C, K> {
+        double apply(C ctx, K key);
+    }
+
+    /**
+     * An injection of a value into a context, by index.
+     * @param <C>       the context type
+     * @param <T>       the value type
+     */
+    @FunctionalInterface
+    public interface Injection<C, T> {
+        C apply(C ctx, int index, T value);
+    }
+
+    /**
+     * An injection of an int value into a context, by index.
+     * @param <C>       the context type
+     */
+    @FunctionalInterface
+    public interface IntInjection<C> {
+        C apply(C ctx, int index, int value);
+    }
+
+    /**
+     * An injection of a long value into a context, by index.
+     * @param <C>       the context type
+     */
+    @FunctionalInterface
+    public interface LongInjection<C> {
+        C apply(C ctx, int index, long value);
+    }
+
+    /**
+     * An injection of a double value into a context, by index.
+     * @param <C>       the context type
+     */
+    @FunctionalInterface
+    public interface DoubleInjection<C> {
+        C apply(C ctx, int index, double value);
+    }
+
+    /**
+     * Time an extraction.
+     * @param rec       the recorder
+     * @param call      the extraction
+     * @param ctx       the context
+     * @param key       the key
+     * @param <C>       the context type
+     * @param <K>       the key type
+     * @param <R>       the value type
+     * @return          the extracted value
+     */
+    public static <C, K, R> R extract(MetricsSink.Recorder rec, Extraction<C, K, R> call, C ctx, K key) {
+        final long start = System.nanoTime();
+        final R value;
+        try {
+            value = call.apply(ctx, key);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Time an extraction of an int value.
+     * @param rec       the recorder
+     * @param call      the extraction
+     * @param ctx       the context
+     * @param key       the key
+     * @param <C>       the context type
+     * @param <K>       the key type
+     * @return          the extracted value
+     */
+    public static <C, K> int extractInt(MetricsSink.Recorder rec, IntExtraction<C, K> call, C ctx, K key) {
+        final long start = System.nanoTime();
+        final int value;
+        try {
+            value = call.apply(ctx, key);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Time an extraction of a long value.
+     * @param rec       the recorder
+     * @param call      the extraction
+     * @param ctx       the context
+     * @param key       the key
+     * @param <C>       the context type
+     * @param <K>       the key type
+     * @return          the extracted value
+     */
+    public static <C, K> long extractLong(MetricsSink.Recorder rec, LongExtraction<C, K> call, C ctx, K key) {
+        final long start = System.nanoTime();
+        final long value;
+        try {
+            value = call.apply(ctx, key);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Time an extraction of a double value.
+     * @param rec       the recorder
+     * @param call      the extraction
+     * @param ctx       the context
+     * @param key       the key
+     * @param <C>       the context type
+     * @param <K>       the key type
+     * @return          the extracted value
+     */
+    public static <C, K> double extractDouble(MetricsSink.Recorder rec, DoubleExtraction<C, K> call, C ctx, K key) {
+        final long start = System.nanoTime();
+        final double value;
+        try {
+            value = call.apply(ctx, key);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Time an injection.
+     * @param rec       the recorder
+     * @param call      the injection
+     * @param ctx       the context
+     * @param index     the index
+     * @param value     the value
+     * @param <C>       the context type
+     * @param <T>       the value type
+     * @return          the result of the injection
+     */
+    public static <C, T> C inject(MetricsSink.Recorder rec, Injection<C, T> call, C ctx, int index, T value) {
+        final long start = System.nanoTime();
+        final C result;
+        try {
+            result = call.apply(ctx, index, value);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Time an injection of an int value.
+     * @param rec       the recorder
+     * @param call      the injection
+     * @param ctx       the context
+     * @param index     the index
+     * @param value     the value
+     * @param <C>       the context type
+     * @return          the result of the injection
+     */
+    public static <C> C injectInt(MetricsSink.Recorder rec, IntInjection<C> call, C ctx, int index, int value) {
+        final long start = System.nanoTime();
+        final C result;
+        try {
+            result = call.apply(ctx, index, value);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Time an injection of a long value.
+     * @param rec       the recorder
+     * @param call      the injection
+     * @param ctx       the context
+     * @param index     the index
+     * @param value     the value
+     * @param <C>       the context type
+     * @return          the result of the injection
+     */
+    public static <C> C injectLong(MetricsSink.Recorder rec, LongInjection<C> call, C ctx, int index, long value) {
+        final long start = System.nanoTime();
+        final C result;
+        try {
+            result = call.apply(ctx, index, value);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Time an injection of a double value.
+     * @param rec       the recorder
+     * @param call      the injection
+     * @param ctx       the context
+     * @param index     the index
+     * @param value     the value
+     * @param <C>       the context type
+     * @return          the result of the injection
+     */
+    public static <C> C injectDouble(MetricsSink.Recorder rec, DoubleInjection<C> call, C ctx, int index, double value) {
+        final long start = System.nanoTime();
+        final C result;
+        try {
+            result = call.apply(ctx, index, value);
+        } catch (RuntimeException | Error ex) {
+            rec.failure(System.nanoTime() - start);
+            throw ex;
+        }
+        rec.success(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -1,6 +1,7 @@
 package org.typemeta.context.properties;
 
 import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.text.TextParsers;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -28,7 +29,7 @@ private PropertiesExtractors() {}
      * A {@code Properties} extractor for {@link Boolean} values.
      */
     public static final ExtractorByName<Properties, Boolean> BOOLEAN =
-            STRING.map(s -> s == null ? null : Boolean.valueOf(s));
+            STRING.map(s -> s == null ? null : TextParsers.parseBoolean(s));
 
     /**
      * A {@code Properties} extractor for optional {@code String} values.
@@ -64,14 +65,14 @@ private PropertiesExtractors() {}
      * A {@code Properties} extractor for {@link Double} values.
      */
     public static final ExtractorByName<Properties, Double> DOUBLE =
-            STRING.map(s -> s == null ? null : Double.valueOf(s));
+            STRING.map(s -> s == null ? null : TextParsers.parseDouble(s));
 
     /**
      * A {@code Properties} extractor for {@link OptionalDouble} values.
      */
     public static final ExtractorByName<Properties, OptionalDouble> OPT_DOUBLE =
             STRING.map(s ->
-                    s == null ? OptionalDouble.empty() : OptionalDouble.of(Double.parseDouble(s))
+                    s == null ? OptionalDouble.empty() : OptionalDouble.of(TextParsers.parseDouble(s))
             );
 
     /**
@@ -90,28 +91,28 @@ private PropertiesExtractors() {}
      * A {@code Properties} extractor for {@link Integer} values.
      */
     public static final ExtractorByName<Properties, Integer> INTEGER =
-            STRING.map(s -> s == null ? null : Integer.valueOf(s));
+            STRING.map(s -> s == null ? null : TextParsers.parseInt(s));
 
     /**
      * A {@code Properties} extractor for {@link OptionalInt} values.
      */
     public static final ExtractorByName<Properties, OptionalInt> OPT_INTEGER =
             STRING.map(s ->
-                    s == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(s))
+                    s == null ? OptionalInt.empty() : OptionalInt.of(TextParsers.parseInt(s))
             );
 
     /**
      * A {@code Properties} extractor for {@link Long} values.
      */
     public static final ExtractorByName<Properties, Long> LONG =
-            STRING.map(s -> s == null ? null : Long.valueOf(s));
+            STRING.map(s -> s == null ? null : TextParsers.parseLong(s));
 
     /**
      * A {@code Properties} extractor for {@link OptionalLong} values.
      */
     public static final ExtractorByName<Properties, OptionalLong> OPT_LONG =
             STRING.map(s ->
-                    s == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(s))
+                    s == null ? OptionalLong.empty() : OptionalLong.of(TextParsers.parseLong(s))
             );
 
     /**
@@ -130,7 +131,7 @@ private PropertiesExtractors() {}
      * A {@code Properties} extractor for {@link LocalDate} values.
      */
     public static final ExtractorByName<Properties, LocalDate> LOCALDATE =
-            STRING.map(s -> s == null ? null : LocalDate.parse(s));
+            STRING.map(s -> s == null ? null : TextParsers.parseLocalDate(s));
 
     /**
      * A {@code Properties} extractor for optional {@code LocalDate} values.
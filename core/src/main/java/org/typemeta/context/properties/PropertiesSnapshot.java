@@ -0,0 +1,278 @@
+package org.typemeta.context.properties;
+
+import org.typemeta.context.functions.Functions;
+
+import java.util.*;
+
+/**
+ * An unmodifiable snapshot of a {@link Properties} object, with a shared parse cache.
+ * <p>
+ * The keys and values of a snapshot never change,
+ * but each snapshot carries a cache of parsed values which is filled in as values are extracted,
+ * and which is shared with later snapshots created via {@link #update} for the values which are unchanged.
+ * <p>
+ * The properties, including any defaults, are flattened into an open-addressing hash table when the snapshot is created,
+ * so lookups take no locks and don't walk the defaults chain.
+ * Parsed values are cached against each key, per parser,
+ * so a value is typically only parsed once, regardless of how often it is extracted.
+ * <p>
+ * The cache is updated without locking - if two threads race to parse the same value,
+ * then both parse it, and one of the results is kept.
+ * Parsers should therefore be pure functions, and should be held in constants,
+ * as the cache is keyed by parser identity.
+ * At most {@value #MAX_PARSERS} parsers are cached per key -
+ * values extracted with any further parsers (e.g. lambdas created per call) are parsed on each extraction.
+ * See {@link PropertiesSnapshotExtractors} for extractors which operate on snapshots.
+ */
+public final class PropertiesSnapshot {
+
+    /**
+     * Create a snapshot of the given properties, including its defaults.
+     * @param props     the properties
+     * @return          the snapshot
+     */
+    public static PropertiesSnapshot of(Properties props) {
+        final Set<String> names = props.stringPropertyNames();
+        final Map<String, String> map = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            map.put(name, props.getProperty(name));
+        }
+        return new PropertiesSnapshot(map, null);
+    }
+
+    /**
+     * Create a snapshot of the given map of names to values.
+     * @param map       the property map
+     * @return          the snapshot
+     * @throws NullPointerException if the map contains a null key or value
+     */
+    public static PropertiesSnapshot of(Map<String, String> map) {
+        return new PropertiesSnapshot(map, null);
+    }
+
+    /**
+     * The maximum number of parsed values cached per key.
+     */
+    static final int MAX_PARSERS = 8;
+
+    /**
+     * Marker for cached parse results which are null.
+     */
+    private static final Object NULL = new Object();
+
+    private static final class Parsed {
+        final Object parser;
+        final Object value;
+        final Parsed next;
+        final int count;
+
+        Parsed(Object parser, Object value, Parsed next) {
+            this.parser = parser;
+            this.value = value;
+            this.next = next;
+            this.count = next == null ? 1 : next.count + 1;
+        }
+    }
+
+    private static final class Entry {
+        final int hash;
+        final String key;
+        final String value;
+        volatile Parsed parsed;
+
+        Entry(int hash, String key, String value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static int hash(String key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final Entry[] table;
+    private final int mask;
+    private final int size;
+
+    private PropertiesSnapshot(Map<String, String> map, PropertiesSnapshot prev) {
+        int capacity = 4;
+        while (capacity < map.size() * 2) {
+            capacity <<= 1;
+        }
+
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.size = map.size();
+
+        map.forEach((key, value) -> {
+            Objects.requireNonNull(key, "Null property key");
+            Objects.requireNonNull(value, () -> "Null value for property '" + key + "'");
+            final int hash = hash(key);
+            int i = hash & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            // Entries with unchanged values are shared with the previous snapshot, along with their parsed values.
+            final Entry prevEntry = prev == null ? null : prev.find(key);
+            if (prevEntry != null && prevEntry.value.equals(value)) {
+                table[i] = prevEntry;
+            } else {
+                table[i] = new Entry(hash, key, value);
+            }
+        });
+    }
+
+    private Entry find(String key) {
+        final int hash = hash(key);
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            final Entry entry = table[i];
+            if (entry == null) {
+                return null;
+            } else if (entry.hash == hash && entry.key.equals(key)) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Create a new snapshot from the given map of names to values.
+     * Values which are unchanged from this snapshot retain their cached parsed values.
+     * @param map       the property map
+     * @return          the new snapshot
+     * @throws NullPointerException if the map contains a null key or value
+     */
+    public PropertiesSnapshot update(Map<String, String> map) {
+        return new PropertiesSnapshot(map, this);
+    }
+
+    /**
+     * Return the keys whose values differ between this snapshot and another,
+     * including keys which are only present in one of the snapshots.
+     * @param other     the other snapshot
+     * @return          the changed keys
+     */
+    public Set<String> diff(PropertiesSnapshot other) {
+        final Set<String> changed = new HashSet<>();
+        for (Entry entry : table) {
+            if (entry != null && !entry.value.equals(other.get(entry.key))) {
+                changed.add(entry.key);
+            }
+        }
+        for (Entry entry : other.table) {
+            if (entry != null && find(entry.key) == null) {
+                changed.add(entry.key);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Return the number of properties in this snapshot.
+     * @return          the number of properties
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether this snapshot has a value for the given key.
+     * @param key       the property key
+     * @return          true if there is a value for the key
+     */
+    public boolean containsKey(String key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Return the set of property keys in this snapshot.
+     * @return          the property keys
+     */
+    public Set<String> keys() {
+        final Set<String> keys = new HashSet<>(size * 2);
+        for (Entry entry : table) {
+            if (entry != null) {
+                keys.add(entry.key);
+            }
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Return the value for the given key.
+     * @param key       the property key
+     * @return          the value, or null if there is no value for the key
+     */
+    public String get(String key) {
+        final Entry entry = find(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Return the value for the given key, converted by the given parser.
+     * The parser is not called if there is no value for the key,
+     * otherwise the parsed value is cached against the key and parser,
+     * unless {@value #MAX_PARSERS} other parsers are already cached for the key.
+     * @param key       the property key
+     * @param parser    the parser
+     * @param <T>       the parsed value type
+     * @return          the parsed value, or null if there is no value for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Functions.F<String, T> parser) {
+        final Entry entry = find(key);
+        if (entry == null) {
+            return null;
+        }
+
+        final Parsed head = entry.parsed;
+        for (Parsed p = head; p != null; p = p.next) {
+            if (p.parser == parser) {
+                return p.value == NULL ? null : (T)p.value;
+            }
+        }
+
+        final T value = parser.apply(entry.value);
+        if (head == null || head.count < MAX_PARSERS) {
+            entry.parsed = new Parsed(parser, value == null ? NULL : value, head);
+        }
+        return value;
+    }
+
+    /**
+     * @param key       the property key
+     * @return          the number of parsed values cached for the key
+     */
+    int cachedCount(String key) {
+        final Entry entry = find(key);
+        final Parsed head = entry == null ? null : entry.parsed;
+        return head == null ? 0 : head.count;
+    }
+
+    /**
+     * Convert this snapshot back into a {@link Properties} object.
+     * @return          the properties
+     */
+    public Properties toProperties() {
+        final Properties props = new Properties();
+        for (Entry entry : table) {
+            if (entry != null) {
+                props.setProperty(entry.key, entry.value);
+            }
+        }
+        return props;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner sj = new StringJoiner(", ", "PropertiesSnapshot{", "}");
+        for (Entry entry : table) {
+            if (entry != null) {
+                sj.add(entry.key + "=" + entry.value);
+            }
+        }
+        return sj.toString();
+    }
+}
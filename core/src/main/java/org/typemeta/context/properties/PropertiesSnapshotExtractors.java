@@ -0,0 +1,154 @@
+package org.typemeta.context.properties;
+
+import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.functions.Functions;
+import org.typemeta.context.text.TextParsers;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * A set of extractors for extracting values from {@link PropertiesSnapshot} objects.
+ * These mirror the extractors in {@link PropertiesExtractors},
+ * however the parsed values are cached by the snapshot.
+ */
+public abstract class PropertiesSnapshotExtractors {
+
+    private PropertiesSnapshotExtractors() {}
+
+    /**
+     * Create a {@code PropertiesSnapshot} extractor which applies the given parser to the property value.
+     * The parsed values are cached against the parser instance,
+     * so the parser should be held in a constant rather than created per call -
+     * the cache holds a limited number of parsers per key, beyond which values are parsed on each extraction.
+     * @param parser    the parser
+     * @param <T>       the parsed value type
+     * @return          the extractor
+     */
+    public static <T> ExtractorByName<PropertiesSnapshot, T> parsed(Functions.F<String, T> parser) {
+        return (snap, name) -> snap.get(name, parser);
+    }
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link String} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, String> STRING =
+            ExtractorByName.of(PropertiesSnapshot::get);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code String} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<String>> OPT_STRING =
+            parsed(Optional::of).map(o -> o == null ? Optional.empty() : o);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Boolean} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Boolean> BOOLEAN =
+            parsed(TextParsers::parseBoolean);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code Boolean} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<Boolean>> OPT_BOOLEAN =
+            BOOLEAN.optional();
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Byte} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Byte> BYTE =
+            parsed(Byte::valueOf);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code Byte} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<Byte>> OPT_BYTE =
+            BYTE.optional();
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Character} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Character> CHAR =
+            parsed(s -> s.isEmpty() ? null : s.charAt(0));
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code Character} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<Character>> OPT_CHAR =
+            CHAR.optional();
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Double} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Double> DOUBLE =
+            parsed(TextParsers::parseDouble);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link OptionalDouble} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, OptionalDouble> OPT_DOUBLE =
+            parsed(s -> OptionalDouble.of(TextParsers.parseDouble(s)))
+                    .map(o -> o == null ? OptionalDouble.empty() : o);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Float} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Float> FLOAT =
+            parsed(Float::valueOf);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code Float} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<Float>> OPT_FLOAT =
+            FLOAT.optional();
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Integer} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Integer> INTEGER =
+            parsed(TextParsers::parseInt);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link OptionalInt} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, OptionalInt> OPT_INTEGER =
+            parsed(s -> OptionalInt.of(TextParsers.parseInt(s)))
+                    .map(o -> o == null ? OptionalInt.empty() : o);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Long} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Long> LONG =
+            parsed(TextParsers::parseLong);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link OptionalLong} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, OptionalLong> OPT_LONG =
+            parsed(s -> OptionalLong.of(TextParsers.parseLong(s)))
+                    .map(o -> o == null ? OptionalLong.empty() : o);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link Short} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Short> SHORT =
+            parsed(Short::valueOf);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code Short} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<Short>> OPT_SHORT =
+            SHORT.optional();
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for {@link LocalDate} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, LocalDate> LOCALDATE =
+            parsed(TextParsers::parseLocalDate);
+
+    /**
+     * A {@code PropertiesSnapshot} extractor for optional {@code LocalDate} values.
+     */
+    public static final ExtractorByName<PropertiesSnapshot, Optional<LocalDate>> OPT_LOCALDATE =
+            LOCALDATE.optional();
+}
@@ -0,0 +1,379 @@
+package org.typemeta.context.properties;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.jfr.ConfigReloadEvent;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * A hot-reloadable configuration source, backed by a {@code .properties} file.
+ * <p>
+ * The file is loaded into a {@link PropertiesSnapshot}, which is published via an atomic reference,
+ * so readers never block.
+ * When the file changes, a new snapshot is built and swapped in.
+ * Values which are unchanged share their cached parsed values with the previous snapshot,
+ * so only the modified keys are re-parsed.
+ * <p>
+ * Extractors can be bound to the watcher using {@link #bind},
+ * in which case the extracted value is recomputed only when one of the keys the extractor read has changed.
+ * <p>
+ * The file is watched by a daemon thread using a {@link WatchService},
+ * which is started by {@link #start} and stopped by {@link #close}.
+ * Alternatively, {@link #reload} can be called directly.
+ */
+public final class PropertiesWatcher implements Closeable {
+
+    /**
+     * Open a watcher for the given file, and load the initial snapshot.
+     * The watcher thread is not started.
+     * @param file      the properties file
+     * @param onError   the handler for errors raised while reloading in the watcher thread
+     * @return          the watcher
+     * @throws IOException if the file can't be read
+     */
+    public static PropertiesWatcher open(Path file, Consumer<? super Exception> onError) throws IOException {
+        return new PropertiesWatcher(file.toAbsolutePath(), onError);
+    }
+
+    /**
+     * A value extracted from the current snapshot, which is recomputed when its keys change.
+     * @param <T>       the value type
+     */
+    public static final class Binding<T> {
+
+        /**
+         * The extracted value along with the keys it was extracted from,
+         * published together so readers never see a value paired with another value's keys.
+         */
+        private static final class State<T> {
+            final Set<String> keys;
+            final boolean allKeys;
+            final T value;
+
+            State(Set<String> keys, boolean allKeys, T value) {
+                this.keys = keys;
+                this.allKeys = allKeys;
+                this.value = value;
+            }
+        }
+
+        private final Extractor<Properties, T> extr;
+        private volatile State<T> state;
+
+        private Binding(Extractor<Properties, T> extr, PropertiesSnapshot snapshot) {
+            this.extr = extr;
+            refresh(snapshot);
+        }
+
+        private void refresh(PropertiesSnapshot snapshot) {
+            final RecordingProperties props = new RecordingProperties(snapshot);
+            final T newValue = extr.extract(props);
+            if (props.allKeys) {
+                props.keys.addAll(snapshot.keys());
+            }
+            state = new State<>(Collections.unmodifiableSet(props.keys), props.allKeys, newValue);
+        }
+
+        private boolean refreshIfChanged(PropertiesSnapshot snapshot, Set<String> changed) {
+            final State<T> st = state;
+            if (st.allKeys) {
+                refresh(snapshot);
+                return true;
+            }
+            for (String key : st.keys) {
+                if (changed.contains(key)) {
+                    refresh(snapshot);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Return the current value.
+         * @return          the current value
+         */
+        public T get() {
+            return state.value;
+        }
+
+        /**
+         * Return the keys read by the extractor when the value was last computed.
+         * If the extractor enumerated the property names, then this is every key in the snapshot.
+         * @return          the keys
+         */
+        public Set<String> keys() {
+            return state.keys;
+        }
+    }
+
+    /**
+     * A {@code Properties} object which records the keys looked up via the {@code Properties} and {@code Map} lookup methods.
+     * Enumerating the property names records a dependency on all keys.
+     * Bulk views which can't be recorded, such as {@code entrySet}, are rejected.
+     */
+    private static final class RecordingProperties extends Properties {
+        private static final long serialVersionUID = 1L;
+
+        final transient PropertiesSnapshot snapshot;
+        final transient Set<String> keys = new HashSet<>();
+        transient boolean allKeys;
+
+        RecordingProperties(PropertiesSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        private Set<String> allKeys() {
+            allKeys = true;
+            return snapshot.keys();
+        }
+
+        @Override
+        public String getProperty(String key) {
+            keys.add(key);
+            return snapshot.get(key);
+        }
+
+        @Override
+        public String getProperty(String key, String defaultValue) {
+            final String value = getProperty(key);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getProperty((String)key) : null;
+        }
+
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+            final Object value = get(key);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<String> stringPropertyNames() {
+            return allKeys();
+        }
+
+        @Override
+        public Enumeration<?> propertyNames() {
+            return Collections.enumeration(allKeys());
+        }
+
+        @Override
+        public Enumeration<Object> keys() {
+            return Collections.enumeration(new ArrayList<>(allKeys()));
+        }
+
+        @Override
+        public Set<Object> keySet() {
+            return Collections.unmodifiableSet(allKeys());
+        }
+
+        @Override
+        public int size() {
+            return allKeys().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return allKeys().isEmpty();
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            throw new UnsupportedOperationException("Bound extractors must look up properties by key");
+        }
+
+        @Override
+        public Collection<Object> values() {
+            throw new UnsupportedOperationException("Bound extractors must look up properties by key");
+        }
+
+        @Override
+        public Enumeration<Object> elements() {
+            throw new UnsupportedOperationException("Bound extractors must look up properties by key");
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Object, ? super Object> action) {
+            throw new UnsupportedOperationException("Bound extractors must look up properties by key");
+        }
+    }
+
+    private static Map<String, String> parse(byte[] bytes) throws IOException {
+        final Properties props = new Properties();
+        try (final InputStream is = new ByteArrayInputStream(bytes)) {
+            props.load(is);
+        }
+
+        final Map<String, String> map = new HashMap<>();
+        for (String name : props.stringPropertyNames()) {
+            map.put(name, props.getProperty(name));
+        }
+        return map;
+    }
+
+    private final Path file;
+    private final Consumer<? super Exception> onError;
+    private final AtomicReference<PropertiesSnapshot> current;
+    private final List<Binding<?>> bindings = new CopyOnWriteArrayList<>();
+    private final WatchService watchService;
+    private Thread thread;
+
+    private PropertiesWatcher(Path file, Consumer<? super Exception> onError) throws IOException {
+        this.file = file;
+        this.onError = onError;
+        this.current = new AtomicReference<>(PropertiesSnapshot.of(parse(Files.readAllBytes(file))));
+        this.watchService = file.getFileSystem().newWatchService();
+    }
+
+    /**
+     * Return the current snapshot.
+     * @return          the current snapshot
+     */
+    public PropertiesSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Bind an extractor to this watcher.
+     * The value is extracted immediately, and then re-extracted whenever a key it read changes.
+     * Keys are recorded via {@link Properties#getProperty}, which is used by all the {@link PropertiesExtractors},
+     * as well as via {@code get} and {@code containsKey}.
+     * An extractor which enumerates the property names is recomputed whenever any key changes.
+     * @param extr      the extractor
+     * @param <T>       the extracted value type
+     * @return          the binding
+     */
+    public synchronized <T> Binding<T> bind(Extractor<Properties, T> extr) {
+        final Binding<T> binding = new Binding<>(extr, current.get());
+        bindings.add(binding);
+        return binding;
+    }
+
+    /**
+     * Reload the file, and publish a new snapshot if it has changed.
+     * Bindings which depend on changed keys are then recomputed.
+     * @return          the changed keys, which is empty if the file is unchanged
+     * @throws IOException if the file can't be read
+     */
+    public synchronized Set<String> reload() throws IOException {
+        final ConfigReloadEvent event = ConfigReloadEvent.start();
+        final PropertiesSnapshot prev = current.get();
+        final byte[] bytes = Files.readAllBytes(file);
+        final PropertiesSnapshot next = prev.update(parse(bytes));
+        final Set<String> changed = prev.diff(next);
+        int refreshed = 0;
+        try {
+            if (!changed.isEmpty()) {
+                refreshed = publish(next, changed);
+            }
+        } finally {
+            if (event != null) {
+                event.finish(file.toString(), bytes.length, changed.size(), refreshed);
+            }
+        }
+        return changed;
+    }
+
+    private int publish(PropertiesSnapshot next, Set<String> changed) {
+        current.set(next);
+        int refreshed = 0;
+        RuntimeException error = null;
+        for (Binding<?> binding : bindings) {
+            try {
+                if (binding.refreshIfChanged(next, changed)) {
+                    ++refreshed;
+                }
+            } catch (RuntimeException ex) {
+                // Keep the previous value, and carry on refreshing the other bindings.
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return refreshed;
+    }
+
+    /**
+     * Start the watcher thread.
+     * @return          this watcher
+     * @throws IOException if the file's directory can't be watched
+     */
+    public synchronized PropertiesWatcher start() throws IOException {
+        if (thread == null) {
+            file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            thread = new Thread(this::watch, "PropertiesWatcher-" + file.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return this;
+    }
+
+    /**
+     * Check whether a batch of watch events may have modified the file.
+     * An {@link StandardWatchEventKinds#OVERFLOW OVERFLOW} event means events were lost,
+     * so it is treated as a possible modification.
+     * @param fileName  the name of the watched file
+     * @param events    the events
+     * @return          true if the file should be reloaded
+     */
+    static boolean affects(Path fileName, List<WatchEvent<?>> events) {
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == OVERFLOW || fileName.equals(event.context())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void watch() {
+        final Path fileName = file.getFileName();
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                final boolean modified = affects(fileName, key.pollEvents());
+                key.reset();
+
+                if (modified) {
+                    try {
+                        reload();
+                    } catch (IOException | RuntimeException ex) {
+                        onError.accept(ex);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ex) {
+            // Closed - exit the thread.
+        }
+    }
+
+    /**
+     * Stop the watcher thread.
+     * @throws IOException if the watch service fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,190 @@
+package org.typemeta.context.testing;
+
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.utils.ThreadAllocation;
+
+/**
+ * Assertions on the number of bytes allocated per invocation of an operation,
+ * intended for tests which guard the allocation-free hot paths of extractors and injectors.
+ * <p>
+ * Allocation is measured with {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}.
+ * Each operation is first run for a warm-up period, so that it is JIT-compiled,
+ * and then run repeatedly on the current thread while measuring the bytes the thread allocates.
+ * The measurement is repeated a few times and the lowest result is used,
+ * which discounts one-off allocations by the JVM itself.
+ * <p>
+ * The assertions throw {@link AssertionError}, so can be used with any test framework.
+ * If the JVM doesn't support allocation measurement (see {@link #isSupported}) then the assertions pass.
+ * <pre>{@code
+ * AllocationAssert.assertNoAllocation("INTEGER.extractInt", 100_000,
+ *         () -> sum += ByteBufferExtractors.INTEGER.extractInt(buffer, 4));
+ * }</pre>
+ * Extractors and injectors for primitive values should be exercised via their primitive methods,
+ * e.g. {@code extractInt}, as the generic methods box the value.
+ */
+public abstract class AllocationAssert {
+
+    private AllocationAssert() {}
+
+    /**
+     * The minimum number of warm-up invocations.
+     */
+    public static final int MIN_WARMUP = 20_000;
+
+    /**
+     * The allowance, in bytes per operation, for an operation which is expected not to allocate.
+     * Any allocation which happens on every invocation will be at least 16 bytes per operation.
+     */
+    public static final double NO_ALLOCATION_TOLERANCE = 0.1;
+
+    private static final int RUNS = 3;
+
+    /**
+     * Holds the results of extractions, so that they are not optimised away.
+     */
+    private static Object sink;
+
+    /**
+     * @return          true if the JVM supports measuring the bytes allocated by a thread
+     */
+    public static boolean isSupported() {
+        return ThreadAllocation.isSupported();
+    }
+
+    /**
+     * Measure the number of bytes allocated per invocation of an operation.
+     * @param iterations    the number of invocations to measure
+     * @param op            the operation
+     * @return              the bytes allocated per invocation, or {@code NaN} if measurement isn't supported
+     */
+    public static double bytesPerOp(int iterations, Runnable op) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        } else if (!isSupported()) {
+            return Double.NaN;
+        }
+
+        final int warmup = Math.max(MIN_WARMUP, iterations);
+        for (int i = 0; i < warmup; ++i) {
+            op.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; ++run) {
+            final long start = ThreadAllocation.allocatedBytes();
+            final long overhead = ThreadAllocation.allocatedBytes() - start;
+            for (int i = 0; i < iterations; ++i) {
+                op.run();
+            }
+            final long bytes = ThreadAllocation.allocatedBytes() - start - 2 * overhead;
+            best = Math.min(best, Math.max(0, bytes));
+        }
+        return (double)best / iterations;
+    }
+
+    /**
+     * Measure the number of bytes allocated per invocation of an extractor.
+     * @param extr          the extractor
+     * @param ctx           the context to extract from
+     * @param iterations    the number of invocations to measure
+     * @param <CTX>         the context type
+     * @param <T>           the extracted value type
+     * @return              the bytes allocated per invocation, or {@code NaN} if measurement isn't supported
+     */
+    public static <CTX, T> double bytesPerExtract(Extractor<CTX, T> extr, CTX ctx, int iterations) {
+        return bytesPerOp(iterations, () -> sink = extr.extract(ctx));
+    }
+
+    /**
+     * Measure the number of bytes allocated per invocation of an injector.
+     * @param injr          the injector
+     * @param ctx           the context to inject into
+     * @param value         the value to inject
+     * @param iterations    the number of invocations to measure
+     * @param <CTX>         the context type
+     * @param <T>           the injected value type
+     * @return              the bytes allocated per invocation, or {@code NaN} if measurement isn't supported
+     */
+    public static <CTX, T> double bytesPerInject(Injector<CTX, T> injr, CTX ctx, T value, int iterations) {
+        return bytesPerOp(iterations, () -> sink = injr.inject(ctx, value));
+    }
+
+    /**
+     * Assert that an operation allocates at most the given number of bytes per invocation, on average.
+     * @param description   a description of the operation, for the failure message
+     * @param maxBytes      the maximum bytes per invocation
+     * @param iterations    the number of invocations to measure
+     * @param op            the operation
+     * @throws AssertionError if the operation allocates more than the maximum
+     */
+    public static void assertAllocatesAtMost(String description, double maxBytes, int iterations, Runnable op) {
+        check(description, maxBytes, bytesPerOp(iterations, op));
+    }
+
+    /**
+     * Assert that an operation does not allocate.
+     * @param description   a description of the operation, for the failure message
+     * @param iterations    the number of invocations to measure
+     * @param op            the operation
+     * @throws AssertionError if the operation allocates
+     */
+    public static void assertNoAllocation(String description, int iterations, Runnable op) {
+        check(description, NO_ALLOCATION_TOLERANCE, bytesPerOp(iterations, op));
+    }
+
+    /**
+     * Assert that an extractor allocates at most the given number of bytes per extraction, on average.
+     * @param description   a description of the extractor, for the failure message
+     * @param maxBytes      the maximum bytes per extraction
+     * @param extr          the extractor
+     * @param ctx           the context to extract from
+     * @param iterations    the number of invocations to measure
+     * @param <CTX>         the context type
+     * @param <T>           the extracted value type
+     * @throws AssertionError if the extractor allocates more than the maximum
+     */
+    public static <CTX, T> void assertAllocatesAtMost(
+            String description,
+            double maxBytes,
+            Extractor<CTX, T> extr,
+            CTX ctx,
+            int iterations
+    ) {
+        check(description, maxBytes, bytesPerExtract(extr, ctx, iterations));
+    }
+
+    /**
+     * Assert that an injector allocates at most the given number of bytes per injection, on average.
+     * @param description   a description of the injector, for the failure message
+     * @param maxBytes      the maximum bytes per injection
+     * @param injr          the injector
+     * @param ctx           the context to inject into
+     * @param value         the value to inject
+     * @param iterations    the number of invocations to measure
+     * @param <CTX>         the context type
+     * @param <T>           the injected value type
+     * @throws AssertionError if the injector allocates more than the maximum
+     */
+    public static <CTX, T> void assertAllocatesAtMost(
+            String description,
+            double maxBytes,
+            Injector<CTX, T> injr,
+            CTX ctx,
+            T value,
+            int iterations
+    ) {
+        check(description, maxBytes, bytesPerInject(injr, ctx, value, iterations));
+    }
+
+    private static void check(String description, double maxBytes, double actual) {
+        if (actual > maxBytes) {
+            throw new AssertionError(String.format(
+                    "%s allocated %.2f bytes per operation, expected at most %.2f",
+                    description,
+                    actual,
+                    maxBytes
+            ));
+        }
+    }
+}
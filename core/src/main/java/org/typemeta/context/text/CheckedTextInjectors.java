@@ -0,0 +1,153 @@
+package org.typemeta.context.text;
+
+import org.typemeta.context.injectors.DoubleInjector;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.IntInjector;
+import org.typemeta.context.injectors.LongInjector;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A set of injectors for writing values as text into an {@link Appendable},
+ * such as a {@link StringBuilder}, {@link java.nio.CharBuffer} or {@link java.io.Writer}.
+ * Values are formatted using {@link TextFormatters}, without creating intermediate strings.
+ * Null and empty optional values are written as empty text.
+ * These injectors may throw {@link IOException} exceptions.
+ */
+public abstract class CheckedTextInjectors {
+
+    private CheckedTextInjectors() {}
+
+    /**
+     * Create an {@code Appendable} injector from a side-effecting function,
+     * which writes nothing for null values.
+     * @param f         the side-effecting function
+     * @param <T>       the injected value type
+     * @return          the injector
+     */
+    public static <T> Injector.Checked<Appendable, T, IOException> nullSafe(
+            Injector.Checked.SideEffect<Appendable, T, IOException> f
+    ) {
+        return (app, value) -> {
+            if (value != null) {
+                f.inject(app, value);
+            }
+            return app;
+        };
+    }
+
+    /**
+     * An {@code Appendable} injector for {@link String} values.
+     */
+    public static final Injector.Checked<Appendable, String, IOException> STRING =
+            nullSafe(Appendable::append);
+
+    /**
+     * An {@code Appendable} injector for optional {@code String} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<String>, IOException> OPT_STRING =
+            STRING.optional();
+
+    /**
+     * An {@code Appendable} injector for {@link Boolean} values.
+     */
+    public static final Injector.Checked<Appendable, Boolean, IOException> BOOLEAN =
+            nullSafe(TextFormatters::appendBoolean);
+
+    /**
+     * An {@code Appendable} injector for optional {@code Boolean} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<Boolean>, IOException> OPT_BOOLEAN =
+            BOOLEAN.optional();
+
+    /**
+     * An {@code Appendable} injector for {@link Character} values.
+     */
+    public static final Injector.Checked<Appendable, Character, IOException> CHAR =
+            nullSafe(Appendable::append);
+
+    /**
+     * An {@code Appendable} injector for optional {@code Character} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<Character>, IOException> OPT_CHAR =
+            CHAR.optional();
+
+    /**
+     * An {@code Appendable} injector for double values.
+     */
+    public static final DoubleInjector.Checked<Appendable, IOException> DOUBLE =
+            DoubleInjector.Checked.ofSideEffect(TextFormatters::appendDouble);
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalDouble} values.
+     */
+    public static final Injector.Checked<Appendable, OptionalDouble, IOException> OPT_DOUBLE =
+            DOUBLE.optionalDbl();
+
+    /**
+     * An {@code Appendable} injector for integer values.
+     */
+    public static final IntInjector.Checked<Appendable, IOException> INTEGER =
+            IntInjector.Checked.ofSideEffect(TextFormatters::appendInt);
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalInt} values.
+     */
+    public static final Injector.Checked<Appendable, OptionalInt, IOException> OPT_INTEGER =
+            INTEGER.optionalInt();
+
+    /**
+     * An {@code Appendable} injector for long values.
+     */
+    public static final LongInjector.Checked<Appendable, IOException> LONG =
+            LongInjector.Checked.ofSideEffect(TextFormatters::appendLong);
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalLong} values.
+     */
+    public static final Injector.Checked<Appendable, OptionalLong, IOException> OPT_LONG =
+            LONG.optionalLong();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalDate} values.
+     */
+    public static final Injector.Checked<Appendable, LocalDate, IOException> LOCALDATE =
+            nullSafe(TextFormatters::appendLocalDate);
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalDate} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<LocalDate>, IOException> OPT_LOCALDATE =
+            LOCALDATE.optional();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalTime} values.
+     */
+    public static final Injector.Checked<Appendable, LocalTime, IOException> LOCALTIME =
+            nullSafe(TextFormatters::appendLocalTime);
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalTime} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<LocalTime>, IOException> OPT_LOCALTIME =
+            LOCALTIME.optional();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalDateTime} values.
+     */
+    public static final Injector.Checked<Appendable, LocalDateTime, IOException> LOCALDATETIME =
+            nullSafe(TextFormatters::appendLocalDateTime);
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalDateTime} values.
+     */
+    public static final Injector.Checked<Appendable, Optional<LocalDateTime>, IOException> OPT_LOCALDATETIME =
+            LOCALDATETIME.optional();
+}
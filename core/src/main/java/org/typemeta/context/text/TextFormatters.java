@@ -0,0 +1,171 @@
+package org.typemeta.context.text;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Formatters which write primitive numbers and ISO-8601 dates and times directly into an {@link Appendable},
+ * such as a {@link StringBuilder}, {@link java.nio.CharBuffer} or {@link java.io.Writer},
+ * without creating intermediate strings.
+ * <p>
+ * The output is identical to the corresponding {@code toString} method,
+ * e.g. {@link Integer#toString(int)} or {@link LocalDate#toString()},
+ * so the values can be read back using {@link TextParsers}.
+ */
+public abstract class TextFormatters {
+
+    private TextFormatters() {}
+
+    /**
+     * Per-thread buffer used to format doubles for targets other than {@code StringBuilder}.
+     */
+    private static final ThreadLocal<StringBuilder> DOUBLE_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+    };
+
+    /**
+     * Append a non-negative value as a fixed number of digits, padded with leading zeros.
+     */
+    private static void appendPadded(Appendable app, int value, int width) throws IOException {
+        for (int i = width - 1; i >= 0; --i) {
+            app.append((char)('0' + (value / POW10[i]) % 10));
+        }
+    }
+
+    /**
+     * Append a boolean value.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendBoolean(Appendable app, boolean value) throws IOException {
+        app.append(value ? "true" : "false");
+    }
+
+    /**
+     * Append a decimal integer value.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendInt(Appendable app, int value) throws IOException {
+        if (app instanceof StringBuilder) {
+            ((StringBuilder)app).append(value);
+        } else {
+            appendLong(app, value);
+        }
+    }
+
+    /**
+     * Append a decimal long value.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendLong(Appendable app, long value) throws IOException {
+        if (app instanceof StringBuilder) {
+            ((StringBuilder)app).append(value);
+        } else {
+            // Work with the negated value, so that Long.MIN_VALUE is handled.
+            if (value < 0) {
+                app.append('-');
+            } else {
+                value = -value;
+            }
+
+            long div = 1;
+            while (value / div <= -10) {
+                div *= 10;
+            }
+
+            for (; div > 0; div /= 10) {
+                app.append((char)('0' - (value / div) % 10));
+            }
+        }
+    }
+
+    /**
+     * Append a double value, formatted as per {@link Double#toString(double)}.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendDouble(Appendable app, double value) throws IOException {
+        if (app instanceof StringBuilder) {
+            ((StringBuilder)app).append(value);
+        } else {
+            final StringBuilder sb = DOUBLE_BUFFER.get();
+            sb.setLength(0);
+            sb.append(value);
+            for (int i = 0; i < sb.length(); ++i) {
+                app.append(sb.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Append a date in ISO-8601 format, e.g. {@code 2021-04-19}.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendLocalDate(Appendable app, LocalDate value) throws IOException {
+        final int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Years outside the 4-digit range have a sign prefix.
+            app.append(value.toString());
+        } else {
+            appendPadded(app, year, 4);
+            app.append('-');
+            appendPadded(app, value.getMonthValue(), 2);
+            app.append('-');
+            appendPadded(app, value.getDayOfMonth(), 2);
+        }
+    }
+
+    /**
+     * Append a time in ISO-8601 format, e.g. {@code 10:15}, {@code 10:15:30} or {@code 10:15:30.123}.
+     * As with {@link LocalTime#toString()}, the shortest of these forms which represents the time exactly is used.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendLocalTime(Appendable app, LocalTime value) throws IOException {
+        appendPadded(app, value.getHour(), 2);
+        app.append(':');
+        appendPadded(app, value.getMinute(), 2);
+
+        final int second = value.getSecond();
+        final int nano = value.getNano();
+        if (second > 0 || nano > 0) {
+            app.append(':');
+            appendPadded(app, second, 2);
+            if (nano > 0) {
+                app.append('.');
+                if (nano % 1000000 == 0) {
+                    appendPadded(app, nano / 1000000, 3);
+                } else if (nano % 1000 == 0) {
+                    appendPadded(app, nano / 1000, 6);
+                } else {
+                    appendPadded(app, nano, 9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a date-time in ISO-8601 format, e.g. {@code 2021-04-19T10:15:30}.
+     * @param app       the target
+     * @param value     the value
+     * @throws IOException if the target fails
+     */
+    public static void appendLocalDateTime(Appendable app, LocalDateTime value) throws IOException {
+        appendLocalDate(app, value.toLocalDate());
+        app.append('T');
+        appendLocalTime(app, value.toLocalTime());
+    }
+}
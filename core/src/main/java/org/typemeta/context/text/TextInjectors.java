@@ -0,0 +1,134 @@
+package org.typemeta.context.text;
+
+import org.typemeta.context.injectors.DoubleInjector;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.IntInjector;
+import org.typemeta.context.injectors.LongInjector;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A set of injectors for writing values as text into an {@link Appendable},
+ * such as a {@link StringBuilder}, {@link java.nio.CharBuffer} or {@link java.io.Writer}.
+ * These injectors catch any {@link IOException} exceptions and rethrow as an unchecked exception.
+ * @see CheckedTextInjectors
+ */
+public abstract class TextInjectors {
+
+    private TextInjectors() {}
+
+    /**
+     * An {@code Appendable} injector for {@link String} values.
+     */
+    public static final Injector<Appendable, String> STRING =
+            CheckedTextInjectors.STRING.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code String} values.
+     */
+    public static final Injector<Appendable, Optional<String>> OPT_STRING =
+            CheckedTextInjectors.OPT_STRING.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link Boolean} values.
+     */
+    public static final Injector<Appendable, Boolean> BOOLEAN =
+            CheckedTextInjectors.BOOLEAN.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code Boolean} values.
+     */
+    public static final Injector<Appendable, Optional<Boolean>> OPT_BOOLEAN =
+            CheckedTextInjectors.OPT_BOOLEAN.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link Character} values.
+     */
+    public static final Injector<Appendable, Character> CHAR =
+            CheckedTextInjectors.CHAR.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code Character} values.
+     */
+    public static final Injector<Appendable, Optional<Character>> OPT_CHAR =
+            CheckedTextInjectors.OPT_CHAR.unchecked();
+
+    /**
+     * An {@code Appendable} injector for double values.
+     */
+    public static final DoubleInjector<Appendable> DOUBLE =
+            CheckedTextInjectors.DOUBLE.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalDouble} values.
+     */
+    public static final Injector<Appendable, OptionalDouble> OPT_DOUBLE =
+            CheckedTextInjectors.OPT_DOUBLE.unchecked();
+
+    /**
+     * An {@code Appendable} injector for integer values.
+     */
+    public static final IntInjector<Appendable> INTEGER =
+            CheckedTextInjectors.INTEGER.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalInt} values.
+     */
+    public static final Injector<Appendable, OptionalInt> OPT_INTEGER =
+            CheckedTextInjectors.OPT_INTEGER.unchecked();
+
+    /**
+     * An {@code Appendable} injector for long values.
+     */
+    public static final LongInjector<Appendable> LONG =
+            CheckedTextInjectors.LONG.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link OptionalLong} values.
+     */
+    public static final Injector<Appendable, OptionalLong> OPT_LONG =
+            CheckedTextInjectors.OPT_LONG.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalDate} values.
+     */
+    public static final Injector<Appendable, LocalDate> LOCALDATE =
+            CheckedTextInjectors.LOCALDATE.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalDate} values.
+     */
+    public static final Injector<Appendable, Optional<LocalDate>> OPT_LOCALDATE =
+            CheckedTextInjectors.OPT_LOCALDATE.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalTime} values.
+     */
+    public static final Injector<Appendable, LocalTime> LOCALTIME =
+            CheckedTextInjectors.LOCALTIME.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalTime} values.
+     */
+    public static final Injector<Appendable, Optional<LocalTime>> OPT_LOCALTIME =
+            CheckedTextInjectors.OPT_LOCALTIME.unchecked();
+
+    /**
+     * An {@code Appendable} injector for {@link LocalDateTime} values.
+     */
+    public static final Injector<Appendable, LocalDateTime> LOCALDATETIME =
+            CheckedTextInjectors.LOCALDATETIME.unchecked();
+
+    /**
+     * An {@code Appendable} injector for optional {@code LocalDateTime} values.
+     */
+    public static final Injector<Appendable, Optional<LocalDateTime>> OPT_LOCALDATETIME =
+            CheckedTextInjectors.OPT_LOCALDATETIME.unchecked();
+}
@@ -0,0 +1,436 @@
+package org.typemeta.context.text;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parsers for primitive numbers and ISO-8601 dates and times,
+ * which operate on a range of characters within a {@link CharSequence},
+ * for use by text-based contexts such as properties and CSV files.
+ * <p>
+ * Each parser handles the common forms directly, without allocating,
+ * and falls back to the corresponding JDK parser (e.g. {@link Integer#parseInt} or {@link LocalDate#parse})
+ * for anything else.
+ * Consequently the parsers accept exactly the same inputs, and return the same values,
+ * as the JDK parsers, and throw the same exceptions for invalid inputs.
+ */
+public abstract class TextParsers {
+
+    private TextParsers() {}
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The maximum number of significant decimal digits which fit exactly in a double mantissa.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private static int digit(CharSequence cs, int i) {
+        return cs.charAt(i) - '0';
+    }
+
+    /**
+     * Parse a run of decimal digits, returning -1 if any of the characters isn't a digit.
+     * The number of digits must be small enough that the result can't overflow.
+     */
+    private static int digits(CharSequence cs, int start, int end) {
+        int r = 0;
+        for (int i = start; i < end; ++i) {
+            final int d = digit(cs, i);
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            r = r * 10 + d;
+        }
+        return r;
+    }
+
+    /**
+     * Parse a boolean value, using the same rules as {@link Boolean#parseBoolean},
+     * i.e. {@code true} if the text is equal to "true", ignoring case, and {@code false} otherwise.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed value
+     */
+    public static boolean parseBoolean(CharSequence cs, int start, int end) {
+        if (end - start != 4) {
+            return false;
+        } else {
+            return (cs.charAt(start) | 0x20) == 't'
+                    && (cs.charAt(start + 1) | 0x20) == 'r'
+                    && (cs.charAt(start + 2) | 0x20) == 'u'
+                    && (cs.charAt(start + 3) | 0x20) == 'e';
+        }
+    }
+
+    /**
+     * Parse a boolean value.
+     * @param cs        the text
+     * @return          the parsed value
+     * @see #parseBoolean(CharSequence, int, int)
+     */
+    public static boolean parseBoolean(CharSequence cs) {
+        return parseBoolean(cs, 0, cs.length());
+    }
+
+    /**
+     * Parse a decimal integer value.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid integer
+     */
+    public static int parseInt(CharSequence cs, int start, int end) {
+        int i = start;
+        boolean neg = false;
+        if (i < end) {
+            final char c = cs.charAt(i);
+            if (c == '-') {
+                neg = true;
+                ++i;
+            } else if (c == '+') {
+                ++i;
+            }
+        }
+
+        // Up to 9 digits can't overflow.
+        if (i == end || end - i > 9) {
+            return Integer.parseInt(cs, start, end, 10);
+        }
+
+        final int r = digits(cs, i, end);
+        if (r < 0) {
+            return Integer.parseInt(cs, start, end, 10);
+        }
+
+        return neg ? -r : r;
+    }
+
+    /**
+     * Parse a decimal integer value.
+     * @param cs        the text
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid integer
+     */
+    public static int parseInt(CharSequence cs) {
+        return parseInt(cs, 0, cs.length());
+    }
+
+    /**
+     * Parse a decimal long value.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid long
+     */
+    public static long parseLong(CharSequence cs, int start, int end) {
+        int i = start;
+        boolean neg = false;
+        if (i < end) {
+            final char c = cs.charAt(i);
+            if (c == '-') {
+                neg = true;
+                ++i;
+            } else if (c == '+') {
+                ++i;
+            }
+        }
+
+        // Up to 18 digits can't overflow.
+        if (i == end || end - i > 18) {
+            return Long.parseLong(cs, start, end, 10);
+        }
+
+        long r = 0;
+        for (; i < end; ++i) {
+            final int d = digit(cs, i);
+            if (d < 0 || d > 9) {
+                return Long.parseLong(cs, start, end, 10);
+            }
+            r = r * 10 + d;
+        }
+
+        return neg ? -r : r;
+    }
+
+    /**
+     * Parse a decimal long value.
+     * @param cs        the text
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid long
+     */
+    public static long parseLong(CharSequence cs) {
+        return parseLong(cs, 0, cs.length());
+    }
+
+    /**
+     * Parse a double value.
+     * Plain decimal values with up to 15 significant digits and a small exponent,
+     * which covers most values found in practice,
+     * are computed directly with a single correctly-rounded multiplication or division.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid double
+     */
+    public static double parseDouble(CharSequence cs, int start, int end) {
+        int i = start;
+        boolean neg = false;
+        if (i < end) {
+            final char c = cs.charAt(i);
+            if (c == '-') {
+                neg = true;
+                ++i;
+            } else if (c == '+') {
+                ++i;
+            }
+        }
+
+        long mantissa = 0;
+        int sigDigits = 0;
+        int numDigits = 0;
+        int exp10 = 0;
+
+        // Integer part.
+        for (; i < end; ++i) {
+            final int d = digit(cs, i);
+            if (d < 0 || d > 9) {
+                break;
+            }
+            ++numDigits;
+            if (mantissa != 0 || d != 0) {
+                if (++sigDigits > MAX_EXACT_DIGITS) {
+                    return fallbackDouble(cs, start, end);
+                }
+                mantissa = mantissa * 10 + d;
+            }
+        }
+
+        // Fractional part.
+        if (i < end && cs.charAt(i) == '.') {
+            for (++i; i < end; ++i) {
+                final int d = digit(cs, i);
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                ++numDigits;
+                --exp10;
+                if (mantissa != 0 || d != 0) {
+                    if (++sigDigits > MAX_EXACT_DIGITS) {
+                        return fallbackDouble(cs, start, end);
+                    }
+                    mantissa = mantissa * 10 + d;
+                }
+            }
+        }
+
+        if (numDigits == 0) {
+            return fallbackDouble(cs, start, end);
+        }
+
+        // Exponent.
+        if (i < end && (cs.charAt(i) | 0x20) == 'e') {
+            ++i;
+            boolean expNeg = false;
+            if (i < end) {
+                final char c = cs.charAt(i);
+                if (c == '-') {
+                    expNeg = true;
+                    ++i;
+                } else if (c == '+') {
+                    ++i;
+                }
+            }
+            if (i == end || end - i > 3) {
+                return fallbackDouble(cs, start, end);
+            }
+            final int exp = digits(cs, i, end);
+            if (exp < 0) {
+                return fallbackDouble(cs, start, end);
+            }
+            exp10 += expNeg ? -exp : exp;
+            i = end;
+        }
+
+        if (i != end) {
+            return fallbackDouble(cs, start, end);
+        }
+
+        final double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (exp10 >= 0 && exp10 < POW10.length) {
+            value = mantissa * POW10[exp10];
+        } else if (exp10 < 0 && -exp10 < POW10.length) {
+            value = mantissa / POW10[-exp10];
+        } else {
+            return fallbackDouble(cs, start, end);
+        }
+
+        return neg ? -value : value;
+    }
+
+    private static double fallbackDouble(CharSequence cs, int start, int end) {
+        return Double.parseDouble(cs.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse a double value.
+     * @param cs        the text
+     * @return          the parsed value
+     * @throws NumberFormatException if the text is not a valid double
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    public static double parseDouble(CharSequence cs) {
+        return parseDouble(cs, 0, cs.length());
+    }
+
+    /**
+     * Attempt to parse a date in the form {@code yyyy-MM-dd}.
+     * @return          the date, or null if the text isn't in the expected form
+     */
+    private static LocalDate fastLocalDate(CharSequence cs, int start, int end) {
+        if (end - start != 10 || cs.charAt(start + 4) != '-' || cs.charAt(start + 7) != '-') {
+            return null;
+        }
+
+        final int year = digits(cs, start, start + 4);
+        final int month = digits(cs, start + 5, start + 7);
+        final int day = digits(cs, start + 8, start + 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Attempt to parse a time in the form {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.S},
+     * where the fraction has between 1 and 9 digits.
+     * @return          the time, or null if the text isn't in the expected form
+     */
+    private static LocalTime fastLocalTime(CharSequence cs, int start, int end) {
+        final int len = end - start;
+        if (len < 5 || cs.charAt(start + 2) != ':') {
+            return null;
+        }
+
+        final int hour = digits(cs, start, start + 2);
+        final int minute = digits(cs, start + 3, start + 5);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        } else if (len == 5) {
+            return LocalTime.of(hour, minute);
+        } else if (len < 8 || cs.charAt(start + 5) != ':') {
+            return null;
+        }
+
+        final int second = digits(cs, start + 6, start + 8);
+        if (second < 0 || second > 59) {
+            return null;
+        } else if (len == 8) {
+            return LocalTime.of(hour, minute, second);
+        } else if (len < 10 || len > 18 || cs.charAt(start + 8) != '.') {
+            return null;
+        }
+
+        final int fraction = digits(cs, start + 9, end);
+        if (fraction < 0) {
+            return null;
+        }
+
+        int nanos = fraction;
+        for (int i = len - 9; i < 9; ++i) {
+            nanos *= 10;
+        }
+
+        return LocalTime.of(hour, minute, second, nanos);
+    }
+
+    /**
+     * Parse an ISO-8601 local date, e.g. {@code 2021-04-19}.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed date
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date
+     */
+    public static LocalDate parseLocalDate(CharSequence cs, int start, int end) {
+        final LocalDate date = fastLocalDate(cs, start, end);
+        return date != null ? date : LocalDate.parse(cs.subSequence(start, end));
+    }
+
+    /**
+     * Parse an ISO-8601 local date.
+     * @param cs        the text
+     * @return          the parsed date
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date
+     */
+    public static LocalDate parseLocalDate(CharSequence cs) {
+        return parseLocalDate(cs, 0, cs.length());
+    }
+
+    /**
+     * Parse an ISO-8601 local time, e.g. {@code 10:15}, {@code 10:15:30} or {@code 10:15:30.123}.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid time
+     */
+    public static LocalTime parseLocalTime(CharSequence cs, int start, int end) {
+        final LocalTime time = fastLocalTime(cs, start, end);
+        return time != null ? time : LocalTime.parse(cs.subSequence(start, end));
+    }
+
+    /**
+     * Parse an ISO-8601 local time.
+     * @param cs        the text
+     * @return          the parsed time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid time
+     */
+    public static LocalTime parseLocalTime(CharSequence cs) {
+        return parseLocalTime(cs, 0, cs.length());
+    }
+
+    /**
+     * Parse an ISO-8601 local date-time, e.g. {@code 2021-04-19T10:15:30}.
+     * @param cs        the text
+     * @param start     the start index (inclusive)
+     * @param end       the end index (exclusive)
+     * @return          the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date-time
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence cs, int start, int end) {
+        if (end - start > 11 && cs.charAt(start + 10) == 'T') {
+            final LocalDate date = fastLocalDate(cs, start, start + 10);
+            if (date != null) {
+                final LocalTime time = fastLocalTime(cs, start + 11, end);
+                if (time != null) {
+                    return LocalDateTime.of(date, time);
+                }
+            }
+        }
+        return LocalDateTime.parse(cs.subSequence(start, end));
+    }
+
+    /**
+     * Parse an ISO-8601 local date-time.
+     * @param cs        the text
+     * @return          the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date-time
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence cs) {
+        return parseLocalDateTime(cs, 0, cs.length());
+    }
+}
@@ -0,0 +1,43 @@
+package org.typemeta.context.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measurement of the bytes allocated by the current thread,
+ * using {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} where the JVM supports it.
+ * Allocation measurement is enabled on the bean when this class is first used.
+ */
+public abstract class ThreadAllocation {
+
+    private ThreadAllocation() {}
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+                return sunBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return          true if the JVM supports measuring the bytes allocated by a thread
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Return the total number of bytes allocated by the current thread so far.
+     * @return          the allocated bytes, or 0 if measurement isn't supported
+     */
+    public static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,154 @@
+package org.typemeta.context.binary;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.codec.Codec;
+import org.typemeta.context.codec.Codecs;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryCodecsTest {
+
+    private static final class Trade {
+        final long id;
+        final String symbol;
+        final double price;
+        final Optional<LocalDate> settle;
+        final List<Integer> legs;
+
+        Trade(long id, String symbol, double price, Optional<LocalDate> settle, List<Integer> legs) {
+            this.id = id;
+            this.symbol = symbol;
+            this.price = price;
+            this.settle = settle;
+            this.legs = legs;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Trade)) {
+                return false;
+            }
+            final Trade rhs = (Trade)obj;
+            return id == rhs.id && Objects.equals(symbol, rhs.symbol) && price == rhs.price
+                    && settle.equals(rhs.settle) && legs.equals(rhs.legs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, symbol, price, settle, legs);
+        }
+    }
+
+    private static final Codec<BinaryBuffer, Trade> TRADE =
+            Codecs.combine(
+                    BinaryCodecs.LONG, t -> t.id,
+                    BinaryCodecs.STRING, t -> t.symbol,
+                    BinaryCodecs.DOUBLE, t -> t.price,
+                    BinaryCodecs.optional(BinaryCodecs.LOCALDATE), t -> t.settle,
+                    BinaryCodecs.list(BinaryCodecs.INTEGER), t -> t.legs,
+                    Trade::new
+            );
+
+    private static List<Trade> trades(int n) {
+        final List<Trade> trades = new ArrayList<>();
+        for (int i = 0; i < n; ++i) {
+            trades.add(new Trade(
+                    i * 1000L - 5000,
+                    i % 5 == 0 ? null : "SYM" + i,
+                    i * 0.5,
+                    i % 2 == 0 ? Optional.empty() : Optional.of(LocalDate.of(2021, 1, 1).plusDays(i)),
+                    Arrays.asList(i, -i, i * 100000)
+            ));
+        }
+        return trades;
+    }
+
+    @Test
+    public void testPrimitives() {
+        final BinaryBuffer bb = new BinaryBuffer(1);
+        final int[] ints = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        final long[] longs = {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40};
+        for (int i : ints) {
+            bb.writeVarInt(i);
+        }
+        for (long l : longs) {
+            bb.writeVarLong(l);
+        }
+        for (int i : ints) {
+            assertEquals(i, bb.readVarInt());
+        }
+        for (long l : longs) {
+            assertEquals(l, bb.readVarLong());
+        }
+        assertEquals(0, bb.remaining());
+        assertThrows(IllegalStateException.class, bb::readByte);
+
+        // Small values of either sign take a single byte.
+        assertEquals(1, new BinaryBuffer().writeVarInt(-64).size());
+        assertEquals(1, new BinaryBuffer().writeVarInt(63).size());
+    }
+
+    @Test
+    public void testStrings() {
+        final List<String> values = Arrays.asList(
+                "", "abc", "été", "€100", "😀 smile", "bad\ud800surrogate", null
+        );
+        final BinaryBuffer bb = new BinaryBuffer();
+        for (String s : values) {
+            BinaryInjectors.STRING.inject(bb, s);
+        }
+        for (String s : values) {
+            final String expected = s == null ? null : new String(s.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            assertEquals(expected, BinaryExtractors.STRING.extract(bb));
+        }
+    }
+
+    @Test
+    public void testDateTimes() {
+        final LocalDateTime ldt = LocalDateTime.of(2021, 4, 19, 10, 15, 30, 123456789);
+        final BinaryBuffer bb = new BinaryBuffer();
+        BinaryCodecs.LOCALDATETIME.encode(bb, ldt);
+        BinaryCodecs.LOCALTIME.encode(bb, LocalTime.MAX);
+        BinaryCodecs.nullable(BinaryCodecs.LOCALDATE).encode(bb, null);
+        assertEquals(ldt, BinaryCodecs.LOCALDATETIME.decode(bb));
+        assertEquals(LocalTime.MAX, BinaryCodecs.LOCALTIME.decode(bb));
+        assertNull(BinaryCodecs.nullable(BinaryCodecs.LOCALDATE).decode(bb));
+    }
+
+    @Test
+    public void testRecordRows() throws IOException {
+        final List<Trade> trades = trades(100);
+        final BinaryBuffer scratch = new BinaryBuffer();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (Trade trade : trades) {
+            BinaryCodecs.writeRow(baos, TRADE, scratch, trade);
+        }
+
+        final InputStream is = new ByteArrayInputStream(baos.toByteArray());
+        final List<Trade> actual = new ArrayList<>();
+        Optional<Trade> row;
+        while ((row = BinaryCodecs.readRow(is, TRADE, scratch)).isPresent()) {
+            actual.add(row.get());
+        }
+        assertEquals(trades, actual);
+
+        final ByteArrayOutputStream javaSer = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(javaSer)) {
+            for (Trade trade : trades) {
+                oos.writeObject(new ArrayList<>(Arrays.asList(trade.id, trade.symbol, trade.price, trade.legs)));
+            }
+        }
+        assertTrue(baos.size() < javaSer.size() / 2, baos.size() + " vs " + javaSer.size());
+
+        final InputStream truncated = new ByteArrayInputStream(Arrays.copyOf(baos.toByteArray(), 5));
+        assertThrows(EOFException.class, () -> BinaryCodecs.readRow(truncated, TRADE, scratch));
+    }
+}
@@ -0,0 +1,136 @@
+package org.typemeta.context.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferRecordsTest {
+
+    private static final class Tick {
+        final long time;
+        final int qty;
+        final double price;
+        final String symbol;
+
+        Tick(long time, int qty, double price, String symbol) {
+            this.time = time;
+            this.qty = qty;
+            this.price = price;
+            this.symbol = symbol;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Tick)) {
+                return false;
+            }
+            final Tick rhs = (Tick)obj;
+            return time == rhs.time && qty == rhs.qty && price == rhs.price && symbol.equals(rhs.symbol);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(time, qty, price, symbol);
+        }
+    }
+
+    // Packed little-endian layout: time@0 (8), qty@8 (4), price@12 (8), symbol@20 (8).
+    private static final int SIZE = 28;
+
+    private static final Extractor<ByteBuffer, Tick> TICK_EXTR =
+            Extractors.combine(
+                    ByteBufferExtractors.int64(ByteOrder.LITTLE_ENDIAN).bind(0),
+                    ByteBufferExtractors.int32(ByteOrder.LITTLE_ENDIAN).bind(8),
+                    ByteBufferExtractors.float64(ByteOrder.LITTLE_ENDIAN).bind(12),
+                    ByteBufferExtractors.string(8, US_ASCII).bind(20),
+                    Tick::new
+            );
+
+    private static final Injector<ByteBuffer, Tick> TICK_INJR =
+            Injectors.combine(
+                    ByteBufferInjectors.int64(ByteOrder.LITTLE_ENDIAN).bind(0).premapLong(t -> t.time),
+                    ByteBufferInjectors.int32(ByteOrder.LITTLE_ENDIAN).bind(8).premapInt(t -> t.qty),
+                    ByteBufferInjectors.float64(ByteOrder.LITTLE_ENDIAN).bind(12).premapDbl(t -> t.price),
+                    ByteBufferInjectors.string(8, US_ASCII).bind(20).premap(t -> t.symbol)
+            );
+
+    private static List<Tick> ticks(int n) {
+        final List<Tick> ticks = new ArrayList<>();
+        for (int i = 0; i < n; ++i) {
+            ticks.add(new Tick(1_600_000_000_000L + i, i - 50, i * 0.25, i % 2 == 0 ? "VOD.L" : "BARC.L"));
+        }
+        return ticks;
+    }
+
+    private static void checkRoundTrip(ByteBuffer bb, List<Tick> ticks) {
+        assertEquals(ticks.size(), ByteBufferRecords.injectAll(bb, SIZE, TICK_INJR, ticks));
+        bb.flip();
+        assertEquals(ticks, ByteBufferRecords.extractAll(bb, SIZE, TICK_EXTR));
+        assertEquals(0, bb.remaining());
+    }
+
+    @Test
+    public void testHeapAndDirect() {
+        final List<Tick> ticks = ticks(100);
+        checkRoundTrip(ByteBuffer.allocate(SIZE * 100), ticks);
+        checkRoundTrip(ByteBuffer.allocateDirect(SIZE * 100 + 5), ticks);
+
+        // The byte order of the buffer does not affect the explicitly ordered extractors.
+        final ByteBuffer bb = ByteBuffer.allocate(SIZE * 100).order(ByteOrder.BIG_ENDIAN);
+        ByteBufferRecords.injectAll(bb, SIZE, TICK_INJR, ticks);
+        bb.flip();
+        bb.position(SIZE * 3);
+        assertEquals(ticks.get(3), TICK_EXTR.extract(bb));
+        assertEquals(ticks.get(3).qty, Integer.reverseBytes(ByteBufferExtractors.INTEGER.extractInt(bb, 8)));
+        bb.order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(ticks.get(3).qty, ByteBufferExtractors.INTEGER.extractInt(bb, 8));
+    }
+
+    @Test
+    public void testMappedFile(@TempDir Path dir) throws IOException {
+        final List<Tick> ticks = ticks(10);
+        try (FileChannel ch = FileChannel.open(
+                dir.resolve("ticks.bin"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer bb = ch.map(FileChannel.MapMode.READ_WRITE, 0, SIZE * 10);
+            checkRoundTrip(bb, ticks);
+        }
+    }
+
+    @Test
+    public void testFieldTypes() {
+        final ByteBuffer bb = ByteBuffer.allocate(32);
+        bb.position(4);
+        ByteBufferInjectors.BYTE.injectInt(bb, 0, -1);
+        ByteBufferInjectors.int16(ByteOrder.BIG_ENDIAN).injectInt(bb, 1, 0xFFFE);
+        ByteBufferInjectors.uint32(ByteOrder.LITTLE_ENDIAN).injectLong(bb, 3, 0xFFFFFFF0L);
+        ByteBufferInjectors.BOOLEAN.inject(bb, 7, true);
+        ByteBufferInjectors.bytes(4).inject(bb, 8, new byte[]{1, 2});
+
+        assertEquals(-1, ByteBufferExtractors.BYTE.extractInt(bb, 0));
+        assertEquals(255, ByteBufferExtractors.UNSIGNED_BYTE.extractInt(bb, 0));
+        assertEquals(-2, ByteBufferExtractors.int16(ByteOrder.BIG_ENDIAN).extractInt(bb, 1));
+        assertEquals(0xFFFE, ByteBufferExtractors.uint16(ByteOrder.BIG_ENDIAN).extractInt(bb, 1));
+        assertEquals(0xFFFFFFF0L, ByteBufferExtractors.uint32(ByteOrder.LITTLE_ENDIAN).extractLong(bb, 3));
+        assertEquals(true, ByteBufferExtractors.BOOLEAN.extract(bb, 7));
+        assertArrayEquals(new byte[]{1, 2, 0, 0}, ByteBufferExtractors.bytes(4).extract(bb, 8));
+        assertEquals(4, bb.position());
+
+        assertThrows(IllegalArgumentException.class, () -> ByteBufferInjectors.string(2, US_ASCII).inject(bb, 0, "abc"));
+    }
+}
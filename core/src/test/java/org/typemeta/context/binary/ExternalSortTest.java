@@ -0,0 +1,124 @@
+package org.typemeta.context.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.codec.Codec;
+import org.typemeta.context.codec.Codecs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExternalSortTest {
+
+    private static final class Row {
+        final int key;
+        final int seq;
+        final String name;
+
+        Row(int key, int seq, String name) {
+            this.key = key;
+            this.seq = seq;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Row)) {
+                return false;
+            }
+            final Row rhs = (Row)obj;
+            return key == rhs.key && seq == rhs.seq && name.equals(rhs.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, seq, name);
+        }
+    }
+
+    private static final Codec<BinaryBuffer, Row> ROW =
+            Codecs.combine(
+                    BinaryCodecs.INTEGER, r -> r.key,
+                    BinaryCodecs.INTEGER, r -> r.seq,
+                    BinaryCodecs.STRING, r -> r.name,
+                    Row::new
+            );
+
+    private static final Comparator<Row> BY_KEY = Comparator.comparingInt(r -> r.key);
+
+    private static List<Row> rows(int n) {
+        final Random rand = new Random(1234);
+        return IntStream.range(0, n)
+                .mapToObj(i -> new Row(rand.nextInt(1000), i, "row" + i))
+                .collect(Collectors.toList());
+    }
+
+    private static long countFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void testSpillAndMerge(@TempDir Path dir) throws IOException {
+        final List<Row> rows = rows(50000);
+        final List<Row> expected = new ArrayList<>(rows);
+        expected.sort(BY_KEY);
+
+        final ExternalSort<Row> sort = ExternalSort.of(ROW, BY_KEY)
+                .withMemoryBudget(16 * 1024)
+                .withTempDirectory(dir);
+
+        // The sort is stable, so rows with equal keys remain in input order.
+        try (Stream<Row> sorted = sort.sort(rows.stream())) {
+            assertEquals(expected, sorted.collect(Collectors.toList()));
+        }
+        assertEquals(0, countFiles(dir));
+
+        // Closing a partially consumed stream deletes the runs.
+        try (Stream<Row> sorted = sort.sort(rows.stream())) {
+            assertEquals(expected.subList(0, 10), sorted.limit(10).collect(Collectors.toList()));
+            assertEquals(true, countFiles(dir) > 10);
+        }
+        assertEquals(0, countFiles(dir));
+    }
+
+    @Test
+    public void testMultiPassMerge(@TempDir Path dir) throws IOException {
+        final List<Row> rows = rows(50000);
+        final List<Row> expected = new ArrayList<>(rows);
+        expected.sort(BY_KEY);
+
+        // Enough runs that they are merged in several passes.
+        final ExternalSort<Row> sort = ExternalSort.of(ROW, BY_KEY)
+                .withMemoryBudget(4 * 1024)
+                .withMaxFanIn(4)
+                .withTempDirectory(dir);
+
+        try (Stream<Row> sorted = sort.sort(rows.stream())) {
+            assertTrue(countFiles(dir) < 4);
+            assertEquals(expected, sorted.collect(Collectors.toList()));
+        }
+        assertEquals(0, countFiles(dir));
+    }
+
+    @Test
+    public void testInMemory(@TempDir Path dir) throws IOException {
+        final List<Row> rows = rows(1000);
+        final List<Row> expected = new ArrayList<>(rows);
+        expected.sort(BY_KEY.reversed());
+
+        final ExternalSort<Row> sort = ExternalSort.of(ROW, BY_KEY.reversed()).withTempDirectory(dir);
+        assertEquals(expected, sort.sort(rows.iterator()).collect(Collectors.toList()));
+        assertEquals(0, countFiles(dir));
+        assertEquals(Collections.emptyList(), sort.sort(Stream.empty()).collect(Collectors.toList()));
+    }
+}
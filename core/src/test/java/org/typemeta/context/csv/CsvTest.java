@@ -0,0 +1,147 @@
+package org.typemeta.context.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvTest {
+
+    private static final String TEXT =
+            "id,name,qty,date\r\n" +
+            "1,abc,10,2021-04-19\r\n" +
+            "2,\"a,\"\"b\"\"\",,2021-04-20\n" +
+            "3,\"x\ny\",-5,\n" +
+            "4,,7,2021-04-22";
+
+    /**
+     * A reader which returns at most a few characters per read, to exercise rows split across reads.
+     */
+    private static Reader trickle(String s) {
+        return new FilterReader(new StringReader(s)) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 3));
+            }
+        };
+    }
+
+    private static final Extractor<CsvRow, String> EXTRACTOR =
+            Extractors.combine(
+                    CsvExtractorsByName.INTEGER.bind("id"),
+                    CsvExtractorsByName.STRING.bind("name"),
+                    CsvExtractorsByName.OPT_INTEGER.bind("qty"),
+                    CsvExtractorsByName.OPT_LOCALDATE.bind("date"),
+                    (id, name, qty, date) -> id + "|" + name + "|" + qty + "|" + date
+            );
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "1|abc|OptionalInt[10]|Optional[2021-04-19]",
+            "2|a,\"b\"|OptionalInt.empty|Optional[2021-04-20]",
+            "3|x\ny|OptionalInt[-5]|Optional.empty",
+            "4||OptionalInt[7]|Optional[2021-04-22]"
+    );
+
+    @Test
+    public void testReader() throws IOException {
+        try (CsvReader rdr = CsvReader.of(trickle(TEXT), CsvFormat.CSV)) {
+            assertEquals(Arrays.asList("id", "name", "qty", "date"), rdr.header());
+            assertEquals(EXPECTED, rdr.extractAll(EXTRACTOR));
+            assertFalse(rdr.next());
+        }
+
+        try (CsvReader rdr = CsvReader.of(new StringReader(TEXT), CsvFormat.CSV.withHeader(false))) {
+            assertTrue(rdr.next());
+            assertEquals("id", CsvExtractors.STRING.extract(rdr.row(), 0));
+            assertTrue(rdr.next());
+            final CsvRow row = rdr.row();
+            assertEquals(4, row.size());
+            assertEquals(1, CsvExtractors.INTEGER.extractInt(row, 0));
+            assertTrue(row.fieldEquals(1, "abc"));
+            assertEquals(LocalDate.of(2021, 4, 19), CsvExtractors.LOCALDATE.extract(row, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> row.start(4));
+        }
+    }
+
+    @Test
+    public void testLargeRows() throws IOException {
+        final String big = String.join("", Collections.nCopies(100000, "ab\"\""));
+        final String text = "x,\"" + big + "\",y\n" + "z\n";
+        try (CsvReader rdr = CsvReader.of(new StringReader(text), CsvFormat.CSV.withHeader(false))) {
+            assertTrue(rdr.next());
+            assertEquals(big.replace("\"\"", "\""), rdr.row().getString(1));
+            assertEquals("y", rdr.row().getString(2));
+            assertTrue(rdr.next());
+            assertEquals("z", rdr.row().getString(0));
+            assertFalse(rdr.next());
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        final CsvReader unterminated = CsvReader.of(new StringReader("a,\"b"), CsvFormat.CSV.withHeader(false));
+        assertThrows(IllegalStateException.class, unterminated::next);
+
+        final CsvReader trailing = CsvReader.of(new StringReader("a,\"b\"c"), CsvFormat.CSV.withHeader(false));
+        assertThrows(IllegalStateException.class, trailing::next);
+    }
+
+    @Test
+    public void testChannelAndMappedFile(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("data.csv");
+        Files.write(file, TEXT.getBytes(UTF_8));
+
+        try (CsvReader rdr = CsvReader.of(Channels.newChannel(Files.newInputStream(file)), UTF_8, CsvFormat.CSV)) {
+            assertEquals(EXPECTED, rdr.extractAll(EXTRACTOR));
+        }
+
+        try (CsvReader rdr = CsvReader.map(file, UTF_8, CsvFormat.CSV)) {
+            assertEquals(EXPECTED, rdr.extractAll(EXTRACTOR));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (CsvWriter wtr = CsvWriter.of(sw, CsvFormat.TSV)) {
+            wtr.writeHeader(Arrays.asList("id", "name", "price", "date"));
+            for (int i = 0; i < 100; ++i) {
+                CsvInjectors.OPT_LOCALDATE.inject(wtr, 3, i % 3 == 0 ? Optional.empty() : Optional.of(LocalDate.of(2021, 1, 1).plusDays(i)));
+                CsvInjectors.INTEGER.injectInt(wtr, 0, i);
+                CsvInjectors.STRING.inject(wtr, 1, "n\"" + i);
+                CsvInjectors.DOUBLE.injectDouble(wtr, 2, i * 0.1);
+                wtr.endRow();
+            }
+            assertEquals(101, wtr.rowCount());
+        }
+
+        try (CsvReader rdr = CsvReader.of(new StringReader(sw.toString()), CsvFormat.TSV)) {
+            int i = 0;
+            while (rdr.next()) {
+                final CsvRow row = rdr.row();
+                assertEquals(i, CsvExtractorsByName.INTEGER.extractInt(row, "id"));
+                assertEquals("n\"" + i, CsvExtractorsByName.STRING.extract(row, "name"));
+                assertEquals(i * 0.1, CsvExtractorsByName.DOUBLE.extractDouble(row, "price"));
+                assertEquals(i % 3 == 0, row.isEmpty(row.index("date")));
+                ++i;
+            }
+            assertEquals(100, i);
+        }
+
+        final StringWriter quoted = new StringWriter();
+        final CsvWriter wtr = CsvWriter.of(quoted, CsvFormat.CSV);
+        CsvInjectors.STRING.inject(wtr, 2, "a,\"b\"");
+        wtr.endRow();
+        assertEquals(",,\"a,\"\"b\"\"\"\n", quoted.toString());
+    }
+}
@@ -0,0 +1,114 @@
+package org.typemeta.context.database;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.extractors.LongExtractor;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecimalAndUuidTest {
+
+    private static final class Trade {
+        final UUID id;
+        final BigDecimal price;
+        final long qty;
+        final Optional<byte[]> tag;
+
+        Trade(UUID id, BigDecimal price, long qty, Optional<byte[]> tag) {
+            this.id = id;
+            this.price = price;
+            this.qty = qty;
+            this.tag = tag;
+        }
+    }
+
+    private static final Injector<PreparedStatement, Trade> INJECTOR =
+            Injectors.combine(
+                    PreparedStatementInjectors.UUID_BYTES.bind(1).premap(t -> t.id),
+                    PreparedStatementInjectors.BIGDECIMAL.bind(2).premap(t -> t.price),
+                    PreparedStatementInjectors.unscaledDecimal(2).bind(3).premap(t -> t.qty),
+                    PreparedStatementInjectors.OPT_BYTES.bind(4).premap(t -> t.tag)
+            );
+
+    private static final Extractor<ResultSet, Trade> EXTRACTOR =
+            Extractors.combine(
+                    ResultSetExtractors.UUID_BYTES.bind("id"),
+                    ResultSetExtractors.BIGDECIMAL.bind("price"),
+                    ResultSetExtractors.unscaledDecimal(2).bind("qty"),
+                    ResultSetExtractors.OPT_BYTES.bind("tag"),
+                    Trade::new
+            );
+
+    @Test
+    public void testRoundTrip() throws SQLException {
+        final List<Trade> trades = Arrays.asList(
+                new Trade(UUID.randomUUID(), new BigDecimal("123.456789"), 12_345_678_901_234_567L, Optional.of(new byte[]{1, 2, 3})),
+                new Trade(new UUID(-1L, 0x0102030405060708L), new BigDecimal("-0.000001"), -250, Optional.empty())
+        );
+
+        try (Connection conn = DriverManager.getConnection("jdbc:derby:memory:decimaltest;create=true")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(
+                        "CREATE TABLE trades (" +
+                                "id CHAR(16) FOR BIT DATA, " +
+                                "price DECIMAL(18, 6), " +
+                                "qty DECIMAL(18, 2), " +
+                                "tag VARCHAR(16) FOR BIT DATA)"
+                );
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO trades VALUES (?, ?, ?, ?)")) {
+                for (Trade trade : trades) {
+                    INJECTOR.inject(ps, trade).executeUpdate();
+                }
+            }
+
+            final LongExtractor<ResultSet> qty4 = ResultSetExtractors.unscaledDecimal(4).bind("qty");
+            final LongExtractor<ResultSet> qty0 = ResultSetExtractors.unscaledDecimal(0).bind("qty");
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT * FROM trades ORDER BY qty DESC")) {
+                for (Trade expected : trades) {
+                    assertTrue(rs.next());
+                    final Trade actual = EXTRACTOR.extract(rs);
+                    assertEquals(expected.id, actual.id);
+                    assertEquals(expected.price, actual.price);
+                    assertEquals(expected.qty, actual.qty);
+                    assertArrayEquals(expected.tag.orElse(null), actual.tag.orElse(null));
+                    assertEquals(expected.qty * 100, qty4.extractLong(rs));
+                }
+                assertThrows(RuntimeException.class, () -> qty0.extractLong(rs));
+            }
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO trades (id) VALUES (NULL)");
+            }
+            final ExtractorByName<ResultSet, OptionalLong> optQty = ResultSetExtractors.optUnscaledDecimal(2);
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT qty FROM trades ORDER BY qty DESC")) {
+                assertTrue(rs.next());
+                assertThrows(IllegalStateException.class, () -> CheckedResultSetExtractors.unscaledDecimal(2).extractLong(rs, "qty"));
+                assertEquals(OptionalLong.empty(), optQty.extract(rs, "qty"));
+                assertTrue(rs.next());
+                assertEquals(OptionalLong.of(trades.get(0).qty), optQty.extract(rs, "qty"));
+            }
+        }
+    }
+
+    @Test
+    public void testUuidBytes() {
+        final UUID uuid = UUID.fromString("01234567-89ab-cdef-fedc-ba9876543210");
+        final byte[] bytes = CheckedPreparedStatementInjectors.toBytes(uuid);
+        assertEquals(0x01, bytes[0]);
+        assertEquals(0x10, bytes[15]);
+        assertEquals(uuid, CheckedResultSetExtractors.toUuid(bytes));
+        assertNull(CheckedResultSetExtractors.toUuid(null));
+        assertThrows(IllegalArgumentException.class, () -> CheckedResultSetExtractors.toUuid(new byte[8]));
+    }
+}
@@ -0,0 +1,154 @@
+package org.typemeta.context.database;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectJavaTimeTest {
+
+    private static final class Row {
+        final LocalDate date;
+        final LocalDateTime dateTime;
+        final Optional<LocalTime> time;
+
+        Row(LocalDate date, LocalDateTime dateTime, Optional<LocalTime> time) {
+            this.date = date;
+            this.dateTime = dateTime;
+            this.time = time;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            final Row rhs = (Row)obj;
+            return date.equals(rhs.date) && dateTime.equals(rhs.dateTime) && time.equals(rhs.time);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, dateTime, time);
+        }
+    }
+
+    private static final Injector<PreparedStatement, Row> INJECTOR =
+            Injectors.combine(
+                    PreparedStatementInjectors.DIRECT_LOCALDATE.bind(1).premap(r -> r.date),
+                    PreparedStatementInjectors.DIRECT_LOCALDATETIME.bind(2).premap(r -> r.dateTime),
+                    PreparedStatementInjectors.OPT_DIRECT_LOCALTIME.bind(3).premap(r -> r.time)
+            );
+
+    private static final Extractor<ResultSet, Row> EXTRACTOR =
+            Extractors.combine(
+                    ResultSetExtractors.DIRECT_LOCALDATE.bind("d"),
+                    ResultSetExtractors.DIRECT_LOCALDATETIME.bind("ts"),
+                    ResultSetExtractors.OPT_DIRECT_LOCALTIME.bind("t"),
+                    Row::new
+            );
+
+    private static final List<Row> ROWS = Arrays.asList(
+            new Row(LocalDate.of(2021, 4, 19), LocalDateTime.of(2021, 4, 19, 10, 15, 30), Optional.of(LocalTime.of(10, 15))),
+            new Row(LocalDate.of(1999, 12, 31), LocalDateTime.of(1999, 12, 31, 23, 59, 59), Optional.empty())
+    );
+
+    @Test
+    public void testFallback() throws SQLException {
+        // Derby reports JDBC 4.2 but doesn't support the java.time conversions.
+        try (Connection conn = DriverManager.getConnection("jdbc:derby:memory:directtest;create=true")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE times (d DATE, ts TIMESTAMP, t TIME)");
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO times VALUES (?, ?, ?)")) {
+                for (Row row : ROWS) {
+                    INJECTOR.inject(ps, row).executeUpdate();
+                }
+            }
+
+            final List<Row> rows = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT d, ts, t FROM times ORDER BY d DESC")) {
+                while (rs.next()) {
+                    rows.add(EXTRACTOR.extract(rs));
+                }
+            }
+            assertEquals(ROWS, rows);
+        }
+    }
+
+    @Test
+    public void testDirect() throws SQLException {
+        final AtomicInteger getObjects = new AtomicInteger();
+        final AtomicInteger getStatements = new AtomicInteger();
+        final LocalDate date = LocalDate.of(2021, 4, 19);
+
+        final Connection conn = (Connection)Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+        final Statement stmt = (Statement)Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> conn
+        );
+        final InvocationHandler rsHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getStatement":
+                    getStatements.incrementAndGet();
+                    return stmt;
+                case "getObject":
+                    getObjects.incrementAndGet();
+                    return date;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        };
+        final ResultSet rs = (ResultSet)Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                rsHandler
+        );
+        final ResultSet rs2 = (ResultSet)Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                rsHandler
+        );
+
+        final Extractor<ResultSet, LocalDate> extr = CheckedResultSetExtractors.direct(
+                LocalDate.class,
+                CheckedResultSetExtractors.LOCALDATE
+        ).unchecked().bind("d");
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(date, extr.extract(rs));
+        }
+        assertEquals(10, getObjects.get());
+        assertEquals(1, getStatements.get());
+
+        // Alternating between result sets doesn't look up the connection again.
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(date, extr.extract(i % 2 == 0 ? rs2 : rs));
+        }
+        assertEquals(20, getObjects.get());
+        assertEquals(2, getStatements.get());
+    }
+}
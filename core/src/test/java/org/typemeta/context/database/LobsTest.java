@@ -0,0 +1,123 @@
+package org.typemeta.context.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.extractors.LongExtractor;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LobsTest {
+
+    private static final String JDBC_CONN_URL = "jdbc:derby:memory:lobstest;create=true";
+
+    private static final class Doc {
+        final int id;
+        final Path data;
+        final Reader text;
+
+        Doc(int id, Path data, Reader text) {
+            this.id = id;
+            this.data = data;
+            this.text = text;
+        }
+    }
+
+    private static final Injector<PreparedStatement, Doc> DOC =
+            Injectors.combine(
+                    PreparedStatementInjectors.INTEGER.bind(1).premap(d -> d.id),
+                    Lobs.MAPPED_FILE.bind(2).premap(d -> d.data),
+                    PreparedStatementInjectors.CHARACTER_STREAM.bind(3).premap(d -> d.text)
+            );
+
+    @Test
+    public void testStreaming(@TempDir Path dir) throws Exception {
+        final byte[] data = new byte[1_000_000];
+        new Random(1234).nextBytes(data);
+        final Path src = dir.resolve("src.bin");
+        Files.write(src, data);
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; ++i) {
+            sb.append("line ").append(i).append('\n');
+        }
+        final String text = sb.toString();
+
+        try (Connection conn = DriverManager.getConnection(JDBC_CONN_URL)) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE docs (id INT, data BLOB(16M), text CLOB(16M))");
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO docs VALUES (?, ?, ?)")) {
+                DOC.inject(ps, new Doc(1, src, new StringReader(text))).executeUpdate();
+                DOC.inject(ps, new Doc(2, null, null)).executeUpdate();
+            }
+
+            final LongExtractor<ResultSet> toFile =
+                    Lobs.binaryToFile(rs -> dir.resolve("out" + ResultSetExtractors.INTEGER.extract(rs, "id")), 4096)
+                            .bind("data");
+            final StringWriter writer = new StringWriter();
+            final LongExtractor<ResultSet> toWriter = Lobs.characterTo(rs -> writer, 4096).bind("text");
+
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT id, data, text FROM docs ORDER BY id")) {
+                assertTrue(rs.next());
+                assertEquals(data.length, toFile.extractLong(rs));
+                assertEquals(text.length(), toWriter.extractLong(rs));
+
+                assertTrue(rs.next());
+                assertEquals(-1, toFile.extractLong(rs));
+                assertEquals(-1, toWriter.extractLong(rs));
+            }
+            assertArrayEquals(data, Files.readAllBytes(dir.resolve("out1")));
+            assertFalse(Files.exists(dir.resolve("out2")));
+            assertEquals(text, writer.toString());
+
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT data, text FROM docs ORDER BY id")) {
+                assertTrue(rs.next());
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (InputStream in = ResultSetExtractors.BINARY_STREAM.extract(rs, "data")) {
+                    final byte[] buf = new byte[8192];
+                    int n;
+                    while ((n = in.read(buf)) != -1) {
+                        out.write(buf, 0, n);
+                    }
+                }
+                assertArrayEquals(data, out.toByteArray());
+
+                assertTrue(rs.next());
+                assertNull(ResultSetExtractors.BINARY_STREAM.extract(rs, "data"));
+                assertNull(ResultSetExtractors.CHARACTER_STREAM.extract(rs, "text"));
+            }
+        }
+    }
+
+    @Test
+    public void testMappedStream(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("text.txt");
+        Files.write(file, "hello, world".getBytes(StandardCharsets.UTF_8));
+
+        try (InputStream in = Lobs.mappedStream(file)) {
+            assertEquals(12, in.available());
+            assertEquals('h', in.read());
+            assertEquals(6, in.skip(6));
+            final byte[] buf = new byte[10];
+            assertEquals(5, in.read(buf));
+            assertEquals("world", new String(buf, 0, 5, StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+        }
+
+        final Lobs.MappedInputStream empty = (Lobs.MappedInputStream)Lobs.mappedStream(Files.createFile(dir.resolve("empty")));
+        assertEquals(0, empty.size());
+        assertEquals(-1, empty.read());
+    }
+}
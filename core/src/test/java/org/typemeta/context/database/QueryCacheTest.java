@@ -0,0 +1,162 @@
+package org.typemeta.context.database;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.injectors.Injector;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.typemeta.context.database.DatabaseMeta.DERBY_DRIVER;
+import static org.typemeta.context.database.DatabaseMeta.JDBC_CONN_URL;
+
+public class QueryCacheTest {
+
+    private static final Extractor<ResultSet, Double> RATE = ResultSetExtractors.DOUBLE.bind("rate");
+
+    private static final QueryCache.Query<String, Double> RATES = QueryCache.Query.of(
+            "SELECT rate FROM cache_rates WHERE ccy = ? ORDER BY rate",
+            PreparedStatementInjectors.STRING.bind(1),
+            RATE
+    );
+
+    private static Connection conn;
+
+    @BeforeAll
+    public static void setupDatabase() throws Exception {
+        Class.forName(DERBY_DRIVER).getDeclaredConstructor().newInstance();
+        conn = DriverManager.getConnection(JDBC_CONN_URL);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE cache_rates (ccy VARCHAR(3), rate DOUBLE)");
+            stmt.execute("INSERT INTO cache_rates VALUES ('GBP', 1.25), ('GBP', 1.5), ('EUR', 1.1)");
+        }
+    }
+
+    @AfterAll
+    public static void shutdown() throws SQLException {
+        if (conn != null) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP TABLE cache_rates");
+            }
+        }
+    }
+
+    @Test
+    public void testHitsMissesAndExpiry() {
+        final AtomicLong now = new AtomicLong();
+        final QueryCache cache = new QueryCache(Duration.ofSeconds(10), 100, rows -> 1, now::get);
+
+        assertEquals(Arrays.asList(1.25, 1.5), cache.get(conn, RATES, "GBP"));
+        assertEquals(Arrays.asList(1.25, 1.5), cache.get(conn, RATES, "GBP"));
+        assertEquals(Collections.singletonList(1.1), cache.get(conn, RATES, "EUR"));
+        assertEquals(Collections.emptyList(), cache.get(conn, RATES, "USD"));
+
+        QueryCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(3, stats.loads());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.get(conn, RATES, "GBP");
+        assertEquals(4, cache.stats().loads());
+
+        cache.invalidateAll(RATES);
+        assertEquals(0, cache.size());
+        assertThrows(UnsupportedOperationException.class, () -> cache.get(conn, RATES, "GBP").add(0.0));
+    }
+
+    @Test
+    public void testEviction() {
+        final QueryCache byEntries = QueryCache.create(Duration.ofHours(1), 2);
+        byEntries.get(conn, RATES, "GBP");
+        byEntries.get(conn, RATES, "EUR");
+
+        // Touch GBP so that EUR is the least recently used.
+        byEntries.get(conn, RATES, "GBP");
+        byEntries.get(conn, RATES, "USD");
+        assertEquals(2, byEntries.size());
+        assertEquals(1, byEntries.stats().evictions());
+
+        byEntries.get(conn, RATES, "GBP");
+        assertEquals(2, byEntries.stats().hits());
+        byEntries.get(conn, RATES, "EUR");
+        assertEquals(4, byEntries.stats().loads());
+
+        final QueryCache byWeight = QueryCache.create(Duration.ofHours(1), 2, List::size);
+        byWeight.get(conn, RATES, "GBP");
+        assertEquals(2, byWeight.weight());
+        byWeight.get(conn, RATES, "EUR");
+        assertEquals(1, byWeight.weight());
+        assertEquals(1, byWeight.stats().evictions());
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        final int threads = 8;
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Injector<PreparedStatement, String> blocking = (ps, ccy) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+            return PreparedStatementInjectors.STRING.bind(1).inject(ps, ccy);
+        };
+        final QueryCache.Query<String, Double> query = QueryCache.Query.of(RATES.sql(), blocking, RATE);
+        final QueryCache cache = QueryCache.create(Duration.ofHours(1), 10);
+
+        final ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<List<Double>>> results = new ArrayList<>();
+            results.add(exec.submit(() -> cache.get(conn, query, "GBP")));
+            started.await();
+            for (int i = 1; i < threads; ++i) {
+                results.add(exec.submit(() -> cache.get(conn, query, "GBP")));
+            }
+            while (cache.stats().misses() < threads) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<List<Double>> result : results) {
+                assertEquals(Arrays.asList(1.25, 1.5), result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+
+        final QueryCache.Stats stats = cache.stats();
+        assertEquals(1, stats.loads());
+        assertEquals(threads, stats.misses());
+        assertTrue(stats.totalLoadNanos() > 0);
+    }
+
+    @Test
+    public void testInvalidateDuringLoad() {
+        final QueryCache cache = QueryCache.create(Duration.ofHours(1), 10);
+        final boolean[] invalidate = {true};
+        final Injector<PreparedStatement, String> invalidating = (ps, ccy) -> {
+            if (invalidate[0]) {
+                invalidate[0] = false;
+                cache.invalidateAll();
+            }
+            return PreparedStatementInjectors.STRING.bind(1).inject(ps, ccy);
+        };
+        final QueryCache.Query<String, Double> query = QueryCache.Query.of(RATES.sql(), invalidating, RATE);
+
+        // The superseded load returns its rows, but doesn't cache them.
+        assertEquals(Arrays.asList(1.25, 1.5), cache.get(conn, query, "GBP"));
+        assertEquals(0, cache.size());
+
+        assertEquals(Arrays.asList(1.25, 1.5), cache.get(conn, query, "GBP"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.stats().loads());
+    }
+}
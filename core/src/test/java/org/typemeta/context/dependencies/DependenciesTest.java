@@ -0,0 +1,85 @@
+package org.typemeta.context.dependencies;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.database.PreparedStatementInjectors;
+import org.typemeta.context.database.ResultSetExtractors;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+import org.typemeta.context.extractors.byindex.ExtractorByIndex;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+import org.typemeta.context.properties.PropertiesExtractors;
+import org.typemeta.context.properties.PropertiesInjectors;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependenciesTest {
+
+    private static final ExtractorByIndex<List<Integer>, Integer> ELEMENT = List::get;
+
+    private static final Extractor<Properties, String> CONFIG =
+            Extractors.combine(
+                    PropertiesExtractors.LOCALDATE.bind("endDate"),
+                    PropertiesExtractors.OPT_INTEGER.bind("numThreads"),
+                    PropertiesExtractors.STRING.bind("env").map(String::toUpperCase),
+                    (endDate, numThreads, env) -> endDate + "/" + numThreads + "/" + env
+            );
+
+    @Test
+    public void testBoundExtractors() {
+        assertEquals(Dependencies.name("env"), PropertiesExtractors.STRING.bind("env").dependencies());
+        assertEquals(Dependencies.index(3), ELEMENT.bind(3).dependencies());
+        assertEquals(Dependencies.name("id"), ResultSetExtractors.STRING.bind("id").optional().dependencies());
+    }
+
+    @Test
+    public void testCombinedExtractors() {
+        final Dependencies deps = CONFIG.dependencies();
+        assertTrue(deps.isComplete());
+        assertEquals(Arrays.asList("endDate", "numThreads", "env"), new ArrayList<>(deps.names()));
+        assertEquals(Collections.emptySet(), deps.indices());
+
+        final Properties props = new Properties();
+        props.setProperty("endDate", "2021-04-19");
+        props.setProperty("env", "dev");
+        assertEquals("2021-04-19/OptionalInt.empty/DEV", CONFIG.extract(props));
+
+        final Extractor<List<Integer>, List<Integer>> elems =
+                Extractors.sequence(Arrays.asList(ELEMENT.bind(2), ELEMENT.bind(1), ELEMENT.bind(2)));
+        assertEquals(Dependencies.indices(1, 2), elems.dependencies());
+        assertEquals(Arrays.asList(12, 11, 12), elems.extract(Arrays.asList(10, 11, 12)));
+    }
+
+    @Test
+    public void testUnknownDependencies() {
+        final Extractor<Properties, LocalDate> lambda = props -> LocalDate.now();
+        assertEquals(Dependencies.UNKNOWN, lambda.dependencies());
+        assertEquals(Dependencies.NONE, Extractor.konst(1).dependencies());
+
+        final Dependencies deps = Extractors.combine(CONFIG, lambda, (s, d) -> s + d).dependencies();
+        assertFalse(deps.isComplete());
+        assertEquals(CONFIG.dependencies().names(), deps.names());
+    }
+
+    @Test
+    public void testInjectors() {
+        final Injector<Properties, String> injr =
+                Injectors.combine(
+                        PropertiesInjectors.STRING.bind("a"),
+                        PropertiesInjectors.INTEGER.bind("b").premap(String::length)
+                );
+        assertEquals(Dependencies.names("a", "b"), injr.dependencies());
+        assertEquals(Dependencies.names("a", "b"), injr.optional().dependencies());
+
+        final Properties props = injr.inject(new Properties(), "xyz");
+        assertEquals("xyz", props.getProperty("a"));
+        assertEquals("3", props.getProperty("b"));
+
+        final Injector<PreparedStatement, Integer> stmtInjr = PreparedStatementInjectors.INTEGER.bind(4);
+        assertEquals(Dependencies.index(4), stmtInjr.dependencies());
+    }
+}
@@ -0,0 +1,88 @@
+package org.typemeta.context.extractors;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExtractorProfilerTest {
+
+    private static final ExtractorByName<Map<String, String>, String> STRING = Map::get;
+
+    private static final class Row {
+        final String id;
+        final String name;
+        final LocalDateTime time;
+
+        Row(String id, String name, LocalDateTime time) {
+            this.id = id;
+            this.name = name;
+            this.time = time;
+        }
+    }
+
+    @Test
+    public void testReport() {
+        final List<ExtractorProfiler.Report> reports = new ArrayList<>();
+        final ExtractorProfiler prof = ExtractorProfiler.create(1000, reports::add);
+
+        final Extractor<Map<String, String>, Row> extr = prof.profile("row", Extractors.combine(
+                prof.profile("id", STRING.bind("id")),
+                prof.profile("name", STRING.bind("name")),
+                prof.profile("time", STRING.bind("time").map(ExtractorProfilerTest::slowParse)),
+                Row::new
+        ));
+        assertEquals(Dependencies.names("id", "name", "time"), extr.dependencies());
+
+        final Map<String, String> ctx = new HashMap<>();
+        ctx.put("id", "1");
+        ctx.put("name", "abc");
+        ctx.put("time", "2021-04-19T10:15:30");
+        for (int i = 0; i < 2500; ++i) {
+            assertEquals(LocalDateTime.of(2021, 4, 19, 10, 15, 30), extr.extract(ctx).time);
+        }
+
+        assertEquals(2, reports.size());
+        assertEquals(1000, reports.get(0).find("row").get().calls());
+
+        final ExtractorProfiler.Report report = prof.report();
+        final ExtractorProfiler.Report.Node row = report.find("row").get();
+        assertEquals(2500, row.calls());
+        assertEquals(Arrays.asList("id", "name", "time"), names(row.children()));
+
+        final ExtractorProfiler.Report.Node time = report.find("row", "time").get();
+        assertEquals(2500, time.calls());
+        assertTrue(time.nanos() > report.find("row", "id").get().nanos());
+        assertTrue(time.nanos() <= row.nanos());
+        if (report.allocationSupported()) {
+            assertTrue(time.bytes() > report.find("row", "name").get().bytes());
+        }
+
+        final String text = report.toString();
+        assertTrue(text.contains("  time"), text);
+        assertTrue(text.contains("  (self)"), text);
+
+        prof.reset();
+        assertTrue(prof.report().roots().isEmpty());
+    }
+
+    private static LocalDateTime slowParse(String s) {
+        LocalDateTime ldt = null;
+        for (int i = 0; i < 20; ++i) {
+            ldt = LocalDateTime.parse(s);
+        }
+        return ldt;
+    }
+
+    private static List<String> names(List<ExtractorProfiler.Report.Node> nodes) {
+        final List<String> names = new ArrayList<>();
+        for (ExtractorProfiler.Report.Node node : nodes) {
+            names.add(node.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,86 @@
+package org.typemeta.context.extractors;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.database.ResultSetExtractors;
+import org.typemeta.context.database.ResultSets;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.properties.PropertiesExtractors;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntoExtractorsTest {
+
+    private static final class Config {
+        String env;
+        int threads;
+        LocalDate endDate;
+    }
+
+    private static final Extractor.Into<Properties, Config> CONFIG = IntoExtractors.combine(
+            PropertiesExtractors.STRING.bind("env").into((Config c, String env) -> c.env = env),
+            PropertiesExtractors.INTEGER.bind("threads").into((Config c, Integer n) -> c.threads = n),
+            PropertiesExtractors.LOCALDATE.bind("endDate").into((Config c, LocalDate d) -> c.endDate = d)
+    );
+
+    private static final class Trade {
+        long id;
+        double price;
+    }
+
+    private static final Extractor.Into<ResultSet, Trade> TRADE = IntoExtractors.combine(
+            ResultSetExtractors.LONG.bind("id").intoLong((Trade t, long id) -> t.id = id),
+            ResultSetExtractors.DOUBLE.bind("price").intoDouble((Trade t, double p) -> t.price = p)
+    );
+
+    @Test
+    public void testProperties() {
+        final Properties props = new Properties();
+        props.setProperty("env", "DEV");
+        props.setProperty("threads", "24");
+        props.setProperty("endDate", "2021-04-19");
+
+        assertEquals(Dependencies.names("env", "threads", "endDate"), CONFIG.dependencies());
+
+        final Config config = new Config();
+        CONFIG.extractInto(props, config);
+        assertEquals("DEV", config.env);
+        assertEquals(24, config.threads);
+        assertEquals(LocalDate.of(2021, 4, 19), config.endDate);
+
+        final Extractor<Properties, Config> fresh = CONFIG.toExtractor(Config::new);
+        assertNotSame(fresh.extract(props), fresh.extract(props));
+        assertEquals(CONFIG.dependencies(), fresh.dependencies());
+
+        final Extractor<Properties, Config> pooled = CONFIG.pooled(Config::new, 2);
+        final Config c1 = pooled.extract(props);
+        final Config c2 = pooled.extract(props);
+        assertNotSame(c1, c2);
+        assertSame(c1, pooled.extract(props));
+    }
+
+    @Test
+    public void testResultSet() throws SQLException {
+        try (Connection conn = DriverManager.getConnection("jdbc:derby:memory:intotest;create=true")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE trades (id BIGINT, price DOUBLE)");
+                stmt.execute("INSERT INTO trades VALUES (1, 1.5), (2, 2.5), (3, 3.5)");
+            }
+
+            final Trade target = new Trade();
+            final List<String> rows = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT id, price FROM trades ORDER BY id")) {
+                final long n = ResultSets.forEach(rs, TRADE, target, "trade", t -> {
+                    assertSame(target, t);
+                    rows.add(t.id + "@" + t.price);
+                });
+                assertEquals(3, n);
+            }
+            assertEquals(Arrays.asList("1@1.5", "2@2.5", "3@3.5"), rows);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.typemeta.context.extractors;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowScopeTest {
+
+    private static final ExtractorByName<Map<String, String>, String> STRING = Map::get;
+
+    private static Map<String, String> row(String doc) {
+        return Collections.singletonMap("doc", doc);
+    }
+
+    @Test
+    public void testMemoized() {
+        final AtomicInteger decodes = new AtomicInteger();
+        final Extractor<Map<String, String>, String[]> doc = STRING.bind("doc")
+                .map(s -> {
+                    decodes.incrementAndGet();
+                    return s.split(",");
+                })
+                .memoized();
+
+        final Extractor<Map<String, String>, String> extr = Extractors.combine(
+                doc.map(parts -> parts[0]),
+                doc.flatMap(parts -> doc.map(p -> parts[1] + p[1])),
+                (a, b) -> a + ":" + b
+        ).rowScoped();
+        assertEquals(Dependencies.names("doc"), doc.dependencies());
+
+        assertEquals("a:bb", extr.extract(row("a,b")));
+        assertEquals(1, decodes.get());
+        assertEquals("c:dd", extr.extract(row("c,d")));
+        assertEquals(2, decodes.get());
+
+        // Outside of a row the extractor is not memoized.
+        doc.extract(row("e,f"));
+        doc.extract(row("e,f"));
+        assertEquals(4, decodes.get());
+    }
+
+    @Test
+    public void testScopesAreIndependent() {
+        final RowScope scope = RowScope.create();
+        final AtomicInteger calls = new AtomicInteger();
+        final Extractor<Map<String, String>, String> doc = scope.memoize(STRING.bind("doc").map(s -> {
+            calls.incrementAndGet();
+            return s;
+        }));
+
+        Extractors.combine(doc, doc, (a, b) -> a + b).rowScoped().extract(row("x"));
+        assertEquals(2, calls.get());
+
+        scope.scoped(Extractors.combine(doc, doc, (a, b) -> a + b)).extract(row("x"));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testBeyondSlots() {
+        final RowScope scope = RowScope.create();
+        for (int i = 0; i < RowScope.MAX_SLOTS; ++i) {
+            scope.memoize(STRING.bind("doc"));
+        }
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Extractor<Map<String, String>, String> doc = scope.memoize(STRING.bind("doc").map(s -> {
+            calls.incrementAndGet();
+            return s;
+        }));
+        final Extractor<Map<String, String>, String> missing = scope.memoize(STRING.bind("missing").map(s -> {
+            calls.incrementAndGet();
+            return s;
+        }));
+        final Extractor<Map<String, String>, String> extr = scope.scoped(Extractors.combine(
+                doc, doc, missing, missing,
+                (a, b, c, d) -> a + b + c + d
+        ));
+
+        assertEquals("xxnullnull", extr.extract(row("x")));
+        assertEquals(2, calls.get());
+        assertEquals("yynullnull", extr.extract(row("y")));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testLazy() {
+        final AtomicInteger decodes = new AtomicInteger();
+        final Extractor<Map<String, String>, RowScope.Lazy<String>> lazy = STRING.bind("doc")
+                .map(s -> {
+                    decodes.incrementAndGet();
+                    return s.toUpperCase();
+                })
+                .lazy();
+
+        final RowScope.Lazy<String> unscoped = lazy.extract(row("abc"));
+        assertFalse(unscoped.isEvaluated());
+        assertEquals(0, decodes.get());
+        assertEquals("ABC", unscoped.get());
+        assertEquals("ABC", unscoped.get());
+        assertTrue(unscoped.isEvaluated());
+        assertEquals(1, decodes.get());
+
+        final Extractor<Map<String, String>, String> conditional = Extractors.combine(
+                STRING.bind("flag"),
+                lazy,
+                (flag, doc) -> flag == null ? "none" : doc.get()
+        ).rowScoped();
+        assertEquals("none", conditional.extract(row("def")));
+        assertEquals(1, decodes.get());
+
+        final RowScope.Lazy<String> escaped = lazy.rowScoped().extract(row("ghi"));
+        assertThrows(IllegalStateException.class, escaped::get);
+    }
+}
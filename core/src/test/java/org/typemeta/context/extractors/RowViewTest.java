@@ -0,0 +1,134 @@
+package org.typemeta.context.extractors;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.database.ResultSetExtractors;
+import org.typemeta.context.dependencies.Dependencies;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowViewTest {
+
+    public interface TradeRow {
+        long id();
+        double price();
+        String symbol();
+
+        default double notional(int qty) {
+            return qty * price();
+        }
+    }
+
+    @Test
+    public void testResultSet() throws SQLException {
+        final AtomicInteger symbolReads = new AtomicInteger();
+        final RowView<ResultSet, TradeRow> TRADE = RowView.builder(TradeRow.class, ResultSet.class)
+                .field("id", ResultSetExtractors.LONG.bind("id"))
+                .field("price", ResultSetExtractors.DOUBLE.bind("price"))
+                .field("symbol", ResultSetExtractors.STRING.bind("symbol").map(s -> {
+                    symbolReads.incrementAndGet();
+                    return s;
+                }))
+                .build();
+        assertEquals(Dependencies.names("id", "price", "symbol"), TRADE.dependencies());
+
+        try (Connection conn = DriverManager.getConnection("jdbc:derby:memory:rowviewtest;create=true")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE trades (id BIGINT, price DOUBLE, symbol VARCHAR(10))");
+                stmt.execute("INSERT INTO trades VALUES (1, 1.5, 'AAPL'), (2, 2.5, 'MSFT'), (3, 3.5, 'IBM')");
+            }
+
+            final List<String> rows = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT id, price, symbol FROM trades ORDER BY id")) {
+                final TradeRow trade = TRADE.view(rs);
+                while (rs.next()) {
+                    rows.add(trade.id() + "@" + trade.price());
+                    if (trade.id() == 2) {
+                        assertEquals(25.0, trade.notional(10));
+                        assertEquals("TradeRow{id=2, price=2.5, symbol=MSFT}", trade.toString());
+                    }
+                }
+            }
+            assertEquals(Arrays.asList("1@1.5", "2@2.5", "3@3.5"), rows);
+            assertEquals(1, symbolReads.get());
+        }
+    }
+
+    @Test
+    public void testReposition() {
+        final RowView<Map<String, Object>, TradeRow> TRADE = RowView.<Map<String, Object>, TradeRow>builder(TradeRow.class, null)
+                .field("id", m -> m.get("id"))
+                .field("price", m -> m.get("price"))
+                .field("symbol", m -> m.get("symbol"))
+                .build();
+
+        final Map<String, Object> row1 = new HashMap<>();
+        row1.put("id", 1L);
+        row1.put("price", 1.5);
+        final Map<String, Object> row2 = new HashMap<>();
+        row2.put("id", 2L);
+        row2.put("price", 2.5);
+
+        final TradeRow trade = TRADE.view(row1);
+        assertEquals(1L, trade.id());
+        assertSame(trade, TRADE.reposition(trade, row2));
+        assertEquals(2L, trade.id());
+        assertEquals(2.5, trade.price());
+        assertNull(trade.symbol());
+        assertEquals(trade, trade);
+        assertNotEquals(trade, TRADE.view(row2));
+
+        final RowView<Map<String, Object>, TradeRow> other = RowView.<Map<String, Object>, TradeRow>builder(TradeRow.class, null)
+                .field("id", m -> 0L)
+                .field("price", m -> 0.0)
+                .field("symbol", m -> "")
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> other.reposition(trade, row1));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RowView.builder(TradeRow.class, ResultSet.class)
+                        .field("id", ResultSetExtractors.LONG.bind("id"))
+                        .build()
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RowView.builder(TradeRow.class, ResultSet.class)
+                        .field("id", ResultSetExtractors.LONG.bind("id"))
+                        .field("price", ResultSetExtractors.DOUBLE.bind("price"))
+                        .field("symbol", ResultSetExtractors.STRING.bind("symbol"))
+                        .field("qty", ResultSetExtractors.INTEGER.bind("qty"))
+                        .build()
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RowView.builder(TradeRow.class, ResultSet.class)
+                        .field("id", ResultSetExtractors.LONG.bind("id"))
+                        .field("price", ResultSetExtractors.LONG.bind("price"))
+                        .field("symbol", ResultSetExtractors.STRING.bind("symbol"))
+                        .build()
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RowView.builder(TradeRow.class, ResultSet.class)
+                        .field("id", ResultSetExtractors.LONG.bind("id"))
+                        .field("price", ResultSetExtractors.DOUBLE.bind("price"))
+                        .field("symbol", Integer.class, ResultSetExtractors.INTEGER.bind("symbol"))
+                        .build()
+        );
+        assertThrows(IllegalArgumentException.class, () -> RowView.builder(String.class, ResultSet.class));
+
+        RowView.builder(TradeRow.class, ResultSet.class)
+                .field("id", Long.class, ResultSetExtractors.LONG.bind("id"))
+                .field("price", ResultSetExtractors.DOUBLE.bind("price"))
+                .field("symbol", String.class, ResultSetExtractors.STRING.bind("symbol"))
+                .build();
+    }
+}
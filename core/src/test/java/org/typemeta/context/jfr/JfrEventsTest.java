@@ -0,0 +1,102 @@
+package org.typemeta.context.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.database.PreparedStatementInjectors;
+import org.typemeta.context.database.PreparedStatements;
+import org.typemeta.context.database.ResultSetExtractors;
+import org.typemeta.context.database.ResultSets;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.Injectors;
+import org.typemeta.context.properties.PropertiesWatcher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventsTest {
+
+    private static final String JDBC_CONN_URL = "jdbc:derby:memory:jfrtest;create=true";
+
+    private static final Injector<PreparedStatement, Integer> ROW =
+            Injectors.combine(
+                    PreparedStatementInjectors.INTEGER.bind(1),
+                    PreparedStatementInjectors.STRING.bind(2).premap(i -> "row" + i)
+            );
+
+    @Test
+    public void testEvents(@TempDir Path dir) throws Exception {
+        final Path config = dir.resolve("config.properties");
+        Files.write(config, Collections.singletonList("a=1"));
+
+        final List<Integer> values = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+        final Path dump = dir.resolve("events.jfr");
+
+        try (Connection conn = DriverManager.getConnection(JDBC_CONN_URL);
+                PropertiesWatcher watcher = PropertiesWatcher.open(config, Throwable::printStackTrace)) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE jfr_rows (id INT, name VARCHAR(10))");
+            }
+
+            // Without a recording the operations still work, and no events are created.
+            assertNull(BatchInsertEvent.start());
+
+            try (Recording recording = new Recording()) {
+                recording.enable(ResultSetChunkEvent.class).withThreshold(Duration.ZERO);
+                recording.enable(BatchInsertEvent.class).withThreshold(Duration.ZERO);
+                recording.enable(ConfigReloadEvent.class).withThreshold(Duration.ZERO);
+                recording.start();
+
+                try (PreparedStatement ps = conn.prepareStatement("INSERT INTO jfr_rows VALUES (?, ?)")) {
+                    assertEquals(25, PreparedStatements.executeBatches(ps, ROW, values, 10, "row"));
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement("SELECT id, name FROM jfr_rows ORDER BY id")) {
+                    ps.setFetchSize(10);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        final List<Integer> ids = ResultSets.stream(rs, ResultSetExtractors.INTEGER.bind("id"), "id")
+                                .collect(Collectors.toList());
+                        assertEquals(values, ids);
+                    }
+                }
+
+                Files.write(config, Arrays.asList("a=2", "b=3"));
+                assertEquals(new HashSet<>(Arrays.asList("a", "b")), watcher.reload());
+
+                recording.stop();
+                recording.dump(dump);
+            }
+        }
+
+        final Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(dump).stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        final List<RecordedEvent> batches = events.get("org.typemeta.context.BatchInsert");
+        assertEquals(Arrays.asList(10L, 10L, 5L), longs(batches, "rows"));
+        assertEquals("row", batches.get(0).getString("mapper"));
+
+        final List<RecordedEvent> chunks = events.get("org.typemeta.context.ResultSetChunk");
+        assertEquals(Arrays.asList(10L, 10L, 5L), longs(chunks, "rows"));
+        assertEquals("id", chunks.get(0).getString("mapper"));
+
+        final RecordedEvent reload = events.get("org.typemeta.context.ConfigReload").get(0);
+        assertEquals(2, reload.getInt("changedKeys"));
+        assertEquals(Files.size(config), reload.getLong("bytes"));
+    }
+
+    private static List<Long> longs(List<RecordedEvent> events, String field) {
+        return events.stream()
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .map(e -> e.getLong(field))
+                .collect(Collectors.toList());
+    }
+}
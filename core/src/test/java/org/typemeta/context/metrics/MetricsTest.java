@@ -0,0 +1,155 @@
+package org.typemeta.context.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.dependencies.Dependencies;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.IntExtractor;
+import org.typemeta.context.extractors.LongExtractor;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.extractors.byname.IntExtractorByName;
+import org.typemeta.context.injectors.Injector;
+import org.typemeta.context.injectors.LongInjector;
+import org.typemeta.context.injectors.byindex.InjectorByIndex;
+import org.typemeta.context.injectors.byindex.LongInjectorByIndex;
+import org.typemeta.context.testing.AllocationAssert;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    public void testHistogramBuckets() {
+        for (long v : new long[]{0, 1, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE}) {
+            final int b = Histogram.bucket(v);
+            assertTrue(b < Histogram.BUCKETS);
+            assertTrue(Histogram.lowerBound(b) <= v && v <= Histogram.upperBound(b), Long.toString(v));
+        }
+        for (int b = 1; b < Histogram.BUCKETS; ++b) {
+            assertEquals(Histogram.upperBound(b - 1) + 1, Histogram.lowerBound(b));
+        }
+
+        final Histogram hist = new Histogram();
+        for (int i = 1; i <= 1000; ++i) {
+            hist.record(i * 1000L);
+        }
+        final Histogram.Snapshot snap = hist.snapshot();
+        assertEquals(1000, snap.count());
+        assertEquals(1_000_000, snap.max());
+        assertEquals(500_500.0, snap.mean());
+        assertEquals(500_000, snap.valueAt(0.5), 500_000 * 0.07);
+        assertEquals(990_000, snap.valueAt(0.99), 990_000 * 0.07);
+    }
+
+    @Test
+    public void testInstrumented() {
+        final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+        final Extractor<Map<String, String>, Integer> extr =
+                Extractor.<Map<String, String>, String>of(m -> m.get("n"))
+                        .map(Integer::parseInt)
+                        .instrumented("n", sink);
+        assertEquals(42, extr.extract(Collections.singletonMap("n", "42")));
+        assertThrows(NumberFormatException.class, () -> extr.extract(Collections.singletonMap("n", "x")));
+
+        final ExtractorByName<Map<String, String>, String> byName =
+                ExtractorByName.<Map<String, String>, String>of(Map::get).instrumented("byName", sink);
+        byName.bind("a").extract(Collections.emptyMap());
+        byName.bind("b").extract(Collections.emptyMap());
+
+        final Injector<List<String>, String> injr =
+                Injector.<List<String>, String>ofSideEffect(List::add).instrumented("add", sink);
+        final InjectorByIndex<List<String>, String> byIndex =
+                InjectorByIndex.<List<String>, String>of((l, i, s) -> {
+                    l.add(i, s);
+                    return l;
+                }).instrumented("insert", sink);
+        final List<String> list = byIndex.bind(0).inject(injr.inject(new ArrayList<>(), "b"), "a");
+        assertEquals(Arrays.asList("a", "b"), list);
+
+        final InMemoryMetricsSink.Metric n = sink.metric("n").get();
+        assertEquals(2, n.getCount());
+        assertEquals(1, n.getFailures());
+        assertEquals(2, sink.metric("byName").get().getCount());
+        assertEquals(1, sink.metric("add").get().getCount());
+        assertEquals(1, sink.metric("insert").get().latency().count());
+        assertEquals(Arrays.asList("add", "byName", "insert", "n"), names(sink.metrics()));
+        assertFalse(sink.metric("missing").isPresent());
+    }
+
+    @Test
+    public void testInstrumentedPrimitives() {
+        final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+        final IntExtractorByName<Map<String, Integer>> byName =
+                IntExtractorByName.<Map<String, Integer>>of(Map::get).instrumented("int", sink);
+        final IntExtractor<Map<String, Integer>> bound = byName.bind("a");
+        assertEquals(Dependencies.name("a"), bound.dependencies());
+        assertEquals(3, bound.extractInt(Collections.singletonMap("a", 3)));
+
+        final IntExtractor<Map<String, Integer>> extr = bound.instrumented("bound", sink);
+        assertEquals(Dependencies.name("a"), extr.dependencies());
+        assertEquals(4, extr.extractInt(Collections.singletonMap("a", 4)));
+
+        final long[] slots = new long[2];
+        final LongInjectorByIndex<long[]> byIndex =
+                LongInjectorByIndex.<long[]>of((arr, i, v) -> {
+                    arr[i] = v;
+                    return arr;
+                }).instrumented("long", sink);
+        final LongInjector<long[]> injr = byIndex.bind(1).instrumented("boundLong", sink);
+        assertEquals(Dependencies.index(1), injr.dependencies());
+        injr.injectLong(slots, 42L);
+        assertEquals(42L, slots[1]);
+
+        assertEquals(2, sink.metric("int").get().getCount());
+        assertEquals(1, sink.metric("bound").get().getCount());
+        assertEquals(1, sink.metric("long").get().getCount());
+        assertEquals(1, sink.metric("boundLong").get().getCount());
+    }
+
+    private long total;
+
+    @Test
+    public void testTimingDoesNotAllocate() {
+        if (AllocationAssert.isSupported()) {
+            final long[] values = {1, 2, 3};
+            final LongExtractor<long[]> extr = ((LongExtractor<long[]>)arr -> arr[1]).instrumented("alloc", MetricsSink.NONE);
+            AllocationAssert.assertNoAllocation("instrumented LongExtractor", 100_000, () -> total += extr.extractLong(values));
+        }
+    }
+
+    @Test
+    public void testMBeans() throws Exception {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        final Extractor<String, Integer> before = Extractor.<String, String>of(s -> s).map(String::length)
+                .instrumented("before", sink);
+        before.extract("abc");
+
+        sink.registerMBeans(server, "test.metrics");
+        final Extractor<String, Integer> after = Extractor.<String, String>of(s -> s).map(String::length)
+                .instrumented("after", sink);
+        after.extract("abc");
+        after.extract("abcd");
+
+        assertEquals(1L, server.getAttribute(new ObjectName("test.metrics:type=Metric,name=\"before\""), "Count"));
+        assertEquals(2L, server.getAttribute(new ObjectName("test.metrics:type=Metric,name=\"after\""), "Count"));
+        assertThrows(IllegalStateException.class, () -> sink.registerMBeans(server, "other"));
+
+        sink.unregisterMBeans();
+        assertTrue(server.queryNames(new ObjectName("test.metrics:*"), null).isEmpty());
+    }
+
+    private static List<String> names(List<InMemoryMetricsSink.Metric> metrics) {
+        final List<String> names = new ArrayList<>();
+        for (InMemoryMetricsSink.Metric metric : metrics) {
+            names.add(metric.name());
+        }
+        return names;
+    }
+}
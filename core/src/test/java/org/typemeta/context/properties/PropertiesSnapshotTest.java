@@ -0,0 +1,104 @@
+package org.typemeta.context.properties;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.extractors.byname.ExtractorByName;
+import org.typemeta.context.functions.Functions;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertiesSnapshotTest {
+
+    private static Properties props() {
+        final Properties defaults = new Properties();
+        defaults.setProperty("port", "8080");
+        defaults.setProperty("host", "localhost");
+
+        final Properties props = new Properties(defaults);
+        props.setProperty("port", "9090");
+        props.setProperty("start", "2021-06-30");
+        props.setProperty("ratio", "0.25");
+        props.setProperty("empty", "");
+        for (int i = 0; i < 100; ++i) {
+            props.setProperty("key." + i, Integer.toString(i));
+        }
+        return props;
+    }
+
+    @Test
+    public void testFlattensDefaults() {
+        final Properties props = props();
+        final PropertiesSnapshot snap = PropertiesSnapshot.of(props);
+
+        assertEquals(props.stringPropertyNames(), snap.keys());
+        assertEquals(props.stringPropertyNames().size(), snap.size());
+        for (String key : props.stringPropertyNames()) {
+            assertEquals(props.getProperty(key), snap.get(key), key);
+        }
+
+        assertEquals("9090", snap.get("port"));
+        assertEquals("localhost", snap.get("host"));
+        assertNull(snap.get("NO_SUCH_KEY"));
+        assertFalse(snap.containsKey("NO_SUCH_KEY"));
+
+        assertEquals(props.stringPropertyNames(), snap.toProperties().stringPropertyNames());
+
+        final Map<String, String> nulls = new HashMap<>();
+        nulls.put("port", null);
+        assertThrows(NullPointerException.class, () -> PropertiesSnapshot.of(nulls));
+        assertThrows(NullPointerException.class, () -> snap.update(nulls));
+    }
+
+    @Test
+    public void testExtractors() {
+        final Properties props = props();
+        final PropertiesSnapshot snap = PropertiesSnapshot.of(props);
+
+        assertEquals(PropertiesExtractors.INTEGER.extract(props, "port"), PropertiesSnapshotExtractors.INTEGER.extract(snap, "port"));
+        assertEquals(OptionalInt.of(42), PropertiesSnapshotExtractors.OPT_INTEGER.extract(snap, "key.42"));
+        assertEquals(OptionalInt.empty(), PropertiesSnapshotExtractors.OPT_INTEGER.extract(snap, "NO_SUCH_KEY"));
+        assertEquals(Optional.of("localhost"), PropertiesSnapshotExtractors.OPT_STRING.extract(snap, "host"));
+        assertEquals(Optional.empty(), PropertiesSnapshotExtractors.OPT_STRING.extract(snap, "NO_SUCH_KEY"));
+        assertEquals(0.25, PropertiesSnapshotExtractors.DOUBLE.extract(snap, "ratio"));
+        assertEquals(LocalDate.of(2021, 6, 30), PropertiesSnapshotExtractors.LOCALDATE.extract(snap, "start"));
+        assertEquals(Optional.empty(), PropertiesSnapshotExtractors.OPT_CHAR.extract(snap, "empty"));
+        assertNull(PropertiesSnapshotExtractors.LONG.extract(snap, "NO_SUCH_KEY"));
+    }
+
+    @Test
+    public void testParsedValuesAreCached() {
+        final PropertiesSnapshot snap = PropertiesSnapshot.of(props());
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Functions.F<String, Integer> parser = s -> {
+            calls.incrementAndGet();
+            return Integer.valueOf(s);
+        };
+        final ExtractorByName<PropertiesSnapshot, Integer> extr = PropertiesSnapshotExtractors.parsed(parser);
+
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(9090, extr.extract(snap, "port"));
+            assertNull(extr.extract(snap, "NO_SUCH_KEY"));
+        }
+        assertEquals(1, calls.get());
+
+        final LocalDate date = PropertiesSnapshotExtractors.LOCALDATE.extract(snap, "start");
+        assertSame(date, PropertiesSnapshotExtractors.LOCALDATE.extract(snap, "start"));
+    }
+
+    @Test
+    public void testParseCacheIsBounded() {
+        PropertiesSnapshot snap = PropertiesSnapshot.of(props());
+        for (int i = 0; i < 1000; ++i) {
+            final int offset = i;
+            assertEquals(9090 + offset, PropertiesSnapshotExtractors.parsed(s -> Integer.parseInt(s) + offset).extract(snap, "port"));
+            if (i % 100 == 0) {
+                snap = snap.update(Collections.singletonMap("port", "9090"));
+            }
+        }
+        assertEquals(PropertiesSnapshot.MAX_PARSERS, snap.cachedCount("port"));
+    }
+}
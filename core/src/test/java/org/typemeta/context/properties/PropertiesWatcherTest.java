@@ -0,0 +1,150 @@
+package org.typemeta.context.properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.typemeta.context.extractors.Extractor;
+import org.typemeta.context.extractors.Extractors;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertiesWatcherTest {
+
+    private static void write(Path file, String... lines) throws IOException {
+        Files.write(file, Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testReload(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("config.properties");
+        write(file, "endDate=2021-04-19", "numThreads=24", "env=DEV", "other=1");
+
+        final AtomicInteger extractions = new AtomicInteger();
+        final Extractor<Properties, String> extr =
+                Extractors.combine(
+                        PropertiesExtractors.LOCALDATE.bind("endDate"),
+                        PropertiesExtractors.OPT_INTEGER.bind("numThreads"),
+                        PropertiesExtractors.STRING.bind("env"),
+                        (endDate, numThreads, env) -> {
+                            extractions.incrementAndGet();
+                            return endDate + "/" + numThreads.orElse(0) + "/" + env;
+                        }
+                );
+
+        try (final PropertiesWatcher watcher = PropertiesWatcher.open(file, Throwable::printStackTrace)) {
+            final PropertiesWatcher.Binding<String> config = watcher.bind(extr);
+            assertEquals("2021-04-19/24/DEV", config.get());
+            assertEquals(new HashSet<>(Arrays.asList("endDate", "numThreads", "env")), config.keys());
+            assertEquals(1, extractions.get());
+
+            final PropertiesSnapshot snap1 = watcher.snapshot();
+            final LocalDate endDate = PropertiesSnapshotExtractors.LOCALDATE.extract(snap1, "endDate");
+
+            // Unchanged file.
+            assertEquals(Collections.emptySet(), watcher.reload());
+            assertSame(snap1, watcher.snapshot());
+
+            // Change to a key the binding doesn't depend on.
+            write(file, "endDate=2021-04-19", "numThreads=24", "env=DEV", "other=2");
+            assertEquals(Collections.singleton("other"), watcher.reload());
+            assertEquals(1, extractions.get());
+            assertSame(endDate, PropertiesSnapshotExtractors.LOCALDATE.extract(watcher.snapshot(), "endDate"));
+
+            // Remove a key the binding depends on.
+            write(file, "endDate=2021-04-19", "env=PROD", "other=2");
+            assertEquals(new HashSet<>(Arrays.asList("numThreads", "env")), watcher.reload());
+            assertEquals(2, extractions.get());
+            assertEquals("2021-04-19/0/PROD", config.get());
+            assertEquals("1", snap1.get("other"));
+        }
+    }
+
+    @Test
+    public void testRecordedLookups(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("config.properties");
+        write(file, "env=DEV", "debug=true", "other=1");
+
+        try (final PropertiesWatcher watcher = PropertiesWatcher.open(file, Throwable::printStackTrace)) {
+            final PropertiesWatcher.Binding<String> env = watcher.bind(props -> (String)props.get("env"));
+            final PropertiesWatcher.Binding<Boolean> debug = watcher.bind(props -> props.containsKey("debug"));
+            final PropertiesWatcher.Binding<Integer> count = watcher.bind(props -> props.stringPropertyNames().size());
+            assertEquals(Collections.singleton("env"), env.keys());
+            assertEquals(Collections.singleton("debug"), debug.keys());
+            assertEquals(new HashSet<>(Arrays.asList("env", "debug", "other")), count.keys());
+            assertEquals(3, count.get());
+
+            write(file, "env=PROD", "other=1");
+            watcher.reload();
+            assertEquals("PROD", env.get());
+            assertFalse(debug.get());
+            assertEquals(2, count.get());
+
+            write(file, "env=PROD", "other=1", "added=2");
+            watcher.reload();
+            assertEquals(3, count.get());
+
+            assertThrows(UnsupportedOperationException.class, () -> watcher.bind(Properties::entrySet));
+        }
+    }
+
+    @Test
+    public void testWatch(@TempDir Path dir) throws Exception {
+        final Path file = dir.resolve("config.properties");
+        write(file, "env=DEV");
+
+        try (final PropertiesWatcher watcher = PropertiesWatcher.open(file, Throwable::printStackTrace).start()) {
+            final PropertiesWatcher.Binding<String> env = watcher.bind(PropertiesExtractors.STRING.bind("env"));
+            assertEquals("DEV", env.get());
+
+            write(file, "env=PROD");
+
+            final long deadline = System.currentTimeMillis() + 30000;
+            while (!"PROD".equals(env.get()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("PROD", env.get());
+        }
+    }
+
+    private static WatchEvent<Path> event(WatchEvent.Kind<?> kind, Path context) {
+        return new WatchEvent<Path>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Kind<Path> kind() {
+                return (Kind<Path>)kind;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return context;
+            }
+        };
+    }
+
+    @Test
+    public void testAffects() {
+        final Path name = Paths.get("app.properties");
+        assertTrue(PropertiesWatcher.affects(name, Arrays.asList(
+                event(StandardWatchEventKinds.ENTRY_CREATE, Paths.get("other.properties")),
+                event(StandardWatchEventKinds.ENTRY_MODIFY, name)
+        )));
+        assertFalse(PropertiesWatcher.affects(name, Collections.singletonList(
+                event(StandardWatchEventKinds.ENTRY_MODIFY, Paths.get("other.properties"))
+        )));
+        // Events were lost, so the file may have changed.
+        assertTrue(PropertiesWatcher.affects(name, Collections.singletonList(
+                event(StandardWatchEventKinds.OVERFLOW, null)
+        )));
+    }
+}
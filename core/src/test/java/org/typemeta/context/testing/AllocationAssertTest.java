@@ -0,0 +1,48 @@
+package org.typemeta.context.testing;
+
+import org.junit.jupiter.api.Test;
+import org.typemeta.context.binary.ByteBufferExtractors;
+import org.typemeta.context.binary.ByteBufferInjectors;
+import org.typemeta.context.extractors.Extractor;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class AllocationAssertTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private long sum;
+
+    @Test
+    public void testPrimitiveByteBufferPaths() {
+        assumeTrue(AllocationAssert.isSupported());
+
+        final ByteBuffer bb = ByteBuffer.allocate(64);
+        for (int i = 0; i < 16; ++i) {
+            bb.putInt(i * 4, i);
+        }
+
+        AllocationAssert.assertNoAllocation("ByteBufferExtractors.INTEGER.extractInt", ITERATIONS,
+                () -> sum += ByteBufferExtractors.INTEGER.extractInt(bb, 8));
+        AllocationAssert.assertNoAllocation("ByteBufferExtractors.LONG.extractLong", ITERATIONS,
+                () -> sum += ByteBufferExtractors.LONG.extractLong(bb, 16));
+        AllocationAssert.assertNoAllocation("ByteBufferInjectors.DOUBLE.injectDouble", ITERATIONS,
+                () -> ByteBufferInjectors.DOUBLE.injectDouble(bb, 32, sum));
+        assertTrue(sum != 0);
+    }
+
+    @Test
+    public void testDetectsAllocation() {
+        assumeTrue(AllocationAssert.isSupported());
+
+        final Extractor<ByteBuffer, long[]> allocating = bb -> new long[4];
+        assertTrue(AllocationAssert.bytesPerExtract(allocating, ByteBuffer.allocate(1), ITERATIONS) >= 32);
+
+        final AssertionError error = assertThrows(AssertionError.class, () ->
+                AllocationAssert.assertAllocatesAtMost("allocating", 8, allocating, ByteBuffer.allocate(1), ITERATIONS));
+        assertTrue(error.getMessage().startsWith("allocating allocated"), error.getMessage());
+    }
+}
@@ -0,0 +1,96 @@
+package org.typemeta.context.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TextFormattersTest {
+
+    private interface Formatter<T> {
+        void append(Appendable app, T value) throws IOException;
+    }
+
+    /**
+     * Check that a formatter produces the same text as {@code toString} for each kind of target.
+     */
+    private static <T> void check(T value, Formatter<T> formatter) throws IOException {
+        final String expected = value.toString();
+
+        final StringBuilder sb = new StringBuilder("<<");
+        formatter.append(sb, value);
+        assertEquals("<<" + expected, sb.toString());
+
+        final StringWriter sw = new StringWriter();
+        formatter.append(sw, value);
+        assertEquals(expected, sw.toString());
+
+        final CharBuffer cb = CharBuffer.allocate(64);
+        formatter.append(cb, value);
+        cb.flip();
+        assertEquals(expected, cb.toString());
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        final List<Long> values = new ArrayList<>(Arrays.asList(
+                0L, 1L, -1L, 9L, 10L, -10L, 99L, 100L,
+                (long)Integer.MAX_VALUE, (long)Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE
+        ));
+        final Random rand = new Random(1234);
+        for (int i = 0; i < 1000; ++i) {
+            values.add(rand.nextLong() >> rand.nextInt(64));
+        }
+
+        for (long value : values) {
+            check(value, TextFormatters::appendLong);
+            check((int)value, TextFormatters::appendInt);
+            check(Double.longBitsToDouble(value), TextFormatters::appendDouble);
+        }
+
+        check(true, TextFormatters::appendBoolean);
+        check(false, TextFormatters::appendBoolean);
+    }
+
+    @Test
+    public void testDateTimes() throws IOException {
+        final List<LocalDate> dates = Arrays.asList(
+                LocalDate.of(2021, 4, 19), LocalDate.of(1, 1, 1), LocalDate.of(0, 1, 1),
+                LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1), LocalDate.of(-1, 1, 1)
+        );
+        final List<LocalTime> times = Arrays.asList(
+                LocalTime.MIDNIGHT, LocalTime.MAX, LocalTime.of(10, 15), LocalTime.of(10, 15, 30),
+                LocalTime.of(10, 0, 0, 1), LocalTime.of(10, 0, 0, 1000), LocalTime.of(10, 0, 0, 1000000),
+                LocalTime.of(10, 0, 0, 120000000), LocalTime.of(10, 0, 0, 123456000)
+        );
+
+        for (LocalDate date : dates) {
+            check(date, TextFormatters::appendLocalDate);
+            for (LocalTime time : times) {
+                check(time, TextFormatters::appendLocalTime);
+                check(LocalDateTime.of(date, time), TextFormatters::appendLocalDateTime);
+            }
+        }
+    }
+
+    @Test
+    public void testInjectors() {
+        final StringBuilder sb = new StringBuilder();
+        TextInjectors.INTEGER.injectInt(sb, -42);
+        TextInjectors.STRING.inject(sb, ",");
+        TextInjectors.OPT_LONG.inject(sb, OptionalLong.empty());
+        TextInjectors.STRING.inject(sb, null);
+        TextInjectors.LOCALDATE.inject(sb, LocalDate.of(2021, 4, 19));
+        TextInjectors.CHAR.inject(sb, ',');
+        TextInjectors.OPT_DOUBLE.inject(sb, OptionalDouble.of(1.5));
+
+        assertEquals("-42,2021-04-19,1.5", sb.toString());
+    }
+}
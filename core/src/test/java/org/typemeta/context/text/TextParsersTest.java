@@ -0,0 +1,128 @@
+package org.typemeta.context.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextParsersTest {
+
+    /**
+     * Check that a parser returns the same value, or throws the same exception type, as the reference parser.
+     * The text is embedded within a larger string to exercise the range handling.
+     */
+    private static <T> void check(String text, Function<String, T> expected, TextParser<T> actual) {
+        final String padded = "<<" + text + ">>";
+        Object exp;
+        try {
+            exp = expected.apply(text);
+        } catch (RuntimeException ex) {
+            exp = ex.getClass();
+        }
+
+        Object act;
+        try {
+            act = actual.parse(padded, 2, 2 + text.length());
+        } catch (RuntimeException ex) {
+            act = ex.getClass();
+        }
+
+        assertEquals(exp, act, text);
+    }
+
+    private interface TextParser<T> {
+        T parse(CharSequence cs, int start, int end);
+    }
+
+    private static final List<String> INTEGERS = Arrays.asList(
+            "0", "-0", "+0", "1", "-1", "+123", "123456789", "-123456789", "2147483647", "-2147483648",
+            "2147483648", "-2147483649", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "", "-", "+", "1a", "a1", " 1", "1 ", "0001", "١٢"
+    );
+
+    @Test
+    public void testIntegers() {
+        final Random rand = new Random(1234);
+        final List<String> values = new ArrayList<>(INTEGERS);
+        for (int i = 0; i < 1000; ++i) {
+            values.add(Integer.toString(rand.nextInt()));
+            values.add(Long.toString(rand.nextLong()));
+        }
+
+        for (String s : values) {
+            check(s, Integer::valueOf, TextParsers::parseInt);
+            check(s, Long::valueOf, TextParsers::parseLong);
+        }
+
+        assertEquals(-42, TextParsers.parseInt("-42"));
+        assertEquals(-42L, TextParsers.parseLong("-42"));
+    }
+
+    @Test
+    public void testDoubles() {
+        final Random rand = new Random(5678);
+        final List<String> values = new ArrayList<>(INTEGERS);
+        values.addAll(Arrays.asList(
+                "0.0", "-0.0", "1.", ".5", ".", "1e", "1e5", "1E-5", "1.5e+10", "-2.5E-3", "123.456",
+                "0.1", "0.2", "0.3", "3.141592653589793", "2.718281828459045", "1e22", "1e23", "1e-22", "1e-23",
+                "1234567890.12345", "12345678901234567890", "0.000000000000000000001234",
+                "NaN", "-Infinity", "Infinity", "0x1p3", "1.5d", "2f", " 1.5", "1.5 ", "1e1000", "1e-1000", "1.5.5"
+        ));
+        for (int i = 0; i < 1000; ++i) {
+            values.add(Double.toString(rand.nextDouble() * Math.pow(10, rand.nextInt(40) - 20)));
+            values.add(String.format("%.6f", rand.nextDouble() * 1000000));
+            values.add(String.format("%.2f", (rand.nextInt(2000000) - 1000000) / 100.0));
+        }
+
+        for (String s : values) {
+            check(s, Double::valueOf, TextParsers::parseDouble);
+        }
+
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(TextParsers.parseDouble("-0")));
+    }
+
+    @Test
+    public void testBooleans() {
+        for (String s : Arrays.asList("true", "TRUE", "tRuE", "false", "yes", "", "truex", "tru", "1")) {
+            check(s, Boolean::valueOf, TextParsers::parseBoolean);
+        }
+    }
+
+    @Test
+    public void testDates() {
+        final List<String> values = new ArrayList<>(Arrays.asList(
+                "2021-04-19", "2020-02-29", "2021-02-29", "2021-13-01", "2021-00-01", "2021-04-31", "2021-04-00",
+                "0000-01-01", "9999-12-31", "+10000-01-01", "-0001-01-01", "2021-4-19", "2021/04/19", "", "20210419"
+        ));
+        final LocalDate start = LocalDate.of(1999, 12, 1);
+        for (int i = 0; i < 1000; ++i) {
+            values.add(start.plusDays(i * 7).toString());
+        }
+
+        for (String s : values) {
+            check(s, LocalDate::parse, TextParsers::parseLocalDate);
+        }
+
+        assertThrows(DateTimeParseException.class, () -> TextParsers.parseLocalDate("2021-02-30"));
+    }
+
+    @Test
+    public void testTimes() {
+        final List<String> values = Arrays.asList(
+                "00:00", "23:59", "24:00", "12:60", "10:15:30", "10:15:60", "10:15:30.1", "10:15:30.123",
+                "10:15:30.123456789", "10:15:30.1234567890", "10:15:30.", "10:15:3", "10:1", "1:15", "10-15", ""
+        );
+
+        for (String s : values) {
+            check(s, LocalTime::parse, TextParsers::parseLocalTime);
+            check("2021-04-19T" + s, LocalDateTime::parse, TextParsers::parseLocalDateTime);
+            check("2021-04-19t" + s, LocalDateTime::parse, TextParsers::parseLocalDateTime);
+        }
+    }
+}